@@ -0,0 +1,202 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.TimeSlotResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentResourceSet;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+
+// 진료과 하루치 시간대 점유 현황 - 시간대 인덱스별 근무/점유 자원 비트마스크와 차단 비트셋으로 보관
+// 자원이 없는 진료과는 자원 하나(비트 0)로 취급하여 시간대당 한 명만 예약, 남은 수용 인원은 비트 수로 상수 시간에 계산
+public class DayOccupancy {
+
+    // 자원이 없는 진료과의 시간대 근무 마스크 (기본 자원 하나)
+    private static final long SINGLE_RESOURCE = 1L;
+
+    private final LocalTime startTime;
+    private final int intervalMinutes;
+    private final int slotCount;
+    private final DepartmentResourceSet resources;
+    private final long[] working;
+    private final long[] taken;
+    private final BitSet blocked;
+    private final String[] bookedBy;
+    private final long loadedAtMillis;
+
+    public DayOccupancy(LocalTime startTime, LocalTime endTime, int intervalMinutes) {
+        this(startTime, endTime, intervalMinutes, DepartmentResourceSet.empty(), null);
+    }
+
+    private DayOccupancy(LocalTime startTime, LocalTime endTime, int intervalMinutes,
+                         DepartmentResourceSet resources, long[] workingMasks) {
+        this.startTime = startTime;
+        this.intervalMinutes = intervalMinutes;
+        this.slotCount = endTime.isBefore(startTime)
+                ? 0
+                : (int) (Duration.between(startTime, endTime).toMinutes() / intervalMinutes) + 1;
+        this.resources = resources;
+        this.working = new long[slotCount];
+        if (workingMasks == null) {
+            Arrays.fill(working, SINGLE_RESOURCE);
+        } else {
+            System.arraycopy(workingMasks, 0, working, 0, Math.min(slotCount, workingMasks.length));
+        }
+        this.taken = new long[slotCount];
+        this.blocked = new BitSet(slotCount);
+        this.bookedBy = new String[slotCount];
+        this.loadedAtMillis = System.currentTimeMillis();
+    }
+
+    // 진료과 기본 진료 시간 설정으로 빈 점유 현황 생성 (시간대당 한 명)
+    public static DayOccupancy of(HospitalDepartment department) {
+        return new DayOccupancy(
+                department.getDefaultStartTime(),
+                department.getDefaultEndTime(),
+                department.getSlotDurationMinutes());
+    }
+
+    // 진료 자원 근무 일정으로 빈 점유 현황 생성 (자원이 없으면 시간대당 한 명)
+    public static DayOccupancy of(HospitalDepartment department, DepartmentResourceSet resources, LocalDate date) {
+        if (resources.isEmpty()) {
+            return of(department);
+        }
+        return new DayOccupancy(
+                department.getDefaultStartTime(),
+                department.getDefaultEndTime(),
+                department.getSlotDurationMinutes(),
+                resources,
+                resources.workingMasks(date));
+    }
+
+    // 시간대 자원 예약 처리 (이미 같은 자원이 예약된 경우 기존 예약자 유지, 현재 자원 목록에 없는 자원은 무시)
+    public synchronized void occupy(LocalTime time, Long resourceId, String memberName) {
+        int index = indexOf(time);
+        long bit = resourceBit(resourceId);
+        if (index < 0 || bit == 0L || (taken[index] & bit) != 0L) {
+            return;
+        }
+        taken[index] |= bit;
+        if (bookedBy[index] == null) {
+            bookedBy[index] = memberName;
+        }
+    }
+
+    // 시간대 자원 예약 해제
+    public synchronized void release(LocalTime time, Long resourceId) {
+        int index = indexOf(time);
+        long bit = resourceBit(resourceId);
+        if (index < 0 || bit == 0L) {
+            return;
+        }
+        taken[index] &= ~bit;
+        if (taken[index] == 0L) {
+            bookedBy[index] = null;
+        }
+    }
+
+    // 시간대 차단
+    public synchronized void block(LocalTime time) {
+        int index = indexOf(time);
+        if (index >= 0) {
+            blocked.set(index);
+        }
+    }
+
+    // 휴진 규칙 차단 마스크 일괄 반영 (진료과 기본 시간대 인덱스 기준 비트셋)
+    public synchronized void blockAll(BitSet closedSlots) {
+        blocked.or(closedSlots);
+    }
+
+    // 시간대 차단 해제
+    public synchronized void unblock(LocalTime time) {
+        int index = indexOf(time);
+        if (index >= 0) {
+            blocked.clear(index);
+        }
+    }
+
+    // 특정 시간 예약 가능 여부 (기본 시간대에 없는 시간은 불가)
+    public synchronized boolean isAvailable(LocalTime time) {
+        int index = indexOf(time);
+        return index >= 0 && remainingAt(index) > 0;
+    }
+
+    // 특정 시간 남은 수용 인원 (차단되었거나 기본 시간대에 없는 시간은 0)
+    public synchronized int remainingCapacity(LocalTime time) {
+        int index = indexOf(time);
+        return index < 0 ? 0 : remainingAt(index);
+    }
+
+    // 전체 시간대 목록 생성 (예약 마감 > 차단 > 근무 자원 없음 > 가능 순으로 판정)
+    public synchronized List<TimeSlotResponse> toTimeSlots() {
+        List<TimeSlotResponse> timeSlots = new ArrayList<>(slotCount);
+        for (int index = 0; index < slotCount; index++) {
+            LocalTime time = timeAt(index);
+            int capacity = Long.bitCount(working[index]);
+            long free = working[index] & ~taken[index];
+            if (taken[index] != 0L && free == 0L) {
+                timeSlots.add(TimeSlotResponse.alreadyBooked(time, capacity == 1 ? bookedBy[index] : null, capacity));
+            } else if (blocked.get(index)) {
+                timeSlots.add(TimeSlotResponse.hospitalBlocked(time));
+            } else if (capacity == 0) {
+                timeSlots.add(TimeSlotResponse.unstaffed(time));
+            } else {
+                timeSlots.add(TimeSlotResponse.available(time, Long.bitCount(free), capacity));
+            }
+        }
+        return timeSlots;
+    }
+
+    // 예약 가능한 시간 목록
+    public synchronized List<LocalTime> availableTimes() {
+        List<LocalTime> times = new ArrayList<>();
+        for (int index = 0; index < slotCount; index++) {
+            if (remainingAt(index) > 0) {
+                times.add(timeAt(index));
+            }
+        }
+        return times;
+    }
+
+    public int totalSlots() {
+        return slotCount;
+    }
+
+    public boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - loadedAtMillis > ttlMillis;
+    }
+
+    // 시간대 남은 수용 인원 = 근무 중이면서 점유되지 않은 자원 수
+    private int remainingAt(int index) {
+        return blocked.get(index) ? 0 : Long.bitCount(working[index] & ~taken[index]);
+    }
+
+    // 자원 ID → 자원 비트 (자원이 없는 진료과는 항상 기본 자원 비트)
+    private long resourceBit(Long resourceId) {
+        if (resources.isEmpty()) {
+            return SINGLE_RESOURCE;
+        }
+        int bit = resources.indexOf(resourceId);
+        return bit < 0 ? 0L : 1L << bit;
+    }
+
+    private LocalTime timeAt(int index) {
+        return startTime.plusMinutes((long) index * intervalMinutes);
+    }
+
+    // 시간 → 시간대 인덱스 변환 (시간대 경계에 맞지 않거나 범위를 벗어나면 -1)
+    private int indexOf(LocalTime time) {
+        long seconds = Duration.between(startTime, time).getSeconds();
+        long intervalSeconds = intervalMinutes * 60L;
+        if (seconds < 0 || seconds % intervalSeconds != 0) {
+            return -1;
+        }
+        long index = seconds / intervalSeconds;
+        return index < slotCount ? (int) index : -1;
+    }
+}
@@ -0,0 +1,244 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.AvailabilityRuleChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.DepartmentResourceChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotExceptionChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotRangeChangedEvent;
+import org.carefreepass.com.carefreepassserver.golbal.properties.ReplicaDataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진료과/날짜별 시간대 점유 인덱스
+ * 최초 조회 시 DB에서 적재하고, 이후 예약/차단 변경은 커밋 직후 이벤트로 반영합니다.
+ * 예약 정합성은 DB 유니크 제약이 보장하므로, 인덱스는 조회 성능용이며 일정 시간 후 다시 적재됩니다.
+ * 변경마다 증가하는 세대 번호를 진료과/날짜별로 기록하고, 적재 시작 이후 같은 날짜가 변경되었으면
+ * 적재 결과를 반환만 하고 인덱스에 등록하지 않습니다 (커밋 전에 시작한 적재가 커밋 후 리스너보다 늦게 등록되는 경우 방지).
+ * 읽기 복제본을 사용하면 변경 직후 시작한 적재도 복제 지연으로 변경이 빠져 있을 수 있으므로,
+ * 쓰기 후 주 DB 사용 시간 동안은 같은 방식으로 등록하지 않습니다.
+ */
+@Component
+@Slf4j
+public class SlotOccupancyIndex {
+
+    private static final long TTL_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    // 변경 기록 최소 보관 시간 (이보다 오래 걸린 적재는 정리된 변경 이전 세대로 보고 등록하지 않음)
+    private static final long CHANGE_RETENTION_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final ConcurrentMap<SlotDayKey, DayOccupancy> days = new ConcurrentHashMap<>();
+
+    // 변경 세대 번호 (변경마다 증가, 적재 시작 시점의 값과 비교)
+    private final AtomicLong generation = new AtomicLong();
+
+    // 진료과/날짜별 마지막 변경 세대와 변경 시각
+    private final ConcurrentMap<SlotDayKey, ChangeStamp> recentChanges = new ConcurrentHashMap<>();
+
+    // 일괄 제거(범위 차단, 휴진 규칙, 진료과/자원 변경 등) 또는 변경 기록 정리 시점의 세대 - 이보다 먼저 시작한 적재는 등록하지 않음
+    private final AtomicLong clearedGeneration = new AtomicLong();
+
+    private final long reloadGuardMillis;
+
+    public SlotOccupancyIndex(ReplicaDataSourceProperties replicaProperties) {
+        this.reloadGuardMillis = replicaProperties.enabled() ? replicaProperties.readYourWritesWindowMillis() : 0;
+    }
+
+    // 점유 현황 조회 (없거나 만료된 경우 loader로 적재)
+    // DB 조회는 맵 잠금 밖에서 수행하고 putIfAbsent로 등록 (computeIfAbsent 안에서 I/O를 하면 같은 버킷의 다른 키까지 대기)
+    public DayOccupancy getOrLoad(Long departmentId, LocalDate date, Supplier<DayOccupancy> loader) {
+        DayOccupancy cached = find(departmentId, date);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = currentGeneration();
+        return putIfAbsent(departmentId, date, loader.get(), loadGeneration);
+    }
+
+    // 적재 시작 시점의 세대 번호 (DB 조회 전에 구해 putIfAbsent에 전달)
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    // 적재된 점유 현황 조회 (없거나 만료된 경우 null)
+    public DayOccupancy find(Long departmentId, LocalDate date) {
+        DayOccupancy cached = days.get(new SlotDayKey(departmentId, date));
+        return cached != null && !cached.isExpired(TTL_MILLIS) ? cached : null;
+    }
+
+    // 적재한 점유 현황 등록 (이미 다른 요청이 등록했다면 기존 값 반환, 적재 시작 이후 변경된 날짜는 등록하지 않고 그대로 반환)
+    // 등록 직후 변경이 기록되었으면 등록을 되돌림 (확인과 등록 사이에 커밋 후 리스너가 실행된 경우)
+    public DayOccupancy putIfAbsent(Long departmentId, LocalDate date, DayOccupancy occupancy, long loadGeneration) {
+        SlotDayKey key = new SlotDayKey(departmentId, date);
+        if (isChangedSince(key, loadGeneration)) {
+            return occupancy;
+        }
+        DayOccupancy cached = days.get(key);
+        if (cached != null && cached.isExpired(TTL_MILLIS)) {
+            days.remove(key, cached);
+        }
+        DayOccupancy existing = days.putIfAbsent(key, occupancy);
+        if (existing != null) {
+            return existing;
+        }
+        if (isChangedSince(key, loadGeneration)) {
+            days.remove(key, occupancy);
+        }
+        return occupancy;
+    }
+
+    // 특정 진료과/날짜 점유 현황 제거
+    public void evict(Long departmentId, LocalDate date) {
+        SlotDayKey key = new SlotDayKey(departmentId, date);
+        days.remove(key);
+        markChanged(key);
+    }
+
+    // 예약 변경 커밋 후 점유 현황 반영 (이전 시간대 자원 해제 → 새 시간대 자원 점유)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentSnapshot before = event.before();
+        AppointmentSnapshot after = event.after();
+
+        if (before != null && before.occupiesSlot()) {
+            SlotDayKey key = new SlotDayKey(before.departmentId(), before.appointmentDate());
+            markChanged(key);
+            DayOccupancy occupancy = days.get(key);
+            if (occupancy != null) {
+                occupancy.release(before.appointmentTime(), before.resourceId());
+            }
+        }
+        if (after != null && after.occupiesSlot()) {
+            SlotDayKey key = new SlotDayKey(after.departmentId(), after.appointmentDate());
+            markChanged(key);
+            DayOccupancy occupancy = days.get(key);
+            if (occupancy != null) {
+                occupancy.occupy(after.appointmentTime(), after.resourceId(), after.memberName());
+            }
+        }
+    }
+
+    // 예약 상태 일괄 전환 커밋 후 점유 여부가 바뀌는 경우 해당 날짜 점유 현황 제거 (다음 조회 시 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentBulkStatusChanged(AppointmentBulkStatusChangedEvent event) {
+        if (event.changesSlotOccupancy()) {
+            markAllChanged();
+            days.keySet().removeIf(key -> key.date().equals(event.date()));
+        }
+    }
+
+    // 시간 차단 변경 커밋 후 점유 현황 반영 (예외 삭제는 휴진 규칙 상태로 돌아가므로 해당 날짜 제거 후 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimeSlotExceptionChanged(TimeSlotExceptionChangedEvent event) {
+        if (!event.blocked()) {
+            evict(event.departmentId(), event.exceptionDate());
+            return;
+        }
+        SlotDayKey key = new SlotDayKey(event.departmentId(), event.exceptionDate());
+        markChanged(key);
+        DayOccupancy occupancy = days.get(key);
+        if (occupancy != null) {
+            occupancy.block(event.exceptionTime());
+        }
+    }
+
+    // 시간대 범위 차단/해제 커밋 후 범위에 포함된 진료과/날짜 점유 현황을 한 번에 제거 (다음 조회 시 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimeSlotRangeChanged(TimeSlotRangeChangedEvent event) {
+        markAllChanged();
+        days.keySet().removeIf(key -> event.covers(key.departmentId(), key.date()));
+    }
+
+    // 휴진 규칙 변경 커밋 후 대상 진료과(공휴일 변경이면 전체) 점유 현황 제거 (다음 조회 시 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAvailabilityRuleChanged(AvailabilityRuleChangedEvent event) {
+        markAllChanged();
+        if (event.isHolidayChange()) {
+            days.clear();
+        } else {
+            days.keySet().removeIf(key -> key.departmentId().equals(event.departmentId()));
+        }
+    }
+
+    // 진료과 정보 변경 커밋 후 해당 진료과 점유 현황 제거 (진료 시간/시간대 간격이 바뀌면 시간대 목록 자체가 달라지므로 다음 조회 시 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentChanged(HospitalDepartmentChangedEvent event) {
+        markAllChanged();
+        days.keySet().removeIf(key -> key.departmentId().equals(event.departmentId()));
+    }
+
+    // 진료 자원 변경 커밋 후 해당 진료과 점유 현황 제거 (수용 인원과 예약 자원 배정이 바뀌므로 다음 조회 시 재적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentResourceChanged(DepartmentResourceChangedEvent event) {
+        markAllChanged();
+        days.keySet().removeIf(key -> key.departmentId().equals(event.departmentId()));
+    }
+
+    // 매일 자정 이후 지난 날짜의 점유 현황 정리
+    @Scheduled(cron = "0 10 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(key -> key.date().isBefore(today));
+        removeChanges(key -> key.date().isBefore(today), stamp -> true);
+        log.debug("지난 날짜 시간대 점유 현황 정리 완료 - 남은 항목 {}건", days.size());
+    }
+
+    // 최근 변경 정리 (보관 시간과 쓰기 후 주 DB 사용 시간이 모두 지난 기록 제거)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredChanges() {
+        long now = System.currentTimeMillis();
+        long retentionMillis = Math.max(CHANGE_RETENTION_MILLIS, reloadGuardMillis);
+        removeChanges(key -> true, stamp -> now - stamp.changedAt() > retentionMillis);
+    }
+
+    // 진료과/날짜 변경 기록 (이 세대 이전에 시작한 적재와 복제 지연 중의 적재는 등록하지 않음)
+    private void markChanged(SlotDayKey key) {
+        recentChanges.put(key, new ChangeStamp(generation.incrementAndGet(), System.currentTimeMillis()));
+    }
+
+    // 여러 날짜를 한 번에 제거하는 변경 기록 (이 시점 이전에 시작한 모든 적재는 등록하지 않음)
+    private void markAllChanged() {
+        long changed = generation.incrementAndGet();
+        clearedGeneration.accumulateAndGet(changed, Math::max);
+    }
+
+    // 변경 기록 정리 (정리한 기록의 세대까지는 일괄 제거 세대로 올려 그 이전에 시작한 적재가 등록되지 않도록 유지)
+    private void removeChanges(Predicate<SlotDayKey> keyFilter, Predicate<ChangeStamp> stampFilter) {
+        recentChanges.forEach((key, stamp) -> {
+            if (keyFilter.test(key) && stampFilter.test(stamp) && recentChanges.remove(key, stamp)) {
+                clearedGeneration.accumulateAndGet(stamp.generation(), Math::max);
+            }
+        });
+    }
+
+    private boolean isChangedSince(SlotDayKey key, long loadGeneration) {
+        if (clearedGeneration.get() > loadGeneration) {
+            return true;
+        }
+        ChangeStamp stamp = recentChanges.get(key);
+        if (stamp == null) {
+            return false;
+        }
+        return stamp.generation() > loadGeneration
+                || System.currentTimeMillis() - stamp.changedAt() <= reloadGuardMillis;
+    }
+
+    private record SlotDayKey(Long departmentId, LocalDate date) {
+    }
+
+    private record ChangeStamp(long generation, long changedAt) {
+    }
+}
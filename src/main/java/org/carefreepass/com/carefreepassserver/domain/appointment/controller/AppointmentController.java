@@ -4,19 +4,33 @@ import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.carefreepass.com.carefreepassserver.domain.appointment.controller.docs.AppointmentDocs;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentBulkStatusRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCheckinRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentBulkStatusResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentPageResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
-import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.DepartmentQueueResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.QueuePositionResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentQueryService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentQueueService;
 import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentStatusBatchService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentStatusPollingService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.stream.TodayAppointmentStream;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,8 +38,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +50,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AppointmentController implements AppointmentDocs {
 
     private final AppointmentService appointmentService;
+    private final AppointmentQueryService appointmentQueryService;
+    private final AppointmentQueueService appointmentQueueService;
+    private final AppointmentStatusBatchService appointmentStatusBatchService;
+    private final AppointmentStatusPollingService appointmentStatusPollingService;
+    private final TodayAppointmentStream todayAppointmentStream;
 
     @Override
     @PostMapping
@@ -58,10 +79,7 @@ public class AppointmentController implements AppointmentDocs {
     @Override
     @GetMapping("/today/waiting")
     public ApiResponseTemplate<List<AppointmentResponse>> getTodayWaitingPatients() {
-        List<Appointment> appointments = appointmentService.getTodayWaitingPatients();
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
+        List<AppointmentResponse> responses = appointmentQueryService.getTodayWaitingPatients();
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4003")
                 .message("오늘 대기 환자 목록 조회가 완료되었습니다.")
@@ -71,16 +89,19 @@ public class AppointmentController implements AppointmentDocs {
     @Override
     @GetMapping("/today")
     public ApiResponseTemplate<List<AppointmentResponse>> getAllTodayAppointments() {
-        List<Appointment> appointments = appointmentService.getAllTodayAppointments();
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
+        List<AppointmentResponse> responses = appointmentQueryService.getAllTodayAppointments();
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4004")
                 .message("오늘 예약 목록 조회가 완료되었습니다.")
                 .body(responses);
     }
 
+    @Override
+    @GetMapping(value = "/today/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTodayAppointments() {
+        return todayAppointmentStream.subscribe();
+    }
+
     @Override
     @DeleteMapping("/{appointmentId}")
     public ApiResponseTemplate<String> deleteAppointment(@PathVariable Long appointmentId) {
@@ -102,6 +123,17 @@ public class AppointmentController implements AppointmentDocs {
                 .body("SUCCESS");
     }
 
+    @Override
+    @PutMapping("/status/bulk")
+    public ApiResponseTemplate<AppointmentBulkStatusResponse> bulkUpdateAppointmentStatus(
+            @Valid @RequestBody AppointmentBulkStatusRequest request) {
+        AppointmentBulkStatusResponse response = appointmentService.bulkUpdateStatus(request);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4020")
+                .message("예약 상태 일괄 변경이 완료되었습니다.")
+                .body(response);
+    }
+
     @Override
     @PutMapping("/{appointmentId}")
     public ApiResponseTemplate<String> updateAppointment(@PathVariable Long appointmentId,
@@ -116,10 +148,7 @@ public class AppointmentController implements AppointmentDocs {
     // 환자용 예약 조회 API 추가
     @GetMapping("/my")
     public ApiResponseTemplate<List<AppointmentResponse>> getMyAppointments(@RequestParam Long memberId) {
-        List<Appointment> appointments = appointmentService.getAppointmentsByMemberId(memberId);
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
+        List<AppointmentResponse> responses = appointmentQueryService.getAppointmentsByMemberId(memberId);
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4008")
                 .message("내 예약 목록 조회가 완료되었습니다.")
@@ -129,10 +158,7 @@ public class AppointmentController implements AppointmentDocs {
     // 오늘 내 예약 조회 API 추가
     @GetMapping("/my/today")
     public ApiResponseTemplate<List<AppointmentResponse>> getMyTodayAppointments(@RequestParam Long memberId) {
-        List<Appointment> appointments = appointmentService.getTodayAppointmentsByMemberId(memberId);
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
+        List<AppointmentResponse> responses = appointmentQueryService.getTodayAppointmentsByMemberId(memberId);
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4009")
                 .message("오늘 내 예약 조회가 완료되었습니다.")
@@ -143,10 +169,7 @@ public class AppointmentController implements AppointmentDocs {
     @GetMapping("/date")
     public ApiResponseTemplate<List<AppointmentResponse>> getAppointmentsByDate(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
-        List<Appointment> appointments = appointmentService.getAppointmentsByDate(date);
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
+        List<AppointmentResponse> responses = appointmentQueryService.getAppointmentsByDate(date);
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4010")
                 .message("날짜별 예약 목록 조회가 완료되었습니다.")
@@ -165,25 +188,103 @@ public class AppointmentController implements AppointmentDocs {
 
     @Override
     @GetMapping("/my/status")
-    public ApiResponseTemplate<List<AppointmentResponse>> getMyAppointmentStatus(@RequestParam Long memberId) {
-        List<Appointment> appointments = appointmentService.getTodayAppointmentsByMemberId(memberId);
-        List<AppointmentResponse> responses = appointments.stream()
-                .map(AppointmentResponse::from)
-                .toList();
-        return ApiResponseTemplate.ok()
-                .code("APPOINTMENT_4012")
-                .message("내 예약 상태 조회가 완료되었습니다.")
-                .body(responses);
+    public CompletableFuture<ResponseEntity<ApiResponseTemplate<List<AppointmentResponse>>>> getMyAppointmentStatus(
+            @RequestParam Long memberId,
+            @RequestParam(required = false) Integer wait,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return appointmentStatusPollingService.pollTodayStatus(memberId, ifNoneMatch, wait)
+                .thenApply(result -> {
+                    if (!result.isModified()) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(result.eTag()).build();
+                    }
+                    ApiResponseTemplate<List<AppointmentResponse>> response = ApiResponseTemplate.ok()
+                            .code("APPOINTMENT_4012")
+                            .message("내 예약 상태 조회가 완료되었습니다.")
+                            .body(result.appointments());
+                    return ResponseEntity.ok().eTag(result.eTag()).body(response);
+                });
     }
 
     @Override
     @PutMapping("/update-today-status")
     public ApiResponseTemplate<String> updateTodayAppointmentsStatus() {
-        int updatedCount = appointmentService.updateTodayWaitingToScheduled();
+        int updatedCount = appointmentStatusBatchService.scheduleTodayWaiting().updatedCount();
         return ApiResponseTemplate.ok()
                 .code("APPOINTMENT_4013")
                 .message("오늘 예약 상태 업데이트가 완료되었습니다.")
                 .body("총 " + updatedCount + "건 업데이트됨");
     }
 
-}
\ No newline at end of file
+    @Override
+    @GetMapping("/today/page")
+    public ApiResponseTemplate<AppointmentPageResponse> getTodayAppointmentPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AppointmentPageResponse response = appointmentQueryService.getTodayAppointmentPage(cursor, size);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4014")
+                .message("오늘 예약 목록 페이지 조회가 완료되었습니다.")
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/date/page")
+    public ApiResponseTemplate<AppointmentPageResponse> getAppointmentPageByDate(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AppointmentPageResponse response = appointmentQueryService.getAppointmentPageByDate(date, cursor, size);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4015")
+                .message("날짜별 예약 목록 페이지 조회가 완료되었습니다.")
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/my/page")
+    public ApiResponseTemplate<AppointmentPageResponse> getMyAppointmentPage(
+            @RequestParam Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AppointmentPageResponse response = appointmentQueryService.getAppointmentPageByMemberId(memberId, cursor, size);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4016")
+                .message("내 예약 목록 페이지 조회가 완료되었습니다.")
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/my/history")
+    public ApiResponseTemplate<AppointmentPageResponse> getMyAppointmentHistory(
+            @RequestParam Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AppointmentPageResponse response = appointmentQueryService.getAppointmentHistoryPage(memberId, cursor, size);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4017")
+                .message("내 예약 이력 조회가 완료되었습니다.")
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/{appointmentId}/queue")
+    public ApiResponseTemplate<QueuePositionResponse> getQueuePosition(@PathVariable Long appointmentId) {
+        QueuePositionResponse response = appointmentQueueService.getQueuePosition(appointmentId);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4018")
+                .message("대기 순번 조회가 완료되었습니다.")
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/queue")
+    public ApiResponseTemplate<DepartmentQueueResponse> getTodayDepartmentQueue(
+            @RequestParam Long hospitalId,
+            @RequestParam String departmentName) {
+        DepartmentQueueResponse response = appointmentQueueService.getTodayDepartmentQueue(hospitalId, departmentName);
+        return ApiResponseTemplate.ok()
+                .code("APPOINTMENT_4019")
+                .message("진료과 대기열 조회가 완료되었습니다.")
+                .body(response);
+    }
+}
@@ -5,7 +5,9 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.carefreepass.com.carefreepassserver.domain.appointment.controller.docs.PatientTimeSlotDocs;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AvailabilityCalendarResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AvailableTimeSlotsResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.DailyAvailabilityResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.TimeSlotResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.service.TimeSlotService;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
@@ -55,4 +57,20 @@ public class PatientTimeSlotController implements PatientTimeSlotDocs {
                 .message("시간대 예약 가능 여부 확인이 완료되었습니다.")
                 .body(available);
     }
+
+    @Override
+    @GetMapping("/calendar")
+    public ApiResponseTemplate<AvailabilityCalendarResponse> getAvailabilityCalendar(
+            @RequestParam Long hospitalId,
+            @RequestParam String departmentName,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        List<DailyAvailabilityResponse> days = timeSlotService.getAvailabilityCalendar(
+                hospitalId, departmentName, startDate, endDate);
+        AvailabilityCalendarResponse response = AvailabilityCalendarResponse.of(departmentName, startDate, endDate, days);
+        return ApiResponseTemplate.ok()
+                .code("TIME_SLOT_1003")
+                .message("기간별 예약 가능 현황 조회가 완료되었습니다.")
+                .body(response);
+    }
 }
\ No newline at end of file
@@ -1,18 +1,31 @@
 package org.carefreepass.com.carefreepassserver.domain.appointment.controller.docs;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentBulkStatusRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCheckinRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentBulkStatusResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentPageResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.DepartmentQueueResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.QueuePositionResponse;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "예약 관리 API", description = "환자 예약 생성, 수정, 조회, 삭제 기능 (환자/관리자 권한별 구분)")
 public interface AppointmentDocs {
@@ -59,6 +72,17 @@ public interface AppointmentDocs {
     )
     ApiResponseTemplate<List<AppointmentResponse>> getAllTodayAppointments();
     
+    @Operation(
+            summary = "오늘 예약 실시간 스트림 (관리자 전용)",
+            description = "SSE(text/event-stream)로 연결 직후 오늘 예약 전체를 'snapshot' 이벤트로 보내고, "
+                    + "이후 예약 생성/체크인/호출/상태 변경/삭제 시 변경된 예약을 'appointment' 이벤트로 전송합니다. "
+                    + "'appointment' 이벤트의 appointment가 null이면 오늘 목록에서 제거된 예약입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "스트림 연결 성공")
+            }
+    )
+    SseEmitter streamTodayAppointments();
+    
     @Operation(
             summary = "예약 삭제 (관리자 전용)",
             description = "예약을 완전히 삭제합니다. 삭제된 예약은 복구할 수 없습니다.",
@@ -80,6 +104,21 @@ public interface AppointmentDocs {
             }
     )
     ApiResponseTemplate<String> updateAppointmentStatus(@PathVariable Long appointmentId, @PathVariable String status);
+
+    @Operation(
+            summary = "예약 상태 일괄 변경 (관리자 전용)",
+            description = "여러 예약의 상태를 한 트랜잭션에서 변경합니다. 예약 ID 목록(최대 200건) 또는 "
+                    + "병원 ID/진료과명/날짜/시간 범위(종료 시간 미포함, 활성 예약만)로 대상을 지정합니다. "
+                    + "없는 예약이나 현재 상태에서 전이할 수 없는 예약은 건너뛰고 예약별 처리 결과로 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 변경 완료 (예약별 결과 포함)"),
+                    @ApiResponse(responseCode = "400", description = "대상 미지정 또는 최대 건수 초과"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 병원 또는 진료과"),
+                    @ApiResponse(responseCode = "409", description = "동시 수정 충돌 (재시도 한도 초과)")
+            }
+    )
+    ApiResponseTemplate<AppointmentBulkStatusResponse> bulkUpdateAppointmentStatus(
+            @Valid @RequestBody AppointmentBulkStatusRequest request);
     
     @Operation(
             summary = "예약 정보 수정 (환자도 가능)",
@@ -130,7 +169,7 @@ public interface AppointmentDocs {
 
     @Operation(
             summary = "환자 호출 (관리자 전용)",
-            description = "관리자가 특정 예약의 환자를 호출합니다. 예약 상태가 CALLED로 변경되어 환자 앱에서 폴링으로 감지할 수 있습니다.",
+            description = "관리자가 특정 예약의 환자를 호출합니다. 예약 상태가 CALLED로 변경되고, 커밋 직후 환자의 개인 큐(STOMP /user/queue/appointments)로 호출 알림이 전송됩니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "환자 호출 성공"),
                     @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음"),
@@ -142,14 +181,22 @@ public interface AppointmentDocs {
 
     @Operation(
             summary = "내 예약 상태 조회 - 폴링용 (환자 전용)",
-            description = "환자가 본인의 오늘 예약 상태를 실시간으로 확인할 수 있습니다. 주로 호출 알림을 위한 폴링에 사용됩니다.",
+            description = "환자가 본인의 오늘 예약 상태를 실시간으로 확인할 수 있습니다. 주로 호출 알림을 위한 폴링에 사용됩니다. "
+                    + "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 DB 조회 없이 304를 반환합니다. "
+                    + "wait(초, 최대 25)를 함께 지정하면 상태가 바뀌거나 대기 시간이 지날 때까지 응답을 보류합니다(롱폴링).",
             responses = {
                     @ApiResponse(responseCode = "200", description = "내 예약 상태 조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음"),
                     @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
                     @ApiResponse(responseCode = "500", description = "서버 내부 오류")
             }
     )
-    ApiResponseTemplate<List<AppointmentResponse>> getMyAppointmentStatus(@RequestParam Long memberId);
+    CompletableFuture<ResponseEntity<ApiResponseTemplate<List<AppointmentResponse>>>> getMyAppointmentStatus(
+            @RequestParam Long memberId,
+            @Parameter(description = "롱폴링 대기 시간(초, 최대 25) - 생략 시 즉시 응답", example = "25")
+            @RequestParam(required = false) Integer wait,
+            @Parameter(description = "마지막으로 받은 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
     @Operation(
             summary = "오늘 예약 상태 일괄 업데이트 (관리자 전용)",
@@ -160,4 +207,93 @@ public interface AppointmentDocs {
             }
     )
     ApiResponseTemplate<String> updateTodayAppointmentsStatus();
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "오늘 예약 페이지 조회 (관리자 전용)",
+            description = "오늘 날짜의 예약을 시간순으로 페이지 단위 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "오늘 예약 페이지 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<AppointmentPageResponse> getTodayAppointmentPage(
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "특정 날짜 예약 페이지 조회 (관리자 전용)",
+            description = "특정 날짜의 예약을 시간순으로 페이지 단위 조회합니다. 날짜 형식: yyyy-MM-dd",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "날짜별 예약 페이지 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식 또는 커서"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<AppointmentPageResponse> getAppointmentPageByDate(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "내 예약 페이지 조회 (환자 전용)",
+            description = "환자의 오늘 이후 예약을 날짜/시간순으로 페이지 단위 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "내 예약 페이지 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<AppointmentPageResponse> getMyAppointmentPage(
+            @RequestParam Long memberId,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "내 예약 이력 조회 (환자 전용)",
+            description = "환자의 과거 예약을 포함한 전체 예약 이력을 최신순으로 페이지 단위 조회합니다. "
+                    + "보관 기준일이 지나 보관 테이블로 옮겨진 완료/취소 예약도 함께 조회됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "내 예약 이력 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<AppointmentPageResponse> getMyAppointmentHistory(
+            @RequestParam Long memberId,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "대기 순번 조회 (환자도 가능)",
+            description = "병원 도착 후 진료 대기 중인 예약의 대기 순번과 예상 대기 시간을 조회합니다. "
+                    + "순번은 예약 시간 순이며, 예상 대기 시간은 최근 진료 소요 시간의 이동 평균으로 계산합니다. "
+                    + "진료실 호출 중이면 순번 0, 도착 전이거나 진료가 끝난 예약은 순번이 null입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "대기 순번 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 예약"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<QueuePositionResponse> getQueuePosition(@PathVariable Long appointmentId);
+
+    @Operation(
+            summary = "진료과 오늘 대기열 조회 (관리자 전용)",
+            description = "진료과의 오늘 도착 대기 환자(대기 순서대로)와 진료 중 환자, 평균 진료 소요 시간을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진료과 대기열 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 병원 또는 진료과"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<DepartmentQueueResponse> getTodayDepartmentQueue(
+            @Parameter(description = "병원 ID", example = "1") @RequestParam Long hospitalId,
+            @Parameter(description = "진료과명", example = "내과") @RequestParam String departmentName
+    );
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDate;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AvailabilityCalendarResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AvailableTimeSlotsResponse;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -56,4 +57,28 @@ public interface PatientTimeSlotDocs {
             @Parameter(description = "확인할 시간 (HH:mm)", required = true, example = "14:30") 
             @RequestParam String time
     );
+
+    @Operation(
+            summary = "기간별 예약 가능 현황 조회",
+            description = "특정 병원의 특정 진료과에서 조회 기간(최대 31일)의 날짜별 예약 가능 시간 요약을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "기간별 예약 가능 현황 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 조회 기간"),
+                    @ApiResponse(responseCode = "404", description = "병원 또는 진료과를 찾을 수 없음"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<AvailabilityCalendarResponse> getAvailabilityCalendar(
+            @Parameter(description = "병원 ID", required = true, example = "1") 
+            @RequestParam Long hospitalId,
+            
+            @Parameter(description = "진료과명", required = true, example = "내과") 
+            @RequestParam String departmentName,
+            
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true, example = "2024-12-01") 
+            @RequestParam LocalDate startDate,
+            
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", required = true, example = "2024-12-07") 
+            @RequestParam LocalDate endDate
+    );
 }
\ No newline at end of file
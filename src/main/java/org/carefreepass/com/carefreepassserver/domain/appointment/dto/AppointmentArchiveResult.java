@@ -0,0 +1,11 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+
+// 예약 보관 처리 결과 (보관 기준일, 옮긴 예약 수, 실행한 청크 수)
+public record AppointmentArchiveResult(
+        LocalDate cutoffDate,
+        int archivedCount,
+        int chunkCount
+) {
+}
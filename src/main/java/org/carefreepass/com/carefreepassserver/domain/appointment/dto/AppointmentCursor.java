@@ -0,0 +1,48 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+
+// 예약 목록 키셋 페이지네이션 커서 - (예약 날짜, 예약 시간, 예약 ID) 정렬 키를 불투명 토큰으로 인코딩
+public record AppointmentCursor(
+        LocalDate appointmentDate,
+        LocalTime appointmentTime,
+        Long appointmentId
+) {
+    private static final String DELIMITER = "|";
+
+    // 해당 날짜의 첫 예약 이전 위치 (오름차순 첫 페이지용)
+    public static AppointmentCursor startOf(LocalDate date) {
+        return new AppointmentCursor(date, LocalTime.MIN, 0L);
+    }
+
+    // 페이지 마지막 행의 정렬 키로 다음 페이지 커서 생성
+    public static AppointmentCursor from(AppointmentRow row) {
+        return new AppointmentCursor(row.appointmentDate(), row.appointmentTime(), row.appointmentId());
+    }
+
+    public String encode() {
+        String raw = appointmentDate + DELIMITER + appointmentTime + DELIMITER + appointmentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 토큰 복원 (형식이 올바르지 않으면 예외)
+    public static AppointmentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_CURSOR);
+            }
+            return new AppointmentCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_CURSOR);
+        }
+    }
+}
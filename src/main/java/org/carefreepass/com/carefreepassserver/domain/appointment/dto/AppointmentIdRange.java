@@ -0,0 +1,11 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+// 예약 ID 범위 조회용 프로젝션 (대상이 없으면 두 값 모두 null)
+public record AppointmentIdRange(
+        Long minId,
+        Long maxId
+) {
+    public boolean isEmpty() {
+        return minId == null || maxId == null;
+    }
+}
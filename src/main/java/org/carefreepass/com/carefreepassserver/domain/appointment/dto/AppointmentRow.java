@@ -0,0 +1,21 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Gender;
+
+// 예약 목록 조회용 프로젝션 - 회원, 환자 프로필, 병원, 진료과 정보를 한 번의 쿼리로 조회
+public record AppointmentRow(
+        Long appointmentId,
+        String memberName,
+        String memberPhoneNumber,
+        String birthDate,
+        Gender gender,
+        String hospitalName,
+        String departmentName,
+        LocalDate appointmentDate,
+        LocalTime appointmentTime,
+        AppointmentStatus status
+) {
+}
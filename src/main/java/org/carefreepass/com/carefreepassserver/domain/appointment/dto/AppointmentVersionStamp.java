@@ -0,0 +1,17 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+
+// 회원의 날짜별 예약 버전 집계 프로젝션 (예약 건수, 낙관적 락 버전 합계, 마지막 예약 ID)
+// 예약 수정/상태 변경은 버전 합계를, 생성/삭제는 건수와 마지막 예약 ID를 바꾸므로 어느 노드에서 변경해도 값이 달라짐
+public record AppointmentVersionStamp(
+        Long count,
+        Long versionSum,
+        Long lastAppointmentId
+) {
+    public String toETag(LocalDate date) {
+        return "\"" + date + "-" + Long.toString(count, Character.MAX_RADIX)
+                + "-" + Long.toString(versionSum, Character.MAX_RADIX)
+                + "-" + Long.toString(lastAppointmentId, Character.MAX_RADIX) + "\"";
+    }
+}
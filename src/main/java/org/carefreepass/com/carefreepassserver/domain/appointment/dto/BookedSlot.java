@@ -0,0 +1,13 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 예약된 시간대 조회용 프로젝션 (예약 날짜, 예약 시간, 배정 자원 ID, 예약자명)
+public record BookedSlot(
+        LocalDate appointmentDate,
+        LocalTime appointmentTime,
+        Long resourceId,
+        String memberName
+) {
+}
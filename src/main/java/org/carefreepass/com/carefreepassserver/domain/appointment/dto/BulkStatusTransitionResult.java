@@ -0,0 +1,14 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 예약 상태 일괄 전환 결과 (변경 건수, 실행한 UPDATE 청크 수)
+public record BulkStatusTransitionResult(
+        LocalDate date,
+        AppointmentStatus fromStatus,
+        AppointmentStatus toStatus,
+        int updatedCount,
+        int chunkCount
+) {
+}
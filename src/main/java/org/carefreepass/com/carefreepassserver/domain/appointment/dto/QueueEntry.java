@@ -0,0 +1,15 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 진료 대기열 재구성용 프로젝션 (changedAt: 마지막 상태 변경 시각)
+public record QueueEntry(
+        Long appointmentId,
+        Long departmentId,
+        LocalTime appointmentTime,
+        AppointmentStatus status,
+        LocalDateTime changedAt
+) {
+}
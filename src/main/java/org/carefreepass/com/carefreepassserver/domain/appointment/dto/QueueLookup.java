@@ -0,0 +1,13 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 대기 순번 조회 대상 예약의 진료과/날짜/상태 프로젝션
+public record QueueLookup(
+        Long appointmentId,
+        Long departmentId,
+        LocalDate appointmentDate,
+        AppointmentStatus status
+) {
+}
@@ -0,0 +1,12 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 시간대 재고 생성용 예약 프로젝션 (예약 ID, 예약 날짜, 예약 시간)
+public record SlotBooking(
+        Long appointmentId,
+        LocalDate appointmentDate,
+        LocalTime appointmentTime
+) {
+}
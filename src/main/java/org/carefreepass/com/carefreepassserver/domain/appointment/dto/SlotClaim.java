@@ -0,0 +1,8 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+// 예약 충돌 조회용 프로젝션 (예약 회원 ID, 배정 자원 ID)
+public record SlotClaim(
+        Long memberId,
+        Long resourceId
+) {
+}
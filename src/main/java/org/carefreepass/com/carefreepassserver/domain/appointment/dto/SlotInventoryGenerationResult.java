@@ -0,0 +1,14 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+
+// 시간대 재고 생성 결과 (생성 기간, 대상 진료과 수, 생성 행 수, 생성 실패 진료과 수, 지난 날짜 삭제 행 수)
+public record SlotInventoryGenerationResult(
+        LocalDate startDate,
+        LocalDate endDate,
+        int departmentCount,
+        int createdCount,
+        int failedDepartmentCount,
+        int purgedCount
+) {
+}
@@ -0,0 +1,14 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 시간대 재고 조회용 프로젝션 (날짜, 시간, 점유 예약 ID, 차단 여부, 예약자명)
+public record SlotInventoryRow(
+        LocalDate slotDate,
+        LocalTime slotTime,
+        Long appointmentId,
+        Boolean blocked,
+        String memberName
+) {
+}
@@ -0,0 +1,22 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto;
+
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+
+// 예약 상태 폴링 결과 - 변경이 없으면 appointments는 null (304 응답)
+public record StatusPollResult(
+        String eTag,
+        List<AppointmentResponse> appointments
+) {
+    public static StatusPollResult modified(String eTag, List<AppointmentResponse> appointments) {
+        return new StatusPollResult(eTag, appointments);
+    }
+
+    public static StatusPollResult notModified(String eTag) {
+        return new StatusPollResult(eTag, null);
+    }
+
+    public boolean isModified() {
+        return appointments != null;
+    }
+}
@@ -0,0 +1,55 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 예약 상태 일괄 변경 요청 - 예약 ID 목록 또는 진료과/날짜/시간 범위 중 하나로 대상 지정
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AppointmentBulkStatusRequest {
+
+    @Schema(description = "변경할 상태", example = "COMPLETED")
+    @NotNull(message = "변경할 상태는 필수입니다.")
+    private AppointmentStatus status;
+
+    @Schema(description = "대상 예약 ID 목록 (지정 시 범위 조건은 무시)", example = "[1, 2, 3]")
+    @Size(max = 200, message = "한 번에 최대 200건까지 변경할 수 있습니다.")
+    private List<Long> appointmentIds;
+
+    @Schema(description = "범위 지정 - 병원 ID", example = "1")
+    private Long hospitalId;
+
+    @Schema(description = "범위 지정 - 진료과명", example = "내과")
+    private String departmentName;
+
+    @Schema(description = "범위 지정 - 예약 날짜", example = "2025-09-04")
+    private LocalDate appointmentDate;
+
+    @Schema(description = "범위 지정 - 시작 시간 (포함)", example = "13:00")
+    private LocalTime startTime;
+
+    @Schema(description = "범위 지정 - 종료 시간 (미포함)", example = "18:00")
+    private LocalTime endTime;
+
+    // 예약 ID 목록으로 대상을 지정했는지 확인
+    public boolean hasAppointmentIds() {
+        return appointmentIds != null && !appointmentIds.isEmpty();
+    }
+
+    // 진료과/날짜/시간 범위 조건이 모두 지정되었는지 확인
+    public boolean hasTimeRange() {
+        return hospitalId != null && departmentName != null && !departmentName.isBlank()
+                && appointmentDate != null && startTime != null && endTime != null
+                && startTime.isBefore(endTime);
+    }
+}
@@ -0,0 +1,55 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AppointmentBulkItemResponse {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        REJECTED
+    }
+
+    @Schema(description = "예약 ID", example = "1")
+    private Long appointmentId;
+
+    @Schema(description = "처리 결과 (UPDATED, UNCHANGED, NOT_FOUND, REJECTED)", example = "UPDATED")
+    private Outcome outcome;
+
+    @Schema(description = "변경 전 상태 (예약이 없으면 null)", example = "CALLED")
+    private String previousStatus;
+
+    @Schema(description = "처리 후 상태 (예약이 없으면 null)", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "실패 사유 코드 (성공 시 null)", example = "APPOINTMENT_INVALID_STATUS")
+    private String errorCode;
+
+    public static AppointmentBulkItemResponse updated(Long appointmentId, AppointmentStatus previous, AppointmentStatus status) {
+        return new AppointmentBulkItemResponse(appointmentId, Outcome.UPDATED, previous.name(), status.name(), null);
+    }
+
+    public static AppointmentBulkItemResponse unchanged(Long appointmentId, AppointmentStatus status) {
+        return new AppointmentBulkItemResponse(appointmentId, Outcome.UNCHANGED, status.name(), status.name(), null);
+    }
+
+    public static AppointmentBulkItemResponse notFound(Long appointmentId) {
+        return new AppointmentBulkItemResponse(appointmentId, Outcome.NOT_FOUND, null, null,
+                ErrorCode.APPOINTMENT_NOT_FOUND.getCode());
+    }
+
+    public static AppointmentBulkItemResponse rejected(Long appointmentId, AppointmentStatus status) {
+        return new AppointmentBulkItemResponse(appointmentId, Outcome.REJECTED, status.name(), status.name(),
+                ErrorCode.APPOINTMENT_INVALID_STATUS.getCode());
+    }
+}
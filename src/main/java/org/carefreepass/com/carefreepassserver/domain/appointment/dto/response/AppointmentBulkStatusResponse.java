@@ -0,0 +1,39 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentBulkItemResponse.Outcome;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AppointmentBulkStatusResponse {
+
+    @Schema(description = "변경할 상태", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "대상 예약 수", example = "30")
+    private Integer requestedCount;
+
+    @Schema(description = "변경된 예약 수", example = "28")
+    private Integer updatedCount;
+
+    @Schema(description = "변경하지 못한 예약 수 (없음/전이 불가)", example = "2")
+    private Integer failedCount;
+
+    @Schema(description = "예약별 처리 결과 (요청 순서)")
+    private List<AppointmentBulkItemResponse> results;
+
+    public static AppointmentBulkStatusResponse of(AppointmentStatus status, List<AppointmentBulkItemResponse> results) {
+        int updated = (int) results.stream().filter(result -> result.getOutcome() == Outcome.UPDATED).count();
+        int failed = (int) results.stream()
+                .filter(result -> result.getOutcome() == Outcome.NOT_FOUND || result.getOutcome() == Outcome.REJECTED)
+                .count();
+        return new AppointmentBulkStatusResponse(status.name(), results.size(), updated, failed, results);
+    }
+}
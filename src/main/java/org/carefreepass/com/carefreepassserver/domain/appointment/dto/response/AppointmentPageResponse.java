@@ -0,0 +1,27 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AppointmentPageResponse {
+
+    @Schema(description = "예약 목록")
+    private List<AppointmentResponse> appointments;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wOS0wNHwxMDozMHwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static AppointmentPageResponse of(List<AppointmentResponse> appointments, String nextCursor) {
+        return new AppointmentPageResponse(appointments, nextCursor, nextCursor != null);
+    }
+}
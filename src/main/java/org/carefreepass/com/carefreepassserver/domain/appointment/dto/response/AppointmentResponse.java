@@ -8,7 +8,10 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Gender;
 import org.carefreepass.com.carefreepassserver.domain.auth.entity.PatientProfile;
 
 @Getter
@@ -70,31 +73,15 @@ public class AppointmentResponse {
     }
 
     public static AppointmentResponse from(Appointment appointment, PatientProfile patientProfile) {
-        LocalDate birthDate = null;
-        String gender = null;
-        
-        // PatientProfile이 있고 birthDate가 있으면 변환 시도
-        if (patientProfile != null && patientProfile.getBirthDate() != null) {
-            try {
-                // birthDate가 문자열로 저장되어 있다면 LocalDate로 변환
-                birthDate = LocalDate.parse(patientProfile.getBirthDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            } catch (Exception e) {
-                // 파싱 실패 시 null로 설정 (로그는 생략)
-                birthDate = null;
-            }
-        }
-        
-        // PatientProfile이 있고 gender가 있으면 설정
-        if (patientProfile != null && patientProfile.getGender() != null) {
-            gender = patientProfile.getGender().getValue();
-        }
-        
+        String birthDate = patientProfile != null ? patientProfile.getBirthDate() : null;
+        Gender gender = patientProfile != null ? patientProfile.getGender() : null;
+
         return new AppointmentResponse(
                 appointment.getId(),
                 appointment.getMember().getName(),
                 appointment.getMember().getPhoneNumber(),
-                birthDate,
-                gender,
+                parseBirthDate(birthDate),
+                gender != null ? gender.getValue() : null,
                 appointment.getHospitalName(),
                 appointment.getDepartmentName(),
                 appointment.getAppointmentDate(),
@@ -104,4 +91,34 @@ public class AppointmentResponse {
                 appointment.canCall()
         );
     }
-}
\ No newline at end of file
+
+    // 프로젝션 조회 결과로 생성 (연관 엔티티 지연 로딩 없음)
+    public static AppointmentResponse from(AppointmentRow row) {
+        return new AppointmentResponse(
+                row.appointmentId(),
+                row.memberName(),
+                row.memberPhoneNumber(),
+                parseBirthDate(row.birthDate()),
+                row.gender() != null ? row.gender().getValue() : null,
+                row.hospitalName(),
+                row.departmentName(),
+                row.appointmentDate(),
+                row.appointmentTime(),
+                row.status().name(),
+                row.status().getDescription(),
+                row.status().canTransitionTo(AppointmentStatus.CALLED)
+        );
+    }
+
+    // 문자열로 저장된 생년월일을 LocalDate로 변환 (없거나 파싱 실패 시 null)
+    private static LocalDate parseBirthDate(String birthDate) {
+        if (birthDate == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(birthDate, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
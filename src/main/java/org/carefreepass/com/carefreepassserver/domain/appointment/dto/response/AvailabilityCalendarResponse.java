@@ -0,0 +1,32 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AvailabilityCalendarResponse {
+
+    @Schema(description = "진료과명", example = "내과")
+    private String departmentName;
+
+    @Schema(description = "조회 시작일", example = "2025-09-01")
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료일", example = "2025-09-07")
+    private LocalDate endDate;
+
+    @Schema(description = "날짜별 예약 가능 현황")
+    private List<DailyAvailabilityResponse> days;
+
+    public static AvailabilityCalendarResponse of(String departmentName, LocalDate startDate, LocalDate endDate,
+                                                  List<DailyAvailabilityResponse> days) {
+        return new AvailabilityCalendarResponse(departmentName, startDate, endDate, days);
+    }
+}
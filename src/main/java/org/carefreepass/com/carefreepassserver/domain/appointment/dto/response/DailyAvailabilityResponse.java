@@ -0,0 +1,34 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.cache.DayOccupancy;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DailyAvailabilityResponse {
+
+    @Schema(description = "날짜", example = "2025-09-04")
+    private LocalDate date;
+
+    @Schema(description = "예약 가능한 시간 개수", example = "11")
+    private Integer availableCount;
+
+    @Schema(description = "전체 시간대 개수", example = "14")
+    private Integer totalSlots;
+
+    @Schema(description = "예약 가능한 시간 목록", example = "[\"10:00\", \"10:30\"]")
+    private List<LocalTime> availableTimes;
+
+    public static DailyAvailabilityResponse of(LocalDate date, DayOccupancy occupancy) {
+        List<LocalTime> availableTimes = occupancy.availableTimes();
+        return new DailyAvailabilityResponse(date, availableTimes.size(), occupancy.totalSlots(), availableTimes);
+    }
+}
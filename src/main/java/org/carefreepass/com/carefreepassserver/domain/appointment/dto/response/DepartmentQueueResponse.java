@@ -0,0 +1,41 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.queue.DepartmentQueue;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DepartmentQueueResponse {
+
+    @Schema(description = "진료과명", example = "내과")
+    private String departmentName;
+
+    @Schema(description = "도착 대기 인원", example = "5")
+    private Integer waitingCount;
+
+    @Schema(description = "진료 중(호출됨) 인원", example = "1")
+    private Integer inConsultationCount;
+
+    @Schema(description = "평균 진료 소요 시간(분, 지수 이동 평균)", example = "8.5")
+    private Double averageServiceMinutes;
+
+    @Schema(description = "도착 대기 예약 ID 목록 (대기 순서대로)", example = "[12, 15, 18]")
+    private List<Long> waitingAppointmentIds;
+
+    @Schema(description = "진료 중 예약 ID 목록", example = "[10]")
+    private List<Long> inConsultationAppointmentIds;
+
+    public static DepartmentQueueResponse of(String departmentName, DepartmentQueue queue) {
+        List<Long> waitingIds = queue.waitingAppointmentIds();
+        List<Long> inConsultationIds = queue.inConsultationAppointmentIds();
+        double averageServiceMinutes = Math.round(queue.averageServiceMinutes() * 10) / 10.0;
+        return new DepartmentQueueResponse(departmentName, waitingIds.size(), inConsultationIds.size(),
+                averageServiceMinutes, waitingIds, inConsultationIds);
+    }
+}
@@ -0,0 +1,41 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.queue.QueuePosition;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class QueuePositionResponse {
+
+    @Schema(description = "예약 ID", example = "1")
+    private Long appointmentId;
+
+    @Schema(description = "예약 상태", example = "ARRIVED")
+    private String status;
+
+    @Schema(description = "대기 순번 (1부터, 진료실 호출 중이면 0, 대기열에 없으면 null)", example = "3")
+    private Integer position;
+
+    @Schema(description = "진료과 도착 대기 인원", example = "5")
+    private Integer waitingCount;
+
+    @Schema(description = "예상 대기 시간(분) - 대기열에 없으면 null", example = "25")
+    private Integer estimatedWaitMinutes;
+
+    public static QueuePositionResponse from(QueuePosition position) {
+        AppointmentStatus status = position.isInConsultation() ? AppointmentStatus.CALLED : AppointmentStatus.ARRIVED;
+        return new QueuePositionResponse(position.appointmentId(), status.name(), position.position(),
+                position.waitingCount(), position.estimatedWaitMinutes());
+    }
+
+    // 도착 전이거나 진료가 끝난 예약
+    public static QueuePositionResponse notQueued(Long appointmentId, AppointmentStatus status) {
+        return new QueuePositionResponse(appointmentId, status.name(), null, null, null);
+    }
+}
@@ -21,18 +21,28 @@ public class TimeSlotResponse {
     @Schema(description = "불가능한 이유", example = "ALREADY_BOOKED")
     private String reason;
 
-    @Schema(description = "예약자명 (이미 예약된 경우)", example = "김환자")
+    @Schema(description = "예약자명 (수용 인원이 1명인 시간대가 이미 예약된 경우)", example = "김환자")
     private String bookedBy;
 
-    public static TimeSlotResponse available(LocalTime time) {
-        return new TimeSlotResponse(time, true, null, null);
+    @Schema(description = "시간대 수용 인원 (근무 중인 진료 자원 수, 자원이 없는 진료과는 1, 차단된 시간대는 0)", example = "3")
+    private Integer capacity;
+
+    @Schema(description = "남은 수용 인원", example = "2")
+    private Integer remainingCapacity;
+
+    public static TimeSlotResponse available(LocalTime time, int remainingCapacity, int capacity) {
+        return new TimeSlotResponse(time, true, null, null, capacity, remainingCapacity);
     }
 
-    public static TimeSlotResponse alreadyBooked(LocalTime time, String bookedBy) {
-        return new TimeSlotResponse(time, false, "이미 예약됨", bookedBy);
+    public static TimeSlotResponse alreadyBooked(LocalTime time, String bookedBy, int capacity) {
+        return new TimeSlotResponse(time, false, "이미 예약됨", bookedBy, capacity, 0);
     }
 
     public static TimeSlotResponse hospitalBlocked(LocalTime time) {
-        return new TimeSlotResponse(time, false, "이미 예약됨", null);
+        return new TimeSlotResponse(time, false, "이미 예약됨", null, 0, 0);
+    }
+
+    public static TimeSlotResponse unstaffed(LocalTime time) {
+        return new TimeSlotResponse(time, false, "진료 가능 인원 없음", null, 0, 0);
     }
 }
\ No newline at end of file
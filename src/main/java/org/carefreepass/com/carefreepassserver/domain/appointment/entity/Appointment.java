@@ -8,8 +8,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import lombok.AccessLevel;
@@ -20,17 +25,46 @@ import lombok.NoArgsConstructor;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
 import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
 
 // 병원 예약 엔티티 - 환자의 병원 진료 예약 정보 관리
+// 활성 예약만 slot_claim 값을 가지며(비활성은 NULL), 유니크 제약으로 동시 예약 시 시간대/날짜 중복을 DB에서 차단
+// 시간대 유니크 제약은 진료 자원(resource_id)까지 포함하므로, 자원이 없는 진료과(resource_id = 0)는 시간대당 한 건, 자원이 있으면 자원당 한 건
+// version으로 낙관적 락을 적용하여 동시 수정 시 나중에 커밋하는 쪽이 실패하고, 상태 변경은 전이 테이블로 검증
+// 조회 패턴(진료과+날짜+상태, 환자+날짜, 날짜+상태)별 인덱스는 db/migration 스크립트와 함께 관리
 @Entity
 @Getter
 @EqualsAndHashCode(callSuper = false, of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Appointment.DEPARTMENT_SLOT_CONSTRAINT,
+                columnNames = {"hospital_department_id", "appointment_date", "appointment_time", "resource_id", "slot_claim"}),
+        @UniqueConstraint(name = Appointment.MEMBER_DATE_CONSTRAINT,
+                columnNames = {"member_id", "appointment_date", "slot_claim"})
+}, indexes = {
+        @Index(name = "idx_appointment_department_date_status",
+                columnList = "hospital_department_id, appointment_date, status, appointment_time"),
+        @Index(name = "idx_appointment_member_date",
+                columnList = "member_id, appointment_date, appointment_time"),
+        @Index(name = "idx_appointment_date_status",
+                columnList = "appointment_date, status, appointment_time")
+})
 public class Appointment extends BaseTimeEntity {
 
-    // 예약 고유 식별자
+    // 진료과 시간대 중복 예약 방지 제약조건명
+    public static final String DEPARTMENT_SLOT_CONSTRAINT = "uk_appointment_department_slot";
+
+    // 환자별 같은 날짜 중복 예약 방지 제약조건명
+    public static final String MEMBER_DATE_CONSTRAINT = "uk_appointment_member_date";
+
+    // 진료 자원이 없는 진료과의 기본 자원 ID (진료과 전체가 하나의 진료 자원)
+    public static final Long DEFAULT_RESOURCE_ID = 0L;
+
+    // 예약 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq_generator")
+    @SequenceGenerator(name = "appointment_seq_generator", sequenceName = "appointment_seq", allocationSize = 50)
     private Long id;
 
     // 예약한 환자 정보
@@ -44,32 +78,54 @@ public class Appointment extends BaseTimeEntity {
     private HospitalDepartment hospitalDepartment;
 
     // 예약 날짜
-    @Column(nullable = false)
+    @Column(name = "appointment_date", nullable = false)
     private LocalDate appointmentDate;
 
     // 예약 시간
-    @Column(nullable = false)
+    @Column(name = "appointment_time", nullable = false)
     private LocalTime appointmentTime;
 
+    // 배정된 진료 자원 ID (자원이 없는 진료과는 0) - 자원 비활성화 후에도 이력을 남기기 위해 FK 없이 ID만 보관
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
     // 예약 상태 (WAITING, SCHEDULED, ARRIVED, CALLED, COMPLETED, CANCELLED)
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private AppointmentStatus status;
 
+    // 시간대 점유 표시 (활성 상태: true, 완료/취소: NULL) - NULL은 유니크 제약에서 제외되어 취소된 시간대 재예약 가능
+    @Column(name = "slot_claim")
+    private Boolean slotClaim;
+
+    // 낙관적 락 버전 (수정 시마다 증가, 일괄 UPDATE에서도 함께 증가)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 예약 엔티티 생성자 (빌더 패턴) - 외부에서 직접 호출 불가, 정적 팩토리 메서드 통해서만 생성
     @Builder(access = AccessLevel.PRIVATE)
     private Appointment(Member member, HospitalDepartment hospitalDepartment,
-                       LocalDate appointmentDate, LocalTime appointmentTime, AppointmentStatus status) {
+                       LocalDate appointmentDate, LocalTime appointmentTime, Long resourceId,
+                       AppointmentStatus status) {
         this.member = member;
         this.hospitalDepartment = hospitalDepartment;
         this.appointmentDate = appointmentDate;
         this.appointmentTime = appointmentTime;
-        this.status = status;
+        this.resourceId = resourceId;
+        changeStatus(status);
     }
 
     // 예약 생성 - 새로운 예약 생성 및 날짜에 따른 초기 상태 설정 (오늘:SCHEDULED, 미래:WAITING)
     public static Appointment createAppointment(Member member, HospitalDepartment hospitalDepartment,
                                               LocalDate appointmentDate, LocalTime appointmentTime) {
+        return createAppointment(member, hospitalDepartment, appointmentDate, appointmentTime, DEFAULT_RESOURCE_ID);
+    }
+
+    // 진료 자원을 배정한 예약 생성 (자원이 없는 진료과는 DEFAULT_RESOURCE_ID)
+    public static Appointment createAppointment(Member member, HospitalDepartment hospitalDepartment,
+                                              LocalDate appointmentDate, LocalTime appointmentTime,
+                                              Long resourceId) {
         // 오늘 날짜면 SCHEDULED, 미래 날짜면 WAITING
         AppointmentStatus initialStatus = appointmentDate.equals(LocalDate.now()) 
                 ? AppointmentStatus.SCHEDULED 
@@ -80,41 +136,64 @@ public class Appointment extends BaseTimeEntity {
                 .hospitalDepartment(hospitalDepartment)
                 .appointmentDate(appointmentDate)
                 .appointmentTime(appointmentTime)
+                .resourceId(resourceId)
                 .status(initialStatus)
                 .build();
     }
 
     // 예약 상태 변경
     public void updateStatus(AppointmentStatus status) {
-        this.status = status;
+        changeStatus(status);
     }
 
     // 환자 체크인 처리 - 예약 상태를 ARRIVED(도착)로 변경
     public void checkin() {
-        this.status = AppointmentStatus.ARRIVED;
+        changeStatus(AppointmentStatus.ARRIVED);
     }
 
     // 오늘 내원 예정 상태 변경 - WAITING에서 SCHEDULED로 변경
     public void scheduleForToday() {
-        this.status = AppointmentStatus.SCHEDULED;
+        changeStatus(AppointmentStatus.SCHEDULED);
     }
 
     // 환자 호출 처리 - 예약 상태를 CALLED(호출됨)로 변경
     public void call() {
-        this.status = AppointmentStatus.CALLED;
+        changeStatus(AppointmentStatus.CALLED);
+    }
+
+    // 상태 변경 시 전이 가능 여부를 검증하고 시간대 점유 표시를 함께 갱신
+    private void changeStatus(AppointmentStatus status) {
+        if (this.status != null && !this.status.canTransitionTo(status)) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_STATUS);
+        }
+        this.status = status;
+        this.slotClaim = slotClaimOf(status);
+    }
+
+    // 상태별 시간대 점유 표시 값 (일괄 UPDATE에서도 동일하게 사용)
+    public static Boolean slotClaimOf(AppointmentStatus status) {
+        return status.isActive() ? Boolean.TRUE : null;
     }
 
-    // 환자 호출 가능 여부 확인 (완료되거나 취소된 예약은 호출 불가)
+    // 환자 호출 가능 여부 확인 (내원 예정/도착/호출 중인 예약만 호출 가능)
     public boolean canCall() {
-        return this.status != AppointmentStatus.COMPLETED && this.status != AppointmentStatus.CANCELLED;
+        return this.status.canTransitionTo(AppointmentStatus.CALLED);
     }
 
     // 예약 정보 수정 (완료되거나 취소된 예약은 수정 불가)
     public void updateAppointment(HospitalDepartment hospitalDepartment,
-                                LocalDate appointmentDate, LocalTime appointmentTime) {
+                                LocalDate appointmentDate, LocalTime appointmentTime, Long resourceId) {
         this.hospitalDepartment = hospitalDepartment;
         this.appointmentDate = appointmentDate;
         this.appointmentTime = appointmentTime;
+        this.resourceId = resourceId;
+    }
+
+    // 같은 진료과/날짜/시간 예약인지 확인 (예약 변경 시 기존 자원 유지 판단)
+    public boolean isSameSlot(HospitalDepartment hospitalDepartment, LocalDate appointmentDate, LocalTime appointmentTime) {
+        return this.hospitalDepartment.getId().equals(hospitalDepartment.getId())
+                && this.appointmentDate.equals(appointmentDate)
+                && this.appointmentTime.equals(appointmentTime);
     }
 
     // 병원명 조회 (편의 메서드)
@@ -0,0 +1,70 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관 예약 엔티티 - 보관 기준일이 지난 완료/취소 예약을 예약 테이블에서 옮겨 저장 (읽기 전용 콜드 데이터)
+// 원본 예약 ID를 그대로 사용하며, 회원/진료과는 연관관계 없이 ID만 보관
+@Entity
+@Getter
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "appointment_archive", indexes = {
+        @Index(name = "idx_appointment_archive_member_history",
+                columnList = "member_id, appointment_date, appointment_time, id")
+})
+public class AppointmentArchive {
+
+    // 원본 예약 ID
+    @Id
+    private Long id;
+
+    // 예약한 환자 ID
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 예약 진료과 ID
+    @Column(name = "hospital_department_id", nullable = false)
+    private Long hospitalDepartmentId;
+
+    // 예약 날짜
+    @Column(name = "appointment_date", nullable = false)
+    private LocalDate appointmentDate;
+
+    // 예약 시간
+    @Column(name = "appointment_time", nullable = false)
+    private LocalTime appointmentTime;
+
+    // 배정된 진료 자원 ID (자원이 없는 진료과와 V14 이전 보관 예약은 0)
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    // 보관 시점의 최종 상태 (COMPLETED, CANCELLED)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AppointmentStatus status;
+
+    // 원본 예약 생성 시각
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 원본 예약 최종 수정 시각
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 보관 처리 시각
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,83 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentEventType;
+
+// 예약 이벤트 아웃박스 엔티티 - 예약 변경과 같은 트랜잭션에서 기록되고, 릴레이가 발행 후 published_at을 채움
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "appointment_outbox", indexes = {
+        @Index(name = "idx_appointment_outbox_published", columnList = "published_at, id"),
+        @Index(name = "idx_appointment_outbox_appointment", columnList = "appointment_id, id")
+})
+public class AppointmentOutbox {
+
+    // 아웃박스 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - 일괄 변경 시 INSERT 배치 가능)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_outbox_seq_generator")
+    @SequenceGenerator(name = "appointment_outbox_seq_generator", sequenceName = "appointment_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // 이벤트 대상 예약 ID (예약 단위 순서 보장 기준)
+    @Column(name = "appointment_id", nullable = false)
+    private Long appointmentId;
+
+    // 예약 단위 발행 순서 - 변경 전 예약 버전 (생성은 -1, 같으면 ID 순)
+    @Column(name = "appointment_version", nullable = false)
+    private long appointmentVersion;
+
+    // 이벤트 종류
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private AppointmentEventType eventType;
+
+    // 직렬화된 이벤트 (JSON)
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    // 이벤트 발생 시각
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 발행 완료 시각 (미발행: NULL)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // 발행 시도 실패 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 릴레이 점유 만료 시각 (이 시각 전까지 다른 노드의 릴레이는 가져가지 않음, 미점유: NULL)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    private AppointmentOutbox(Long appointmentId, long appointmentVersion, AppointmentEventType eventType,
+                              String payload, LocalDateTime occurredAt) {
+        this.appointmentId = appointmentId;
+        this.appointmentVersion = appointmentVersion;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.attempts = 0;
+    }
+
+    // 아웃박스 레코드 생성
+    public static AppointmentOutbox of(Long appointmentId, long appointmentVersion, AppointmentEventType eventType,
+                                       String payload, LocalDateTime occurredAt) {
+        return new AppointmentOutbox(appointmentId, appointmentVersion, eventType, payload, occurredAt);
+    }
+}
@@ -1,5 +1,10 @@
 package org.carefreepass.com.carefreepassserver.domain.appointment.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum AppointmentStatus {
     WAITING("예약 확정"),
     SCHEDULED("오늘 내원전"),
@@ -17,4 +22,26 @@ public enum AppointmentStatus {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    // 진료과 시간대를 점유하는 활성 상태인지 확인 (COMPLETED, CANCELLED 제외)
+    public boolean isActive() {
+        return this != COMPLETED && this != CANCELLED;
+    }
+
+    // 상태 전이 허용 테이블 (완료/취소는 최종 상태, 호출 중 재호출 허용)
+    private static final Map<AppointmentStatus, Set<AppointmentStatus>> TRANSITIONS = new EnumMap<>(AppointmentStatus.class);
+
+    static {
+        TRANSITIONS.put(WAITING, EnumSet.of(SCHEDULED, CANCELLED));
+        TRANSITIONS.put(SCHEDULED, EnumSet.of(ARRIVED, CALLED, CANCELLED));
+        TRANSITIONS.put(ARRIVED, EnumSet.of(SCHEDULED, CALLED, COMPLETED, CANCELLED));
+        TRANSITIONS.put(CALLED, EnumSet.of(ARRIVED, CALLED, COMPLETED, CANCELLED));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(AppointmentStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(AppointmentStatus.class));
+    }
+
+    // 현재 상태에서 대상 상태로 전이 가능한지 확인
+    public boolean canTransitionTo(AppointmentStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+}
@@ -0,0 +1,94 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+
+// 예약 시간대 재고 엔티티 - 진료과별 시간대를 미리 행으로 생성해 두고 예약/차단 상태를 행 단위로 관리
+// 예약 점유는 "비어 있고 차단되지 않은 행"에 대한 조건부 UPDATE 한 번으로 처리 (영향 행 수 0이면 점유 실패)
+// 예약 가능 여부는 appointment_id IS NULL AND blocked = false 로 판정 (별도 컬럼으로 중복 저장하지 않음)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "slot_inventory", uniqueConstraints = {
+        @UniqueConstraint(name = SlotInventory.DEPARTMENT_SLOT_CONSTRAINT,
+                columnNames = {"hospital_department_id", "slot_date", "slot_time"})
+}, indexes = {
+        @Index(name = "idx_slot_inventory_appointment", columnList = "appointment_id"),
+        @Index(name = "idx_slot_inventory_date", columnList = "slot_date")
+})
+public class SlotInventory {
+
+    // 진료과 시간대 중복 생성 방지 제약조건명
+    public static final String DEPARTMENT_SLOT_CONSTRAINT = "uk_slot_inventory_department_slot";
+
+    // 시간대 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - 일괄 생성 시 INSERT 배치 가능)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slot_inventory_seq_generator")
+    @SequenceGenerator(name = "slot_inventory_seq_generator", sequenceName = "slot_inventory_seq", allocationSize = 50)
+    private Long id;
+
+    // 시간대 진료과
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hospital_department_id", nullable = false)
+    private HospitalDepartment hospitalDepartment;
+
+    // 시간대 날짜
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    // 시간대 시작 시간
+    @Column(name = "slot_time", nullable = false)
+    private LocalTime slotTime;
+
+    // 시간대를 점유한 예약 ID (비어 있으면 NULL) - 보관 테이블 이동 후에도 남을 수 있어 외래키는 두지 않음
+    @Column(name = "appointment_id")
+    private Long appointmentId;
+
+    // 병원 차단 여부
+    @Column(nullable = false)
+    private Boolean blocked;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private SlotInventory(HospitalDepartment hospitalDepartment, LocalDate slotDate, LocalTime slotTime,
+                          Long appointmentId, Boolean blocked) {
+        this.hospitalDepartment = hospitalDepartment;
+        this.slotDate = slotDate;
+        this.slotTime = slotTime;
+        this.appointmentId = appointmentId;
+        this.blocked = blocked;
+    }
+
+    // 시간대 생성 - 생성 시점의 예약/차단 상태를 함께 기록
+    public static SlotInventory create(HospitalDepartment hospitalDepartment, LocalDate slotDate, LocalTime slotTime,
+                                       Long appointmentId, boolean blocked) {
+        return SlotInventory.builder()
+                .hospitalDepartment(hospitalDepartment)
+                .slotDate(slotDate)
+                .slotTime(slotTime)
+                .appointmentId(appointmentId)
+                .blocked(blocked)
+                .build();
+    }
+
+    // 예약 가능 여부 (비어 있고 차단되지 않은 시간대)
+    public boolean isAvailable() {
+        return appointmentId == null && !blocked;
+    }
+}
@@ -0,0 +1,25 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 예약 상태 일괄 전환 이벤트 - 날짜와 전환 상태, 전환된 예약별 상태 변경 (아웃박스 기록용)
+// 캐시 무효화 리스너는 날짜/상태만 사용하고, 예약별 변경은 아웃박스로 기록되어 대기열/회원 알림에 전달됨
+public record AppointmentBulkStatusChangedEvent(
+        LocalDate date,
+        AppointmentStatus fromStatus,
+        AppointmentStatus toStatus,
+        int updatedCount,
+        List<AppointmentChangedEvent> changes
+) {
+    public AppointmentBulkStatusChangedEvent(LocalDate date, AppointmentStatus fromStatus, AppointmentStatus toStatus,
+                                             int updatedCount) {
+        this(date, fromStatus, toStatus, updatedCount, List.of());
+    }
+
+    // 시간대 점유 여부가 바뀌는 전환인지 확인 (예: 활성 → 취소)
+    public boolean changesSlotOccupancy() {
+        return fromStatus.isActive() != toStatus.isActive();
+    }
+}
@@ -0,0 +1,46 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.event;
+
+import java.time.LocalDateTime;
+
+// 예약 변경 도메인 이벤트 - 변경 전(before)/후(after) 스냅샷 포함 (생성 시 before, 삭제 시 after는 null)
+public record AppointmentChangedEvent(
+        AppointmentEventType type,
+        AppointmentSnapshot before,
+        AppointmentSnapshot after,
+        LocalDateTime occurredAt
+) {
+    public static AppointmentChangedEvent created(AppointmentSnapshot after) {
+        return new AppointmentChangedEvent(AppointmentEventType.CREATED, null, after, LocalDateTime.now());
+    }
+
+    public static AppointmentChangedEvent updated(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return new AppointmentChangedEvent(AppointmentEventType.UPDATED, before, after, LocalDateTime.now());
+    }
+
+    public static AppointmentChangedEvent statusChanged(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return new AppointmentChangedEvent(AppointmentEventType.STATUS_CHANGED, before, after, LocalDateTime.now());
+    }
+
+    public static AppointmentChangedEvent deleted(AppointmentSnapshot before) {
+        return new AppointmentChangedEvent(AppointmentEventType.DELETED, before, null, LocalDateTime.now());
+    }
+
+    // 변경 후 스냅샷이 없으면(삭제) 변경 전 스냅샷 반환
+    public AppointmentSnapshot current() {
+        return after != null ? after : before;
+    }
+
+    public Long appointmentId() {
+        return current().appointmentId();
+    }
+
+    public Long memberId() {
+        return current().memberId();
+    }
+
+    // 예약 단위 발행 순서 기준 - 변경 전 버전 (생성은 -1)
+    // 같은 예약의 변경은 낙관적 락으로 직렬화되므로 노드별로 ID 블록을 할당받아도 커밋 순서와 일치
+    public long sequenceVersion() {
+        return before != null && before.version() != null ? before.version() : -1L;
+    }
+}
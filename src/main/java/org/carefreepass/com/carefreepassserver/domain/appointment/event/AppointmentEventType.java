@@ -0,0 +1,19 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.event;
+
+// 예약 변경 이벤트 종류
+public enum AppointmentEventType {
+    CREATED("예약 생성"),
+    UPDATED("예약 정보 수정"),
+    STATUS_CHANGED("예약 상태 변경"),
+    DELETED("예약 삭제");
+
+    private final String description;
+
+    AppointmentEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
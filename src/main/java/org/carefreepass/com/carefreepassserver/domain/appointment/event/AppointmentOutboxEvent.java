@@ -0,0 +1,8 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.event;
+
+// 아웃박스 릴레이가 발행하는 예약 이벤트 - 최소 1회 전달되므로 수신측은 outboxId 기준으로 중복을 허용해야 함
+public record AppointmentOutboxEvent(
+        Long outboxId,
+        AppointmentChangedEvent event
+) {
+}
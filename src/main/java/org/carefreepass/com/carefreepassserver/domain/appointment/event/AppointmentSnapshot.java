@@ -0,0 +1,50 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 변경 시점의 예약 상태 스냅샷 - 트랜잭션 종료 후에도 지연 로딩 없이 사용할 수 있는 값만 보관
+public record AppointmentSnapshot(
+        Long appointmentId,
+        Long memberId,
+        String memberName,
+        Long departmentId,
+        LocalDate appointmentDate,
+        LocalTime appointmentTime,
+        Long resourceId,
+        AppointmentStatus status,
+        Long version
+) {
+    // 회원 정보가 이미 로딩된 예약으로부터 스냅샷 생성
+    public static AppointmentSnapshot from(Appointment appointment) {
+        return of(appointment, appointment.getMember().getName());
+    }
+
+    // 회원명을 별도로 조회한 경우 (회원 프록시 초기화 방지)
+    public static AppointmentSnapshot of(Appointment appointment, String memberName) {
+        return new AppointmentSnapshot(
+                appointment.getId(),
+                appointment.getMember().getId(),
+                memberName,
+                appointment.getHospitalDepartment().getId(),
+                appointment.getAppointmentDate(),
+                appointment.getAppointmentTime(),
+                appointment.getResourceId(),
+                appointment.getStatus(),
+                appointment.getVersion()
+        );
+    }
+
+    // 일괄 전환 직후 스냅샷으로부터 전환 전 스냅샷 생성 (일괄 UPDATE는 상태와 버전만 바꿈)
+    public AppointmentSnapshot beforeTransition(AppointmentStatus previousStatus) {
+        return new AppointmentSnapshot(appointmentId, memberId, memberName, departmentId, appointmentDate,
+                appointmentTime, resourceId, previousStatus, version - 1);
+    }
+
+    // 진료과 시간대를 점유하고 있는 상태인지 확인
+    public boolean occupiesSlot() {
+        return status.isActive();
+    }
+}
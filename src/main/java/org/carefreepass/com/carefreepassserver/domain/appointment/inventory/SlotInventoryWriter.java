@@ -0,0 +1,110 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.inventory;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.SlotInventoryService;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.AvailabilityRuleChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.DepartmentResourceChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotExceptionChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotRangeChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.AvailabilityRuleService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 시간대 재고 기록기
+ * 예약/차단/휴진 규칙 변경 트랜잭션의 커밋 직전에 같은 트랜잭션으로 해당 시간대 행을 갱신합니다.
+ * 점유에 실패하면 예외가 그대로 전파되어 예약 변경도 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotInventoryWriter {
+
+    private final SlotInventoryService slotInventoryService;
+    private final AvailabilityRuleService availabilityRuleService;
+
+    // 예약 변경 커밋 직전 시간대 점유/해제 (이전 시간대 해제 → 새 시간대 점유)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (!slotInventoryService.isEnabled()) {
+            return;
+        }
+        AppointmentSnapshot before = event.before();
+        AppointmentSnapshot after = event.after();
+        boolean held = before != null && before.occupiesSlot();
+        boolean holds = after != null && after.occupiesSlot();
+        boolean moved = held && holds && !isSameSlot(before, after);
+
+        if (held && (!holds || moved)) {
+            slotInventoryService.release(before.appointmentId());
+        }
+        if (holds && (!held || moved)) {
+            slotInventoryService.claim(after);
+        }
+    }
+
+    // 예약 상태 일괄 전환 커밋 직전 점유가 풀린 예약의 시간대 해제
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAppointmentBulkStatusChanged(AppointmentBulkStatusChangedEvent event) {
+        if (slotInventoryService.isEnabled() && event.changesSlotOccupancy()) {
+            slotInventoryService.releaseUnclaimedOn(event.date());
+        }
+    }
+
+    // 시간 차단 변경 커밋 직전 시간대 차단 상태 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTimeSlotExceptionChanged(TimeSlotExceptionChangedEvent event) {
+        if (slotInventoryService.isEnabled()) {
+            slotInventoryService.updateBlocked(event.departmentId(), event.exceptionDate(), event.exceptionTime(),
+                    event.blocked());
+        }
+    }
+
+    // 시간대 범위 차단/해제 커밋 직전 범위 내 시간대 차단 상태를 단일 UPDATE로 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTimeSlotRangeChanged(TimeSlotRangeChangedEvent event) {
+        if (slotInventoryService.isEnabled()) {
+            slotInventoryService.updateBlockedInRange(event.departmentIds(), event.startDate(), event.endDate(),
+                    event.startTime(), event.endTime(), event.blocked());
+        }
+    }
+
+    // 휴진 규칙/공휴일 변경 커밋 직전 대상 진료과 재고의 차단 상태 재계산 (공휴일 변경은 공휴일 규칙을 가진 진료과 전체)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAvailabilityRuleChanged(AvailabilityRuleChangedEvent event) {
+        if (!slotInventoryService.isEnabled()) {
+            return;
+        }
+        slotInventoryService.refreshBlocked(event.isHolidayChange()
+                ? availabilityRuleService.getHolidayRuleDepartmentIds()
+                : List.of(event.departmentId()));
+    }
+
+    // 첫 진료 자원 등록 커밋 직전 진료과 재고 삭제 (자원 진료과는 재고 없이 예약 테이블에서 수용 인원 계산)
+    // 마지막 자원이 비활성화되어 기본 진료과로 돌아가면 다음 재고 생성 작업에서 다시 생성
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDepartmentResourceChanged(DepartmentResourceChangedEvent event) {
+        if (slotInventoryService.isEnabled() && event.firstResource()) {
+            slotInventoryService.removeForResourceDepartment(event.departmentId());
+        }
+    }
+
+    // 진료 시간/슬롯 간격 변경 커밋 직전 진료과 재고를 새 시간대 목록으로 재생성 (이전 간격의 행이 남아 예약 가능 시간이 어긋나지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDepartmentChanged(HospitalDepartmentChangedEvent event) {
+        if (slotInventoryService.isEnabled() && event.scheduleChanged()) {
+            slotInventoryService.regenerate(event.departmentId());
+        }
+    }
+
+    private static boolean isSameSlot(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return before.departmentId().equals(after.departmentId())
+                && before.appointmentDate().equals(after.appointmentDate())
+                && before.appointmentTime().equals(after.appointmentTime());
+    }
+}
@@ -0,0 +1,54 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 릴레이된 예약 이벤트의 노드 간 전달
+ * 아웃박스 이벤트는 점유한 한 노드의 릴레이만 발행하므로, 발행한 노드가 Redis 채널로 이벤트를 전달하고
+ * 다른 노드는 수신한 이벤트를 자신의 프로세스 내 리스너(진료 대기열, 회원 개인 큐 알림)에 AppointmentOutboxEvent로 다시 발행합니다.
+ * 전달에 실패하면 릴레이가 같은 이벤트를 점유 만료 후 다시 발행하며(최소 1회 전달), 수신 노드의 리스너 실패는 재시도하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentOutboxBroadcaster implements MessageListener {
+
+    private static final String SEPARATOR = ":";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    // 다른 노드에 릴레이된 이벤트 전달 (노드 ID:아웃박스 ID:이벤트 JSON) - 실패 시 예외를 던져 릴레이가 재시도
+    public void broadcast(AppointmentOutbox outbox) {
+        redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + outbox.getId() + SEPARATOR + outbox.getPayload());
+    }
+
+    // 다른 노드가 릴레이한 이벤트 수신 (자신이 발행한 메시지는 이미 로컬 리스너에 전달되어 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            AppointmentChangedEvent event = objectMapper.readValue(parts[2], AppointmentChangedEvent.class);
+            eventPublisher.publishEvent(new AppointmentOutboxEvent(Long.valueOf(parts[1]), event));
+        } catch (Exception e) {
+            log.warn("다른 노드의 아웃박스 이벤트 처리 실패: 아웃박스 ID {} - {}", parts[1], e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentOutboxRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 이벤트 아웃박스 릴레이
+ * 미발행 아웃박스 레코드를 기록 순서대로 배치 점유하여 AppointmentOutboxEvent로 프로세스 내 리스너에 발행하고,
+ * AppointmentOutboxBroadcaster로 다른 노드에도 전달하여 모든 노드의 리스너(진료 대기열, 회원 개인 큐 알림)가 같은 변경을 받습니다.
+ * 점유는 SKIP LOCKED 잠금 조회 후 점유 만료 시각을 기록하는 짧은 트랜잭션으로 처리하여, 여러 노드가 같은 이벤트를 중복 발행하지 않습니다.
+ * 같은 예약의 앞선 이벤트가 발행되기 전에는 이후 이벤트를 점유하지 않으므로, 발행에 실패한 예약은 점유 만료 후 재시도될 때까지 보류되어 예약 단위 순서가 보장됩니다.
+ * 발행 완료 표시는 리스너 호출 후에 기록하므로 장애 시 같은 이벤트가 다시 전달될 수 있습니다(최소 1회 전달).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentOutboxRelay {
+
+    private final AppointmentOutboxRepository appointmentOutboxRepository;
+    private final AppointmentProperties appointmentProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<AppointmentOutboxBroadcaster> broadcaster;
+
+    private final AtomicBoolean relayRequested = new AtomicBoolean();
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "appointment-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 릴레이 실행 요청 (이미 대기 중인 요청이 있으면 합쳐짐)
+    public void requestRelay() {
+        if (appointmentProperties.isOutboxRelayEnabled() && relayRequested.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                relayRequested.set(false);
+                relay();
+            });
+        }
+    }
+
+    // 커밋 후 알림을 놓친 이벤트와 실패 이벤트 재발행을 위한 주기적 점검
+    @Scheduled(fixedDelayString = "${app.appointment.outbox-poll-interval-millis:5000}")
+    public void sweep() {
+        requestRelay();
+    }
+
+    // 매일 새벽 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Scheduled(cron = "0 40 0 * * *")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(appointmentProperties.getOutboxRetentionDays());
+        Integer deleted = transactionTemplate.execute(tx -> appointmentOutboxRepository.deletePublishedBefore(cutoff));
+        log.info("발행 완료 아웃박스 이벤트 정리: {}건 삭제 ({} 이전)", deleted, cutoff);
+    }
+
+    // 미발행 이벤트를 배치 단위로 점유하여 모두 발행 (점유할 이벤트가 없을 때까지 반복)
+    void relay() {
+        int batchSize = appointmentProperties.getOutboxBatchSize();
+        int maxAttempts = appointmentProperties.getOutboxMaxAttempts();
+
+        try {
+            List<AppointmentOutbox> batch;
+            do {
+                batch = claimBatch(batchSize, maxAttempts);
+                if (!batch.isEmpty()) {
+                    publishBatch(batch, maxAttempts);
+                }
+            } while (!batch.isEmpty());
+        } catch (RuntimeException e) {
+            log.error("아웃박스 릴레이 실패 - 다음 점검 시 재시도", e);
+        }
+    }
+
+    // 점유 가능한 이벤트를 잠금 조회하고 점유 만료 시각을 기록 (행 잠금은 커밋과 함께 풀리고 점유는 만료 시각까지 유지)
+    private List<AppointmentOutbox> claimBatch(int batchSize, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedUntil = now.plusSeconds(appointmentProperties.getOutboxClaimLeaseSeconds());
+
+        return transactionTemplate.execute(tx -> {
+            List<AppointmentOutbox> batch = appointmentOutboxRepository.findClaimable(
+                    now, maxAttempts, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                appointmentOutboxRepository.claim(
+                        batch.stream().map(AppointmentOutbox::getId).toList(), claimedUntil);
+            }
+            return batch;
+        });
+    }
+
+    // 점유한 이벤트 발행 (배치에는 예약별로 가장 앞선 미발행 이벤트만 포함됨)
+    private void publishBatch(List<AppointmentOutbox> batch, int maxAttempts) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (AppointmentOutbox outbox : batch) {
+            try {
+                AppointmentChangedEvent event = objectMapper.readValue(outbox.getPayload(), AppointmentChangedEvent.class);
+                eventPublisher.publishEvent(new AppointmentOutboxEvent(outbox.getId(), event));
+                broadcaster.ifAvailable(available -> available.broadcast(outbox));
+                publishedIds.add(outbox.getId());
+            } catch (Exception e) {
+                failedIds.add(outbox.getId());
+                if (outbox.getAttempts() + 1 >= maxAttempts) {
+                    log.error("아웃박스 이벤트 발행 포기: ID {}, 예약 ID {} ({}회 실패)",
+                            outbox.getId(), outbox.getAppointmentId(), maxAttempts, e);
+                } else {
+                    log.warn("아웃박스 이벤트 발행 실패: ID {}, 예약 ID {} - {}",
+                            outbox.getId(), outbox.getAppointmentId(), e.getMessage());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!publishedIds.isEmpty()) {
+                appointmentOutboxRepository.markPublished(publishedIds, LocalDateTime.now());
+            }
+            if (!failedIds.isEmpty()) {
+                appointmentOutboxRepository.incrementAttempts(failedIds);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdownNow();
+    }
+}
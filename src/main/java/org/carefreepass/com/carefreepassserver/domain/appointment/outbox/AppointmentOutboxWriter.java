@@ -0,0 +1,67 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentOutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 이벤트 아웃박스 기록기
+ * 예약 변경 트랜잭션의 커밋 직전에 같은 트랜잭션으로 아웃박스 레코드를 INSERT 하고,
+ * 커밋이 완료되면 릴레이를 깨워 즉시 발행하도록 합니다. 발행 자체는 릴레이 스레드에서 처리되어 예약 트랜잭션을 늘리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentOutboxWriter {
+
+    private final AppointmentOutboxRepository appointmentOutboxRepository;
+    private final AppointmentOutboxRelay appointmentOutboxRelay;
+    private final ObjectMapper objectMapper;
+
+    // 커밋 직전 같은 트랜잭션에서 아웃박스 기록
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void write(AppointmentChangedEvent event) {
+        appointmentOutboxRepository.save(toOutbox(event));
+    }
+
+    // 일괄 전환된 예약별 상태 변경을 커밋 직전 같은 트랜잭션에서 기록 (시퀀스 ID라 JDBC 배치 INSERT로 전송)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void writeAll(AppointmentBulkStatusChangedEvent event) {
+        appointmentOutboxRepository.saveAll(event.changes().stream()
+                .map(this::toOutbox)
+                .toList());
+    }
+
+    // 커밋 후 릴레이 실행 요청
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void wakeUpRelay(AppointmentChangedEvent event) {
+        appointmentOutboxRelay.requestRelay();
+    }
+
+    // 일괄 전환 커밋 후 릴레이 실행 요청
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void wakeUpRelay(AppointmentBulkStatusChangedEvent event) {
+        if (!event.changes().isEmpty()) {
+            appointmentOutboxRelay.requestRelay();
+        }
+    }
+
+    private AppointmentOutbox toOutbox(AppointmentChangedEvent event) {
+        return AppointmentOutbox.of(
+                event.appointmentId(), event.sequenceVersion(), event.type(), serialize(event), event.occurredAt());
+    }
+
+    private String serialize(AppointmentChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 이벤트 직렬화 실패: 예약 ID " + event.appointmentId(), e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.queue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueEntry;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진료과/날짜별 진료 대기열 엔진
+ * 기동 시 오늘의 도착/호출 예약으로 대기열을 재구성하고, 이후 아웃박스 릴레이가 예약 단위 순서대로 전달하는
+ * 상태 변경 이벤트로 대기열을 갱신합니다. 적재되지 않은 대기열은 최초 조회/변경 시 DB에서 재구성합니다.
+ * 예약 ID → 대기열 색인을 함께 유지하여 순번 조회 시 모든 대기열을 순회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentQueueEngine {
+
+    private static final List<AppointmentStatus> QUEUED_STATUSES = List.of(
+            AppointmentStatus.ARRIVED,
+            AppointmentStatus.CALLED
+    );
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentProperties appointmentProperties;
+
+    private final ConcurrentMap<QueueKey, DepartmentQueue> queues = new ConcurrentHashMap<>();
+    // 대기열에 있는(도착/호출) 예약 ID → 소속 대기열
+    private final ConcurrentMap<Long, QueueKey> queueKeys = new ConcurrentHashMap<>();
+
+    // 진료과/날짜 대기열 조회 (없으면 DB에서 재구성)
+    public DepartmentQueue getOrLoad(Long departmentId, LocalDate date) {
+        return queues.computeIfAbsent(new QueueKey(departmentId, date), this::load);
+    }
+
+    // 적재된 대기열에서 예약 위치 조회 (적재된 대기열에 없으면 null)
+    public QueuePosition findPosition(Long appointmentId) {
+        QueueKey key = queueKeys.get(appointmentId);
+        if (key == null) {
+            return null;
+        }
+        DepartmentQueue queue = queues.get(key);
+        return queue != null ? queue.positionOf(appointmentId) : null;
+    }
+
+    // 기동 시 오늘 대기열 일괄 재구성 (단일 쿼리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildToday() {
+        LocalDate today = LocalDate.now();
+        Map<Long, List<QueueEntry>> entriesByDepartment = appointmentRepository
+                .findQueueEntriesByDate(today, QUEUED_STATUSES).stream()
+                .collect(Collectors.groupingBy(QueueEntry::departmentId));
+
+        entriesByDepartment.forEach((departmentId, entries) -> {
+            QueueKey key = new QueueKey(departmentId, today);
+            queues.putIfAbsent(key, build(key, entries));
+        });
+        log.info("오늘 진료 대기열 재구성 완료: 진료과 {}곳, 대기/진료 중 {}건",
+                entriesByDepartment.size(), entriesByDepartment.values().stream().mapToInt(List::size).sum());
+    }
+
+    // 릴레이된 예약 변경 반영 (오늘 예약만 대기열 대상)
+    @EventListener
+    public void onAppointmentOutboxEvent(AppointmentOutboxEvent outboxEvent) {
+        AppointmentSnapshot before = outboxEvent.event().before();
+        AppointmentSnapshot after = outboxEvent.event().after();
+        LocalDate today = LocalDate.now();
+
+        // 진료과/날짜가 바뀐 경우 이전 대기열에서 제거
+        if (before != null && (after == null || !isSameQueue(before, after))) {
+            QueueKey key = new QueueKey(before.departmentId(), before.appointmentDate());
+            DepartmentQueue queue = queues.get(key);
+            if (queue != null) {
+                apply(key, queue, before.appointmentId(), before.appointmentTime(), AppointmentStatus.CANCELLED,
+                        outboxEvent.event().occurredAt());
+            }
+        }
+        if (after != null && after.appointmentDate().equals(today)) {
+            QueueKey key = new QueueKey(after.departmentId(), after.appointmentDate());
+            apply(key, getOrLoad(key.departmentId(), key.date()), after.appointmentId(), after.appointmentTime(),
+                    after.status(), outboxEvent.event().occurredAt());
+        }
+    }
+
+    // 매일 새벽 지난 날짜 대기열 정리
+    @Scheduled(cron = "0 15 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        queues.keySet().removeIf(key -> key.date().isBefore(today));
+        queueKeys.values().removeIf(key -> key.date().isBefore(today));
+    }
+
+    // 대기열에 상태 변경을 반영하고 예약 ID 색인 갱신 (대기열에서 빠지면 색인에서도 제거)
+    private void apply(QueueKey key, DepartmentQueue queue, Long appointmentId, LocalTime appointmentTime,
+                       AppointmentStatus status, LocalDateTime changedAt) {
+        queue.apply(appointmentId, appointmentTime, status, changedAt);
+        if (queue.contains(appointmentId)) {
+            queueKeys.put(appointmentId, key);
+        } else {
+            queueKeys.remove(appointmentId, key);
+        }
+    }
+
+    private DepartmentQueue load(QueueKey key) {
+        return build(key, appointmentRepository.findQueueEntries(key.departmentId(), key.date(), QUEUED_STATUSES));
+    }
+
+    private DepartmentQueue build(QueueKey key, List<QueueEntry> entries) {
+        DepartmentQueue queue = new DepartmentQueue(
+                appointmentProperties.getQueueInitialServiceMinutes(),
+                appointmentProperties.getQueueSmoothingFactor());
+        entries.forEach(entry -> apply(key, queue, entry.appointmentId(), entry.appointmentTime(), entry.status(),
+                entry.changedAt()));
+        return queue;
+    }
+
+    private static boolean isSameQueue(AppointmentSnapshot before, AppointmentSnapshot after) {
+        return before.departmentId().equals(after.departmentId())
+                && before.appointmentDate().equals(after.appointmentDate());
+    }
+
+    private record QueueKey(Long departmentId, LocalDate date) {
+    }
+}
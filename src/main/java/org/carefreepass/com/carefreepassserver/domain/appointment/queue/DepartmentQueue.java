@@ -0,0 +1,156 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.queue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+
+// 진료과 하루 진료 대기열 - 도착(ARRIVED) 환자를 예약 시간 순으로 줄 세우고, 호출(CALLED) 환자는 진료 중으로 관리
+// 분 단위 펜윅 트리로 순번을 O(log n)에 계산하며, 호출→완료 소요 시간의 지수 이동 평균으로 예상 대기 시간을 추정
+// 상태 기준으로 반영하므로 같은 변경이 중복 전달되어도 결과가 같음
+public class DepartmentQueue {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final double smoothingFactor;
+
+    // 분(0~1439)별 도착 대기 환자 수 펜윅 트리 (1-based)
+    private final int[] waitingTree = new int[MINUTES_PER_DAY + 1];
+    // 분별 도착 대기 예약 ID (같은 시간 내에서는 ID 순)
+    private final NavigableMap<Integer, NavigableSet<Long>> waitingByMinute = new TreeMap<>();
+    // 도착 대기 예약 ID → 예약 시간(분)
+    private final Map<Long, Integer> waitingMinutes = new HashMap<>();
+    // 진료 중(호출됨) 예약 ID → 호출 시각
+    private final Map<Long, LocalDateTime> calledAt = new HashMap<>();
+
+    private double averageServiceMinutes;
+
+    public DepartmentQueue(double initialServiceMinutes, double smoothingFactor) {
+        this.averageServiceMinutes = initialServiceMinutes;
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    // 예약 상태 변경 반영 (changedAt: 상태 변경 시각)
+    public synchronized void apply(Long appointmentId, LocalTime appointmentTime, AppointmentStatus status,
+                                   LocalDateTime changedAt) {
+        if (status != AppointmentStatus.ARRIVED) {
+            removeWaiting(appointmentId);
+        }
+        if (status != AppointmentStatus.CALLED) {
+            LocalDateTime startedAt = calledAt.remove(appointmentId);
+            if (status == AppointmentStatus.COMPLETED && startedAt != null) {
+                recordServiceTime(Duration.between(startedAt, changedAt));
+            }
+        }
+
+        if (status == AppointmentStatus.ARRIVED) {
+            removeWaiting(appointmentId);
+            addWaiting(appointmentId, toMinute(appointmentTime));
+        } else if (status == AppointmentStatus.CALLED) {
+            calledAt.putIfAbsent(appointmentId, changedAt);
+        }
+    }
+
+    // 대기열 내 위치 조회 (대기열에 없으면 null)
+    public synchronized QueuePosition positionOf(Long appointmentId) {
+        Integer minute = waitingMinutes.get(appointmentId);
+        if (minute != null) {
+            int ahead = prefixSum(minute) + waitingByMinute.get(minute).headSet(appointmentId).size();
+            return toPosition(appointmentId, ahead + 1, ahead + calledAt.size());
+        }
+        if (calledAt.containsKey(appointmentId)) {
+            return toPosition(appointmentId, 0, 0);
+        }
+        return null;
+    }
+
+    // 대기열 추적 여부
+    public synchronized boolean contains(Long appointmentId) {
+        return waitingMinutes.containsKey(appointmentId) || calledAt.containsKey(appointmentId);
+    }
+
+    // 도착 대기 예약 ID 목록 (대기 순서대로)
+    public synchronized List<Long> waitingAppointmentIds() {
+        List<Long> ids = new ArrayList<>(waitingMinutes.size());
+        waitingByMinute.values().forEach(ids::addAll);
+        return ids;
+    }
+
+    // 진료 중 예약 ID 목록
+    public synchronized List<Long> inConsultationAppointmentIds() {
+        return new ArrayList<>(calledAt.keySet());
+    }
+
+    public synchronized int waitingCount() {
+        return waitingMinutes.size();
+    }
+
+    public synchronized int inConsultationCount() {
+        return calledAt.size();
+    }
+
+    public synchronized double averageServiceMinutes() {
+        return averageServiceMinutes;
+    }
+
+    private void addWaiting(Long appointmentId, int minute) {
+        waitingMinutes.put(appointmentId, minute);
+        waitingByMinute.computeIfAbsent(minute, key -> new TreeSet<>()).add(appointmentId);
+        updateTree(minute, 1);
+    }
+
+    private void removeWaiting(Long appointmentId) {
+        Integer minute = waitingMinutes.remove(appointmentId);
+        if (minute == null) {
+            return;
+        }
+        NavigableSet<Long> ids = waitingByMinute.get(minute);
+        ids.remove(appointmentId);
+        if (ids.isEmpty()) {
+            waitingByMinute.remove(minute);
+        }
+        updateTree(minute, -1);
+    }
+
+    // 진료 소요 시간 지수 이동 평균 갱신 (음수/비정상 값은 무시)
+    private void recordServiceTime(Duration serviceTime) {
+        if (serviceTime.isNegative() || serviceTime.isZero()) {
+            return;
+        }
+        double minutes = serviceTime.toSeconds() / 60.0;
+        averageServiceMinutes = smoothingFactor * minutes + (1 - smoothingFactor) * averageServiceMinutes;
+    }
+
+    // 앞선 대기 인원(ahead)과 진료 중 인원을 평균 진료 시간으로 환산한 예상 대기 시간
+    private QueuePosition toPosition(Long appointmentId, int position, int ahead) {
+        int estimatedWaitMinutes = (int) Math.round(ahead * averageServiceMinutes);
+        return new QueuePosition(appointmentId, position, waitingMinutes.size(), calledAt.size(), estimatedWaitMinutes);
+    }
+
+    // minute 보다 이른 시간의 대기 인원 합계
+    private int prefixSum(int minute) {
+        int sum = 0;
+        for (int index = minute; index > 0; index -= index & -index) {
+            sum += waitingTree[index];
+        }
+        return sum;
+    }
+
+    private void updateTree(int minute, int delta) {
+        for (int index = minute + 1; index <= MINUTES_PER_DAY; index += index & -index) {
+            waitingTree[index] += delta;
+        }
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,14 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.queue;
+
+// 대기열 내 예약 위치 (position: 도착 대기 중이면 1부터, 진료실 호출 중이면 0)
+public record QueuePosition(
+        Long appointmentId,
+        int position,
+        int waitingCount,
+        int inConsultationCount,
+        int estimatedWaitMinutes
+) {
+    public boolean isInConsultation() {
+        return position == 0;
+    }
+}
@@ -0,0 +1,46 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 보관 예약 리포지토리
+public interface AppointmentArchiveRepository extends JpaRepository<AppointmentArchive, Long> {
+
+    String ARCHIVE_ROW_SELECT = "SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow(" +
+            "ar.id, m.name, m.phoneNumber, p.birthDate, p.gender, h.name, hd.name, ar.appointmentDate, ar.appointmentTime, ar.status) " +
+            "FROM AppointmentArchive ar JOIN Member m ON m.id = ar.memberId " +
+            "JOIN HospitalDepartment hd ON hd.id = ar.hospitalDepartmentId JOIN hd.hospital h " +
+            "LEFT JOIN PatientProfile p ON p.member = m ";
+
+    // 예약 테이블의 지정 ID 행을 보관 테이블로 복사 (엔티티 로딩 없이 INSERT ... SELECT 한 번으로 처리)
+    @Modifying
+    @Query("INSERT INTO AppointmentArchive (id, memberId, hospitalDepartmentId, appointmentDate, appointmentTime, " +
+           "resourceId, status, createdAt, updatedAt, archivedAt) " +
+           "SELECT a.id, a.member.id, a.hospitalDepartment.id, a.appointmentDate, a.appointmentTime, " +
+           "a.resourceId, a.status, a.createdAt, a.updatedAt, :archivedAt FROM Appointment a WHERE a.id IN :ids")
+    int copyFromAppointments(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 환자별 보관 예약 이력 첫 페이지 조회 (최신순)
+    @Query(ARCHIVE_ROW_SELECT + "WHERE ar.memberId = :memberId " +
+           "ORDER BY ar.appointmentDate DESC, ar.appointmentTime DESC, ar.id DESC")
+    List<AppointmentRow> findHistoryRowPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 환자별 커서 이전 보관 예약 이력 페이지 조회 (최신순)
+    @Query(ARCHIVE_ROW_SELECT + "WHERE ar.memberId = :memberId " +
+           "AND (ar.appointmentDate < :date OR (ar.appointmentDate = :date " +
+           "AND (ar.appointmentTime < :time OR (ar.appointmentTime = :time AND ar.id < :id)))) " +
+           "ORDER BY ar.appointmentDate DESC, ar.appointmentTime DESC, ar.id DESC")
+    List<AppointmentRow> findHistoryRowPageBefore(@Param("memberId") Long memberId, @Param("date") LocalDate date,
+                                                  @Param("time") LocalTime time, @Param("id") Long id,
+                                                  Pageable pageable);
+}
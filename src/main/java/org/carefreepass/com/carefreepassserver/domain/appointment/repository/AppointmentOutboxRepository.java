@@ -0,0 +1,58 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface AppointmentOutboxRepository extends JpaRepository<AppointmentOutbox, Long> {
+
+    // 잠금 대기 시간 힌트 값 (LockOptions.SKIP_LOCKED)
+    String SKIP_LOCKED = "-2";
+
+    // 점유되지 않은 미발행 이벤트를 기록 순서대로 행 잠금 조회 (재시도 한도를 넘은 이벤트 제외)
+    // 다른 노드가 잠근 행은 기다리지 않고 건너뛰며(SKIP LOCKED), 같은 예약의 앞선(예약 버전 → ID 순) 미발행 이벤트가 남아 있으면 제외하여 예약 단위 순서 보장
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("SELECT o FROM AppointmentOutbox o "
+            + "WHERE o.publishedAt IS NULL AND o.attempts < :maxAttempts "
+            + "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) "
+            + "AND NOT EXISTS (SELECT p.id FROM AppointmentOutbox p "
+            + "WHERE p.appointmentId = o.appointmentId AND p.publishedAt IS NULL "
+            + "AND p.attempts < :maxAttempts AND (p.appointmentVersion < o.appointmentVersion "
+            + "OR (p.appointmentVersion = o.appointmentVersion AND p.id < o.id))) "
+            + "ORDER BY o.id")
+    List<AppointmentOutbox> findClaimable(@Param("now") LocalDateTime now,
+                                          @Param("maxAttempts") int maxAttempts,
+                                          Pageable pageable);
+
+    // 릴레이 점유 기록 (점유 만료 전까지 다른 노드의 조회 대상에서 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AppointmentOutbox o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    // 발행 완료 처리 (점유 해제)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AppointmentOutbox o SET o.publishedAt = :publishedAt, o.claimedUntil = NULL WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 발행 실패 횟수 증가 (점유는 만료 시각까지 유지하여 재시도 간격으로 사용)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AppointmentOutbox o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    // 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM AppointmentOutbox o WHERE o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
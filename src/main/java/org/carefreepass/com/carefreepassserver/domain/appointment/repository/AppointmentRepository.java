@@ -1,20 +1,62 @@
 package org.carefreepass.com.carefreepassserver.domain.appointment.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentIdRange;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentVersionStamp;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.BookedSlot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueEntry;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueLookup;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotBooking;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotClaim;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 // 예약 리포지토리
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
 
-    // 회원의 특정 날짜 예약 존재 여부 확인 (상태별)
-    boolean existsByMemberIdAndAppointmentDateAndStatus(Long memberId, LocalDate appointmentDate, AppointmentStatus status);
+    // 예약 충돌 조회 - 회원의 같은 날짜 활성 예약 또는 진료과 같은 시간대 활성 예약의 회원 ID와 배정 자원 ID를 한 번에 조회
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotClaim(a.member.id, a.resourceId) " +
+           "FROM Appointment a WHERE a.appointmentDate = :date AND a.status IN :statuses " +
+           "AND (a.member.id = :memberId OR (a.hospitalDepartment.id = :departmentId AND a.appointmentTime = :time))")
+    List<SlotClaim> findConflictingClaims(@Param("memberId") Long memberId, @Param("departmentId") Long departmentId,
+                                          @Param("date") LocalDate date, @Param("time") LocalTime time,
+                                          @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 진료과 시간대의 활성 예약이 점유한 자원 ID 조회 (변경 대상 예약 제외 - 예약 변경 시 자원 재배정용)
+    @Query("SELECT a.resourceId FROM Appointment a WHERE a.hospitalDepartment.id = :departmentId " +
+           "AND a.appointmentDate = :date AND a.status IN :statuses AND a.appointmentTime = :time AND a.id <> :excludeId")
+    List<Long> findClaimedResourceIds(@Param("departmentId") Long departmentId, @Param("date") LocalDate date,
+                                      @Param("time") LocalTime time, @Param("statuses") List<AppointmentStatus> statuses,
+                                      @Param("excludeId") Long excludeId);
+
+    // 진료 자원에 오늘 이후 활성 예약이 남아 있는지 확인 (자원 비활성화 전 검증)
+    @Query("SELECT COUNT(a) > 0 FROM Appointment a WHERE a.hospitalDepartment.id = :departmentId " +
+           "AND a.appointmentDate >= :date AND a.slotClaim = true AND a.resourceId = :resourceId")
+    boolean existsActiveByResourceIdFrom(@Param("departmentId") Long departmentId, @Param("resourceId") Long resourceId,
+                                         @Param("date") LocalDate date);
+
+    // 자원이 없던 진료과에 첫 자원이 등록되면 오늘 이후 기본 자원 활성 예약을 해당 자원으로 일괄 배정
+    // (기본 자원 예약은 시간대당 최대 한 건이므로 자원 유니크 제약과 충돌하지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.resourceId = :resourceId, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.hospitalDepartment.id = :departmentId AND a.appointmentDate >= :date AND a.slotClaim = true " +
+           "AND a.resourceId = :defaultResourceId")
+    int assignDefaultResource(@Param("departmentId") Long departmentId, @Param("resourceId") Long resourceId,
+                              @Param("defaultResourceId") Long defaultResourceId, @Param("date") LocalDate date,
+                              @Param("now") LocalDateTime now);
 
     // 특정 날짜의 특정 상태 예약 목록 조회
     @Query("SELECT a FROM Appointment a JOIN FETCH a.member WHERE a.appointmentDate = :date AND a.status IN :statuses ORDER BY a.appointmentTime")
@@ -29,10 +71,6 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     @Query("SELECT a FROM Appointment a JOIN FETCH a.member WHERE a.hospitalDepartment = :department AND a.appointmentDate = :date AND a.status = :status ORDER BY a.appointmentTime")
     List<Appointment> findByHospitalDepartmentAndDateAndStatus(@Param("department") HospitalDepartment hospitalDepartment, @Param("date") LocalDate date, @Param("status") AppointmentStatus status);
 
-    // 병원 진룝과와 특정 시간의 예약 존재 여부 확인
-    boolean existsByHospitalDepartmentAndAppointmentDateAndAppointmentTimeAndStatus(
-            HospitalDepartment hospitalDepartment, LocalDate appointmentDate, LocalTime appointmentTime, AppointmentStatus status);
-
     // 환자별 예약 목록 조회 (최신순 정렬)
     @Query("SELECT a FROM Appointment a JOIN FETCH a.member m JOIN FETCH a.hospitalDepartment hd JOIN FETCH hd.hospital WHERE m.id = :memberId ORDER BY a.appointmentDate DESC, a.appointmentTime DESC")
     List<Appointment> findByMemberIdOrderByAppointmentDateDescAppointmentTimeDesc(@Param("memberId") Long memberId);
@@ -45,7 +83,164 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     @Query("SELECT a FROM Appointment a JOIN FETCH a.member m JOIN FETCH a.hospitalDepartment hd JOIN FETCH hd.hospital WHERE m.id = :memberId AND a.appointmentDate = :date ORDER BY a.appointmentTime")
     List<Appointment> findByMemberIdAndAppointmentDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
 
-    // 병원 진료과의 특정 날짜 활성 예약 목록 조회
-    @Query("SELECT a FROM Appointment a JOIN FETCH a.member WHERE a.hospitalDepartment = :department AND a.appointmentDate = :date AND a.status IN :statuses ORDER BY a.appointmentTime")
-    List<Appointment> findByHospitalDepartmentAndAppointmentDateAndStatusIn(@Param("department") HospitalDepartment hospitalDepartment, @Param("date") LocalDate date, @Param("statuses") List<AppointmentStatus> statuses);
-}
\ No newline at end of file
+    // 진료과의 기간 내 예약된 날짜/시간/자원과 예약자명 조회 (시간대 점유 현황 적재용)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.BookedSlot(a.appointmentDate, a.appointmentTime, a.resourceId, m.name) " +
+           "FROM Appointment a JOIN a.member m WHERE a.hospitalDepartment.id = :departmentId " +
+           "AND a.appointmentDate BETWEEN :startDate AND :endDate AND a.status IN :statuses " +
+           "ORDER BY a.appointmentDate, a.appointmentTime, a.id")
+    List<BookedSlot> findBookedSlots(@Param("departmentId") Long departmentId, @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate, @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 시간대 재고 생성용 활성 예약 조회 (예약 ID, 날짜, 시간)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotBooking(a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Appointment a WHERE a.hospitalDepartment.id = :departmentId " +
+           "AND a.appointmentDate BETWEEN :startDate AND :endDate AND a.status IN :statuses")
+    List<SlotBooking> findSlotBookings(@Param("departmentId") Long departmentId, @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate, @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 특정 날짜·상태 예약의 ID 범위 조회 (일괄 전환 청크 분할용)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentIdRange(MIN(a.id), MAX(a.id)) " +
+           "FROM Appointment a WHERE a.appointmentDate = :date AND a.status = :status")
+    AppointmentIdRange findIdRange(@Param("date") LocalDate date, @Param("status") AppointmentStatus status);
+
+    // 보관 대상 예약 ID 조회 - 기준일 이전의 종료 상태 예약을 ID 순으로 한 청크씩 조회
+    @Query("SELECT a.id FROM Appointment a WHERE a.appointmentDate < :cutoffDate AND a.status IN :statuses " +
+           "AND a.id > :afterId ORDER BY a.id")
+    List<Long> findArchivableIds(@Param("cutoffDate") LocalDate cutoffDate,
+                                 @Param("statuses") List<AppointmentStatus> statuses,
+                                 @Param("afterId") Long afterId, Pageable pageable);
+
+    // 지정 ID 예약 일괄 삭제 (보관 테이블로 복사 완료 후)
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 변경 대상 조회 - 예약 ID 목록 (변경 이벤트용 회원 정보 함께 조회)
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.member WHERE a.id IN :ids")
+    List<Appointment> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 변경 대상 조회 - 진료과/날짜의 시간 범위 내 활성 예약 (종료 시간 미포함)
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.member " +
+           "WHERE a.hospitalDepartment.id = :departmentId AND a.appointmentDate = :date " +
+           "AND a.appointmentTime >= :startTime AND a.appointmentTime < :endTime AND a.status IN :statuses " +
+           "ORDER BY a.appointmentTime, a.id")
+    List<Appointment> findAllWithMemberInTimeRange(@Param("departmentId") Long departmentId,
+                                                   @Param("date") LocalDate date,
+                                                   @Param("startTime") LocalTime startTime,
+                                                   @Param("endTime") LocalTime endTime,
+                                                   @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 진료과/날짜별 대기열 재구성용 예약 조회
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueEntry(" +
+           "a.id, a.hospitalDepartment.id, a.appointmentTime, a.status, a.updatedAt) " +
+           "FROM Appointment a WHERE a.hospitalDepartment.id = :departmentId AND a.appointmentDate = :date " +
+           "AND a.status IN :statuses")
+    List<QueueEntry> findQueueEntries(@Param("departmentId") Long departmentId, @Param("date") LocalDate date,
+                                      @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 특정 날짜 전체 진료과 대기열 재구성용 예약 조회
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueEntry(" +
+           "a.id, a.hospitalDepartment.id, a.appointmentTime, a.status, a.updatedAt) " +
+           "FROM Appointment a WHERE a.appointmentDate = :date AND a.status IN :statuses")
+    List<QueueEntry> findQueueEntriesByDate(@Param("date") LocalDate date,
+                                            @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 대기 순번 조회 대상 예약의 진료과/날짜/상태 조회
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueLookup(" +
+           "a.id, a.hospitalDepartment.id, a.appointmentDate, a.status) FROM Appointment a WHERE a.id = :appointmentId")
+    Optional<QueueLookup> findQueueLookupById(@Param("appointmentId") Long appointmentId);
+
+    // 특정 날짜 예약 상태 일괄 전환 (엔티티 로딩 없이 단일 UPDATE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.status = :to, a.slotClaim = :slotClaim, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.appointmentDate = :date AND a.status = :from")
+    int bulkUpdateStatus(@Param("date") LocalDate date, @Param("from") AppointmentStatus from,
+                         @Param("to") AppointmentStatus to, @Param("slotClaim") Boolean slotClaim,
+                         @Param("now") LocalDateTime now);
+
+    // 특정 날짜·ID 구간 예약 상태 일괄 전환 (청크 단위 처리용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.status = :to, a.slotClaim = :slotClaim, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.appointmentDate = :date AND a.status = :from AND a.id BETWEEN :startId AND :endId")
+    int bulkUpdateStatusInIdRange(@Param("date") LocalDate date, @Param("from") AppointmentStatus from,
+                                  @Param("to") AppointmentStatus to, @Param("slotClaim") Boolean slotClaim,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("startId") Long startId, @Param("endId") Long endId);
+
+    // 일괄 전환된 예약 스냅샷 조회 - 같은 트랜잭션의 UPDATE가 기록한 수정 시각으로 전환된 행만 구분 (UPDATE 행 잠금으로 다른 변경 없음)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot(" +
+           "a.id, m.id, m.name, a.hospitalDepartment.id, a.appointmentDate, a.appointmentTime, a.resourceId, a.status, a.version) " +
+           "FROM Appointment a JOIN a.member m " +
+           "WHERE a.appointmentDate = :date AND a.status = :status AND a.updatedAt = :updatedAt " +
+           "AND a.id BETWEEN :startId AND :endId")
+    List<AppointmentSnapshot> findTransitionedSnapshots(@Param("date") LocalDate date,
+                                                        @Param("status") AppointmentStatus status,
+                                                        @Param("updatedAt") LocalDateTime updatedAt,
+                                                        @Param("startId") Long startId, @Param("endId") Long endId);
+
+    // ========== 목록 조회용 프로젝션 (회원, 환자 프로필, 병원, 진료과를 한 번에 조회) ==========
+
+    String APPOINTMENT_ROW_SELECT = "SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow(" +
+            "a.id, m.name, m.phoneNumber, p.birthDate, p.gender, h.name, hd.name, a.appointmentDate, a.appointmentTime, a.status) " +
+            "FROM Appointment a JOIN a.member m JOIN a.hospitalDepartment hd JOIN hd.hospital h " +
+            "LEFT JOIN PatientProfile p ON p.member = m ";
+
+    // 예약 단건 조회
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE a.id = :appointmentId")
+    Optional<AppointmentRow> findRowById(@Param("appointmentId") Long appointmentId);
+
+    // 특정 날짜의 모든 예약 목록 조회
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE a.appointmentDate = :date ORDER BY a.appointmentTime, a.id")
+    List<AppointmentRow> findRowsByDate(@Param("date") LocalDate date);
+
+    // 특정 날짜의 특정 상태 예약 목록 조회
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE a.appointmentDate = :date AND a.status IN :statuses ORDER BY a.appointmentTime, a.id")
+    List<AppointmentRow> findRowsByDateAndStatusIn(@Param("date") LocalDate date, @Param("statuses") List<AppointmentStatus> statuses);
+
+    // 환자별 현재/미래 예약 목록 조회 (과거 예약 제외)
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE m.id = :memberId AND a.appointmentDate >= :currentDate ORDER BY a.appointmentDate, a.appointmentTime")
+    List<AppointmentRow> findRowsByMemberIdFrom(@Param("memberId") Long memberId, @Param("currentDate") LocalDate currentDate);
+
+    // 환자의 특정 날짜 예약 목록 조회
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE m.id = :memberId AND a.appointmentDate = :date ORDER BY a.appointmentTime")
+    List<AppointmentRow> findRowsByMemberIdAndDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
+
+    // 환자의 특정 날짜 예약 버전 집계 (상태 폴링 ETag용, 회원/날짜 인덱스 사용)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentVersionStamp(" +
+           "COUNT(a), COALESCE(SUM(a.version), 0L), COALESCE(MAX(a.id), 0L)) " +
+           "FROM Appointment a WHERE a.member.id = :memberId AND a.appointmentDate = :date")
+    AppointmentVersionStamp findVersionStampByMemberIdAndDate(@Param("memberId") Long memberId,
+                                                              @Param("date") LocalDate date);
+
+    // ========== 목록 키셋 페이지 조회 ((날짜, 시간, ID) 커서 이후 행을 Pageable 크기만큼 조회) ==========
+
+    // 특정 날짜 예약 페이지 조회 (시간, ID 오름차순)
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE a.appointmentDate = :date " +
+           "AND (a.appointmentTime > :time OR (a.appointmentTime = :time AND a.id > :id)) " +
+           "ORDER BY a.appointmentTime, a.id")
+    List<AppointmentRow> findRowPageByDate(@Param("date") LocalDate date, @Param("time") LocalTime time,
+                                           @Param("id") Long id, Pageable pageable);
+
+    // 환자별 커서 이후 예약 페이지 조회 (날짜, 시간, ID 오름차순)
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE m.id = :memberId " +
+           "AND (a.appointmentDate > :date OR (a.appointmentDate = :date " +
+           "AND (a.appointmentTime > :time OR (a.appointmentTime = :time AND a.id > :id)))) " +
+           "ORDER BY a.appointmentDate, a.appointmentTime, a.id")
+    List<AppointmentRow> findRowPageByMemberIdAfter(@Param("memberId") Long memberId, @Param("date") LocalDate date,
+                                                    @Param("time") LocalTime time, @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 환자별 예약 이력 첫 페이지 조회 (최신순)
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE m.id = :memberId " +
+           "ORDER BY a.appointmentDate DESC, a.appointmentTime DESC, a.id DESC")
+    List<AppointmentRow> findHistoryRowPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 환자별 커서 이전 예약 이력 페이지 조회 (최신순)
+    @Query(APPOINTMENT_ROW_SELECT + "WHERE m.id = :memberId " +
+           "AND (a.appointmentDate < :date OR (a.appointmentDate = :date " +
+           "AND (a.appointmentTime < :time OR (a.appointmentTime = :time AND a.id < :id)))) " +
+           "ORDER BY a.appointmentDate DESC, a.appointmentTime DESC, a.id DESC")
+    List<AppointmentRow> findHistoryRowPageBefore(@Param("memberId") Long memberId, @Param("date") LocalDate date,
+                                                  @Param("time") LocalTime time, @Param("id") Long id,
+                                                  Pageable pageable);
+}
@@ -0,0 +1,95 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotInventoryRow;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.SlotInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 예약 시간대 재고 리포지토리
+public interface SlotInventoryRepository extends JpaRepository<SlotInventory, Long> {
+
+    // 진료과 기간 내 재고가 생성된 날짜 조회
+    @Query("SELECT DISTINCT s.slotDate FROM SlotInventory s " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findGeneratedDates(@Param("departmentId") Long departmentId,
+                                       @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 진료과 시간대 단건 조회 (유니크 키 조회)
+    @Query("SELECT s FROM SlotInventory s " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate = :date AND s.slotTime = :time")
+    Optional<SlotInventory> findSlot(@Param("departmentId") Long departmentId,
+                                     @Param("date") LocalDate date, @Param("time") LocalTime time);
+
+    // 진료과 기간 내 시간대 목록 조회 (점유 예약의 예약자명 포함, 보관/삭제된 예약은 예약자명 NULL)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotInventoryRow(s.slotDate, s.slotTime, s.appointmentId, s.blocked, m.name) " +
+           "FROM SlotInventory s LEFT JOIN Appointment a ON a.id = s.appointmentId LEFT JOIN a.member m " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.slotDate, s.slotTime")
+    List<SlotInventoryRow> findRows(@Param("departmentId") Long departmentId,
+                                    @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 빈 시간대 점유 - 비어 있고 차단되지 않은 경우에만 예약 ID 기록 (영향 행 수 0이면 점유 실패)
+    @Modifying
+    @Query("UPDATE SlotInventory s SET s.appointmentId = :appointmentId " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate = :date AND s.slotTime = :time " +
+           "AND s.appointmentId IS NULL AND s.blocked = false")
+    int claim(@Param("departmentId") Long departmentId, @Param("date") LocalDate date, @Param("time") LocalTime time,
+              @Param("appointmentId") Long appointmentId);
+
+    // 예약이 점유한 시간대 해제
+    @Modifying
+    @Query("UPDATE SlotInventory s SET s.appointmentId = NULL WHERE s.appointmentId = :appointmentId")
+    int releaseByAppointmentId(@Param("appointmentId") Long appointmentId);
+
+    // 날짜의 비활성(점유 해제된) 예약이 잡고 있는 시간대 일괄 해제 - 예약 상태 일괄 전환 후 호출
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SlotInventory s SET s.appointmentId = NULL WHERE s.slotDate = :date AND s.appointmentId IN " +
+           "(SELECT a.id FROM Appointment a WHERE a.appointmentDate = :date AND a.slotClaim IS NULL)")
+    int releaseUnclaimedOn(@Param("date") LocalDate date);
+
+    // 시간대 차단 상태 변경
+    @Modifying
+    @Query("UPDATE SlotInventory s SET s.blocked = :blocked " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate = :date AND s.slotTime = :time")
+    int updateBlocked(@Param("departmentId") Long departmentId, @Param("date") LocalDate date,
+                      @Param("time") LocalTime time, @Param("blocked") boolean blocked);
+
+    // 여러 진료과의 기간/시간 범위 차단 상태 일괄 변경 (시작 시간 포함, 종료 시간 미포함)
+    @Modifying
+    @Query("UPDATE SlotInventory s SET s.blocked = :blocked " +
+           "WHERE s.hospitalDepartment.id IN :departmentIds AND s.slotDate BETWEEN :startDate AND :endDate " +
+           "AND s.slotTime >= :startTime AND s.slotTime < :endTime")
+    int updateBlockedInRange(@Param("departmentIds") Collection<Long> departmentIds,
+                             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                             @Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime,
+                             @Param("blocked") boolean blocked);
+
+    // 특정 날짜의 지정 시간대 일괄 차단
+    @Modifying
+    @Query("UPDATE SlotInventory s SET s.blocked = true " +
+           "WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate = :date AND s.slotTime IN :times")
+    int blockTimes(@Param("departmentId") Long departmentId, @Param("date") LocalDate date,
+                   @Param("times") Collection<LocalTime> times);
+
+    // 지난 날짜 시간대 삭제
+    @Modifying
+    @Query("DELETE FROM SlotInventory s WHERE s.slotDate < :date")
+    int deleteAllBefore(@Param("date") LocalDate date);
+
+    // 진료과의 지정 날짜 이후 재고 삭제 (진료 시간 변경으로 시간대 목록이 바뀐 진료과)
+    @Modifying
+    @Query("DELETE FROM SlotInventory s WHERE s.hospitalDepartment.id = :departmentId AND s.slotDate >= :date")
+    int deleteByDepartmentIdFrom(@Param("departmentId") Long departmentId, @Param("date") LocalDate date);
+
+    // 진료과의 재고 전체 삭제 (진료 자원이 등록된 진료과)
+    @Modifying
+    @Query("DELETE FROM SlotInventory s WHERE s.hospitalDepartment.id = :departmentId")
+    int deleteByDepartmentId(@Param("departmentId") Long departmentId);
+}
@@ -0,0 +1,43 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.resource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.DepartmentResourceChangedEvent;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진료 자원 변경에 따른 예약 자원 배정기
+ * 자원 변경 트랜잭션의 커밋 직전에 같은 트랜잭션으로 예약의 자원 배정을 맞춥니다.
+ * 첫 자원이 등록되면 기본 자원으로 잡혀 있던 예정 예약을 그 자원으로 옮기고,
+ * 예정 예약이 남은 자원의 비활성화는 예외로 롤백시켜 예약이 수용 인원 밖으로 밀려나지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentResourceAssigner {
+
+    private final AppointmentRepository appointmentRepository;
+
+    // 자원 변경 커밋 직전 예정 예약의 자원 배정 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDepartmentResourceChanged(DepartmentResourceChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        if (event.firstResource()) {
+            int assigned = appointmentRepository.assignDefaultResource(event.departmentId(), event.resourceId(),
+                    Appointment.DEFAULT_RESOURCE_ID, today, LocalDateTime.now());
+            log.info("기존 예약 자원 배정: 진료과 ID {}, 자원 ID {} - {}건", event.departmentId(), event.resourceId(), assigned);
+        }
+        if (event.deactivated()
+                && appointmentRepository.existsActiveByResourceIdFrom(event.departmentId(), event.resourceId(), today)) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_RESOURCE_HAS_APPOINTMENTS);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package org.carefreepass.com.carefreepassserver.domain.appointment.scheduler;
 
 import java.time.LocalDate;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
-import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
-import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentArchiveResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.BulkStatusTransitionResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotInventoryGenerationResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentArchiveService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentStatusBatchService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.SlotInventoryService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,7 +21,9 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class AppointmentScheduler {
 
-    private final AppointmentService appointmentService;
+    private final AppointmentStatusBatchService appointmentStatusBatchService;
+    private final AppointmentArchiveService appointmentArchiveService;
+    private final SlotInventoryService slotInventoryService;
 
     /**
      * 매일 오전 6시에 실행되는 예약 상태 업데이트 스케줄러
@@ -28,30 +32,54 @@ public class AppointmentScheduler {
     @Scheduled(cron = "0 0 6 * * *") // 매일 오전 6시
     public void updateTodayAppointmentsToScheduled() {
         try {
-            LocalDate today = LocalDate.now();
-            log.info("예약 상태 자동 업데이트 시작 - 날짜: {}", today);
+            log.info("예약 상태 자동 업데이트 시작 - 날짜: {}", LocalDate.now());
             
-            // 오늘 날짜의 모든 예약 조회
-            List<Appointment> todayAppointments = appointmentService.getAppointmentsByDate(today);
+            // 엔티티 로딩 없이 UPDATE 쿼리로 일괄 전환
+            BulkStatusTransitionResult result = appointmentStatusBatchService.scheduleTodayWaiting();
             
-            int updatedCount = 0;
-            for (Appointment appointment : todayAppointments) {
-                // WAITING 상태인 예약만 SCHEDULED로 변경
-                if (appointment.getStatus() == AppointmentStatus.WAITING) {
-                    appointmentService.updateAppointmentStatus(appointment.getId(), AppointmentStatus.SCHEDULED);
-                    updatedCount++;
-                    log.debug("예약 상태 변경: {} (ID: {}) - WAITING → SCHEDULED", 
-                             appointment.getMember().getName(), appointment.getId());
-                }
-            }
-            
-            log.info("예약 상태 자동 업데이트 완료 - 총 {}건 업데이트됨", updatedCount);
+            log.info("예약 상태 자동 업데이트 완료 - 총 {}건 업데이트됨", result.updatedCount());
             
         } catch (Exception e) {
             log.error("예약 상태 자동 업데이트 중 오류 발생", e);
         }
     }
 
+    /**
+     * 매일 새벽 3시 30분에 실행되는 예약 보관 스케줄러
+     * 보관 기준일이 지난 완료/취소 예약을 보관 테이블로 옮깁니다.
+     */
+    @Scheduled(cron = "0 30 3 * * *") // 매일 새벽 3시 30분
+    public void archiveFinishedAppointments() {
+        try {
+            AppointmentArchiveResult result = appointmentArchiveService.archiveFinished();
+
+            log.info("예약 보관 스케줄러 완료 - 기준일: {}, 총 {}건 보관됨", result.cutoffDate(), result.archivedCount());
+
+        } catch (Exception e) {
+            log.error("예약 보관 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매일 자정 10분에 실행되는 시간대 재고 생성 스케줄러 (시간대 재고 사용 시)
+     * 진료과별로 설정 일수만큼 앞선 날짜의 시간대를 생성하고 지난 날짜의 시간대를 삭제합니다.
+     */
+    @Scheduled(cron = "0 10 0 * * *") // 매일 자정 10분
+    public void generateSlotInventory() {
+        if (!slotInventoryService.isEnabled()) {
+            return;
+        }
+        try {
+            SlotInventoryGenerationResult result = slotInventoryService.generateAhead();
+
+            log.info("시간대 재고 생성 스케줄러 완료 - {} ~ {}, 총 {}건 생성됨",
+                    result.startDate(), result.endDate(), result.createdCount());
+
+        } catch (Exception e) {
+            log.error("시간대 재고 생성 중 오류 발생", e);
+        }
+    }
+
     /**
      * 매시간 정각에 실행되는 예약 상태 체크 (선택사항)
      * 필요시 추가적인 상태 관리 로직을 구현할 수 있습니다.
@@ -0,0 +1,78 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentArchiveResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentArchiveRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 보관 서비스
+ * 보관 기준일이 지난 완료/취소 예약을 보관 테이블로 옮겨 예약 테이블(핫 데이터)을 작게 유지합니다.
+ * ID 순 청크마다 별도 트랜잭션에서 복사(INSERT ... SELECT)와 삭제를 함께 커밋하므로 중간에 실패해도 예약이 유실되거나 중복되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentArchiveService {
+
+    private static final List<AppointmentStatus> ARCHIVABLE_STATUSES = List.of(
+            AppointmentStatus.COMPLETED,
+            AppointmentStatus.CANCELLED
+    );
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository appointmentArchiveRepository;
+    private final AppointmentProperties appointmentProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 설정된 보관 기준일 이전의 종료 예약 보관 (오늘 예약은 실시간 화면/대기열에서 사용하므로 최소 1일 유지)
+    public AppointmentArchiveResult archiveFinished() {
+        int retentionDays = Math.max(1, appointmentProperties.getArchiveAfterDays());
+        return archiveFinishedBefore(LocalDate.now().minusDays(retentionDays));
+    }
+
+    // 기준일 이전(미포함)의 종료 예약을 청크 단위로 보관
+    public AppointmentArchiveResult archiveFinishedBefore(LocalDate cutoffDate) {
+        int chunkSize = Math.max(1, appointmentProperties.getArchiveChunkSize());
+        int archivedCount = 0;
+        int chunkCount = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<Long> ids = appointmentRepository.findArchivableIds(
+                    cutoffDate, ARCHIVABLE_STATUSES, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer moved = transactionTemplate.execute(tx -> moveChunk(ids));
+            archivedCount += moved;
+            chunkCount++;
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("예약 보관 완료: {} 이전 종료 예약 - 총 {}건 ({}회 실행)", cutoffDate, archivedCount, chunkCount);
+        return new AppointmentArchiveResult(cutoffDate, archivedCount, chunkCount);
+    }
+
+    // 한 청크를 보관 테이블로 복사한 뒤 예약 테이블에서 삭제
+    private int moveChunk(List<Long> ids) {
+        int copied = appointmentArchiveRepository.copyFromAppointments(ids, LocalDateTime.now());
+        int deleted = appointmentRepository.deleteAllByIdIn(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException("예약 보관 건수 불일치: 복사 " + copied + "건, 삭제 " + deleted + "건");
+        }
+        return deleted;
+    }
+}
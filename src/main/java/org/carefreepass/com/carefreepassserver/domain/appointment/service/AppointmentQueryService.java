@@ -0,0 +1,184 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentCursor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentRow;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentPageResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentArchiveRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 예약 목록 조회 서비스 - 엔티티 대신 프로젝션으로 목록당 한 번의 쿼리로 응답 생성
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AppointmentQueryService {
+
+    private static final List<AppointmentStatus> WAITING_STATUSES = List.of(
+            AppointmentStatus.SCHEDULED,
+            AppointmentStatus.ARRIVED,
+            AppointmentStatus.CALLED
+    );
+
+    // 예약 이력 정렬 순서 (예약 날짜, 예약 시간, 예약 ID 내림차순)
+    private static final Comparator<AppointmentRow> HISTORY_ORDER = Comparator
+            .comparing(AppointmentRow::appointmentDate)
+            .thenComparing(AppointmentRow::appointmentTime)
+            .thenComparing(AppointmentRow::appointmentId)
+            .reversed();
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository appointmentArchiveRepository;
+    private final MemberRepository memberRepository;
+
+    // 예약 단건 조회
+    public Optional<AppointmentResponse> findAppointment(Long appointmentId) {
+        return appointmentRepository.findRowById(appointmentId).map(AppointmentResponse::from);
+    }
+
+    // 오늘 대기 환자 목록 조회 (내원 예정, 도착, 호출됨)
+    public List<AppointmentResponse> getTodayWaitingPatients() {
+        return toResponses(appointmentRepository.findRowsByDateAndStatusIn(LocalDate.now(), WAITING_STATUSES));
+    }
+
+    // 오늘 전체 예약 목록 조회
+    public List<AppointmentResponse> getAllTodayAppointments() {
+        return getAppointmentsByDate(LocalDate.now());
+    }
+
+    // 특정 날짜의 모든 예약 조회 (관리자용)
+    public List<AppointmentResponse> getAppointmentsByDate(LocalDate date) {
+        return toResponses(appointmentRepository.findRowsByDate(date));
+    }
+
+    // 환자용 예약 조회 (과거 예약 제외)
+    public List<AppointmentResponse> getAppointmentsByMemberId(Long memberId) {
+        validateMemberExists(memberId);
+        return toResponses(appointmentRepository.findRowsByMemberIdFrom(memberId, LocalDate.now()));
+    }
+
+    // 환자의 오늘 예약 조회
+    public List<AppointmentResponse> getTodayAppointmentsByMemberId(Long memberId) {
+        validateMemberExists(memberId);
+        return toResponses(appointmentRepository.findRowsByMemberIdAndDate(memberId, LocalDate.now()));
+    }
+
+    // 환자의 오늘 예약 상태 ETag (DB 집계로 만들어 어느 노드에서 조회해도 같은 값)
+    public String getTodayAppointmentsETag(Long memberId) {
+        LocalDate today = LocalDate.now();
+        return appointmentRepository.findVersionStampByMemberIdAndDate(memberId, today).toETag(today);
+    }
+
+    // ========== 키셋 페이지 조회 (cursor가 없으면 첫 페이지) ==========
+
+    // 특정 날짜 예약 페이지 조회 (관리자용)
+    public AppointmentPageResponse getAppointmentPageByDate(LocalDate date, String cursor, Integer size) {
+        AppointmentCursor position = cursor != null ? AppointmentCursor.decode(cursor) : AppointmentCursor.startOf(date);
+        if (!position.appointmentDate().equals(date)) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_CURSOR);
+        }
+        int pageSize = normalizeSize(size);
+        return toPage(appointmentRepository.findRowPageByDate(
+                date, position.appointmentTime(), position.appointmentId(), pageRequest(pageSize)), pageSize);
+    }
+
+    // 오늘 전체 예약 페이지 조회
+    public AppointmentPageResponse getTodayAppointmentPage(String cursor, Integer size) {
+        return getAppointmentPageByDate(LocalDate.now(), cursor, size);
+    }
+
+    // 환자용 예약 페이지 조회 (과거 예약 제외, 날짜 오름차순)
+    public AppointmentPageResponse getAppointmentPageByMemberId(Long memberId, String cursor, Integer size) {
+        validateMemberExists(memberId);
+        AppointmentCursor position = cursor != null
+                ? AppointmentCursor.decode(cursor)
+                : AppointmentCursor.startOf(LocalDate.now());
+        int pageSize = normalizeSize(size);
+        return toPage(appointmentRepository.findRowPageByMemberIdAfter(memberId, position.appointmentDate(),
+                position.appointmentTime(), position.appointmentId(), pageRequest(pageSize)), pageSize);
+    }
+
+    // 환자별 전체 예약 이력 페이지 조회 (최신순) - 예약 테이블과 보관 테이블을 같은 커서로 각각 조회해 병합
+    public AppointmentPageResponse getAppointmentHistoryPage(Long memberId, String cursor, Integer size) {
+        validateMemberExists(memberId);
+        int pageSize = normalizeSize(size);
+        if (cursor == null) {
+            return toPage(mergeNewestFirst(
+                    appointmentRepository.findHistoryRowPage(memberId, pageRequest(pageSize)),
+                    appointmentArchiveRepository.findHistoryRowPage(memberId, pageRequest(pageSize)),
+                    pageSize), pageSize);
+        }
+        AppointmentCursor position = AppointmentCursor.decode(cursor);
+        return toPage(mergeNewestFirst(
+                appointmentRepository.findHistoryRowPageBefore(memberId, position.appointmentDate(),
+                        position.appointmentTime(), position.appointmentId(), pageRequest(pageSize)),
+                appointmentArchiveRepository.findHistoryRowPageBefore(memberId, position.appointmentDate(),
+                        position.appointmentTime(), position.appointmentId(), pageRequest(pageSize)),
+                pageSize), pageSize);
+    }
+
+    // 최신순으로 정렬된 두 조회 결과를 병합하여 앞에서부터 페이지 크기 + 1건 선택 (보관 시 ID가 유지되므로 중복 없음)
+    private List<AppointmentRow> mergeNewestFirst(List<AppointmentRow> hotRows, List<AppointmentRow> archivedRows,
+                                                  int pageSize) {
+        if (archivedRows.isEmpty()) {
+            return hotRows;
+        }
+        if (hotRows.isEmpty()) {
+            return archivedRows;
+        }
+        return Stream.concat(hotRows.stream(), archivedRows.stream())
+                .sorted(HISTORY_ORDER)
+                .limit(pageSize + 1L)
+                .toList();
+    }
+
+    // 요청 크기보다 하나 더 조회한 결과로 다음 페이지 존재 여부와 커서 결정
+    private AppointmentPageResponse toPage(List<AppointmentRow> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return AppointmentPageResponse.of(toResponses(rows), null);
+        }
+        List<AppointmentRow> pageRows = rows.subList(0, pageSize);
+        String nextCursor = AppointmentCursor.from(pageRows.get(pageSize - 1)).encode();
+        return AppointmentPageResponse.of(toResponses(pageRows), nextCursor);
+    }
+
+    private Pageable pageRequest(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    // 페이지 크기 보정 (기본 20, 최대 100)
+    private int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private void validateMemberExists(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+    }
+
+    private List<AppointmentResponse> toResponses(List<AppointmentRow> rows) {
+        return rows.stream()
+                .map(AppointmentResponse::from)
+                .toList();
+    }
+}
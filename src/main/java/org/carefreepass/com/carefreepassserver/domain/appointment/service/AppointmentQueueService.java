@@ -0,0 +1,66 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueLookup;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.DepartmentQueueResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.QueuePositionResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.queue.AppointmentQueueEngine;
+import org.carefreepass.com.carefreepassserver.domain.appointment.queue.QueuePosition;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진료 대기 순번 조회 서비스
+ * 대기열 엔진의 메모리 상태로 응답하며, 대기열에 없는 예약만 단건 프로젝션 조회로 상태를 확인합니다.
+ * 대부분 DB 접근이 없으므로 클래스 단위 트랜잭션을 두지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentQueueService {
+
+    private final AppointmentQueueEngine appointmentQueueEngine;
+    private final AppointmentRepository appointmentRepository;
+    private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final HospitalRepository hospitalRepository;
+
+    // 예약의 대기 순번 및 예상 대기 시간 조회
+    public QueuePositionResponse getQueuePosition(Long appointmentId) {
+        QueuePosition position = appointmentQueueEngine.findPosition(appointmentId);
+        if (position != null) {
+            return QueuePositionResponse.from(position);
+        }
+
+        QueueLookup lookup = appointmentRepository.findQueueLookupById(appointmentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
+        if (isQueuedToday(lookup)) {
+            position = appointmentQueueEngine.getOrLoad(lookup.departmentId(), lookup.appointmentDate())
+                    .positionOf(appointmentId);
+            if (position != null) {
+                return QueuePositionResponse.from(position);
+            }
+        }
+        return QueuePositionResponse.notQueued(appointmentId, lookup.status());
+    }
+
+    // 진료과 오늘 대기열 조회 (관리자용)
+    public DepartmentQueueResponse getTodayDepartmentQueue(Long hospitalId, String departmentName) {
+        HospitalDepartment department = hospitalDepartmentRepository.findActiveByHospitalIdAndName(hospitalId, departmentName)
+                .orElseThrow(() -> hospitalRepository.existsById(hospitalId)
+                        ? new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND)
+                        : new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
+        return DepartmentQueueResponse.of(department.getName(),
+                appointmentQueueEngine.getOrLoad(department.getId(), LocalDate.now()));
+    }
+
+    private static boolean isQueuedToday(QueueLookup lookup) {
+        return lookup.appointmentDate().equals(LocalDate.now())
+                && (lookup.status() == AppointmentStatus.ARRIVED || lookup.status() == AppointmentStatus.CALLED);
+    }
+}
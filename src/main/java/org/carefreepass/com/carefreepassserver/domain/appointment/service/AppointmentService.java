@@ -1,29 +1,42 @@
 package org.carefreepass.com.carefreepassserver.domain.appointment.service;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotClaim;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentBulkStatusRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentBulkItemResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentBulkStatusResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
 import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
-import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentResourceService;
 import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
-import org.carefreepass.com.carefreepassserver.domain.auth.entity.PatientProfile;
 import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
-import org.carefreepass.com.carefreepassserver.domain.auth.repository.PatientProfileRepository;
-import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 // 예약 관리 서비스
 @Service
@@ -38,236 +51,377 @@ public class AppointmentService {
             AppointmentStatus.ARRIVED,
             AppointmentStatus.CALLED
     );
-    
-    private static final List<AppointmentStatus> WAITING_STATUSES = List.of(
-            AppointmentStatus.SCHEDULED,
-            AppointmentStatus.ARRIVED,
-            AppointmentStatus.CALLED
-    );
+
+    // 일괄 상태 변경 최대 대상 수
+    private static final int BULK_STATUS_LIMIT = 200;
+
+    // 진료 자원 배정 충돌 시 최대 시도 횟수 (최초 1회 + 재배정 1회)
+    private static final int RESOURCE_ALLOCATION_MAX_ATTEMPTS = 2;
 
     private final AppointmentRepository appointmentRepository;
     private final MemberRepository memberRepository;
     private final HospitalRepository hospitalRepository;
     private final HospitalDepartmentRepository hospitalDepartmentRepository;
-    private final PatientProfileRepository patientProfileRepository;
-
-    // 새로운 예약 생성
-    @Transactional
+    private final DepartmentResourceService departmentResourceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentProperties appointmentProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 새로운 예약 생성 - 회원 확인, 진료과 조회, 충돌 조회(시간대 재고 사용 시 재고 행 UPDATE), 저장 4개 쿼리로 처리
+    // 진료 자원이 있는 진료과는 같은 충돌 조회 결과로 빈 자원을 배정 (자원 스냅샷은 노드 최초/만료 시에만 조회)
+    // 동시 요청이 같은 자원을 골라 유니크 제약에 걸리면 새 트랜잭션에서 점유 자원을 다시 조회해 한 번 더 배정
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createAppointment(AppointmentCreateRequest request) {
-        // 회원 존재 여부 검증
-        Member member = memberRepository.findById(request.getMemberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        // 병원 존재 여부 검증
-        Hospital hospital = hospitalRepository.findById(request.getHospitalId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
-
-        // 진료과 존재 여부 및 활성화 상태 검증
-        HospitalDepartment department = hospitalDepartmentRepository
-                .findByHospitalAndNameAndActiveTrue(hospital, request.getDepartmentName())
-                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
-
-        // 1. 환자별 중복 예약 검증 (같은 날짜에 활성 상태인 예약이 있는지 확인)
-        
-        for (AppointmentStatus status : ACTIVE_STATUSES) {
-            if (appointmentRepository.existsByMemberIdAndAppointmentDateAndStatus(
-                    request.getMemberId(), request.getAppointmentDate(), status)) {
-                throw new BusinessException(ErrorCode.APPOINTMENT_DUPLICATE_DATE);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertAppointment(request));
+            } catch (DataIntegrityViolationException e) {
+                if (isMemberDateConflict(e) || attempt >= RESOURCE_ALLOCATION_MAX_ATTEMPTS) {
+                    throw toClaimFailure(e);
+                }
+                log.info("진료 자원 배정 충돌 - 재시도 {}/{} (회원 ID {})",
+                        attempt, RESOURCE_ALLOCATION_MAX_ATTEMPTS, request.getMemberId());
             }
         }
+    }
 
-        // 2. 진료과별 시간 충돌 검사 (같은 진료과, 같은 시간에 활성 예약이 있는지 확인)
-        for (AppointmentStatus status : ACTIVE_STATUSES) {
-            if (appointmentRepository.existsByHospitalDepartmentAndAppointmentDateAndAppointmentTimeAndStatus(
-                    department, request.getAppointmentDate(), request.getAppointmentTime(), status)) {
-                throw new BusinessException(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
-            }
+    // 예약 생성 트랜잭션 본문 (자원 진료과의 유니크 제약 위반은 재배정을 위해 그대로 전파)
+    private Long insertAppointment(AppointmentCreateRequest request) {
+        // 회원 존재 여부 검증 (엔티티 전체 조회 대신 이름만 조회 후 프록시 참조)
+        String memberName = memberRepository.findNameById(request.getMemberId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        Member member = memberRepository.getReferenceById(request.getMemberId());
+
+        // 진료과 존재 여부 및 활성화 상태 검증 (병원 ID로 바로 조회)
+        HospitalDepartment department = findActiveDepartment(request.getHospitalId(), request.getDepartmentName());
+
+        // 환자별 같은 날짜 중복 예약 및 진료과 시간 충돌을 한 번에 검사
+        // (시간대 재고 사용 시 생략 - 충돌은 유니크 제약과 커밋 직전 재고 행 점유 UPDATE로 판정, 자원 진료과는 재고가 없으므로 항상 검사)
+        Long resourceId = Appointment.DEFAULT_RESOURCE_ID;
+        if (department.hasResources()) {
+            resourceId = allocateResource(request, department);
+        } else if (!appointmentProperties.isSlotInventoryEnabled()) {
+            checkConflicts(request, department);
         }
 
         // 예약 엔티티 생성 (초기 상태: WAITING)
         Appointment appointment = Appointment.createAppointment(
-                member, department, request.getAppointmentDate(), request.getAppointmentTime()
+                member, department, request.getAppointmentDate(), request.getAppointmentTime(), resourceId
         );
 
-        // 예약 저장
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        // 예약 저장 - 즉시 flush하여 동시 요청 간 시간대 충돌을 유니크 제약으로 감지
+        Appointment savedAppointment = department.hasResources()
+                ? appointmentRepository.saveAndFlush(appointment)
+                : claimSlot(() -> appointmentRepository.saveAndFlush(appointment));
+        eventPublisher.publishEvent(AppointmentChangedEvent.created(AppointmentSnapshot.of(savedAppointment, memberName)));
 
-        log.info("예약 생성 완료: 회원 {} (ID: {}), 진료과: {}", 
-                member.getName(), request.getMemberId(), request.getDepartmentName());
+        log.info("예약 생성 완료: 회원 ID {}, 진료과: {}", request.getMemberId(), request.getDepartmentName());
         return savedAppointment.getId();
     }
 
     // 환자 체크인 처리
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void checkinAppointment(Long appointmentId, Long memberId) {
-        // 예약 조회
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
+        executeWithConflictRetry(appointmentId, () -> {
+            // 예약 조회
+            Appointment appointment = findAppointment(appointmentId);
 
-        // 본인 예약인지 확인
-        if (!appointment.getMember().getId().equals(memberId)) {
-            throw new BusinessException(ErrorCode.FORBIDDEN);
-        }
+            // 본인 예약인지 확인
+            if (!appointment.getMember().getId().equals(memberId)) {
+                throw new BusinessException(ErrorCode.FORBIDDEN);
+            }
 
-        // 체크인 가능한 상태인지 확인 (SCHEDULED 상태에서만 체크인 가능)
-        if (appointment.getStatus() != AppointmentStatus.SCHEDULED) {
-            throw new BusinessException(ErrorCode.APPOINTMENT_CANNOT_MODIFY_COMPLETED);
-        }
+            // 체크인 가능한 상태인지 확인 (SCHEDULED 상태에서만 체크인 가능)
+            if (appointment.getStatus() != AppointmentStatus.SCHEDULED) {
+                throw new BusinessException(ErrorCode.APPOINTMENT_CANNOT_MODIFY_COMPLETED);
+            }
 
-        // 체크인 처리 (상태를 ARRIVED로 변경)
-        appointment.checkin();
-        log.info("환자 체크인 완료: {} (예약 ID: {})", appointment.getMember().getName(), appointmentId);
+            // 체크인 처리 (상태를 ARRIVED로 변경)
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            appointment.checkin();
+            publishStatusChanged(before, appointment);
+            log.info("환자 체크인 완료: {} (예약 ID: {})", appointment.getMember().getName(), appointmentId);
+        });
     }
 
-    public List<Appointment> getTodayWaitingPatients() {
-        return appointmentRepository.findTodayAppointmentsByStatus(LocalDate.now(), WAITING_STATUSES);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteAppointment(Long appointmentId) {
+        executeWithConflictRetry(appointmentId, () -> {
+            Appointment appointment = findAppointment(appointmentId);
+
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            appointmentRepository.delete(appointment);
+            eventPublisher.publishEvent(AppointmentChangedEvent.deleted(before));
+            log.info("Appointment deleted: {} (ID: {})", appointment.getMember().getName(), appointmentId);
+        });
     }
 
-    public List<Appointment> getAllTodayAppointments() {
-        return appointmentRepository.findAllByAppointmentDate(LocalDate.now());
+    // 예약 상태 변경 (전이 테이블에 없는 변경은 거부, 현재와 같은 상태면 변경 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateAppointmentStatus(Long appointmentId, AppointmentStatus status) {
+        executeWithConflictRetry(appointmentId, () -> {
+            Appointment appointment = findAppointment(appointmentId);
+            if (appointment.getStatus() == status) {
+                return;
+            }
+
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            appointment.updateStatus(status);
+            publishStatusChanged(before, appointment);
+            log.info("Appointment status updated: {} -> {} (ID: {})",
+                    before.status(), status, appointmentId);
+        });
     }
-    
-    public PatientProfile getPatientProfileByAppointment(Appointment appointment) {
-        return patientProfileRepository.findByMember(appointment.getMember()).orElse(null);
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateAppointment(Long appointmentId, AppointmentUpdateRequest request) {
+        executeWithConflictRetry(appointmentId, () -> {
+            Appointment appointment = findAppointment(appointmentId);
+
+            if (appointment.getStatus() == AppointmentStatus.COMPLETED || appointment.getStatus() == AppointmentStatus.CANCELLED) {
+                throw new BusinessException(ErrorCode.APPOINTMENT_CANNOT_MODIFY_COMPLETED);
+            }
+
+            // 진료과 존재 여부 및 활성화 상태 검증
+            HospitalDepartment department = findActiveDepartment(request.getHospitalId(), request.getDepartmentName());
+
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            Long resourceId = reallocateResource(appointment, department, request);
+            appointment.updateAppointment(department, request.getAppointmentDate(), request.getAppointmentTime(), resourceId);
+            claimSlot(() -> {
+                appointmentRepository.flush();
+                return appointment;
+            });
+            eventPublisher.publishEvent(AppointmentChangedEvent.updated(before, AppointmentSnapshot.from(appointment)));
+            log.info("예약 수정 완료: {} (ID: {}), 진료과: {}",
+                    appointment.getMember().getName(), appointmentId, request.getDepartmentName());
+        });
     }
 
-    @Transactional
-    public void deleteAppointment(Long appointmentId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
-        
-        appointmentRepository.delete(appointment);
-        log.info("Appointment deleted: {} (ID: {})", appointment.getMember().getName(), appointmentId);
+    // 환자 호출 (커밋 후 회원 개인 큐로 알림 전송)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void callPatient(Long appointmentId) {
+        executeWithConflictRetry(appointmentId, () -> {
+            // 예약 조회
+            Appointment appointment = findAppointment(appointmentId);
+
+            // 호출 가능한 상태인지 확인 (내원 예정, 도착, 호출 중만 가능 - 취소/완료된 예약은 호출 불가)
+            if (!appointment.canCall()) {
+                throw new BusinessException(ErrorCode.APPOINTMENT_CALL_NOT_AVAILABLE);
+            }
+
+            // 예약 상태를 CALLED로 변경 (MemberAppointmentNotifier가 커밋 후 알림 전송)
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            appointment.call();
+            publishStatusChanged(before, appointment);
+            log.info("환자 호출 완료: {} (예약 ID: {})",
+                    appointment.getMember().getName(), appointmentId);
+        });
     }
 
-    @Transactional
-    public void updateAppointmentStatus(Long appointmentId, AppointmentStatus status) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
+    public Appointment getAppointment(Long appointmentId) {
+        return findAppointment(appointmentId);
+    }
 
-        appointment.updateStatus(status);
-        log.info("Appointment status updated: {} -> {} (ID: {})", 
-                appointment.getStatus(), status, appointmentId);
+    // 예약 상태를 내원 대기로 변경 (WAITING → SCHEDULED)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void startWaitingForAppointment(Long appointmentId) {
+        executeWithConflictRetry(appointmentId, () -> {
+            Appointment appointment = findAppointment(appointmentId);
+
+            if (appointment.getStatus() != AppointmentStatus.WAITING) {
+                throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_STATUS);
+            }
+
+            AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+            appointment.scheduleForToday();
+            publishStatusChanged(before, appointment);
+            log.info("예약 대기 상태 변경: {} (예약 ID: {})", appointment.getMember().getName(), appointmentId);
+        });
     }
 
-    @Transactional
-    public void updateAppointment(Long appointmentId, AppointmentUpdateRequest request) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
+    // 예약 상태 일괄 변경 - 대상을 한 번에 조회하고 한 트랜잭션에서 검증/변경 (UPDATE는 커밋 시 JDBC 배치로 전송)
+    // 전이 불가하거나 없는 예약은 건너뛰고 예약별 결과로 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AppointmentBulkStatusResponse bulkUpdateStatus(AppointmentBulkStatusRequest request) {
+        AppointmentStatus target = request.getStatus();
+        List<AppointmentBulkItemResponse> results = executeWithConflictRetry("일괄 변경", () -> {
+            List<AppointmentBulkItemResponse> itemResults = new ArrayList<>();
+            for (Map.Entry<Long, Appointment> entry : findBulkTargets(request).entrySet()) {
+                itemResults.add(applyBulkStatus(entry.getKey(), entry.getValue(), target));
+            }
+            return itemResults;
+        });
 
-        if (appointment.getStatus() == AppointmentStatus.COMPLETED || appointment.getStatus() == AppointmentStatus.CANCELLED) {
-            throw new BusinessException(ErrorCode.APPOINTMENT_CANNOT_MODIFY_COMPLETED);
+        AppointmentBulkStatusResponse response = AppointmentBulkStatusResponse.of(target, results);
+        log.info("예약 상태 일괄 변경 완료: → {} - 대상 {}건, 변경 {}건, 실패 {}건",
+                target, response.getRequestedCount(), response.getUpdatedCount(), response.getFailedCount());
+        return response;
+    }
+
+    // 일괄 변경 대상 조회 (요청 순서 유지, 없는 예약 ID는 null 값으로 포함)
+    private Map<Long, Appointment> findBulkTargets(AppointmentBulkStatusRequest request) {
+        Map<Long, Appointment> targets = new LinkedHashMap<>();
+        if (request.hasAppointmentIds()) {
+            request.getAppointmentIds().forEach(id -> targets.put(id, null));
+            appointmentRepository.findAllWithMemberByIdIn(targets.keySet())
+                    .forEach(appointment -> targets.put(appointment.getId(), appointment));
+            return targets;
+        }
+        if (!request.hasTimeRange()) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_BULK_INVALID_TARGET);
         }
 
-        // 병원 존재 여부 검증
-        Hospital hospital = hospitalRepository.findById(request.getHospitalId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
+        HospitalDepartment department = findActiveDepartment(request.getHospitalId(), request.getDepartmentName());
+        List<Appointment> appointments = appointmentRepository.findAllWithMemberInTimeRange(
+                department.getId(), request.getAppointmentDate(), request.getStartTime(), request.getEndTime(),
+                ACTIVE_STATUSES);
+        if (appointments.size() > BULK_STATUS_LIMIT) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_BULK_LIMIT_EXCEEDED);
+        }
+        appointments.forEach(appointment -> targets.put(appointment.getId(), appointment));
+        return targets;
+    }
 
-        // 진료과 존재 여부 및 활성화 상태 검증
-        HospitalDepartment department = hospitalDepartmentRepository
-                .findByHospitalAndNameAndActiveTrue(hospital, request.getDepartmentName())
-                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
+    private AppointmentBulkItemResponse applyBulkStatus(Long appointmentId, Appointment appointment,
+                                                        AppointmentStatus target) {
+        if (appointment == null) {
+            return AppointmentBulkItemResponse.notFound(appointmentId);
+        }
+        AppointmentStatus previous = appointment.getStatus();
+        if (previous == target) {
+            return AppointmentBulkItemResponse.unchanged(appointmentId, previous);
+        }
+        if (!previous.canTransitionTo(target)) {
+            return AppointmentBulkItemResponse.rejected(appointmentId, previous);
+        }
 
-        appointment.updateAppointment(department, request.getAppointmentDate(), request.getAppointmentTime());
-        log.info("예약 수정 완료: {} (ID: {}), 진료과: {}", 
-                appointment.getMember().getName(), appointmentId, request.getDepartmentName());
+        AppointmentSnapshot before = AppointmentSnapshot.from(appointment);
+        appointment.updateStatus(target);
+        publishStatusChanged(before, appointment);
+        return AppointmentBulkItemResponse.updated(appointmentId, previous, target);
     }
 
-    // 환자 호출 (폴링 기반)
-    @Transactional
-    public void callPatient(Long appointmentId) {
-        // 예약 조회
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
+    // 기존 예약 변경을 별도 트랜잭션에서 실행 - 낙관적 락 충돌 시 최신 상태를 다시 읽어 검증부터 재시도
+    // (재시도 시 전이 검증이 최신 상태 기준으로 다시 수행되므로, 동시 취소된 예약의 호출 등은 상태 오류로 거부됨)
+    private void executeWithConflictRetry(Long appointmentId, Runnable modification) {
+        executeWithConflictRetry("예약 ID " + appointmentId, () -> {
+            modification.run();
+            return null;
+        });
+    }
 
-        // 호출 가능한 상태인지 확인 (COMPLETED, CANCELLED 제외)
-        if (!appointment.canCall()) {
-            throw new BusinessException(ErrorCode.APPOINTMENT_CALL_NOT_AVAILABLE);
+    private <T> T executeWithConflictRetry(String target, Supplier<T> modification) {
+        int maxAttempts = appointmentProperties.getOptimisticLockMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> modification.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("예약 동시 수정 충돌 - 재시도 한도 초과 ({}, {}회 시도)", target, attempt);
+                    throw new BusinessException(ErrorCode.APPOINTMENT_CONCURRENT_MODIFICATION);
+                }
+                log.info("예약 동시 수정 충돌 - 재시도 {}/{} ({})", attempt, maxAttempts, target);
+            }
         }
-
-        // 예약 상태를 CALLED로 변경 (폴링으로 감지됨)
-        appointment.call();
-        log.info("환자 호출 완료: {} (예약 ID: {})", 
-                appointment.getMember().getName(), appointmentId);
     }
 
-    public Appointment getAppointment(Long appointmentId) {
+    private Appointment findAppointment(Long appointmentId) {
         return appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
     }
 
-    // 환자용 예약 조회 메서드 (과거 예약 제외)
-    public List<Appointment> getAppointmentsByMemberId(Long memberId) {
-        // 회원 존재 여부 확인
-        if (!memberRepository.existsById(memberId)) {
-            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+    // 예약 상태 변경 이벤트 발행 (커밋 후 리스너에서 처리)
+    private void publishStatusChanged(AppointmentSnapshot before, Appointment appointment) {
+        eventPublisher.publishEvent(AppointmentChangedEvent.statusChanged(before, AppointmentSnapshot.from(appointment)));
+    }
+
+    // 병원 ID와 진료과명으로 활성 진료과 조회 (조회 실패 시에만 병원 존재 여부 확인)
+    private HospitalDepartment findActiveDepartment(Long hospitalId, String departmentName) {
+        return hospitalDepartmentRepository.findActiveByHospitalIdAndName(hospitalId, departmentName)
+                .orElseThrow(() -> hospitalRepository.existsById(hospitalId)
+                        ? new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND)
+                        : new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
+    }
+
+    // 환자 같은 날짜 중복 예약 및 진료과 같은 시간대 활성 예약 확인
+    private void checkConflicts(AppointmentCreateRequest request, HospitalDepartment department) {
+        List<SlotClaim> claims = findConflictingClaims(request, department);
+        if (!claims.isEmpty()) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
         }
-        
-        // 현재 날짜 이후의 예약만 조회 (과거 예약 제외)
-        LocalDate today = LocalDate.now();
-        return appointmentRepository.findByMemberIdAndAppointmentDateGreaterThanEqual(memberId, today);
     }
 
-    public List<Appointment> getTodayAppointmentsByMemberId(Long memberId) {
-        // 회원 존재 여부 확인
-        if (!memberRepository.existsById(memberId)) {
-            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+    // 진료 자원 배정 - 충돌 조회로 시간대의 점유 자원을 구한 뒤 근무 중인 빈 자원 하나 선택
+    // 동시 요청이 같은 자원을 고른 경우 유니크 제약(진료과+시간대+자원)이 한쪽을 실패시키며, 실패한 쪽은 새 트랜잭션에서 한 번 재배정
+    private Long allocateResource(AppointmentCreateRequest request, HospitalDepartment department) {
+        List<Long> claimedResourceIds = findConflictingClaims(request, department).stream()
+                .map(SlotClaim::resourceId)
+                .toList();
+        Long resourceId = departmentResourceService.getResourceSet(department).allocate(
+                request.getAppointmentDate(), request.getAppointmentTime(), claimedResourceIds, request.getMemberId());
+        if (resourceId == null) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
         }
-        
-        LocalDate today = LocalDate.now();
-        return appointmentRepository.findByMemberIdAndAppointmentDate(memberId, today);
+        return resourceId;
     }
 
-    // 예약 상태를 내원 대기로 변경 (WAITING → SCHEDULED)
-    @Transactional
-    public void startWaitingForAppointment(Long appointmentId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.APPOINTMENT_NOT_FOUND));
-        
-        if (appointment.getStatus() != AppointmentStatus.WAITING) {
-            throw new BusinessException(ErrorCode.APPOINTMENT_INVALID_STATUS);
+    // 예약 변경 시 자원 재배정 - 같은 시간대면 기존 자원 유지, 자원이 없는 진료과는 기본 자원
+    private Long reallocateResource(Appointment appointment, HospitalDepartment department,
+                                    AppointmentUpdateRequest request) {
+        if (!department.hasResources()) {
+            return Appointment.DEFAULT_RESOURCE_ID;
+        }
+        if (appointment.isSameSlot(department, request.getAppointmentDate(), request.getAppointmentTime())) {
+            return appointment.getResourceId();
         }
-        
-        appointment.scheduleForToday();
-        log.info("예약 대기 상태 변경: {} (예약 ID: {})", appointment.getMember().getName(), appointmentId);
+        List<Long> claimedResourceIds = appointmentRepository.findClaimedResourceIds(department.getId(),
+                request.getAppointmentDate(), request.getAppointmentTime(), ACTIVE_STATUSES, appointment.getId());
+        Long resourceId = departmentResourceService.getResourceSet(department).allocate(
+                request.getAppointmentDate(), request.getAppointmentTime(), claimedResourceIds,
+                appointment.getMember().getId());
+        if (resourceId == null) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
+        }
+        return resourceId;
     }
 
-    // 특정 날짜의 모든 예약 조회 (관리자용)
-    public List<Appointment> getAppointmentsByDate(LocalDate date) {
-        return appointmentRepository.findAllByAppointmentDate(date);
+    // 회원의 같은 날짜 활성 예약이 있으면 날짜 중복 예외, 없으면 진료과 같은 시간대의 활성 예약 목록 반환
+    private List<SlotClaim> findConflictingClaims(AppointmentCreateRequest request, HospitalDepartment department) {
+        List<SlotClaim> claims = appointmentRepository.findConflictingClaims(
+                request.getMemberId(), department.getId(),
+                request.getAppointmentDate(), request.getAppointmentTime(), ACTIVE_STATUSES);
+        if (claims.stream().anyMatch(claim -> claim.memberId().equals(request.getMemberId()))) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_DUPLICATE_DATE);
+        }
+        return claims;
     }
 
-    // 오늘 날짜 WAITING 예약을 SCHEDULED로 변경 (스케줄러용)
-    @Transactional
-    public int updateTodayWaitingToScheduled() {
-        LocalDate today = LocalDate.now();
-        List<Appointment> todayAppointments = appointmentRepository.findAllByAppointmentDate(today);
-        
-        int updatedCount = 0;
-        for (Appointment appointment : todayAppointments) {
-            if (appointment.getStatus() == AppointmentStatus.WAITING) {
-                appointment.updateStatus(AppointmentStatus.SCHEDULED);
-                updatedCount++;
-                log.info("예약 상태 변경: {} (ID: {}) - WAITING → SCHEDULED", 
-                        appointment.getMember().getName(), appointment.getId());
-            }
+    // 시간대 점유 시도 - 유니크 제약 위반을 예약 충돌 에러로 변환
+    private Appointment claimSlot(Supplier<Appointment> writer) {
+        try {
+            return writer.get();
+        } catch (DataIntegrityViolationException e) {
+            throw toClaimFailure(e);
         }
-        
-        log.info("오늘 날짜({}) 예약 상태 업데이트 완료 - 총 {}건", today, updatedCount);
-        return updatedCount;
     }
 
-    // Appointment를 AppointmentResponse로 변환하는 유틸리티 메서드
-    public AppointmentResponse convertToResponse(Appointment appointment) {
-        PatientProfile patientProfile = patientProfileRepository.findByMember(appointment.getMember()).orElse(null);
-        return AppointmentResponse.from(appointment, patientProfile);
+    // 유니크 제약 위반을 예약 충돌 에러로 변환
+    private BusinessException toClaimFailure(DataIntegrityViolationException e) {
+        ErrorCode errorCode = isMemberDateConflict(e)
+                ? ErrorCode.APPOINTMENT_DUPLICATE_DATE
+                : ErrorCode.APPOINTMENT_TIME_UNAVAILABLE;
+        log.info("예약 시간대 점유 실패: {}", errorCode.getCode());
+        return new BusinessException(errorCode);
     }
 
-    // 여러 Appointment를 AppointmentResponse 목록으로 변환하는 유틸리티 메서드
-    public List<AppointmentResponse> convertToResponseList(List<Appointment> appointments) {
-        return appointments.stream()
-                .map(this::convertToResponse)
-                .toList();
+    // 위반된 제약조건이 환자별 날짜 중복 제약인지 확인
+    private boolean isMemberDateConflict(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        String source = constraintName != null ? constraintName : String.valueOf(e.getMostSpecificCause().getMessage());
+        return source.toLowerCase().contains(Appointment.MEMBER_DATE_CONSTRAINT);
     }
 
 }
\ No newline at end of file
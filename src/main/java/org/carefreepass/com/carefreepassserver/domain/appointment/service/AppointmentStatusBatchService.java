@@ -0,0 +1,108 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentIdRange;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.BulkStatusTransitionResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 상태 일괄 전환 서비스
+ * 엔티티를 로딩하지 않고 UPDATE 쿼리로 상태를 전환하며, 설정된 경우 ID 구간 단위로 나누어 각각 별도 트랜잭션에서 처리합니다.
+ * 전환된 예약은 같은 트랜잭션에서 스냅샷 프로젝션으로 다시 조회하여 예약별 상태 변경을 일괄 전환 이벤트에 담고,
+ * 아웃박스 기록기가 커밋 직전에 예약별 아웃박스 레코드를 배치 INSERT 하여 모든 노드의 대기열과 회원 알림에 전달되도록 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentStatusBatchService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentProperties appointmentProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 오늘 날짜 WAITING 예약을 SCHEDULED로 일괄 전환
+    public BulkStatusTransitionResult scheduleTodayWaiting() {
+        return transition(LocalDate.now(), AppointmentStatus.WAITING, AppointmentStatus.SCHEDULED);
+    }
+
+    // 특정 날짜의 예약 상태 일괄 전환
+    public BulkStatusTransitionResult transition(LocalDate date, AppointmentStatus from, AppointmentStatus to) {
+        int chunkSize = appointmentProperties.getStatusBatchChunkSize();
+        BulkStatusTransitionResult result = chunkSize > 0
+                ? transitionInChunks(date, from, to, chunkSize)
+                : transitionAtOnce(date, from, to);
+
+        log.info("예약 상태 일괄 전환 완료: {} {} → {} - 총 {}건 ({}회 실행)",
+                date, from, to, result.updatedCount(), result.chunkCount());
+        return result;
+    }
+
+    // 단일 UPDATE로 전환
+    private BulkStatusTransitionResult transitionAtOnce(LocalDate date, AppointmentStatus from, AppointmentStatus to) {
+        Integer updatedCount = transactionTemplate.execute(tx -> {
+            LocalDateTime now = transitionTime();
+            int updated = appointmentRepository.bulkUpdateStatus(date, from, to, Appointment.slotClaimOf(to), now);
+            publishIfUpdated(date, from, to, updated, now, 0L, Long.MAX_VALUE);
+            return updated;
+        });
+        return new BulkStatusTransitionResult(date, from, to, updatedCount, 1);
+    }
+
+    // ID 구간 단위로 나누어 전환 (구간마다 별도 트랜잭션으로 커밋하여 락 유지 시간 제한)
+    private BulkStatusTransitionResult transitionInChunks(LocalDate date, AppointmentStatus from, AppointmentStatus to,
+                                                          int chunkSize) {
+        AppointmentIdRange idRange = appointmentRepository.findIdRange(date, from);
+        if (idRange.isEmpty()) {
+            return new BulkStatusTransitionResult(date, from, to, 0, 0);
+        }
+
+        int updatedCount = 0;
+        int chunkCount = 0;
+        for (long startId = idRange.minId(); startId <= idRange.maxId(); startId += chunkSize) {
+            long endId = Math.min(startId + chunkSize - 1, idRange.maxId());
+            long chunkStartId = startId;
+            Integer updated = transactionTemplate.execute(tx -> {
+                LocalDateTime now = transitionTime();
+                int count = appointmentRepository.bulkUpdateStatusInIdRange(
+                        date, from, to, Appointment.slotClaimOf(to), now, chunkStartId, endId);
+                publishIfUpdated(date, from, to, count, now, chunkStartId, endId);
+                return count;
+            });
+            updatedCount += updated;
+            chunkCount++;
+        }
+        return new BulkStatusTransitionResult(date, from, to, updatedCount, chunkCount);
+    }
+
+    // 변경된 예약이 있으면 예약별 상태 변경과 함께 이벤트 발행 (커밋 직전 아웃박스 기록, 커밋 후 캐시 무효화)
+    private void publishIfUpdated(LocalDate date, AppointmentStatus from, AppointmentStatus to, int updatedCount,
+                                  LocalDateTime transitionedAt, long startId, long endId) {
+        if (updatedCount == 0) {
+            return;
+        }
+        List<AppointmentChangedEvent> changes = appointmentRepository
+                .findTransitionedSnapshots(date, to, transitionedAt, startId, endId).stream()
+                .map(after -> AppointmentChangedEvent.statusChanged(after.beforeTransition(from), after))
+                .toList();
+        eventPublisher.publishEvent(new AppointmentBulkStatusChangedEvent(date, from, to, updatedCount, changes));
+    }
+
+    // 일괄 전환 시각 (DB 컬럼 정밀도로 잘라 전환된 행 조회 시 그대로 비교되도록 함)
+    private LocalDateTime transitionTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
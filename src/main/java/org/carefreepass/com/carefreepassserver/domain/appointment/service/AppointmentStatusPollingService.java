@@ -0,0 +1,101 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.StatusPollResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.stream.MemberAppointmentWaiters;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.DataSourceRoutingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * 환자 예약 상태 폴링 서비스
+ * ETag는 회원의 오늘 예약 버전 집계(한 번의 인덱스 조회)로 만들어 어느 노드에서 조회해도 같으며,
+ * 클라이언트가 보낸 ETag와 같으면 예약 목록 조회 없이 변경 없음으로 응답합니다.
+ * 대기 시간이 지정되면 변경 알림을 받을 때마다 ETag를 다시 확인하여, 바뀌었거나 시간이 지날 때까지 응답을 보류합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentStatusPollingService {
+
+    // 서블릿 컨테이너 비동기 타임아웃(기본 30초)보다 짧게 유지
+    private static final int MAX_WAIT_SECONDS = 25;
+    private static final int FETCH_THREADS = 4;
+
+    private final AppointmentQueryService appointmentQueryService;
+    private final MemberAppointmentWaiters memberAppointmentWaiters;
+
+    private final AtomicInteger threadSequence = new AtomicInteger();
+    private final ExecutorService fetchExecutor = Executors.newFixedThreadPool(FETCH_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "appointment-status-poll-" + threadSequence.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 오늘 예약 상태 조회 (ETag 일치 시 304, waitSeconds 지정 시 롱폴링)
+    public CompletableFuture<StatusPollResult> pollTodayStatus(Long memberId, String ifNoneMatch, Integer waitSeconds) {
+        String eTag = appointmentQueryService.getTodayAppointmentsETag(memberId);
+        if (!eTag.equals(normalizeETag(ifNoneMatch))) {
+            return CompletableFuture.completedFuture(fetch(memberId));
+        }
+        if (waitSeconds == null || waitSeconds <= 0) {
+            return CompletableFuture.completedFuture(StatusPollResult.notModified(eTag));
+        }
+
+        CompletableFuture<StatusPollResult> result = new CompletableFuture<>();
+        result.completeOnTimeout(StatusPollResult.notModified(eTag), Math.min(waitSeconds, MAX_WAIT_SECONDS), TimeUnit.SECONDS);
+        awaitChange(result, memberId, eTag);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    // 변경 알림 대기 등록 후 ETag 확인 (등록 전에 커밋된 변경을 놓치지 않도록 등록을 먼저 수행)
+    // 변경 알림은 커밋한 스레드나 Redis 수신 스레드에서 호출되므로 확인은 별도 스레드에서 수행
+    // (조회 스레드에는 요청 회원 정보가 없고 복제본에는 방금 커밋된 변경이 없을 수 있으므로 주 DB에서 조회)
+    private void awaitChange(CompletableFuture<StatusPollResult> result, Long memberId, String knownETag) {
+        Runnable unregister = memberAppointmentWaiters.awaitChange(memberId,
+                () -> fetchExecutor.execute(() -> DataSourceRoutingContext.runOnPrimary(
+                        () -> awaitChange(result, memberId, knownETag))));
+        result.whenComplete((r, e) -> unregister.run());
+        completeIfChanged(result, memberId, knownETag);
+    }
+
+    // 조회 전에 ETag를 먼저 읽어, 조회 도중 발생한 변경은 다음 요청에서 감지되도록 함
+    private StatusPollResult fetch(Long memberId) {
+        String eTag = appointmentQueryService.getTodayAppointmentsETag(memberId);
+        return StatusPollResult.modified(eTag, appointmentQueryService.getTodayAppointmentsByMemberId(memberId));
+    }
+
+    // ETag가 바뀐 경우에만 조회하여 응답 (같으면 등록한 대기를 유지)
+    private void completeIfChanged(CompletableFuture<StatusPollResult> result, Long memberId, String knownETag) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            String eTag = appointmentQueryService.getTodayAppointmentsETag(memberId);
+            if (!eTag.equals(knownETag)) {
+                result.complete(StatusPollResult.modified(eTag,
+                        appointmentQueryService.getTodayAppointmentsByMemberId(memberId)));
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    // 약한 ETag 표기(W/) 제거
+    private String normalizeETag(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String trimmed = ifNoneMatch.trim();
+        return trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+    }
+}
@@ -0,0 +1,267 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.cache.DayOccupancy;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotInventoryGenerationResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.SlotInventory;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.SlotInventoryRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.AvailabilityRuleSet;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.TimeSlotExceptionRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.AvailabilityRuleService;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 시간대 재고 서비스
+ * app.appointment.slot-inventory-enabled=true일 때 진료과별 시간대를 설정 일수만큼 미리 행으로 생성하고,
+ * 예약 점유/해제와 차단 변경을 해당 행 하나에 대한 UPDATE로 반영합니다.
+ * 재고가 생성되지 않은 날짜(생성 기간 밖)와 진료 자원이 있는 진료과는 기존처럼 예약/차단 테이블에서 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotInventoryService {
+
+    private static final List<AppointmentStatus> ACTIVE_STATUSES = List.of(
+            AppointmentStatus.WAITING,
+            AppointmentStatus.SCHEDULED,
+            AppointmentStatus.ARRIVED,
+            AppointmentStatus.CALLED
+    );
+
+    private final SlotInventoryRepository slotInventoryRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final TimeSlotExceptionRepository timeSlotExceptionRepository;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final AppointmentProperties appointmentProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public boolean isEnabled() {
+        return appointmentProperties.isSlotInventoryEnabled();
+    }
+
+    // 활성 진료과별로 오늘부터 설정 일수만큼 재고 생성 후 지난 날짜 재고 삭제 (진료과마다 별도 트랜잭션)
+    public SlotInventoryGenerationResult generateAhead() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = horizonEndDate(startDate);
+        List<HospitalDepartment> departments = hospitalDepartmentRepository.findByActiveTrue();
+
+        int createdCount = 0;
+        int failedCount = 0;
+        for (HospitalDepartment department : departments) {
+            try {
+                createdCount += transactionTemplate.execute(tx -> generate(department, startDate, endDate));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 날짜를 동시에 생성한 경우 - 다음 실행에서 남은 날짜만 생성
+                failedCount++;
+                log.warn("시간대 재고 생성 충돌: 진료과 ID {} ({} ~ {})", department.getId(), startDate, endDate);
+            }
+        }
+        Integer purgedCount = transactionTemplate.execute(tx -> slotInventoryRepository.deleteAllBefore(startDate));
+
+        log.info("시간대 재고 생성 완료: {} ~ {} - 진료과 {}곳, 생성 {}건, 실패 {}곳, 삭제 {}건",
+                startDate, endDate, departments.size(), createdCount, failedCount, purgedCount);
+        return new SlotInventoryGenerationResult(startDate, endDate, departments.size(), createdCount, failedCount,
+                purgedCount);
+    }
+
+    // 재고가 있는 날짜의 점유 현황 적재 (재고가 없는 날짜는 결과에서 제외)
+    @Transactional(readOnly = true)
+    public Map<LocalDate, DayOccupancy> loadOccupancies(HospitalDepartment department, List<LocalDate> dates) {
+        Set<LocalDate> requested = new HashSet<>(dates);
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>();
+        slotInventoryRepository.findRows(department.getId(), dates.get(0), dates.get(dates.size() - 1))
+                .stream()
+                .filter(row -> requested.contains(row.slotDate()))
+                .forEach(row -> {
+                    DayOccupancy occupancy = occupancies.computeIfAbsent(row.slotDate(),
+                            date -> DayOccupancy.of(department));
+                    if (row.appointmentId() != null) {
+                        occupancy.occupy(row.slotTime(), Appointment.DEFAULT_RESOURCE_ID, row.memberName());
+                    }
+                    if (Boolean.TRUE.equals(row.blocked())) {
+                        occupancy.block(row.slotTime());
+                    }
+                });
+        return occupancies;
+    }
+
+    // 시간대 단건 예약 가능 여부 (재고가 없으면 빈 값)
+    @Transactional(readOnly = true)
+    public Optional<Boolean> findAvailability(Long departmentId, LocalDate date, LocalTime time) {
+        return slotInventoryRepository.findSlot(departmentId, date, time).map(SlotInventory::isAvailable);
+    }
+
+    // 예약 시간대 점유 - 재고가 없는 시간대면 무시하고, 재고가 있는데 이미 점유/차단된 경우 예외
+    @Transactional
+    public void claim(AppointmentSnapshot appointment) {
+        int updated = slotInventoryRepository.claim(appointment.departmentId(), appointment.appointmentDate(),
+                appointment.appointmentTime(), appointment.appointmentId());
+        if (updated > 0) {
+            return;
+        }
+        boolean unavailable = slotInventoryRepository
+                .findSlot(appointment.departmentId(), appointment.appointmentDate(), appointment.appointmentTime())
+                .filter(slot -> !appointment.appointmentId().equals(slot.getAppointmentId()))
+                .isPresent();
+        if (unavailable) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
+        }
+    }
+
+    // 예약이 점유한 시간대 해제
+    @Transactional
+    public void release(Long appointmentId) {
+        slotInventoryRepository.releaseByAppointmentId(appointmentId);
+    }
+
+    // 날짜의 비활성 예약이 잡고 있는 시간대 일괄 해제
+    @Transactional
+    public int releaseUnclaimedOn(LocalDate date) {
+        return slotInventoryRepository.releaseUnclaimedOn(date);
+    }
+
+    // 시간대 차단 상태 반영 (시간 예외가 삭제된 경우 휴진 규칙 상태로 복귀)
+    @Transactional
+    public void updateBlocked(Long departmentId, LocalDate date, LocalTime time, boolean blocked) {
+        boolean effective = blocked || availabilityRuleService.getRuleSet(departmentId).isClosed(date, time);
+        slotInventoryRepository.updateBlocked(departmentId, date, time, effective);
+    }
+
+    // 여러 진료과의 기간/시간 범위 차단 상태 반영
+    @Transactional
+    public void updateBlockedInRange(Collection<Long> departmentIds, LocalDate startDate, LocalDate endDate,
+                                     LocalTime startTime, LocalTime endTime, boolean blocked) {
+        slotInventoryRepository.updateBlockedInRange(departmentIds, startDate, endDate, startTime, endTime, blocked);
+    }
+
+    // 휴진 규칙 변경 시 오늘 이후 생성된 재고의 차단 상태를 규칙과 시간 예외 기준으로 다시 계산
+    // (커밋 전 규칙 변경을 반영하도록 스냅샷 대신 현재 트랜잭션에서 규칙을 다시 컴파일)
+    @Transactional
+    public void refreshBlocked(Collection<Long> departmentIds) {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = horizonEndDate(startDate);
+        for (Long departmentId : departmentIds) {
+            List<LocalDate> dates = slotInventoryRepository.findGeneratedDates(departmentId, startDate, endDate);
+            HospitalDepartment department = hospitalDepartmentRepository.findById(departmentId).orElse(null);
+            if (dates.isEmpty() || department == null) {
+                continue;
+            }
+            AvailabilityRuleSet rules = availabilityRuleService.compileRuleSet(department);
+            Map<SlotKey, Boolean> exceptions = new HashMap<>();
+            timeSlotExceptionRepository.findExceptionSlots(departmentId, startDate, endDate)
+                    .forEach(slot -> exceptions.put(new SlotKey(slot.exceptionDate(), slot.exceptionTime()), slot.blocked()));
+
+            slotInventoryRepository.updateBlockedInRange(List.of(departmentId), startDate, endDate,
+                    LocalTime.MIN, LocalTime.MAX, false);
+            List<LocalTime> slotTimes = department.slotTimes();
+            for (LocalDate date : dates) {
+                List<LocalTime> closedTimes = slotTimes.stream()
+                        .filter(time -> isBlocked(exceptions, rules, date, time))
+                        .toList();
+                if (!closedTimes.isEmpty()) {
+                    slotInventoryRepository.blockTimes(departmentId, date, closedTimes);
+                }
+            }
+        }
+    }
+
+    // 진료 시간/슬롯 간격이 바뀐 진료과의 오늘 이후 재고를 새 시간대 목록으로 다시 생성
+    // (새 시간대에 걸리는 예약과 차단은 예약/시간 예외/휴진 규칙에서 다시 계산, 비활성·자원 진료과는 삭제만)
+    @Transactional
+    public int regenerate(Long departmentId) {
+        LocalDate startDate = LocalDate.now();
+        int removed = slotInventoryRepository.deleteByDepartmentIdFrom(departmentId, startDate);
+        HospitalDepartment department = hospitalDepartmentRepository.findById(departmentId).orElse(null);
+        int created = department != null && department.getActive()
+                ? generate(department, startDate, horizonEndDate(startDate))
+                : 0;
+        log.info("진료 시간 변경 시간대 재고 재생성: 진료과 ID {} - 삭제 {}건, 생성 {}건", departmentId, removed, created);
+        return created;
+    }
+
+    // 진료 자원이 생긴 진료과의 재고 삭제 (재고 행은 시간대당 한 명 기준이므로 자원별 수용 인원은 예약 테이블에서 계산)
+    @Transactional
+    public void removeForResourceDepartment(Long departmentId) {
+        int removed = slotInventoryRepository.deleteByDepartmentId(departmentId);
+        log.info("진료 자원 진료과 시간대 재고 삭제: 진료과 ID {} - {}건", departmentId, removed);
+    }
+
+    // 진료과 기간 중 재고가 없는 날짜의 시간대를 현재 예약/차단 상태와 함께 생성 (진료 자원이 있는 진료과는 생성하지 않음)
+    private int generate(HospitalDepartment department, LocalDate startDate, LocalDate endDate) {
+        if (department.hasResources()) {
+            return 0;
+        }
+        Set<LocalDate> generatedDates = new HashSet<>(
+                slotInventoryRepository.findGeneratedDates(department.getId(), startDate, endDate));
+        List<LocalDate> missingDates = startDate.datesUntil(endDate.plusDays(1))
+                .filter(date -> !generatedDates.contains(date))
+                .toList();
+        if (missingDates.isEmpty()) {
+            return 0;
+        }
+
+        LocalDate firstDate = missingDates.get(0);
+        LocalDate lastDate = missingDates.get(missingDates.size() - 1);
+        Map<SlotKey, Long> bookings = new HashMap<>();
+        appointmentRepository.findSlotBookings(department.getId(), firstDate, lastDate, ACTIVE_STATUSES)
+                .forEach(booking -> bookings.putIfAbsent(
+                        new SlotKey(booking.appointmentDate(), booking.appointmentTime()), booking.appointmentId()));
+        AvailabilityRuleSet rules = availabilityRuleService.getRuleSet(department.getId());
+        Map<SlotKey, Boolean> exceptions = new HashMap<>();
+        timeSlotExceptionRepository.findExceptionSlots(department.getId(), firstDate, lastDate)
+                .forEach(slot -> exceptions.put(new SlotKey(slot.exceptionDate(), slot.exceptionTime()), slot.blocked()));
+
+        HospitalDepartment reference = hospitalDepartmentRepository.getReferenceById(department.getId());
+        List<LocalTime> slotTimes = department.slotTimes();
+        List<SlotInventory> slots = new ArrayList<>(missingDates.size() * slotTimes.size());
+        for (LocalDate date : missingDates) {
+            for (LocalTime time : slotTimes) {
+                SlotKey key = new SlotKey(date, time);
+                slots.add(SlotInventory.create(reference, date, time, bookings.get(key),
+                        isBlocked(exceptions, rules, date, time)));
+            }
+        }
+        // pooled 시퀀스 ID로 커밋 시 JDBC 배치 INSERT
+        slotInventoryRepository.saveAll(slots);
+        return slots.size();
+    }
+
+    // 시간 예외가 있으면 예외 상태, 없으면 휴진 규칙 상태로 차단 여부 판정
+    private static boolean isBlocked(Map<SlotKey, Boolean> exceptions, AvailabilityRuleSet rules, LocalDate date,
+                                     LocalTime time) {
+        Boolean exception = exceptions.get(new SlotKey(date, time));
+        return exception != null ? exception : rules.isClosed(date, time);
+    }
+
+    // 재고 생성 기간의 마지막 날짜 (오늘 포함 설정 일수)
+    private LocalDate horizonEndDate(LocalDate startDate) {
+        return startDate.plusDays(Math.max(1, appointmentProperties.getSlotInventoryDaysAhead()) - 1L);
+    }
+
+    private record SlotKey(LocalDate date, LocalTime time) {
+    }
+}
@@ -2,21 +2,28 @@ package org.carefreepass.com.carefreepassserver.domain.appointment.service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.cache.DayOccupancy;
+import org.carefreepass.com.carefreepassserver.domain.appointment.cache.SlotOccupancyIndex;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.DailyAvailabilityResponse;
 import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.TimeSlotResponse;
-import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
 import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
 import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
-import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.AvailabilityRuleSet;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentResourceSet;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.TimeSlotExceptionRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.AvailabilityRuleService;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentResourceService;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
 import org.springframework.stereotype.Service;
@@ -29,48 +36,32 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TimeSlotService {
 
+    // 시간대를 점유하는 활성 상태 (CANCELLED와 COMPLETED 제외)
+    private static final List<AppointmentStatus> ACTIVE_STATUSES = List.of(
+            AppointmentStatus.WAITING,
+            AppointmentStatus.SCHEDULED,
+            AppointmentStatus.ARRIVED,
+            AppointmentStatus.CALLED
+    );
+
+    // 기간 조회 최대 일수
+    private static final int MAX_RANGE_DAYS = 31;
+
     private final HospitalRepository hospitalRepository;
     private final HospitalDepartmentRepository hospitalDepartmentRepository;
     private final TimeSlotExceptionRepository timeSlotExceptionRepository;
     private final AppointmentRepository appointmentRepository;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final SlotInventoryService slotInventoryService;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final DepartmentResourceService departmentResourceService;
 
     // 특정 날짜와 진료과의 예약 가능한 시간 조회
     public List<TimeSlotResponse> getAvailableTimeSlots(Long hospitalId, String departmentName, LocalDate date) {
-        // 병원 조회
-        Hospital hospital = hospitalRepository.findById(hospitalId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
-        
-        // 진료과 조회
-        HospitalDepartment department = hospitalDepartmentRepository.findByHospitalAndNameAndActiveTrue(hospital, departmentName)
-                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
-
-        // 1. 기본 시간대 생성 (10:00~16:30, 30분 간격)
-        List<LocalTime> baseTimeSlots = generateBaseTimeSlots(
-                department.getDefaultStartTime(), 
-                department.getDefaultEndTime(), 
-                department.getSlotDurationMinutes());
-
-        // 2. 이미 예약된 시간 조회
-        Map<LocalTime, String> bookedTimes = getBookedTimes(department, date);
-
-        // 3. 병원에서 차단한 시간 조회
-        List<LocalTime> blockedTimes = timeSlotExceptionRepository
-                .findBlockedTimesByDepartmentAndDate(department, date);
-
-        // 4. 각 시간대별 가용성 계산
-        List<TimeSlotResponse> timeSlots = new ArrayList<>();
-        for (LocalTime time : baseTimeSlots) {
-            if (bookedTimes.containsKey(time)) {
-                // 이미 예약된 시간
-                timeSlots.add(TimeSlotResponse.alreadyBooked(time, bookedTimes.get(time)));
-            } else if (blockedTimes.contains(time)) {
-                // 병원에서 차단한 시간 (사용자에게는 "이미 예약됨"으로 표시)
-                timeSlots.add(TimeSlotResponse.hospitalBlocked(time));
-            } else {
-                // 예약 가능한 시간
-                timeSlots.add(TimeSlotResponse.available(time));
-            }
-        }
+        HospitalDepartment department = findActiveDepartment(hospitalId, departmentName);
+
+        // 점유 현황에서 시간대별 가용성 계산 (예약 > 차단 > 가능 순)
+        List<TimeSlotResponse> timeSlots = getOccupancy(department, date).toTimeSlots();
 
         log.info("시간대 조회 완료: {} {} (가능: {}/{})", 
                 date, departmentName, 
@@ -80,53 +71,143 @@ public class TimeSlotService {
         return timeSlots;
     }
 
-    // 기본 시간대 생성
-    private List<LocalTime> generateBaseTimeSlots(LocalTime startTime, LocalTime endTime, int intervalMinutes) {
-        List<LocalTime> timeSlots = new ArrayList<>();
-        LocalTime current = startTime;
-        
-        while (!current.isAfter(endTime)) {
-            timeSlots.add(current);
-            current = current.plusMinutes(intervalMinutes);
-            
-            // 종료 시간을 초과하면 중단
-            if (current.isAfter(endTime)) {
-                break;
+    // 특정 시간이 예약 가능한지 확인 (메모리에 없는 날짜는 시간대 재고가 있으면 해당 행만 조회)
+    public boolean isTimeSlotAvailable(Long hospitalId, String departmentName, LocalDate date, LocalTime time) {
+        HospitalDepartment department = findActiveDepartment(hospitalId, departmentName);
+        if (usesSlotInventory(department) && slotOccupancyIndex.find(department.getId(), date) == null) {
+            Optional<Boolean> available = slotInventoryService.findAvailability(department.getId(), date, time);
+            if (available.isPresent()) {
+                return available.get();
             }
         }
-        
-        return timeSlots;
+        return getOccupancy(department, date).isAvailable(time);
     }
 
-    // 이미 예약된 시간 조회
-    private Map<LocalTime, String> getBookedTimes(HospitalDepartment department, LocalDate date) {
-        // 모든 활성 상태의 예약 조회 (CANCELLED와 COMPLETED 제외)
-        List<AppointmentStatus> activeStatuses = List.of(
-            AppointmentStatus.WAITING,
-            AppointmentStatus.SCHEDULED,
-            AppointmentStatus.ARRIVED,
-            AppointmentStatus.CALLED
-        );
+    // 기간 내 날짜별 예약 가능 현황 조회 (메모리에 없는 날짜는 예약/차단 각각 한 번의 기간 쿼리로 적재)
+    public List<DailyAvailabilityResponse> getAvailabilityCalendar(Long hospitalId, String departmentName,
+                                                                   LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+        HospitalDepartment department = findActiveDepartment(hospitalId, departmentName);
+
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>();
+        List<LocalDate> missingDates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DayOccupancy cached = slotOccupancyIndex.find(department.getId(), date);
+            if (cached != null) {
+                occupancies.put(date, cached);
+            } else {
+                missingDates.add(date);
+            }
+        }
+
+        if (!missingDates.isEmpty()) {
+            long loadGeneration = slotOccupancyIndex.currentGeneration();
+            loadOccupancies(department, missingDates).forEach((date, occupancy) -> occupancies.put(date,
+                    slotOccupancyIndex.putIfAbsent(department.getId(), date, occupancy, loadGeneration)));
+        }
 
-        List<Appointment> appointments = appointmentRepository
-                .findByHospitalDepartmentAndAppointmentDateAndStatusIn(department, date, activeStatuses);
+        List<DailyAvailabilityResponse> days = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            days.add(DailyAvailabilityResponse.of(date, occupancies.get(date)));
+        }
+
+        log.info("기간 시간대 조회 완료: {} ~ {} {} (적재: {}/{}일)",
+                startDate, endDate, departmentName, missingDates.size(), days.size());
 
-        return appointments.stream()
-                .collect(Collectors.toMap(
-                    Appointment::getAppointmentTime,
-                    appointment -> appointment.getMember().getName(),
-                    (existing, replacement) -> existing // 중복 시 기존 값 사용
-                ));
+        return days;
     }
 
-    // 특정 시간이 예약 가능한지 확인
-    public boolean isTimeSlotAvailable(Long hospitalId, String departmentName, LocalDate date, LocalTime time) {
-        List<TimeSlotResponse> timeSlots = getAvailableTimeSlots(hospitalId, departmentName, date);
-        
-        return timeSlots.stream()
-                .filter(slot -> slot.getTime().equals(time))
-                .findFirst()
-                .map(TimeSlotResponse::getAvailable)
-                .orElse(false);
+    // 진료과/날짜별 시간대 점유 현황 조회 (메모리에 없으면 DB에서 적재)
+    private DayOccupancy getOccupancy(HospitalDepartment department, LocalDate date) {
+        return slotOccupancyIndex.getOrLoad(department.getId(), date,
+                () -> loadOccupancies(department, List.of(date)).get(date));
+    }
+
+    // 날짜별 점유 현황 적재 - 시간대 재고가 있는 날짜는 재고 행에서, 나머지는 예약/차단 테이블에서 생성 (날짜 목록은 오름차순)
+    private Map<LocalDate, DayOccupancy> loadOccupancies(HospitalDepartment department, List<LocalDate> dates) {
+        if (!usesSlotInventory(department)) {
+            return computeOccupancies(department, dates);
+        }
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>(slotInventoryService.loadOccupancies(department, dates));
+        List<LocalDate> remainingDates = dates.stream()
+                .filter(date -> !occupancies.containsKey(date))
+                .toList();
+        if (!remainingDates.isEmpty()) {
+            occupancies.putAll(computeOccupancies(department, remainingDates));
+        }
+        return occupancies;
+    }
+
+    // 예약된 시간, 휴진 규칙, 병원에서 설정한 시간 예외로 날짜별 점유 현황 생성 (날짜 목록은 오름차순)
+    // 진료 자원이 있으면 자원 근무 일정으로 시간대별 수용 인원을 정하고, 휴진 규칙은 날짜별 차단 마스크로 먼저 반영한 뒤
+    // 같은 시간대의 시간 예외(차단/허용)가 규칙을 덮어씀
+    private Map<LocalDate, DayOccupancy> computeOccupancies(HospitalDepartment department, List<LocalDate> dates) {
+        AvailabilityRuleSet rules = availabilityRuleService.getRuleSet(department.getId());
+        DepartmentResourceSet resources = departmentResourceService.getResourceSet(department);
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>();
+        dates.forEach(date -> {
+            DayOccupancy occupancy = DayOccupancy.of(department, resources, date);
+            if (!rules.isEmpty()) {
+                occupancy.blockAll(rules.closedSlots(date));
+            }
+            occupancies.put(date, occupancy);
+        });
+
+        LocalDate startDate = dates.get(0);
+        LocalDate endDate = dates.get(dates.size() - 1);
+
+        appointmentRepository.findBookedSlots(department.getId(), startDate, endDate, ACTIVE_STATUSES)
+                .forEach(slot -> {
+                    DayOccupancy occupancy = occupancies.get(slot.appointmentDate());
+                    if (occupancy != null) {
+                        occupancy.occupy(slot.appointmentTime(), slot.resourceId(), slot.memberName());
+                    }
+                });
+
+        if (rules.isEmpty()) {
+            // 규칙이 없으면 허용 예외는 의미가 없으므로 차단 행만 조회
+            timeSlotExceptionRepository.findBlockedSlots(department.getId(), startDate, endDate)
+                    .forEach(slot -> {
+                        DayOccupancy occupancy = occupancies.get(slot.exceptionDate());
+                        if (occupancy != null) {
+                            occupancy.block(slot.exceptionTime());
+                        }
+                    });
+        } else {
+            timeSlotExceptionRepository.findExceptionSlots(department.getId(), startDate, endDate)
+                    .forEach(slot -> {
+                        DayOccupancy occupancy = occupancies.get(slot.exceptionDate());
+                        if (occupancy == null) {
+                            return;
+                        }
+                        if (Boolean.TRUE.equals(slot.blocked())) {
+                            occupancy.block(slot.exceptionTime());
+                        } else {
+                            occupancy.unblock(slot.exceptionTime());
+                        }
+                    });
+        }
+
+        return occupancies;
+    }
+
+    // 시간대 재고 사용 여부 (재고는 시간대당 한 명인 기본 진료과만 생성)
+    private boolean usesSlotInventory(HospitalDepartment department) {
+        return slotInventoryService.isEnabled() && !department.hasResources();
+    }
+
+    // 조회 기간 검증 (시작일 ≤ 종료일, 최대 31일)
+    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.TIME_SLOT_INVALID_DATE_RANGE);
+        }
+    }
+
+    // 병원 ID와 진료과명으로 활성 진료과 조회 (조회 실패 시에만 병원 존재 여부 확인)
+    private HospitalDepartment findActiveDepartment(Long hospitalId, String departmentName) {
+        return hospitalDepartmentRepository.findActiveByHospitalIdAndName(hospitalId, departmentName)
+                .orElseThrow(() -> hospitalRepository.existsById(hospitalId)
+                        ? new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND)
+                        : new BusinessException(ErrorCode.HOSPITAL_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.stream;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+
+// 회원 개인 큐(/user/queue/appointments)로 전송하는 예약 상태 알림
+public record AppointmentNotification(
+        Kind kind,
+        Long appointmentId,
+        AppointmentStatus previousStatus,
+        AppointmentStatus status,
+        LocalDate appointmentDate,
+        LocalTime appointmentTime,
+        String message,
+        LocalDateTime occurredAt
+) {
+    public enum Kind {
+        CALLED,
+        CHECKED_IN,
+        STATUS_CHANGED
+    }
+
+    public static AppointmentNotification of(AppointmentSnapshot before, AppointmentSnapshot after, LocalDateTime occurredAt) {
+        Kind kind = kindOf(after.status());
+        return new AppointmentNotification(
+                kind,
+                after.appointmentId(),
+                before.status(),
+                after.status(),
+                after.appointmentDate(),
+                after.appointmentTime(),
+                messageOf(kind, after.status()),
+                occurredAt
+        );
+    }
+
+    private static Kind kindOf(AppointmentStatus status) {
+        return switch (status) {
+            case CALLED -> Kind.CALLED;
+            case ARRIVED -> Kind.CHECKED_IN;
+            default -> Kind.STATUS_CHANGED;
+        };
+    }
+
+    private static String messageOf(Kind kind, AppointmentStatus status) {
+        return switch (kind) {
+            case CALLED -> "진료실에서 호출하였습니다. 진료실로 이동해 주세요.";
+            case CHECKED_IN -> "체크인이 완료되었습니다. 호출 시 알려드리겠습니다.";
+            case STATUS_CHANGED -> "예약 상태가 '" + status.getDescription() + "'(으)로 변경되었습니다.";
+        };
+    }
+}
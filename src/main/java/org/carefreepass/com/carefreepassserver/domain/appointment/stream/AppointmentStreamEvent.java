@@ -0,0 +1,12 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.stream;
+
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentEventType;
+
+// 대시보드 스트림 변경 이벤트 - appointment가 있으면 목록에 반영(추가/갱신), null이면 목록에서 제거
+public record AppointmentStreamEvent(
+        AppointmentEventType type,
+        Long appointmentId,
+        AppointmentResponse appointment
+) {
+}
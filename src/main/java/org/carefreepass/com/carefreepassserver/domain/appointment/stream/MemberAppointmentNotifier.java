@@ -0,0 +1,47 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentEventType;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 개인 큐 예약 알림
+ * 호출, 체크인 등 예약 상태 변경을 아웃박스 릴레이로 전달받아 해당 회원의 /user/queue/appointments 로 전송합니다.
+ * 전송에 실패하면 예외를 그대로 던져 릴레이가 같은 이벤트를 다시 발행하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAppointmentNotifier {
+
+    public static final String DESTINATION = "/queue/appointments";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 상태 변경 이벤트 발행 시 회원 개인 큐로 알림 전송
+    @EventListener
+    public void onAppointmentOutboxEvent(AppointmentOutboxEvent outboxEvent) {
+        AppointmentChangedEvent event = outboxEvent.event();
+        if (event.type() != AppointmentEventType.STATUS_CHANGED || !isNotifiable(event)) {
+            return;
+        }
+
+        AppointmentNotification notification =
+                AppointmentNotification.of(event.before(), event.after(), event.occurredAt());
+        messagingTemplate.convertAndSendToUser(event.memberId().toString(), DESTINATION, notification);
+        log.debug("예약 알림 전송: 회원 ID {}, 예약 ID {}, {}",
+                event.memberId(), event.appointmentId(), notification.kind());
+    }
+
+    // 상태가 바뀐 경우와 재호출(CALLED → CALLED)만 알림 대상
+    private static boolean isNotifiable(AppointmentChangedEvent event) {
+        return event.before().status() != event.after().status()
+                || event.after().status() == AppointmentStatus.CALLED;
+    }
+}
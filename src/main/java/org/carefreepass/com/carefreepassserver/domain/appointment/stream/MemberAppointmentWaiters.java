@@ -0,0 +1,55 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.stream;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원별 예약 변경 대기 요청 관리
+ * 예약 변경을 기다리는 롱폴링 요청을 회원별로 등록해 두고, 변경이 감지되면 깨웁니다.
+ * 이 노드에서 커밋한 변경은 커밋 직후에, 다른 노드에서 커밋한 변경은 노드 간 전달된 아웃박스 이벤트로 감지합니다.
+ * 깨운 요청은 DB에서 만든 ETag로 실제 변경 여부를 다시 확인하므로, 중복 알림은 다시 대기하는 것으로 끝납니다.
+ */
+@Component
+public class MemberAppointmentWaiters {
+
+    private final ConcurrentMap<Long, Set<Runnable>> waiters = new ConcurrentHashMap<>();
+
+    // 변경 시 실행할 콜백 등록 (한 번 실행되면 해제) - 반환값은 등록 해제 함수
+    public Runnable awaitChange(Long memberId, Runnable onChange) {
+        Set<Runnable> memberWaiters = waiters.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet());
+        memberWaiters.add(onChange);
+        return () -> memberWaiters.remove(onChange);
+    }
+
+    // 이 노드에서 커밋한 예약 변경 알림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        notifyWaiters(waiters.remove(event.memberId()));
+    }
+
+    // 릴레이된 예약 변경 알림 (다른 노드에서 커밋한 변경 포함)
+    @EventListener
+    public void onAppointmentOutboxEvent(AppointmentOutboxEvent outboxEvent) {
+        notifyWaiters(waiters.remove(outboxEvent.event().memberId()));
+    }
+
+    // 일괄 전환은 대상 회원을 알 수 없으므로 이 노드의 모든 대기 요청을 깨움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentBulkStatusChanged(AppointmentBulkStatusChangedEvent event) {
+        waiters.keySet().forEach(memberId -> notifyWaiters(waiters.remove(memberId)));
+    }
+
+    private void notifyWaiters(Set<Runnable> memberWaiters) {
+        if (memberWaiters != null) {
+            memberWaiters.forEach(Runnable::run);
+        }
+    }
+}
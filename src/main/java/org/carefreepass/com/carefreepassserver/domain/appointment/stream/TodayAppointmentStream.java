@@ -0,0 +1,127 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.stream;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.response.AppointmentResponse;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentQueryService;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.DataSourceRoutingContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 오늘 예약 대시보드 SSE 스트림
+ * 구독 시 오늘 예약 목록 스냅샷을 보내고, 이후 예약 변경이 커밋될 때마다 변경된 예약 한 건만 전송합니다.
+ * 변경 1건당 조회는 구독자 수와 관계없이 최대 1회이며, 전송은 단일 스레드에서 순서대로 처리합니다.
+ * 커밋 후 전송하는 변경분은 복제 지연과 관계없이 방금 커밋된 내용을 보내도록 주 DB에서 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodayAppointmentStream {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String APPOINTMENT_EVENT = "appointment";
+
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final AppointmentQueryService appointmentQueryService;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "appointment-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 스트림 구독 (연결 직후 오늘 예약 목록 스냅샷 전송)
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        dispatcher.execute(() -> send(emitter, SNAPSHOT_EVENT, appointmentQueryService.getAllTodayAppointments()));
+        log.debug("예약 스트림 구독 - 현재 구독자 {}명", emitters.size());
+        return emitter;
+    }
+
+    // 예약 변경 커밋 후 오늘 예약에 해당하면 변경분 전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (emitters.isEmpty() || !(isToday(event.before()) || isToday(event.after()))) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            // 오늘 예약이 아니게 된 경우(삭제, 다른 날짜로 변경)에는 제거 이벤트로 전송
+            AppointmentResponse appointment = isToday(event.after())
+                    ? DataSourceRoutingContext.callOnPrimary(
+                            () -> appointmentQueryService.findAppointment(event.appointmentId()).orElse(null))
+                    : null;
+            broadcast(APPOINTMENT_EVENT, new AppointmentStreamEvent(event.type(), event.appointmentId(), appointment));
+        });
+    }
+
+    // 오늘 예약 상태 일괄 전환 커밋 후 스냅샷 재전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentBulkStatusChanged(AppointmentBulkStatusChangedEvent event) {
+        if (emitters.isEmpty() || !event.date().equals(LocalDate.now())) {
+            return;
+        }
+        dispatcher.execute(() -> broadcast(SNAPSHOT_EVENT,
+                DataSourceRoutingContext.callOnPrimary(appointmentQueryService::getAllTodayAppointments)));
+    }
+
+    // 프록시/로드밸런서 유휴 연결 종료 방지 및 끊긴 연결 정리
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    private void broadcast(String eventName, Object data) {
+        emitters.forEach(emitter -> send(emitter, eventName, data));
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            log.debug("예약 스트림 전송 실패로 구독 해제: {}", e.getMessage());
+        }
+    }
+
+    private boolean isToday(AppointmentSnapshot snapshot) {
+        return snapshot != null && snapshot.appointmentDate().equals(LocalDate.now());
+    }
+}
@@ -1,5 +1,6 @@
 package org.carefreepass.com.carefreepassserver.domain.auth.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,14 +13,19 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.constant.CacheConstant;
 import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
 import org.carefreepass.com.carefreepassserver.golbal.domain.Status;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @EqualsAndHashCode(callSuper = false, of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @org.hibernate.annotations.DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstant.MEMBER_REGION)
 public class Member extends BaseTimeEntity {
 
     @Id
@@ -3,6 +3,8 @@ package org.carefreepass.com.carefreepassserver.domain.auth.repository;
 import java.util.Optional;
 import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 // 회원 리포지토리
@@ -12,9 +14,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 전화번호 중복 확인
     boolean existsByPhoneNumber(String phoneNumber);
     
-    // 전화번호로 회원 조회
+    // 전화번호로 회원 조회 (쿼리 캐시는 조회 결과 없음도 저장하므로 가입 직후 로그인이 실패할 수 있어 사용하지 않음)
     Optional<Member> findByPhoneNumber(String phoneNumber);
 
     // 이메일로 회원 조회
     Optional<Member> findByEmail(String email);
+
+    // 회원 이름만 조회 (존재 확인 겸용)
+    @Query("SELECT m.name FROM Member m WHERE m.id = :memberId")
+    Optional<String> findNameById(@Param("memberId") Long memberId);
 }
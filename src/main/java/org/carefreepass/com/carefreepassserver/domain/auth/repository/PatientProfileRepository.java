@@ -8,5 +8,7 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PatientProfileRepository extends JpaRepository<PatientProfile, Long> {
+
+    // 회원의 환자 프로필 조회 (쿼리 캐시는 조회 결과 없음도 저장하므로 사용하지 않음)
     Optional<PatientProfile> findByMember(Member member);
 }
@@ -11,12 +11,15 @@ import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_session_sequence", columnList = "session_id, sequence_number")
+})
 public class ChatMessage extends BaseTimeEntity {
 
-    // 메시지 고유 식별자
+    // 메시지 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_messages_seq_generator")
+    @SequenceGenerator(name = "chat_messages_seq_generator", sequenceName = "chat_messages_seq", allocationSize = 50)
     @Column(name = "message_id")
     private Long id;
 
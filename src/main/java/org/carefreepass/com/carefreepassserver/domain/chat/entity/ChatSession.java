@@ -14,12 +14,15 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "chat_sessions")
+@Table(name = "chat_sessions", indexes = {
+        @Index(name = "idx_chat_sessions_member_created", columnList = "member_id, created_at")
+})
 public class ChatSession extends BaseTimeEntity {
 
-    // 채팅 세션 고유 식별자
+    // 채팅 세션 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_sessions_seq_generator")
+    @SequenceGenerator(name = "chat_sessions_seq_generator", sequenceName = "chat_sessions_seq", allocationSize = 50)
     @Column(name = "session_id")
     private Long id;
 
@@ -13,9 +13,10 @@ import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
 @Table(name = "symptom_analyses")
 public class SymptomAnalysis extends BaseTimeEntity {
 
-    // 증상 분석 결과 고유 식별자
+    // 증상 분석 결과 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "symptom_analyses_seq_generator")
+    @SequenceGenerator(name = "symptom_analyses_seq_generator", sequenceName = "symptom_analyses_seq", allocationSize = 50)
     @Column(name = "analysis_id")
     private Long id;
 
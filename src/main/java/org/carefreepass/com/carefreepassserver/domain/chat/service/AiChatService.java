@@ -9,6 +9,7 @@ import org.carefreepass.com.carefreepassserver.domain.chat.entity.*;
 import org.carefreepass.com.carefreepassserver.domain.chat.repository.*;
 import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
 import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentCatalogService;
 import org.carefreepass.com.carefreepassserver.golbal.config.ChatProperties;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
@@ -62,6 +63,7 @@ public class AiChatService {
     private final OpenAIService openAIService;
     private final AppointmentBookingService appointmentBookingService;
     private final SmartSymptomAnalyzer smartSymptomAnalyzer;
+    private final DepartmentCatalogService departmentCatalogService;
 
     /**
      * 새로운 채팅 세션을 시작하고 첫 번째 AI 응답을 생성
@@ -281,7 +283,7 @@ public class AiChatService {
         }
         
         // 3순위: 기존 GPT 응답 분석 (백업)
-        List<String> availableDepartments = chatProperties.getAvailableDepartments();
+        List<String> availableDepartments = availableDepartments();
         String gptLower = gptResponse.toLowerCase();
         
         for (String dept : availableDepartments) {
@@ -306,11 +308,17 @@ public class AiChatService {
             .build();
     }
     
+    // 상담 병원의 활성 진료과명 목록 (카탈로그가 비어 있으면 설정값 사용)
+    private List<String> availableDepartments() {
+        List<String> departments = departmentCatalogService.getDepartmentNames(chatProperties.getDefaultHospitalId());
+        return departments.isEmpty() ? chatProperties.getAvailableDepartments() : departments;
+    }
+
     // 사용자 메시지에서 직접적인 진료과 언급 찾기
     private String findExplicitDepartment(String message) {
         String lowerMessage = message.toLowerCase().replaceAll("\\s+", "");
         
-        List<String> departments = chatProperties.getAvailableDepartments();
+        List<String> departments = availableDepartments();
         
         for (String department : departments) {
             String lowerDept = department.toLowerCase();
@@ -0,0 +1,157 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRule;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRuleType;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+
+/**
+ * 진료과 휴진 규칙 평가기
+ * 규칙을 진료과 시간대 인덱스(기본 진료 시간의 슬롯 순서) 기준 비트마스크로 미리 컴파일해 둡니다.
+ * 기간 제한이 없는 요일 반복 규칙은 요일별 마스크 하나로 합쳐지고, 공휴일 규칙은 공휴일 마스크로 합쳐지므로
+ * 날짜별 차단 마스크는 마스크 몇 개의 OR로, 시간대별 판정은 비트 조회 한 번으로 끝납니다.
+ */
+public final class AvailabilityRuleSet {
+
+    private static final AvailabilityRuleSet EMPTY = new AvailabilityRuleSet(
+            Map.of(), 0, new BitSet[DayOfWeek.values().length], new BitSet(), List.of(), Set.of(), 0);
+
+    private final Map<LocalTime, Integer> slotIndexes;
+    private final int slotCount;
+    private final BitSet[] weeklyMasks;
+    private final BitSet holidayMask;
+    private final List<BoundedMask> boundedMasks;
+    private final Set<LocalDate> holidays;
+    private final int ruleCount;
+
+    private AvailabilityRuleSet(Map<LocalTime, Integer> slotIndexes, int slotCount, BitSet[] weeklyMasks,
+                                BitSet holidayMask, List<BoundedMask> boundedMasks, Set<LocalDate> holidays,
+                                int ruleCount) {
+        this.slotIndexes = slotIndexes;
+        this.slotCount = slotCount;
+        this.weeklyMasks = weeklyMasks;
+        this.holidayMask = holidayMask;
+        this.boundedMasks = boundedMasks;
+        this.holidays = holidays;
+        this.ruleCount = ruleCount;
+    }
+
+    // 규칙이 없는 평가기 (모든 시간대 허용)
+    public static AvailabilityRuleSet empty() {
+        return EMPTY;
+    }
+
+    // 진료과 규칙을 시간대 비트마스크로 컴파일 (holidays는 공휴일 규칙이 있을 때만 사용)
+    public static AvailabilityRuleSet compile(HospitalDepartment department, Collection<AvailabilityRule> rules,
+                                              Set<LocalDate> holidays) {
+        List<LocalTime> slotTimes = department.slotTimes();
+        Map<LocalTime, Integer> slotIndexes = new HashMap<>();
+        for (int index = 0; index < slotTimes.size(); index++) {
+            slotIndexes.put(slotTimes.get(index), index);
+        }
+
+        BitSet[] weeklyMasks = new BitSet[DayOfWeek.values().length];
+        for (int day = 0; day < weeklyMasks.length; day++) {
+            weeklyMasks[day] = new BitSet(slotTimes.size());
+        }
+        BitSet holidayMask = new BitSet(slotTimes.size());
+        List<BoundedMask> boundedMasks = new ArrayList<>();
+
+        for (AvailabilityRule rule : rules) {
+            BitSet mask = windowMask(rule, slotTimes);
+            boolean unbounded = rule.getStartDate() == null && rule.getEndDate() == null;
+            AvailabilityRuleType type = rule.getRuleType();
+            if (type == AvailabilityRuleType.WEEKLY && unbounded) {
+                weeklyMasks[rule.getDayOfWeek().ordinal()].or(mask);
+            } else if (type == AvailabilityRuleType.HOLIDAY && unbounded) {
+                holidayMask.or(mask);
+            } else {
+                boundedMasks.add(new BoundedMask(rule.getStartDate(), rule.getEndDate(),
+                        type == AvailabilityRuleType.WEEKLY ? rule.getDayOfWeek() : null,
+                        type == AvailabilityRuleType.HOLIDAY, mask));
+            }
+        }
+        return new AvailabilityRuleSet(slotIndexes, slotTimes.size(), weeklyMasks, holidayMask,
+                List.copyOf(boundedMasks), Set.copyOf(holidays), rules.size());
+    }
+
+    public boolean isEmpty() {
+        return ruleCount == 0;
+    }
+
+    // 날짜의 차단 시간대 마스크 (진료과 시간대 인덱스 기준, 반환값은 호출자가 수정해도 됨)
+    public BitSet closedSlots(LocalDate date) {
+        if (isEmpty()) {
+            return new BitSet(slotCount);
+        }
+        BitSet closed = (BitSet) weeklyMasks[date.getDayOfWeek().ordinal()].clone();
+        boolean holiday = holidays.contains(date);
+        if (holiday) {
+            closed.or(holidayMask);
+        }
+        for (BoundedMask bounded : boundedMasks) {
+            if (bounded.appliesOn(date, holiday)) {
+                closed.or(bounded.mask());
+            }
+        }
+        return closed;
+    }
+
+    // 특정 시간대가 규칙으로 차단되는지 확인 (기본 시간대에 없는 시간은 규칙 대상 아님)
+    public boolean isClosed(LocalDate date, LocalTime time) {
+        Integer index = slotIndexes.get(time);
+        if (index == null || isEmpty()) {
+            return false;
+        }
+        if (weeklyMasks[date.getDayOfWeek().ordinal()].get(index)) {
+            return true;
+        }
+        boolean holiday = holidays.contains(date);
+        if (holiday && holidayMask.get(index)) {
+            return true;
+        }
+        for (BoundedMask bounded : boundedMasks) {
+            if (bounded.mask().get(index) && bounded.appliesOn(date, holiday)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 규칙 시간 범위에 포함되는 시간대 마스크 (시작 시간 포함, 종료 시간 미포함)
+    private static BitSet windowMask(AvailabilityRule rule, List<LocalTime> slotTimes) {
+        BitSet mask = new BitSet(slotTimes.size());
+        if (rule.isWholeDay()) {
+            mask.set(0, slotTimes.size());
+            return mask;
+        }
+        for (int index = 0; index < slotTimes.size(); index++) {
+            LocalTime time = slotTimes.get(index);
+            if (!time.isBefore(rule.getStartTime()) && time.isBefore(rule.getEndTime())) {
+                mask.set(index);
+            }
+        }
+        return mask;
+    }
+
+    // 적용 기간이 있는 규칙 (요일/공휴일 조건은 선택)
+    private record BoundedMask(LocalDate startDate, LocalDate endDate, DayOfWeek dayOfWeek, boolean holidayOnly,
+                               BitSet mask) {
+
+        private boolean appliesOn(LocalDate date, boolean holiday) {
+            return (startDate == null || !date.isBefore(startDate))
+                    && (endDate == null || !date.isAfter(endDate))
+                    && (dayOfWeek == null || date.getDayOfWeek() == dayOfWeek)
+                    && (!holidayOnly || holiday);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.DepartmentCatalogEntry;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.DepartmentListResponse;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 활성 진료과 카탈로그 스냅샷 (불변)
+ * ETag는 내용으로 계산하므로 같은 데이터를 적재한 노드끼리는 같은 값을 돌려줍니다.
+ */
+public record DepartmentCatalog(
+        List<DepartmentListResponse> departments,
+        Map<Long, List<String>> departmentNamesByHospital,
+        String eTag,
+        long loadedAtMillis
+) {
+
+    public static DepartmentCatalog of(List<DepartmentCatalogEntry> entries) {
+        List<DepartmentListResponse> departments = entries.stream()
+                .map(DepartmentListResponse::from)
+                .toList();
+        Map<Long, List<String>> namesByHospital = entries.stream()
+                .collect(Collectors.groupingBy(DepartmentCatalogEntry::hospitalId, LinkedHashMap::new,
+                        Collectors.mapping(DepartmentCatalogEntry::name, Collectors.toUnmodifiableList())));
+        return new DepartmentCatalog(departments, Map.copyOf(namesByHospital), computeETag(entries),
+                System.currentTimeMillis());
+    }
+
+    // 병원의 활성 진료과명 목록 (없으면 빈 목록)
+    public List<String> departmentNames(Long hospitalId) {
+        return departmentNamesByHospital.getOrDefault(hospitalId, List.of());
+    }
+
+    public boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - loadedAtMillis > ttlMillis;
+    }
+
+    // If-None-Match 헤더 일치 여부 (약한 ETag 표기와 쉼표 구분 목록 허용)
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
+    private static String computeETag(List<DepartmentCatalogEntry> entries) {
+        String content = entries.stream()
+                .map(entry -> entry.hospitalId() + "|" + entry.hospitalName() + "|" + entry.departmentId()
+                        + "|" + entry.name() + "|" + Objects.toString(entry.description(), ""))
+                .collect(Collectors.joining("\n"));
+        return "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
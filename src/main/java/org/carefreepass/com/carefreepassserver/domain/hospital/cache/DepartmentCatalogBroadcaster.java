@@ -0,0 +1,68 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentCatalogService;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReadYourWritesTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 진료과 카탈로그/2차 캐시 무효화 전파
+ * 변경이 커밋된 노드가 Redis 채널로 자신의 노드 ID와 변경된 진료과 ID를 발행하고,
+ * 다른 노드는 메시지를 받으면 카탈로그 스냅샷과 진료과 2차 캐시(엔티티, 조회 쿼리)를 비웁니다.
+ * 발행에 실패해도 요청은 실패시키지 않으며, 다른 노드는 스냅샷/캐시 만료 시간 안에 변경을 반영합니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class DepartmentCatalogBroadcaster implements MessageListener {
+
+    private static final String SEPARATOR = ":";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final DepartmentCatalogService departmentCatalogService;
+    private final ReferenceCacheInvalidator referenceCacheInvalidator;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    private final String channel;
+
+    // 다른 노드에 진료과 무효화 알림 발행 (노드 ID:진료과 ID)
+    public void broadcastInvalidation(Long departmentId) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + departmentId);
+        } catch (RuntimeException e) {
+            log.warn("진료과 무효화 발행 실패 (다른 노드는 스냅샷/캐시 만료 후 반영): {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드의 무효화 알림 수신 (자신이 발행한 메시지는 이미 반영되어 무시, 진료과 ID가 없으면 진료과 캐시 전체 제거)
+    // 비운 캐시가 복제본의 이전 데이터로 다시 채워지지 않도록 캐시를 비우기 전에 이 노드의 읽기를 주 DB로 전환
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+        String originNodeId = separatorIndex < 0 ? body : body.substring(0, separatorIndex);
+        if (nodeId.equals(originNodeId)) {
+            return;
+        }
+        Long departmentId = separatorIndex < 0 ? null : parseDepartmentId(body.substring(separatorIndex + 1));
+
+        readYourWritesTracker.ifAvailable(ReadYourWritesTracker::recordReferenceWrite);
+        departmentCatalogService.invalidate();
+        referenceCacheInvalidator.evictDepartment(departmentId);
+        log.debug("진료과 무효화 수신: 발행 노드 {}, 진료과 ID {}", originNodeId, departmentId);
+    }
+
+    private Long parseDepartmentId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResource;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+
+/**
+ * 진료과 진료 자원 배정기
+ * 활성 자원에 ID 순으로 비트 번호를 매기고, 요일별로 시간대(기본 진료 시간의 슬롯 순서)마다 근무 중인 자원 비트마스크를 미리 컴파일해 둡니다.
+ * 시간대 수용 인원은 근무 마스크의 비트 수, 남은 자원은 근무 마스크에서 점유 마스크를 뺀 값이므로
+ * 수용 인원 조회와 자원 선택은 모두 자원 수와 무관하게 상수 시간에 끝납니다. (진료과당 최대 64개 자원)
+ */
+public final class DepartmentResourceSet {
+
+    // 진료과당 최대 활성 자원 수 (시간대별 자원 마스크가 long 하나)
+    public static final int MAX_RESOURCES = Long.SIZE;
+
+    private static final DepartmentResourceSet EMPTY = new DepartmentResourceSet(
+            Map.of(), new long[0], Map.of(), new long[DayOfWeek.values().length][0]);
+
+    private final Map<LocalTime, Integer> slotIndexes;
+    private final long[] resourceIds;
+    private final Map<Long, Integer> resourceIndexes;
+    private final long[][] weeklyMasks;
+
+    private DepartmentResourceSet(Map<LocalTime, Integer> slotIndexes, long[] resourceIds,
+                                  Map<Long, Integer> resourceIndexes, long[][] weeklyMasks) {
+        this.slotIndexes = slotIndexes;
+        this.resourceIds = resourceIds;
+        this.resourceIndexes = resourceIndexes;
+        this.weeklyMasks = weeklyMasks;
+    }
+
+    // 자원이 없는 배정기 (진료과 전체가 하나의 진료 자원)
+    public static DepartmentResourceSet empty() {
+        return EMPTY;
+    }
+
+    // 진료과 활성 자원을 요일별 시간대 자원 마스크로 컴파일 (resources는 ID 오름차순, 최대 64개까지만 사용)
+    public static DepartmentResourceSet compile(HospitalDepartment department, List<DepartmentResource> resources) {
+        List<LocalTime> slotTimes = department.slotTimes();
+        Map<LocalTime, Integer> slotIndexes = new HashMap<>();
+        for (int index = 0; index < slotTimes.size(); index++) {
+            slotIndexes.put(slotTimes.get(index), index);
+        }
+
+        int resourceCount = Math.min(resources.size(), MAX_RESOURCES);
+        long[] resourceIds = new long[resourceCount];
+        Map<Long, Integer> resourceIndexes = new HashMap<>();
+        long[][] weeklyMasks = new long[DayOfWeek.values().length][slotTimes.size()];
+        for (int bit = 0; bit < resourceCount; bit++) {
+            DepartmentResource resource = resources.get(bit);
+            resourceIds[bit] = resource.getId();
+            resourceIndexes.put(resource.getId(), bit);
+            for (DayOfWeek day : resource.getWorkingDayList()) {
+                for (int index = 0; index < slotTimes.size(); index++) {
+                    if (resource.worksAt(slotTimes.get(index))) {
+                        weeklyMasks[day.ordinal()][index] |= 1L << bit;
+                    }
+                }
+            }
+        }
+        return new DepartmentResourceSet(slotIndexes, resourceIds, Map.copyOf(resourceIndexes), weeklyMasks);
+    }
+
+    public boolean isEmpty() {
+        return resourceIds.length == 0;
+    }
+
+    // 날짜의 시간대별 근무 자원 마스크 (진료과 시간대 인덱스 기준, 반환값은 호출자가 수정해도 됨)
+    public long[] workingMasks(LocalDate date) {
+        return weeklyMasks[date.getDayOfWeek().ordinal()].clone();
+    }
+
+    // 특정 시간대 근무 자원 마스크 (기본 시간대에 없는 시간은 0)
+    public long workingMask(LocalDate date, LocalTime time) {
+        Integer index = slotIndexes.get(time);
+        return index == null ? 0L : weeklyMasks[date.getDayOfWeek().ordinal()][index];
+    }
+
+    // 자원 ID → 비트 번호 (비활성/다른 진료과 자원이면 -1)
+    public int indexOf(Long resourceId) {
+        Integer index = resourceIndexes.get(resourceId);
+        return index == null ? -1 : index;
+    }
+
+    // 시간대의 빈 자원 하나 선택 (빈 자원이 없으면 null)
+    // 동시 요청이 같은 자원을 고르지 않도록 seed(회원 ID 등) 위치부터 순환하며 첫 빈 자원을 고르고, 최종 점유는 DB 유니크 제약이 판정
+    public Long allocate(LocalDate date, LocalTime time, Collection<Long> claimedResourceIds, long seed) {
+        long free = workingMask(date, time) & ~maskOf(claimedResourceIds);
+        if (free == 0L) {
+            return null;
+        }
+        int start = Math.floorMod(seed, resourceIds.length);
+        int offset = Long.numberOfTrailingZeros(Long.rotateRight(free, start));
+        return resourceIds[(start + offset) % Long.SIZE];
+    }
+
+    // 자원 ID 목록 → 자원 마스크 (이 배정기에 없는 자원은 제외)
+    private long maskOf(Collection<Long> resourceIdList) {
+        long mask = 0L;
+        for (Long resourceId : resourceIdList) {
+            int index = indexOf(resourceId);
+            if (index >= 0) {
+                mask |= 1L << index;
+            }
+        }
+        return mask;
+    }
+}
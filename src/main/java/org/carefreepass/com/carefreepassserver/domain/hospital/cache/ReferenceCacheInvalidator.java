@@ -0,0 +1,45 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.golbal.constant.CacheConstant;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기준 정보 2차 캐시 무효화
+ * 진료과 엔티티 캐시는 커밋 시 Hibernate가 갱신하지만, 진료과명/활성 여부로 찾는 조회 쿼리 캐시는
+ * 변경 직후 이전 결과를 돌려주지 않도록 커밋 후 영역 전체를 비웁니다.
+ * 2차 캐시는 노드 메모리에 있으므로 다른 노드는 DepartmentCatalogBroadcaster 메시지를 받아 같은 영역을 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 진료과 변경 커밋 후 해당 진료과 엔티티와 진료과 조회 쿼리 캐시 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentChanged(HospitalDepartmentChangedEvent event) {
+        evictDepartment(event.departmentId());
+        log.debug("진료과 캐시 무효화: hospitalId={}, departmentId={}", event.hospitalId(), event.departmentId());
+    }
+
+    // 진료과 엔티티(ID가 없으면 전체)와 진료과 조회 쿼리 캐시 제거
+    public void evictDepartment(Long departmentId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (departmentId != null) {
+            cache.evictEntityData(HospitalDepartment.class, departmentId);
+        } else {
+            cache.evictEntityData(HospitalDepartment.class);
+        }
+        cache.evictQueryRegion(CacheConstant.HOSPITAL_DEPARTMENT_QUERY_REGION);
+    }
+}
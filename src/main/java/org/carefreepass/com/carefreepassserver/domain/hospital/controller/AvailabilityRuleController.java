@@ -0,0 +1,96 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.AvailabilityRuleDocs;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.AvailabilityRuleCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HolidayCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.AvailabilityRuleResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.HolidayResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.AvailabilityRuleService;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 휴진 규칙 관리 컨트롤러
+ * 병원 관리자가 진료과별 반복 휴진 규칙과 공휴일 달력을 관리하는 API를 제공합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/availability-rules")
+public class AvailabilityRuleController implements AvailabilityRuleDocs {
+
+    private final AvailabilityRuleService availabilityRuleService;
+
+    @Override
+    @PostMapping
+    public ApiResponseTemplate<Long> createRule(@Valid @RequestBody AvailabilityRuleCreateRequest request) {
+        Long ruleId = availabilityRuleService.createRule(request);
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2001")
+                .message("휴진 규칙이 성공적으로 등록되었습니다.")
+                .body(ruleId);
+    }
+
+    @Override
+    @GetMapping
+    public ApiResponseTemplate<List<AvailabilityRuleResponse>> getRules(@RequestParam Long departmentId) {
+        List<AvailabilityRuleResponse> responses = availabilityRuleService.getRules(departmentId).stream()
+                .map(AvailabilityRuleResponse::from)
+                .toList();
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2002")
+                .message("휴진 규칙 목록 조회가 완료되었습니다.")
+                .body(responses);
+    }
+
+    @Override
+    @DeleteMapping("/{ruleId}")
+    public ApiResponseTemplate<Void> deleteRule(@PathVariable Long ruleId) {
+        availabilityRuleService.deleteRule(ruleId);
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2003")
+                .message("휴진 규칙이 성공적으로 삭제되었습니다.")
+                .build();
+    }
+
+    @Override
+    @PostMapping("/holidays")
+    public ApiResponseTemplate<Long> createHoliday(@Valid @RequestBody HolidayCreateRequest request) {
+        Long holidayId = availabilityRuleService.createHoliday(request);
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2004")
+                .message("공휴일이 성공적으로 등록되었습니다.")
+                .body(holidayId);
+    }
+
+    @Override
+    @GetMapping("/holidays")
+    public ApiResponseTemplate<List<HolidayResponse>> getHolidays(@RequestParam int year) {
+        List<HolidayResponse> responses = availabilityRuleService.getHolidays(year).stream()
+                .map(HolidayResponse::from)
+                .toList();
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2005")
+                .message("공휴일 목록 조회가 완료되었습니다.")
+                .body(responses);
+    }
+
+    @Override
+    @DeleteMapping("/holidays/{holidayId}")
+    public ApiResponseTemplate<Void> deleteHoliday(@PathVariable Long holidayId) {
+        availabilityRuleService.deleteHoliday(holidayId);
+        return ApiResponseTemplate.ok()
+                .code("AVAILABILITY_RULE_2006")
+                .message("공휴일이 성공적으로 삭제되었습니다.")
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.CacheStatisticsDocs;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.CacheStatisticsResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.CacheStatisticsService;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 2차 캐시 통계 조회 컨트롤러 (관리자용)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/cache")
+public class CacheStatisticsController implements CacheStatisticsDocs {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Override
+    @GetMapping("/statistics")
+    public ApiResponseTemplate<CacheStatisticsResponse> getCacheStatistics() {
+        CacheStatisticsResponse response = cacheStatisticsService.getStatistics();
+        return ApiResponseTemplate.ok()
+                .code("HOSPITAL_3006")
+                .message("캐시 통계 조회가 완료되었습니다.")
+                .body(response);
+    }
+}
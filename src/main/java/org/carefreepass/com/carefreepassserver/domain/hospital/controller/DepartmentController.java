@@ -3,12 +3,17 @@ package org.carefreepass.com.carefreepassserver.domain.hospital.controller;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentCatalog;
 import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.DepartmentDocs;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.DepartmentListResponse;
-import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
-import org.carefreepass.com.carefreepassserver.domain.hospital.service.HospitalDepartmentService;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentCatalogService;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,19 +24,28 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class DepartmentController implements DepartmentDocs {
 
-    private final HospitalDepartmentService hospitalDepartmentService;
+    private final DepartmentCatalogService departmentCatalogService;
 
     @Override
     @GetMapping
-    public ApiResponseTemplate<List<DepartmentListResponse>> getAllDepartments() {
-        List<HospitalDepartment> departments = hospitalDepartmentService.getAllActiveDepartments();
-        List<DepartmentListResponse> responses = departments.stream()
-                .map(DepartmentListResponse::from)
-                .toList();
-        
-        return ApiResponseTemplate.ok()
+    public ResponseEntity<ApiResponseTemplate<List<DepartmentListResponse>>> getAllDepartments(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        DepartmentCatalog catalog = departmentCatalogService.getCatalog();
+        // 클라이언트가 캐시해도 매번 ETag로 재검증하도록 no-cache 지정
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.eTag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ApiResponseTemplate<List<DepartmentListResponse>> response = ApiResponseTemplate.ok()
                 .code("DEPARTMENT_5001")
                 .message("진료과 목록 조회가 완료되었습니다.")
-                .body(responses);
+                .body(catalog.departments());
+        return ResponseEntity.ok()
+                .eTag(catalog.eTag())
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
-}
\ No newline at end of file
+}
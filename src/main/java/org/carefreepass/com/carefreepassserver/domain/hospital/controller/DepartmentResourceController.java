@@ -0,0 +1,75 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.DepartmentResourceDocs;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.DepartmentResourceResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentResourceService;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 진료 자원 관리 컨트롤러
+ * 병원 관리자가 진료과별 의사/진료실/장비와 근무 일정을 관리하는 API를 제공합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/department-resources")
+public class DepartmentResourceController implements DepartmentResourceDocs {
+
+    private final DepartmentResourceService departmentResourceService;
+
+    @Override
+    @PostMapping
+    public ApiResponseTemplate<Long> createResource(@Valid @RequestBody DepartmentResourceCreateRequest request) {
+        Long resourceId = departmentResourceService.createResource(request);
+        return ApiResponseTemplate.ok()
+                .code("DEPARTMENT_RESOURCE_2001")
+                .message("진료 자원이 성공적으로 등록되었습니다.")
+                .body(resourceId);
+    }
+
+    @Override
+    @GetMapping
+    public ApiResponseTemplate<List<DepartmentResourceResponse>> getResources(@RequestParam Long departmentId) {
+        List<DepartmentResourceResponse> responses = departmentResourceService.getResources(departmentId).stream()
+                .map(DepartmentResourceResponse::from)
+                .toList();
+        return ApiResponseTemplate.ok()
+                .code("DEPARTMENT_RESOURCE_2002")
+                .message("진료 자원 목록 조회가 완료되었습니다.")
+                .body(responses);
+    }
+
+    @Override
+    @PutMapping("/{resourceId}")
+    public ApiResponseTemplate<Void> updateResource(@PathVariable Long resourceId,
+                                                    @Valid @RequestBody DepartmentResourceUpdateRequest request) {
+        departmentResourceService.updateResource(resourceId, request);
+        return ApiResponseTemplate.ok()
+                .code("DEPARTMENT_RESOURCE_2003")
+                .message("진료 자원 근무 일정이 성공적으로 수정되었습니다.")
+                .build();
+    }
+
+    @Override
+    @DeleteMapping("/{resourceId}")
+    public ApiResponseTemplate<Void> deactivateResource(@PathVariable Long resourceId) {
+        departmentResourceService.deactivateResource(resourceId);
+        return ApiResponseTemplate.ok()
+                .code("DEPARTMENT_RESOURCE_2004")
+                .message("진료 자원이 성공적으로 비활성화되었습니다.")
+                .build();
+    }
+}
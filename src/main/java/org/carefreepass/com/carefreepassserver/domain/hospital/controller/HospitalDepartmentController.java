@@ -5,6 +5,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.HospitalDepartmentDocs;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.HospitalDepartmentResponse;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.hospital.service.HospitalDepartmentService;
@@ -70,12 +71,8 @@ public class HospitalDepartmentController implements HospitalDepartmentDocs {
     @PutMapping("/{departmentId}")
     public ApiResponseTemplate<Void> updateDepartment(@PathVariable Long hospitalId, 
                                                      @PathVariable Long departmentId, 
-                                                     @Valid @RequestBody HospitalDepartmentCreateRequest request) {
-        org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest updateRequest = 
-            new org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest(
-                request.getName(), request.getDescription()
-            );
-        hospitalDepartmentService.updateDepartment(departmentId, updateRequest);
+                                                     @Valid @RequestBody HospitalDepartmentUpdateRequest request) {
+        hospitalDepartmentService.updateDepartment(departmentId, request);
         return ApiResponseTemplate.ok()
                 .code("HOSPITAL_3004")
                 .message("진료과 수정이 완료되었습니다.")
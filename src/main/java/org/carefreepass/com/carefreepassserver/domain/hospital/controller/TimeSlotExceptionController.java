@@ -7,7 +7,9 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs.TimeSlotExceptionDocs;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotBlockRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotRangeBlockRequest;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.TimeSlotExceptionResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.TimeSlotRangeBlockResponse;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.TimeSlotException;
 import org.carefreepass.com.carefreepassserver.domain.hospital.service.TimeSlotExceptionService;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
@@ -43,6 +45,17 @@ public class TimeSlotExceptionController implements TimeSlotExceptionDocs {
                 .body(exceptionId);
     }
 
+    @Override
+    @PostMapping("/range")
+    public ApiResponseTemplate<TimeSlotRangeBlockResponse> changeTimeSlotRange(
+            @Valid @RequestBody TimeSlotRangeBlockRequest request) {
+        TimeSlotRangeBlockResponse response = timeSlotExceptionService.changeTimeSlotRange(request);
+        return ApiResponseTemplate.ok()
+                .code("TIME_SLOT_2006")
+                .message("시간대 범위 차단 설정이 성공적으로 완료되었습니다.")
+                .body(response);
+    }
+
     @Override
     @DeleteMapping("/{exceptionId}")
     public ApiResponseTemplate<Void> unblockTimeSlot(@PathVariable Long exceptionId) {
@@ -0,0 +1,122 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.AvailabilityRuleCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HolidayCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.AvailabilityRuleResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.HolidayResponse;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 휴진 규칙 관리 API 문서
+ * 병원 관리자가 점심시간, 요일별 휴진, 공휴일 같은 반복 휴진을 규칙으로 등록하는 기능을 제공합니다.
+ */
+@Tag(name = "휴진 규칙 관리 API", description = "병원 관리자용 반복 휴진 규칙/공휴일 관리 기능")
+public interface AvailabilityRuleDocs {
+
+    @Operation(
+            summary = "휴진 규칙 등록",
+            description = "진료과에 요일 반복(WEEKLY), 기간(DATE_RANGE), 공휴일(HOLIDAY) 휴진 규칙을 등록합니다. "
+                    + "시간을 생략하면 하루 전체에 적용되며, 같은 시간대의 시간 차단/허용 설정이 규칙보다 우선합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "휴진 규칙 등록 성공, 규칙 ID 반환"),
+                    @ApiResponse(responseCode = "400", description = "유형별 필수 값 누락 또는 잘못된 날짜/시간 범위"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 진료과"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Long> createRule(
+            @Parameter(description = "휴진 규칙 등록 요청 정보", required = true)
+            @Valid @RequestBody AvailabilityRuleCreateRequest request
+    );
+
+    @Operation(
+            summary = "휴진 규칙 목록 조회",
+            description = "진료과에 등록된 휴진 규칙 목록을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "휴진 규칙 목록 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 진료과"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<List<AvailabilityRuleResponse>> getRules(
+            @Parameter(description = "진료과 ID", required = true, example = "1")
+            @RequestParam Long departmentId
+    );
+
+    @Operation(
+            summary = "휴진 규칙 삭제",
+            description = "등록된 휴진 규칙을 삭제합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "휴진 규칙 삭제 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 규칙 ID"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Void> deleteRule(
+            @Parameter(description = "삭제할 규칙 ID", required = true, example = "1")
+            @PathVariable Long ruleId
+    );
+
+    @Operation(
+            summary = "공휴일 등록",
+            description = "공휴일 달력에 날짜를 등록합니다. 공휴일(HOLIDAY) 규칙이 있는 모든 진료과에 적용됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "공휴일 등록 성공, 공휴일 ID 반환"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "409", description = "이미 등록된 날짜"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Long> createHoliday(
+            @Parameter(description = "공휴일 등록 요청 정보", required = true)
+            @Valid @RequestBody HolidayCreateRequest request
+    );
+
+    @Operation(
+            summary = "공휴일 목록 조회",
+            description = "연도별 공휴일 목록을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "공휴일 목록 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<List<HolidayResponse>> getHolidays(
+            @Parameter(description = "조회할 연도", required = true, example = "2025")
+            @RequestParam int year
+    );
+
+    @Operation(
+            summary = "공휴일 삭제",
+            description = "공휴일 달력에서 날짜를 삭제합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "공휴일 삭제 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 공휴일 ID"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Void> deleteHoliday(
+            @Parameter(description = "삭제할 공휴일 ID", required = true, example = "1")
+            @PathVariable Long holidayId
+    );
+}
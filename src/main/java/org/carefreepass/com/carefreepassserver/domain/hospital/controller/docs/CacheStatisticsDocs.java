@@ -0,0 +1,23 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.CacheStatisticsResponse;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+
+@Tag(name = "캐시 통계 API", description = "관리자용 2차 캐시 적중/미스 통계 조회")
+public interface CacheStatisticsDocs {
+
+    @Operation(
+            summary = "2차 캐시 통계 조회",
+            description = "병원/진료과/회원/환자 프로필 엔티티 캐시와 조회 쿼리 캐시의 적중·미스·저장 수를 영역별로 조회합니다. " +
+                    "수치는 서버 기동 이후 누적값입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<CacheStatisticsResponse> getCacheStatistics();
+}
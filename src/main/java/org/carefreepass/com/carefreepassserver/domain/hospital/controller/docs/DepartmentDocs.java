@@ -1,6 +1,7 @@
 package org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -8,6 +9,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.DepartmentListResponse;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import java.util.List;
 
@@ -17,7 +21,8 @@ public interface DepartmentDocs {
     @Operation(
         summary = "전체 활성화된 진료과 목록 조회",
         description = "환자가 예약 시 선택할 수 있는 모든 활성화된 진료과 목록을 조회합니다. " +
-                     "비활성화된 진료과는 제외되며, 병원별로 구분되어 반환됩니다."
+                     "비활성화된 진료과는 제외되며, 병원별로 구분되어 반환됩니다. " +
+                     "응답의 ETag를 If-None-Match로 보내면 진료과 변경이 없을 때 본문 없이 304를 반환합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -25,11 +30,18 @@ public interface DepartmentDocs {
             description = "진료과 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = ApiResponseTemplate.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "마지막 조회 이후 진료과 변경 없음"
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "서버 내부 오류",
             content = @Content(schema = @Schema(implementation = ApiResponseTemplate.class))
         )
     })
-    ApiResponseTemplate<List<DepartmentListResponse>> getAllDepartments();
+    ResponseEntity<ApiResponseTemplate<List<DepartmentListResponse>>> getAllDepartments(
+        @Parameter(description = "이전 응답의 ETag", example = "\"9e107d9d372bb6826bd81d3542a419d6\"")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.DepartmentResourceResponse;
+import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 진료 자원 관리 API 문서
+ * 병원 관리자가 진료과에 여러 의사/진료실/장비를 등록해 같은 시간대에 여러 환자를 받도록 설정하는 기능을 제공합니다.
+ */
+@Tag(name = "진료 자원 관리 API", description = "병원 관리자용 진료과 의사/진료실/장비 및 근무 일정 관리 기능")
+public interface DepartmentResourceDocs {
+
+    @Operation(
+            summary = "진료 자원 등록",
+            description = "진료과에 의사(DOCTOR), 진료실(ROOM), 검사 장비(EQUIPMENT) 자원을 근무 요일/시간과 함께 등록합니다. "
+                    + "자원이 등록된 진료과는 시간대마다 근무 중인 자원 수만큼 예약을 받으며, 예약 시 빈 자원이 자동으로 배정됩니다. "
+                    + "첫 자원 등록 시 오늘 이후의 기존 예약은 해당 자원으로 배정됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진료 자원 등록 성공, 자원 ID 반환"),
+                    @ApiResponse(responseCode = "400", description = "필수 값 누락 또는 잘못된 근무 시간"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 진료과"),
+                    @ApiResponse(responseCode = "409", description = "진료과 활성 자원 수 초과 (최대 64개)"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Long> createResource(
+            @Parameter(description = "진료 자원 등록 요청 정보", required = true)
+            @Valid @RequestBody DepartmentResourceCreateRequest request
+    );
+
+    @Operation(
+            summary = "진료 자원 목록 조회",
+            description = "진료과에 등록된 진료 자원 목록을 비활성 자원을 포함해 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진료 자원 목록 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 진료과"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<List<DepartmentResourceResponse>> getResources(
+            @Parameter(description = "진료과 ID", required = true, example = "1")
+            @RequestParam Long departmentId
+    );
+
+    @Operation(
+            summary = "진료 자원 근무 일정 수정",
+            description = "진료 자원의 이름과 근무 요일/시간을 수정합니다. 이미 배정된 예약은 그대로 유지됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진료 자원 수정 성공"),
+                    @ApiResponse(responseCode = "400", description = "필수 값 누락 또는 잘못된 근무 시간"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 자원 ID"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Void> updateResource(
+            @Parameter(description = "수정할 자원 ID", required = true, example = "1")
+            @PathVariable Long resourceId,
+            @Parameter(description = "진료 자원 수정 요청 정보", required = true)
+            @Valid @RequestBody DepartmentResourceUpdateRequest request
+    );
+
+    @Operation(
+            summary = "진료 자원 비활성화",
+            description = "진료 자원을 비활성화합니다. 오늘 이후 예정된 예약이 남아 있으면 비활성화할 수 없으며, "
+                    + "마지막 자원을 비활성화하면 진료과는 시간대당 한 명만 예약받는 기본 방식으로 돌아갑니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진료 자원 비활성화 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 자원 ID"),
+                    @ApiResponse(responseCode = "409", description = "예정된 예약이 남아 있는 자원"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<Void> deactivateResource(
+            @Parameter(description = "비활성화할 자원 ID", required = true, example = "1")
+            @PathVariable Long resourceId
+    );
+}
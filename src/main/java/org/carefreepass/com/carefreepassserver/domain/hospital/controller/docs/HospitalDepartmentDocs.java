@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.HospitalDepartmentResponse;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -74,7 +75,7 @@ public interface HospitalDepartmentDocs {
 
     @Operation(
             summary = "진료과 정보 수정",
-            description = "기존 진료과의 정보를 수정합니다.",
+            description = "기존 진료과의 정보를 수정합니다. 진료 시간(시작/종료/슬롯 간격)을 함께 지정하면 예약 시간대 목록도 바뀝니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "진료과 수정 성공"),
                     @ApiResponse(responseCode = "400", description = "중복된 진료과명 또는 잘못된 요청 데이터"),
@@ -90,7 +91,7 @@ public interface HospitalDepartmentDocs {
             @Parameter(description = "진료과 ID", required = true, example = "1")
             @PathVariable Long departmentId,
             @Parameter(description = "진료과 수정 정보", required = true)
-            @Valid @RequestBody HospitalDepartmentCreateRequest request
+            @Valid @RequestBody HospitalDepartmentUpdateRequest request
     );
 
     @Operation(
@@ -9,7 +9,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotBlockRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotRangeBlockRequest;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.TimeSlotExceptionResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.TimeSlotRangeBlockResponse;
 import org.carefreepass.com.carefreepassserver.golbal.response.ApiResponseTemplate;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -38,6 +40,25 @@ public interface TimeSlotExceptionDocs {
             @Valid @RequestBody TimeSlotBlockRequest request
     );
 
+    @Operation(
+            summary = "시간대 범위 일괄 차단/해제",
+            description = "하나 이상의 진료과에 대해 날짜/시간 범위를 한 번에 차단하거나 해제합니다. "
+                    + "시작/종료 시간을 모두 생략하면 하루 전체에 적용되며, 전체 변경은 하나의 트랜잭션으로 처리됩니다. "
+                    + "해제 시 휴진 규칙으로 닫힌 시간대에는 규칙을 덮어쓰는 허용 설정이 생성됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "범위 차단/해제 성공, 생성/변경/삭제 건수 반환"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 날짜/시간 범위 (최대 31일)"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 진료과 포함"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            }
+    )
+    ApiResponseTemplate<TimeSlotRangeBlockResponse> changeTimeSlotRange(
+            @Parameter(description = "시간대 범위 차단/해제 요청 정보", required = true)
+            @Valid @RequestBody TimeSlotRangeBlockRequest request
+    );
+
     @Operation(
             summary = "시간대 차단 해제",
             description = "기존에 차단된 시간대를 다시 예약 가능하도록 해제합니다.",
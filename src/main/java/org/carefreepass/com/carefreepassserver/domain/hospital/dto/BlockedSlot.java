@@ -0,0 +1,11 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 차단된 시간대 조회용 프로젝션 (차단 날짜, 차단 시간)
+public record BlockedSlot(
+        LocalDate exceptionDate,
+        LocalTime exceptionTime
+) {
+}
@@ -0,0 +1,11 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto;
+
+// 진료과 카탈로그 조회용 프로젝션 (병원 ID/이름, 진료과 ID/이름/설명)
+public record DepartmentCatalogEntry(
+        Long hospitalId,
+        String hospitalName,
+        Long departmentId,
+        String name,
+        String description
+) {
+}
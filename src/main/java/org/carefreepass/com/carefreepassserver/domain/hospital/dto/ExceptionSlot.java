@@ -0,0 +1,12 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 시간 예외 상태 조회용 프로젝션 (예외 날짜, 예외 시간, 차단 여부 - false면 휴진 규칙을 덮어쓰는 허용 예외)
+public record ExceptionSlot(
+        LocalDate exceptionDate,
+        LocalTime exceptionTime,
+        Boolean blocked
+) {
+}
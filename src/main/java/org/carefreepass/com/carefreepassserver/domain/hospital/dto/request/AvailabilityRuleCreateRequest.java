@@ -0,0 +1,62 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRuleType;
+
+// 진료과 휴진 규칙 생성 요청 - 시작/종료 시간을 모두 생략하면 하루 전체에 적용
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AvailabilityRuleCreateRequest {
+
+    @Schema(description = "진료과 ID", example = "1")
+    @NotNull(message = "진료과 ID는 필수입니다.")
+    private Long departmentId;
+
+    @Schema(description = "규칙 유형 (WEEKLY: 요일 반복, DATE_RANGE: 기간, HOLIDAY: 공휴일)", example = "WEEKLY")
+    @NotNull(message = "규칙 유형은 필수입니다.")
+    private AvailabilityRuleType ruleType;
+
+    @Schema(description = "반복 요일 (WEEKLY 필수)", example = "WEDNESDAY")
+    private DayOfWeek dayOfWeek;
+
+    @Schema(description = "적용 시작 날짜 (DATE_RANGE 필수, 그 외 생략 시 제한 없음)", example = "2025-09-01")
+    private LocalDate startDate;
+
+    @Schema(description = "적용 종료 날짜 (포함, DATE_RANGE 필수, 그 외 생략 시 제한 없음)", example = "2025-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "차단 시작 시간 (포함, 생략 시 하루 전체)", example = "13:00")
+    private LocalTime startTime;
+
+    @Schema(description = "차단 종료 시간 (미포함, 생략 시 하루 전체)", example = "17:00")
+    private LocalTime endTime;
+
+    @Schema(description = "규칙 설명", example = "수요일 오후 휴진")
+    @Size(max = 100, message = "규칙 설명은 100자 이하로 입력해주세요.")
+    private String description;
+
+    // 유형별 필수 값과 날짜/시간 범위가 올바른지 확인
+    public boolean isValid() {
+        if (ruleType == AvailabilityRuleType.WEEKLY && dayOfWeek == null) {
+            return false;
+        }
+        if (ruleType == AvailabilityRuleType.DATE_RANGE && (startDate == null || endDate == null)) {
+            return false;
+        }
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            return false;
+        }
+        boolean wholeDay = startTime == null && endTime == null;
+        return wholeDay || (startTime != null && endTime != null && startTime.isBefore(endTime));
+    }
+}
@@ -0,0 +1,39 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 진료 자원 근무 일정 수정 요청 - 근무 요일을 생략하면 매일, 근무 시간을 모두 생략하면 진료과 기본 진료 시간 전체
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DepartmentResourceUpdateRequest {
+
+    @Schema(description = "자원명", example = "김의사")
+    @NotBlank(message = "자원명은 필수입니다.")
+    @Size(max = 50, message = "자원명은 50자 이하로 입력해주세요.")
+    private String name;
+
+    @Schema(description = "근무 요일 (생략 시 매일)", example = "[\"MONDAY\", \"WEDNESDAY\", \"FRIDAY\"]")
+    private List<DayOfWeek> workingDays;
+
+    @Schema(description = "근무 시작 시간 (포함, 생략 시 진료과 기본 진료 시간)", example = "10:00")
+    private LocalTime startTime;
+
+    @Schema(description = "근무 종료 시간 (미포함, 생략 시 진료과 기본 진료 시간)", example = "13:00")
+    private LocalTime endTime;
+
+    // 근무 시간이 모두 생략되었거나 시작 < 종료인지 확인
+    public boolean hasValidWorkingHours() {
+        boolean wholeDay = startTime == null && endTime == null;
+        return wholeDay || (startTime != null && endTime != null && startTime.isBefore(endTime));
+    }
+}
@@ -0,0 +1,26 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class HolidayCreateRequest {
+
+    @Schema(description = "공휴일 날짜", example = "2025-10-03")
+    @NotNull(message = "공휴일 날짜는 필수입니다.")
+    private LocalDate holidayDate;
+
+    @Schema(description = "공휴일명", example = "개천절")
+    @NotBlank(message = "공휴일명은 필수입니다.")
+    @Size(max = 50, message = "공휴일명은 50자 이하로 입력해주세요.")
+    private String name;
+}
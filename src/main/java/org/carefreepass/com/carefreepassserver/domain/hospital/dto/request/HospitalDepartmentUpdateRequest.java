@@ -3,6 +3,7 @@ package org.carefreepass.com.carefreepassserver.domain.hospital.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.time.LocalTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,4 +22,32 @@ public class HospitalDepartmentUpdateRequest {
     @Schema(description = "진료과 설명", example = "일반적인 내과 진료를 담당합니다.")
     @Size(max = 200, message = "진료과 설명은 200자 이내여야 합니다.")
     private String description;
-}
\ No newline at end of file
+
+    @Schema(description = "기본 진료 시작 시간 (생략 시 기존 진료 시간 유지)", example = "09:00")
+    private LocalTime defaultStartTime;
+
+    @Schema(description = "기본 진료 종료 시간 (마지막 예약 시간대 포함)", example = "17:30")
+    private LocalTime defaultEndTime;
+
+    @Schema(description = "예약 슬롯 간격(분)", example = "30")
+    private Integer slotDurationMinutes;
+
+    // 이름/설명만 수정하는 경우 (진료 시간 유지)
+    public HospitalDepartmentUpdateRequest(String name, String description) {
+        this(name, description, null, null, null);
+    }
+
+    // 진료 시간 변경이 포함된 요청인지 확인
+    public boolean hasSchedule() {
+        return defaultStartTime != null || defaultEndTime != null || slotDurationMinutes != null;
+    }
+
+    // 진료 시간이 모두 생략되었거나 시작 < 종료, 슬롯 간격 1분 이상인지 확인
+    public boolean hasValidSchedule() {
+        if (!hasSchedule()) {
+            return true;
+        }
+        return defaultStartTime != null && defaultEndTime != null && slotDurationMinutes != null
+                && defaultStartTime.isBefore(defaultEndTime) && slotDurationMinutes > 0;
+    }
+}
@@ -0,0 +1,70 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 시간대 범위 차단/해제 요청 - 시작/종료 시간을 모두 생략하면 하루 전체에 적용
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeSlotRangeBlockRequest {
+
+    private static final long MAX_DAYS = 31;
+
+    @Schema(description = "대상 진료과 ID 목록", example = "[1, 2]")
+    @NotEmpty(message = "진료과 ID 목록은 필수입니다.")
+    @Size(max = 20, message = "한 번에 최대 20개 진료과까지 변경할 수 있습니다.")
+    private List<Long> departmentIds;
+
+    @Schema(description = "시작 날짜 (포함)", example = "2025-09-04")
+    @NotNull(message = "시작 날짜는 필수입니다.")
+    private LocalDate startDate;
+
+    @Schema(description = "종료 날짜 (포함)", example = "2025-09-10")
+    @NotNull(message = "종료 날짜는 필수입니다.")
+    private LocalDate endDate;
+
+    @Schema(description = "시작 시간 (포함, 생략 시 하루 전체)", example = "13:00")
+    private LocalTime startTime;
+
+    @Schema(description = "종료 시간 (미포함, 생략 시 하루 전체)", example = "18:00")
+    private LocalTime endTime;
+
+    @Schema(description = "차단 여부 (true: 차단, false: 차단 해제 - 휴진 규칙으로 닫힌 시간대도 허용)", example = "true")
+    @NotNull(message = "차단 여부는 필수입니다.")
+    private Boolean blocked;
+
+    // 하루 전체 적용 여부
+    public boolean isWholeDay() {
+        return startTime == null && endTime == null;
+    }
+
+    // 날짜/시간 범위가 올바른지 확인 (시작 ≤ 종료, 최대 31일, 시간은 모두 지정하거나 모두 생략)
+    public boolean hasValidRange() {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)
+                || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            return false;
+        }
+        return isWholeDay() || (startTime != null && endTime != null && startTime.isBefore(endTime));
+    }
+
+    // 적용 시작 시간 (하루 전체면 자정)
+    public LocalTime effectiveStartTime() {
+        return isWholeDay() ? LocalTime.MIN : startTime;
+    }
+
+    // 적용 종료 시간 (미포함, 하루 전체면 하루의 끝)
+    public LocalTime effectiveEndTime() {
+        return isWholeDay() ? LocalTime.MAX : endTime;
+    }
+}
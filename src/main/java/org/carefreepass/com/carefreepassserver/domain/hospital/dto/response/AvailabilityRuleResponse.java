@@ -0,0 +1,58 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRule;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AvailabilityRuleResponse {
+
+    @Schema(description = "규칙 ID", example = "1")
+    private Long ruleId;
+
+    @Schema(description = "규칙 유형", example = "WEEKLY")
+    private String ruleType;
+
+    @Schema(description = "규칙 유형 설명", example = "요일 반복")
+    private String ruleTypeDescription;
+
+    @Schema(description = "반복 요일", example = "WEDNESDAY")
+    private DayOfWeek dayOfWeek;
+
+    @Schema(description = "적용 시작 날짜", example = "2025-09-01")
+    private LocalDate startDate;
+
+    @Schema(description = "적용 종료 날짜", example = "2025-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "차단 시작 시간 (없으면 하루 전체)", example = "13:00")
+    private LocalTime startTime;
+
+    @Schema(description = "차단 종료 시간 (없으면 하루 전체)", example = "17:00")
+    private LocalTime endTime;
+
+    @Schema(description = "규칙 설명", example = "수요일 오후 휴진")
+    private String description;
+
+    public static AvailabilityRuleResponse from(AvailabilityRule rule) {
+        return new AvailabilityRuleResponse(
+                rule.getId(),
+                rule.getRuleType().name(),
+                rule.getRuleType().getDescription(),
+                rule.getDayOfWeek(),
+                rule.getStartDate(),
+                rule.getEndDate(),
+                rule.getStartTime(),
+                rule.getEndTime(),
+                rule.getDescription()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheRegionStatisticsResponse {
+
+    @Schema(description = "캐시 영역 이름", example = "hospital-department")
+    private String regionName;
+
+    @Schema(description = "캐시 적중 수", example = "1520")
+    private long hitCount;
+
+    @Schema(description = "캐시 미스 수", example = "38")
+    private long missCount;
+
+    @Schema(description = "캐시 저장 수", example = "40")
+    private long putCount;
+
+    @Schema(description = "캐시 적중률 (0~1)", example = "0.9756")
+    private double hitRatio;
+
+    @Schema(description = "메모리에 적재된 항목 수 (제공자가 지원하지 않으면 -1)", example = "40")
+    private long elementCountInMemory;
+
+    public static CacheRegionStatisticsResponse from(CacheRegionStatistics statistics) {
+        return new CacheRegionStatisticsResponse(
+                statistics.getRegionName(),
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                CacheStatisticsResponse.hitRatio(statistics.getHitCount(), statistics.getMissCount()),
+                statistics.getElementCountInMemory()
+        );
+    }
+}
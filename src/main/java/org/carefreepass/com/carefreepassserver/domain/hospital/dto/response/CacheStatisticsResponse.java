@@ -0,0 +1,72 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+
+    @Schema(description = "통계 수집 활성화 여부", example = "true")
+    private boolean statisticsEnabled;
+
+    @Schema(description = "2차 캐시 전체 적중 수", example = "48210")
+    private long secondLevelCacheHitCount;
+
+    @Schema(description = "2차 캐시 전체 미스 수", example = "1204")
+    private long secondLevelCacheMissCount;
+
+    @Schema(description = "2차 캐시 전체 저장 수", example = "1310")
+    private long secondLevelCachePutCount;
+
+    @Schema(description = "2차 캐시 전체 적중률 (0~1)", example = "0.9756")
+    private double secondLevelCacheHitRatio;
+
+    @Schema(description = "쿼리 캐시 적중 수", example = "9120")
+    private long queryCacheHitCount;
+
+    @Schema(description = "쿼리 캐시 미스 수", example = "312")
+    private long queryCacheMissCount;
+
+    @Schema(description = "쿼리 캐시 저장 수", example = "312")
+    private long queryCachePutCount;
+
+    @Schema(description = "쿼리 캐시 적중률 (0~1)", example = "0.9669")
+    private double queryCacheHitRatio;
+
+    @Schema(description = "캐시 영역별 통계")
+    private List<CacheRegionStatisticsResponse> regions;
+
+    // 적중률 계산 (조회가 없으면 0)
+    static double hitRatio(long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public static CacheStatisticsResponse of(boolean statisticsEnabled,
+                                             long secondLevelCacheHitCount,
+                                             long secondLevelCacheMissCount,
+                                             long secondLevelCachePutCount,
+                                             long queryCacheHitCount,
+                                             long queryCacheMissCount,
+                                             long queryCachePutCount,
+                                             List<CacheRegionStatisticsResponse> regions) {
+        return new CacheStatisticsResponse(
+                statisticsEnabled,
+                secondLevelCacheHitCount,
+                secondLevelCacheMissCount,
+                secondLevelCachePutCount,
+                hitRatio(secondLevelCacheHitCount, secondLevelCacheMissCount),
+                queryCacheHitCount,
+                queryCacheMissCount,
+                queryCachePutCount,
+                hitRatio(queryCacheHitCount, queryCacheMissCount),
+                regions
+        );
+    }
+}
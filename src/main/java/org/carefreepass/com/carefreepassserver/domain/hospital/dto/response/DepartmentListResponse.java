@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.DepartmentCatalogEntry;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 
 /**
@@ -36,4 +37,13 @@ public class DepartmentListResponse {
                 hospitalDepartment.getHospital().getName()
         );
     }
+
+    public static DepartmentListResponse from(DepartmentCatalogEntry entry) {
+        return new DepartmentListResponse(
+                entry.departmentId(),
+                entry.name(),
+                entry.description(),
+                entry.hospitalName()
+        );
+    }
 }
\ No newline at end of file
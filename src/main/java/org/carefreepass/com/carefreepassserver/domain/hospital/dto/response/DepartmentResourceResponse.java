@@ -0,0 +1,54 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResource;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DepartmentResourceResponse {
+
+    @Schema(description = "자원 ID", example = "1")
+    private Long resourceId;
+
+    @Schema(description = "자원 유형", example = "DOCTOR")
+    private String resourceType;
+
+    @Schema(description = "자원 유형 설명", example = "의사")
+    private String resourceTypeDescription;
+
+    @Schema(description = "자원명", example = "김의사")
+    private String name;
+
+    @Schema(description = "근무 요일", example = "[\"MONDAY\", \"WEDNESDAY\", \"FRIDAY\"]")
+    private List<DayOfWeek> workingDays;
+
+    @Schema(description = "근무 시작 시간 (없으면 진료과 기본 진료 시간)", example = "10:00")
+    private LocalTime startTime;
+
+    @Schema(description = "근무 종료 시간 (없으면 진료과 기본 진료 시간)", example = "13:00")
+    private LocalTime endTime;
+
+    @Schema(description = "활성화 상태", example = "true")
+    private Boolean active;
+
+    public static DepartmentResourceResponse from(DepartmentResource resource) {
+        return new DepartmentResourceResponse(
+                resource.getId(),
+                resource.getResourceType().name(),
+                resource.getResourceType().getDescription(),
+                resource.getName(),
+                resource.getWorkingDayList(),
+                resource.getStartTime(),
+                resource.getEndTime(),
+                resource.getActive()
+        );
+    }
+}
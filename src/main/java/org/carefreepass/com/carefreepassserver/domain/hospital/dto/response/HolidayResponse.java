@@ -0,0 +1,28 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Holiday;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class HolidayResponse {
+
+    @Schema(description = "공휴일 ID", example = "1")
+    private Long holidayId;
+
+    @Schema(description = "공휴일 날짜", example = "2025-10-03")
+    private LocalDate holidayDate;
+
+    @Schema(description = "공휴일명", example = "개천절")
+    private String name;
+
+    public static HolidayResponse from(Holiday holiday) {
+        return new HolidayResponse(holiday.getId(), holiday.getHolidayDate(), holiday.getName());
+    }
+}
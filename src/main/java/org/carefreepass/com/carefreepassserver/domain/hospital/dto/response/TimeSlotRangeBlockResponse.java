@@ -0,0 +1,41 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeSlotRangeBlockResponse {
+
+    @Schema(description = "차단 여부 (true: 차단, false: 차단 해제)", example = "true")
+    private Boolean blocked;
+
+    @Schema(description = "대상 진료과 수", example = "2")
+    private Integer departmentCount;
+
+    @Schema(description = "대상 일수", example = "7")
+    private Integer dayCount;
+
+    @Schema(description = "새로 생성된 시간 예외 수 (해제 시에는 휴진 규칙을 덮어쓰는 허용 예외)", example = "120")
+    private Integer createdCount;
+
+    @Schema(description = "차단으로 변경된 기존 예외 수", example = "3")
+    private Integer updatedCount;
+
+    @Schema(description = "해제(삭제)된 차단 수", example = "0")
+    private Integer removedCount;
+
+    public static TimeSlotRangeBlockResponse blocked(int departmentCount, int dayCount, int createdCount,
+                                                     int updatedCount) {
+        return new TimeSlotRangeBlockResponse(true, departmentCount, dayCount, createdCount, updatedCount, 0);
+    }
+
+    public static TimeSlotRangeBlockResponse unblocked(int departmentCount, int dayCount, int removedCount,
+                                                       int openedCount) {
+        return new TimeSlotRangeBlockResponse(false, departmentCount, dayCount, openedCount, 0, removedCount);
+    }
+}
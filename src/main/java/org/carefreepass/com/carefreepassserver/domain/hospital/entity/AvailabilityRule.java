@@ -0,0 +1,114 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
+
+// 진료과 반복 휴진 규칙 엔티티 - 요일 반복/기간/공휴일 단위로 예약을 받지 않는 시간대 정의
+// 시간을 생략하면 하루 전체, 지정하면 시작 시간 포함 ~ 종료 시간 미포함 시간대에 적용
+// 같은 시간대의 시간 예외(TimeSlotException)가 있으면 예외가 규칙보다 우선
+@Entity
+@Getter
+@EqualsAndHashCode(callSuper = false, of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "availability_rule", indexes = {
+        @Index(name = "idx_availability_rule_department", columnList = "hospital_department_id")
+})
+public class AvailabilityRule extends BaseTimeEntity {
+
+    // 규칙 고유 식별자
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "availability_rule_seq_generator")
+    @SequenceGenerator(name = "availability_rule_seq_generator", sequenceName = "availability_rule_seq", allocationSize = 50)
+    private Long id;
+
+    // 적용 진료과
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hospital_department_id", nullable = false)
+    private HospitalDepartment hospitalDepartment;
+
+    // 규칙 유형
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 20)
+    private AvailabilityRuleType ruleType;
+
+    // 반복 요일 (WEEKLY 규칙)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 10)
+    private DayOfWeek dayOfWeek;
+
+    // 적용 시작 날짜 (DATE_RANGE 필수, 그 외 생략 시 제한 없음)
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    // 적용 종료 날짜 (포함, DATE_RANGE 필수, 그 외 생략 시 제한 없음)
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // 차단 시작 시간 (포함, 생략 시 하루 전체)
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    // 차단 종료 시간 (미포함, 생략 시 하루 전체)
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    // 규칙 설명 (예: 점심시간, 수요일 오후 휴진)
+    @Column(length = 100)
+    private String description;
+
+    // 규칙 엔티티 생성자 (빌더 패턴)
+    @Builder(access = AccessLevel.PRIVATE)
+    private AvailabilityRule(HospitalDepartment hospitalDepartment, AvailabilityRuleType ruleType, DayOfWeek dayOfWeek,
+                             LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                             String description) {
+        this.hospitalDepartment = hospitalDepartment;
+        this.ruleType = ruleType;
+        this.dayOfWeek = dayOfWeek;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.description = description;
+    }
+
+    // 규칙 생성 정적 팩토리 메서드 (유형별 필수 값 검증은 서비스에서 수행)
+    public static AvailabilityRule createRule(HospitalDepartment hospitalDepartment, AvailabilityRuleType ruleType,
+                                              DayOfWeek dayOfWeek, LocalDate startDate, LocalDate endDate,
+                                              LocalTime startTime, LocalTime endTime, String description) {
+        return AvailabilityRule.builder()
+                .hospitalDepartment(hospitalDepartment)
+                .ruleType(ruleType)
+                .dayOfWeek(ruleType == AvailabilityRuleType.WEEKLY ? dayOfWeek : null)
+                .startDate(startDate)
+                .endDate(endDate)
+                .startTime(startTime)
+                .endTime(endTime)
+                .description(description)
+                .build();
+    }
+
+    // 하루 전체 적용 여부
+    public boolean isWholeDay() {
+        return startTime == null && endTime == null;
+    }
+}
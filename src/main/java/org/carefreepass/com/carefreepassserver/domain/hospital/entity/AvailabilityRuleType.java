@@ -0,0 +1,17 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
+
+public enum AvailabilityRuleType {
+    WEEKLY("요일 반복"),
+    DATE_RANGE("기간"),
+    HOLIDAY("공휴일");
+
+    private final String description;
+
+    AvailabilityRuleType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
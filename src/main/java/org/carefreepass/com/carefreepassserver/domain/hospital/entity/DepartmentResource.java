@@ -0,0 +1,149 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
+
+// 진료과 진료 자원 엔티티 - 진료과 안에서 같은 시간대에 환자를 따로 받을 수 있는 의사/진료실/장비
+// 근무 요일은 요일 비트마스크(월요일 = 1)로, 근무 시간은 시작 시간 포함 ~ 종료 시간 미포함으로 저장 (생략 시 진료과 기본 진료 시간 전체)
+// 활성 자원이 없는 진료과는 기존처럼 시간대당 한 명만 예약받으며, 자원은 예약이 참조하므로 삭제 대신 비활성화
+@Entity
+@Getter
+@EqualsAndHashCode(callSuper = false, of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "department_resource", indexes = {
+        @Index(name = "idx_department_resource_department", columnList = "hospital_department_id, active")
+})
+public class DepartmentResource extends BaseTimeEntity {
+
+    // 매일 근무 (월~일 7개 요일 비트 모두 설정)
+    public static final int EVERY_DAY = (1 << DayOfWeek.values().length) - 1;
+
+    // 자원 고유 식별자
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_resource_seq_generator")
+    @SequenceGenerator(name = "department_resource_seq_generator", sequenceName = "department_resource_seq", allocationSize = 50)
+    private Long id;
+
+    // 소속 진료과
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hospital_department_id", nullable = false)
+    private HospitalDepartment hospitalDepartment;
+
+    // 자원 유형
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", nullable = false, length = 20)
+    private DepartmentResourceType resourceType;
+
+    // 자원명 (예: 김의사, 2진료실)
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    // 근무 요일 비트마스크 (DayOfWeek 순서, 월요일 = 1 << 0)
+    @Column(name = "working_days", nullable = false)
+    private Integer workingDays;
+
+    // 근무 시작 시간 (포함, 생략 시 진료과 기본 진료 시작 시간부터)
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    // 근무 종료 시간 (미포함, 생략 시 진료과 기본 진료 종료 시간까지)
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    // 자원 활성화 상태
+    @Column(nullable = false)
+    private Boolean active;
+
+    // 자원 엔티티 생성자 (빌더 패턴)
+    @Builder(access = AccessLevel.PRIVATE)
+    private DepartmentResource(HospitalDepartment hospitalDepartment, DepartmentResourceType resourceType, String name,
+                               Integer workingDays, LocalTime startTime, LocalTime endTime) {
+        this.hospitalDepartment = hospitalDepartment;
+        this.resourceType = resourceType;
+        this.name = name;
+        this.workingDays = workingDays;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.active = true;
+    }
+
+    // 자원 생성 정적 팩토리 메서드 - 근무 요일을 생략하면 매일 근무
+    public static DepartmentResource createResource(HospitalDepartment hospitalDepartment,
+                                                    DepartmentResourceType resourceType, String name,
+                                                    Collection<DayOfWeek> workingDays,
+                                                    LocalTime startTime, LocalTime endTime) {
+        return DepartmentResource.builder()
+                .hospitalDepartment(hospitalDepartment)
+                .resourceType(resourceType)
+                .name(name)
+                .workingDays(toDayMask(workingDays))
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    // 자원명과 근무 일정 수정 - 근무 요일을 생략하면 매일 근무
+    public void updateSchedule(String name, Collection<DayOfWeek> workingDays, LocalTime startTime, LocalTime endTime) {
+        this.name = name;
+        this.workingDays = toDayMask(workingDays);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // 자원 비활성화
+    public void deactivate() {
+        this.active = false;
+    }
+
+    // 특정 요일 근무 여부
+    public boolean worksOn(DayOfWeek dayOfWeek) {
+        return (workingDays & (1 << dayOfWeek.ordinal())) != 0;
+    }
+
+    // 특정 시간대 근무 여부 (요일과 별개로 근무 시간만 판정)
+    public boolean worksAt(LocalTime time) {
+        return (startTime == null || !time.isBefore(startTime))
+                && (endTime == null || time.isBefore(endTime));
+    }
+
+    // 근무 요일 목록 (월요일부터)
+    public List<DayOfWeek> getWorkingDayList() {
+        return Arrays.stream(DayOfWeek.values())
+                .filter(this::worksOn)
+                .toList();
+    }
+
+    // 요일 목록 → 요일 비트마스크 변환 (비어 있으면 매일)
+    private static int toDayMask(Collection<DayOfWeek> days) {
+        if (days == null || days.isEmpty()) {
+            return EVERY_DAY;
+        }
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << day.ordinal();
+        }
+        return mask;
+    }
+}
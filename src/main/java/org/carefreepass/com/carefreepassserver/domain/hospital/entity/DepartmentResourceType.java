@@ -0,0 +1,17 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
+
+public enum DepartmentResourceType {
+    DOCTOR("의사"),
+    ROOM("진료실"),
+    EQUIPMENT("검사 장비");
+
+    private final String description;
+
+    DepartmentResourceType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
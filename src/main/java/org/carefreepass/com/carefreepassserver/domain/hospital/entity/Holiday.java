@@ -0,0 +1,51 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
+
+// 공휴일 달력 엔티티 - HOLIDAY 유형 휴진 규칙이 참조하는 공통 공휴일 목록
+@Entity
+@Getter
+@EqualsAndHashCode(callSuper = false, of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "holiday", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_holiday_date", columnNames = "holiday_date")
+})
+public class Holiday extends BaseTimeEntity {
+
+    // 공휴일 고유 식별자
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq_generator")
+    @SequenceGenerator(name = "holiday_seq_generator", sequenceName = "holiday_seq", allocationSize = 50)
+    private Long id;
+
+    // 공휴일 날짜
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    // 공휴일명
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    private Holiday(LocalDate holidayDate, String name) {
+        this.holidayDate = holidayDate;
+        this.name = name;
+    }
+
+    // 공휴일 생성 정적 팩토리 메서드
+    public static Holiday createHoliday(LocalDate holidayDate, String name) {
+        return new Holiday(holidayDate, name);
+    }
+}
@@ -1,5 +1,6 @@
 package org.carefreepass.com.carefreepassserver.domain.hospital.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,18 +10,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.constant.CacheConstant;
 import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 // 병원별 진료과 엔티티 - 각 병원이 운영하는 진료과 정보 관리
 @Entity
 @Getter
 @EqualsAndHashCode(callSuper = false, of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstant.HOSPITAL_DEPARTMENT_REGION)
 public class HospitalDepartment extends BaseTimeEntity {
 
     // 진료과 고유 식별자
@@ -57,6 +65,10 @@ public class HospitalDepartment extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean active;
 
+    // 활성 진료 자원 수 (0이면 자원 없이 시간대당 한 명만 예약받는 기본 진료과)
+    @Column(name = "resource_count", nullable = false)
+    private Integer resourceCount;
+
     // 진료과 엔티티 생성자 (빌더 패턴)
     @Builder(access = AccessLevel.PRIVATE)
     private HospitalDepartment(Hospital hospital, String name, String description,
@@ -69,6 +81,7 @@ public class HospitalDepartment extends BaseTimeEntity {
         this.defaultEndTime = defaultEndTime;
         this.slotDurationMinutes = slotDurationMinutes;
         this.active = true;
+        this.resourceCount = 0;
     }
 
     // 진료과 생성 정적 팩토리 메서드 - 기본 진료 시간 및 예약 슬롯 설정하여 생성
@@ -89,9 +102,42 @@ public class HospitalDepartment extends BaseTimeEntity {
         this.description = description;
     }
 
+    // 기본 진료 시간/슬롯 간격 변경 - 예약 시간대 목록이 달라졌는지 반환
+    public boolean updateSchedule(LocalTime defaultStartTime, LocalTime defaultEndTime, int slotDurationMinutes) {
+        boolean changed = !defaultStartTime.equals(this.defaultStartTime)
+                || !defaultEndTime.equals(this.defaultEndTime)
+                || slotDurationMinutes != this.slotDurationMinutes;
+        this.defaultStartTime = defaultStartTime;
+        this.defaultEndTime = defaultEndTime;
+        this.slotDurationMinutes = slotDurationMinutes;
+        return changed;
+    }
+
     // 진료과 비활성화
     public void deactivate() {
         this.active = false;
     }
 
+    // 활성 진료 자원 수 갱신 (자원 등록/수정/비활성화 후 다시 센 값)
+    public void updateResourceCount(int resourceCount) {
+        this.resourceCount = resourceCount;
+    }
+
+    // 진료 자원별로 예약을 받는 진료과인지 확인 (시간대 수용 인원 = 해당 시간 근무 자원 수)
+    public boolean hasResources() {
+        return resourceCount != null && resourceCount > 0;
+    }
+
+    // 기본 진료 시간 내 예약 시간대 목록 (시작~종료 시간 포함, 슬롯 간격 단위)
+    public List<LocalTime> slotTimes() {
+        List<LocalTime> times = new ArrayList<>();
+        for (LocalTime time = defaultStartTime; !time.isAfter(defaultEndTime); time = time.plusMinutes(slotDurationMinutes)) {
+            times.add(time);
+            if (time.plusMinutes(slotDurationMinutes).isBefore(time)) {
+                break;
+            }
+        }
+        return times;
+    }
+
 }
\ No newline at end of file
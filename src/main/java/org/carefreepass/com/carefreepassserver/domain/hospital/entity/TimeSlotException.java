@@ -6,8 +6,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import lombok.AccessLevel;
@@ -22,11 +26,22 @@ import org.carefreepass.com.carefreepassserver.golbal.domain.BaseTimeEntity;
 @Getter
 @EqualsAndHashCode(callSuper = false, of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = TimeSlotException.DEPARTMENT_SLOT_CONSTRAINT,
+                columnNames = {"hospital_department_id", "exception_date", "exception_time"})
+}, indexes = {
+        @Index(name = "idx_time_slot_exception_department_date_time",
+                columnList = "hospital_department_id, exception_date, exception_time, blocked")
+})
 public class TimeSlotException extends BaseTimeEntity {
 
-    // 시간 예외 고유 식별자
+    // 진료과 + 날짜 + 시간당 예외 한 행 유니크 제약 (V13 마이그레이션)
+    public static final String DEPARTMENT_SLOT_CONSTRAINT = "uk_time_slot_exception_department_slot";
+
+    // 시간 예외 고유 식별자 (pooled 시퀀스 50개 단위 선할당 - INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_slot_exception_seq_generator")
+    @SequenceGenerator(name = "time_slot_exception_seq_generator", sequenceName = "time_slot_exception_seq", allocationSize = 50)
     private Long id;
 
     // 해당 진료과
@@ -35,11 +50,11 @@ public class TimeSlotException extends BaseTimeEntity {
     private HospitalDepartment hospitalDepartment;
 
     // 예외 적용 날짜
-    @Column(nullable = false)
+    @Column(name = "exception_date", nullable = false)
     private LocalDate exceptionDate;
 
     // 예외 적용 시간
-    @Column(nullable = false)
+    @Column(name = "exception_time", nullable = false)
     private LocalTime exceptionTime;
 
     // 차단 여부 (true: 차단, false: 허용)
@@ -67,6 +82,17 @@ public class TimeSlotException extends BaseTimeEntity {
                 .build();
     }
 
+    // 휴진 규칙을 덮어쓰는 허용 예외 생성 정적 팩토리 메서드
+    public static TimeSlotException createOpenTimeSlot(HospitalDepartment hospitalDepartment,
+                                                      LocalDate exceptionDate, LocalTime exceptionTime) {
+        return TimeSlotException.builder()
+                .hospitalDepartment(hospitalDepartment)
+                .exceptionDate(exceptionDate)
+                .exceptionTime(exceptionTime)
+                .blocked(false)
+                .build();
+    }
+
     // 차단 여부 확인
     public boolean isBlocked() {
         return this.blocked;
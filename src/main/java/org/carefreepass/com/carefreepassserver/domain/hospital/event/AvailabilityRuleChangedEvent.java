@@ -0,0 +1,15 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.event;
+
+// 휴진 규칙 변경 이벤트 (departmentId가 없으면 공휴일 달력 변경 - 공휴일 규칙을 가진 모든 진료과 대상)
+public record AvailabilityRuleChangedEvent(
+        Long departmentId
+) {
+
+    public static AvailabilityRuleChangedEvent holidaysChanged() {
+        return new AvailabilityRuleChangedEvent(null);
+    }
+
+    public boolean isHolidayChange() {
+        return departmentId == null;
+    }
+}
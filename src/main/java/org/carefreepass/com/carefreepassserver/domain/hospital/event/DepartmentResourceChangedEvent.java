@@ -0,0 +1,23 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.event;
+
+// 진료과 진료 자원 변경(등록/일정 수정/비활성화) 이벤트
+// firstResource: 자원이 없던 진료과에 첫 자원이 등록된 경우, deactivated: 자원이 비활성화된 경우
+public record DepartmentResourceChangedEvent(
+        Long departmentId,
+        Long resourceId,
+        boolean firstResource,
+        boolean deactivated
+) {
+
+    public static DepartmentResourceChangedEvent created(Long departmentId, Long resourceId, boolean firstResource) {
+        return new DepartmentResourceChangedEvent(departmentId, resourceId, firstResource, false);
+    }
+
+    public static DepartmentResourceChangedEvent updated(Long departmentId, Long resourceId) {
+        return new DepartmentResourceChangedEvent(departmentId, resourceId, false, false);
+    }
+
+    public static DepartmentResourceChangedEvent deactivated(Long departmentId, Long resourceId) {
+        return new DepartmentResourceChangedEvent(departmentId, resourceId, false, true);
+    }
+}
@@ -0,0 +1,13 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.event;
+
+// 진료과 정보 변경(수정/비활성화) 이벤트 - scheduleChanged는 기본 진료 시간/슬롯 간격이 바뀌어 예약 시간대 목록이 달라진 경우
+public record HospitalDepartmentChangedEvent(
+        Long hospitalId,
+        Long departmentId,
+        boolean scheduleChanged
+) {
+    // 진료 시간 변경이 없는 진료과 변경
+    public HospitalDepartmentChangedEvent(Long hospitalId, Long departmentId) {
+        this(hospitalId, departmentId, false);
+    }
+}
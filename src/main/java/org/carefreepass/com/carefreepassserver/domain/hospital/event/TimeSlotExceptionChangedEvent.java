@@ -0,0 +1,13 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 시간 차단 설정 변경 이벤트 (blocked=false는 예외 삭제 - 해당 시간대는 휴진 규칙 상태로 돌아감)
+public record TimeSlotExceptionChangedEvent(
+        Long departmentId,
+        LocalDate exceptionDate,
+        LocalTime exceptionTime,
+        boolean blocked
+) {
+}
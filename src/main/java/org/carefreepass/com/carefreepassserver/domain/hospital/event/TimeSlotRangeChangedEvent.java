@@ -0,0 +1,21 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+// 시간대 범위 차단/해제 이벤트 (날짜 양끝 포함, 시간은 시작 포함 ~ 종료 미포함)
+public record TimeSlotRangeChangedEvent(
+        Set<Long> departmentIds,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        boolean blocked
+) {
+
+    // 범위에 포함되는 진료과/날짜인지 확인
+    public boolean covers(Long departmentId, LocalDate date) {
+        return departmentIds.contains(departmentId) && !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
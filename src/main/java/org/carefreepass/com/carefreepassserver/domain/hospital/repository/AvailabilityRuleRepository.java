@@ -0,0 +1,23 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.repository;
+
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRule;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRuleType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 진료과 휴진 규칙 리포지토리
+public interface AvailabilityRuleRepository extends JpaRepository<AvailabilityRule, Long> {
+
+    // 전체 휴진 규칙을 진료과와 함께 조회 (규칙 스냅샷 적재용)
+    @Query("SELECT r FROM AvailabilityRule r JOIN FETCH r.hospitalDepartment ORDER BY r.id")
+    List<AvailabilityRule> findAllWithDepartment();
+
+    // 진료과의 모든 휴진 규칙 조회
+    List<AvailabilityRule> findByHospitalDepartmentIdOrderById(Long departmentId);
+
+    // 특정 유형의 규칙을 가진 진료과 ID 목록 조회
+    @Query("SELECT DISTINCT r.hospitalDepartment.id FROM AvailabilityRule r WHERE r.ruleType = :ruleType")
+    List<Long> findDepartmentIdsByRuleType(@Param("ruleType") AvailabilityRuleType ruleType);
+}
@@ -0,0 +1,20 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.repository;
+
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+// 진료과 진료 자원 리포지토리
+public interface DepartmentResourceRepository extends JpaRepository<DepartmentResource, Long> {
+
+    // 전체 활성 자원을 진료과와 함께 조회 (자원 스냅샷 적재용)
+    @Query("SELECT r FROM DepartmentResource r JOIN FETCH r.hospitalDepartment WHERE r.active = true ORDER BY r.id")
+    List<DepartmentResource> findAllActiveWithDepartment();
+
+    // 진료과의 모든 자원 조회 (비활성 포함)
+    List<DepartmentResource> findByHospitalDepartmentIdOrderById(Long departmentId);
+
+    // 진료과의 활성 자원 수
+    int countByHospitalDepartmentIdAndActiveTrue(Long departmentId);
+}
@@ -0,0 +1,21 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+// 공휴일 달력 리포지토리
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+
+    // 전체 공휴일 날짜 조회
+    @Query("SELECT h.holidayDate FROM Holiday h")
+    List<LocalDate> findAllHolidayDates();
+
+    // 기간 내 공휴일 조회
+    List<Holiday> findByHolidayDateBetweenOrderByHolidayDate(LocalDate startDate, LocalDate endDate);
+
+    // 같은 날짜 공휴일 존재 여부 확인
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
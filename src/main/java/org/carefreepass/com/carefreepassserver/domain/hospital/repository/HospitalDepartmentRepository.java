@@ -1,26 +1,57 @@
 package org.carefreepass.com.carefreepassserver.domain.hospital.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.DepartmentCatalogEntry;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.golbal.constant.CacheConstant;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 // 병원 진료과 리포지토리
 public interface HospitalDepartmentRepository extends JpaRepository<HospitalDepartment, Long> {
 
-    // 병원의 활성화된 진료과 목록 조회
+    // 병원의 활성화된 진료과 목록 조회 (쿼리 캐시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstant.HOSPITAL_DEPARTMENT_QUERY_REGION)
+    })
     List<HospitalDepartment> findByHospitalAndActiveTrue(Hospital hospital);
 
-
-
-    // 병원ID와 진료과명으로 활성화된 진료과 조회
+    // 병원ID와 진료과명으로 활성화된 진료과 조회 (쿼리 캐시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstant.HOSPITAL_DEPARTMENT_QUERY_REGION)
+    })
     Optional<HospitalDepartment> findByHospitalAndNameAndActiveTrue(Hospital hospital, String name);
 
+    // 병원ID와 진료과명으로 활성화된 진료과 조회 (병원 엔티티 조회 없이 단일 쿼리, 쿼리 캐시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstant.HOSPITAL_DEPARTMENT_QUERY_REGION)
+    })
+    @Query("SELECT hd FROM HospitalDepartment hd WHERE hd.hospital.id = :hospitalId AND hd.name = :name AND hd.active = true")
+    Optional<HospitalDepartment> findActiveByHospitalIdAndName(@Param("hospitalId") Long hospitalId, @Param("name") String name);
+
     // 병원의 진료과명 중복 확인
     boolean existsByHospitalAndName(Hospital hospital, String name);
 
-    // 모든 활성화된 진료과 조회 (전체 병원)
+    // 모든 활성화된 진료과 조회 (전체 병원, 쿼리 캐시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConstant.HOSPITAL_DEPARTMENT_QUERY_REGION)
+    })
     List<HospitalDepartment> findByActiveTrue();
 
+    // 진료과 카탈로그용 활성 진료과 조회 (병원명 포함 단일 쿼리, 병원/진료과 ID 순)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.hospital.dto.DepartmentCatalogEntry(h.id, h.name, hd.id, hd.name, hd.description) " +
+           "FROM HospitalDepartment hd JOIN hd.hospital h WHERE hd.active = true " +
+           "ORDER BY h.id, hd.id")
+    List<DepartmentCatalogEntry> findActiveCatalogEntries();
+
 }
\ No newline at end of file
@@ -2,11 +2,15 @@ package org.carefreepass.com.carefreepassserver.domain.hospital.repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.BlockedSlot;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.ExceptionSlot;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.TimeSlotException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +21,22 @@ public interface TimeSlotExceptionRepository extends JpaRepository<TimeSlotExcep
     @Query("SELECT tse.exceptionTime FROM TimeSlotException tse WHERE tse.hospitalDepartment = :department AND tse.exceptionDate = :date AND tse.blocked = true ORDER BY tse.exceptionTime")
     List<LocalTime> findBlockedTimesByDepartmentAndDate(@Param("department") HospitalDepartment hospitalDepartment, @Param("date") LocalDate exceptionDate);
 
+    // 진료과의 기간 내 차단된 날짜/시간 목록 조회
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.hospital.dto.BlockedSlot(tse.exceptionDate, tse.exceptionTime) " +
+           "FROM TimeSlotException tse WHERE tse.hospitalDepartment.id = :departmentId " +
+           "AND tse.exceptionDate BETWEEN :startDate AND :endDate AND tse.blocked = true " +
+           "ORDER BY tse.exceptionDate, tse.exceptionTime")
+    List<BlockedSlot> findBlockedSlots(@Param("departmentId") Long departmentId, @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+
+    // 진료과의 기간 내 모든 시간 예외 상태 조회 (휴진 규칙이 있는 진료과용 - 허용 예외가 규칙을 덮어씀)
+    @Query("SELECT new org.carefreepass.com.carefreepassserver.domain.hospital.dto.ExceptionSlot(tse.exceptionDate, tse.exceptionTime, tse.blocked) " +
+           "FROM TimeSlotException tse WHERE tse.hospitalDepartment.id = :departmentId " +
+           "AND tse.exceptionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY tse.exceptionDate, tse.exceptionTime")
+    List<ExceptionSlot> findExceptionSlots(@Param("departmentId") Long departmentId, @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
     // 진료과의 특정 날짜 모든 시간 예외 조회
     List<TimeSlotException> findByHospitalDepartmentAndExceptionDate(HospitalDepartment hospitalDepartment, LocalDate exceptionDate);
 
@@ -28,5 +48,20 @@ public interface TimeSlotExceptionRepository extends JpaRepository<TimeSlotExcep
     boolean existsByHospitalDepartmentAndExceptionDateAndExceptionTimeAndBlockedTrue(
             HospitalDepartment hospitalDepartment, LocalDate exceptionDate, LocalTime exceptionTime);
 
+    // 여러 진료과의 기간/시간 범위 내 모든 시간 예외 조회 (시작 시간 포함, 종료 시간 미포함)
+    @Query("SELECT tse FROM TimeSlotException tse WHERE tse.hospitalDepartment.id IN :departmentIds " +
+           "AND tse.exceptionDate BETWEEN :startDate AND :endDate " +
+           "AND tse.exceptionTime >= :startTime AND tse.exceptionTime < :endTime")
+    List<TimeSlotException> findAllInRange(@Param("departmentIds") Collection<Long> departmentIds,
+                                           @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                                           @Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
 
+    // 여러 진료과의 기간/시간 범위 내 시간 예외 일괄 삭제 (시작 시간 포함, 종료 시간 미포함)
+    @Modifying
+    @Query("DELETE FROM TimeSlotException tse WHERE tse.hospitalDepartment.id IN :departmentIds " +
+           "AND tse.exceptionDate BETWEEN :startDate AND :endDate " +
+           "AND tse.exceptionTime >= :startTime AND tse.exceptionTime < :endTime")
+    int deleteAllInRange(@Param("departmentIds") Collection<Long> departmentIds,
+                         @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                         @Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
 }
\ No newline at end of file
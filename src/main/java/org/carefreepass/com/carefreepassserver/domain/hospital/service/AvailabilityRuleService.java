@@ -0,0 +1,188 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.AvailabilityRuleSet;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.AvailabilityRuleCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HolidayCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRule;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRuleType;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Holiday;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.AvailabilityRuleChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.AvailabilityRuleRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HolidayRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진료과 휴진 규칙 서비스
+ * 규칙/공휴일 관리와 함께, 전체 규칙을 진료과별 평가기로 컴파일한 노드별 스냅샷을 보관합니다.
+ * 규칙 변경 커밋 후 스냅샷을 비우며, 다른 노드는 스냅샷 만료 시간이 지나면 변경을 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AvailabilityRuleService {
+
+    private static final long SNAPSHOT_TTL_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final HolidayRepository holidayRepository;
+    private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile RuleSnapshot snapshot;
+
+    // 휴진 규칙 생성
+    @Transactional
+    public Long createRule(AvailabilityRuleCreateRequest request) {
+        if (!request.isValid()) {
+            throw new BusinessException(ErrorCode.AVAILABILITY_RULE_INVALID);
+        }
+        HospitalDepartment department = hospitalDepartmentRepository.findById(request.getDepartmentId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
+
+        AvailabilityRule rule = availabilityRuleRepository.save(AvailabilityRule.createRule(
+                department, request.getRuleType(), request.getDayOfWeek(), request.getStartDate(), request.getEndDate(),
+                request.getStartTime(), request.getEndTime(), request.getDescription()));
+        eventPublisher.publishEvent(new AvailabilityRuleChangedEvent(department.getId()));
+
+        log.info("휴진 규칙 생성 완료: 진료과 ID {}, {} (규칙 ID: {})",
+                department.getId(), request.getRuleType(), rule.getId());
+        return rule.getId();
+    }
+
+    // 진료과의 휴진 규칙 목록 조회
+    public List<AvailabilityRule> getRules(Long departmentId) {
+        if (!hospitalDepartmentRepository.existsById(departmentId)) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+        return availabilityRuleRepository.findByHospitalDepartmentIdOrderById(departmentId);
+    }
+
+    // 휴진 규칙 삭제
+    @Transactional
+    public void deleteRule(Long ruleId) {
+        AvailabilityRule rule = availabilityRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AVAILABILITY_RULE_NOT_FOUND));
+
+        availabilityRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new AvailabilityRuleChangedEvent(rule.getHospitalDepartment().getId()));
+    }
+
+    // 공휴일 등록
+    @Transactional
+    public Long createHoliday(HolidayCreateRequest request) {
+        if (holidayRepository.existsByHolidayDate(request.getHolidayDate())) {
+            throw new BusinessException(ErrorCode.HOLIDAY_DUPLICATE_DATE);
+        }
+        Holiday holiday = holidayRepository.save(Holiday.createHoliday(request.getHolidayDate(), request.getName()));
+        eventPublisher.publishEvent(AvailabilityRuleChangedEvent.holidaysChanged());
+        return holiday.getId();
+    }
+
+    // 연도별 공휴일 목록 조회
+    public List<Holiday> getHolidays(int year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    // 공휴일 삭제
+    @Transactional
+    public void deleteHoliday(Long holidayId) {
+        Holiday holiday = holidayRepository.findById(holidayId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HOLIDAY_NOT_FOUND));
+
+        holidayRepository.delete(holiday);
+        eventPublisher.publishEvent(AvailabilityRuleChangedEvent.holidaysChanged());
+    }
+
+    // 진료과 휴진 규칙 평가기 조회 (스냅샷에서 조회, 규칙이 없는 진료과는 빈 평가기)
+    public AvailabilityRuleSet getRuleSet(Long departmentId) {
+        return currentSnapshot().ruleSets().getOrDefault(departmentId, AvailabilityRuleSet.empty());
+    }
+
+    // 현재 트랜잭션 기준으로 진료과 규칙을 다시 컴파일 (커밋 전 규칙 변경을 반영해야 할 때 사용, 스냅샷은 갱신하지 않음)
+    public AvailabilityRuleSet compileRuleSet(HospitalDepartment department) {
+        List<AvailabilityRule> rules = availabilityRuleRepository.findByHospitalDepartmentIdOrderById(department.getId());
+        return rules.isEmpty()
+                ? AvailabilityRuleSet.empty()
+                : AvailabilityRuleSet.compile(department, rules, holidaysFor(rules));
+    }
+
+    // 공휴일 규칙을 가진 진료과 ID 목록 조회
+    public List<Long> getHolidayRuleDepartmentIds() {
+        return availabilityRuleRepository.findDepartmentIdsByRuleType(AvailabilityRuleType.HOLIDAY);
+    }
+
+    // 스냅샷 무효화 (다음 조회 시 다시 적재)
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    // 규칙/공휴일 변경 커밋 후 스냅샷 무효화
+    // 시간대 점유 현황 제거(기본 순서)보다 먼저 실행 - 제거 직후 재적재되는 날짜가 이전 규칙 스냅샷으로 차단 상태를 계산하지 않도록
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRuleChanged(AvailabilityRuleChangedEvent event) {
+        invalidate();
+    }
+
+    private RuleSnapshot currentSnapshot() {
+        RuleSnapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        return reload();
+    }
+
+    // 전체 규칙 한 번의 조회로 진료과별 평가기 컴파일 (적재 중 들어온 무효화가 적재 후에 반영되도록 같은 잠금 사용)
+    private synchronized RuleSnapshot reload() {
+        RuleSnapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        List<AvailabilityRule> rules = availabilityRuleRepository.findAllWithDepartment();
+        Set<LocalDate> holidays = holidaysFor(rules);
+        Map<Long, AvailabilityRuleSet> ruleSets = new HashMap<>();
+        rules.stream()
+                .collect(Collectors.groupingBy(rule -> rule.getHospitalDepartment().getId()))
+                .forEach((departmentId, departmentRules) -> ruleSets.put(departmentId, AvailabilityRuleSet.compile(
+                        departmentRules.get(0).getHospitalDepartment(), departmentRules, holidays)));
+
+        RuleSnapshot loaded = new RuleSnapshot(Map.copyOf(ruleSets), System.currentTimeMillis());
+        snapshot = loaded;
+        log.debug("휴진 규칙 스냅샷 적재: 규칙 {}건, 진료과 {}곳", rules.size(), ruleSets.size());
+        return loaded;
+    }
+
+    // 공휴일 규칙이 있을 때만 공휴일 달력 조회
+    private Set<LocalDate> holidaysFor(List<AvailabilityRule> rules) {
+        boolean usesHolidays = rules.stream().anyMatch(rule -> rule.getRuleType() == AvailabilityRuleType.HOLIDAY);
+        return usesHolidays ? Set.copyOf(holidayRepository.findAllHolidayDates()) : Set.of();
+    }
+
+    private record RuleSnapshot(Map<Long, AvailabilityRuleSet> ruleSets, long loadedAtMillis) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAtMillis > SNAPSHOT_TTL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.CacheRegionStatisticsResponse;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.CacheStatisticsResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+// 2차 캐시 통계 조회 서비스 - Hibernate 통계에서 영역별 적중/미스 수를 수집
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 2차 캐시 및 쿼리 캐시 통계 조회
+    public CacheStatisticsResponse getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatisticsResponse> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheRegionStatisticsResponse::from)
+                .toList();
+
+        return CacheStatisticsResponse.of(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                regions
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.service;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentCatalog;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentCatalogBroadcaster;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.DepartmentCatalogProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진료과 카탈로그 서비스
+ * 활성 진료과 목록을 노드별 불변 스냅샷으로 보관하고, 진료과 변경 커밋 후 스냅샷을 비운 뒤 다른 노드에도 무효화를 전파합니다.
+ * 무효화 메시지가 유실되어도 스냅샷은 설정된 시간이 지나면 다시 적재됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DepartmentCatalogService {
+
+    private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final DepartmentCatalogProperties properties;
+    private final ObjectProvider<DepartmentCatalogBroadcaster> broadcaster;
+
+    private volatile DepartmentCatalog catalog;
+
+    // 현재 카탈로그 조회 (없거나 만료된 경우 DB에서 적재)
+    public DepartmentCatalog getCatalog() {
+        DepartmentCatalog current = catalog;
+        if (current != null && !current.isExpired(ttlMillis())) {
+            return current;
+        }
+        return reload();
+    }
+
+    // 병원의 활성 진료과명 목록 조회
+    public List<String> getDepartmentNames(Long hospitalId) {
+        return getCatalog().departmentNames(hospitalId);
+    }
+
+    // 스냅샷 무효화 (다음 조회 시 다시 적재)
+    public synchronized void invalidate() {
+        catalog = null;
+    }
+
+    // 진료과 생성/수정/비활성화 커밋 후 스냅샷 무효화 및 다른 노드에 전파 (다른 노드는 진료과 2차 캐시도 비움)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentChanged(HospitalDepartmentChangedEvent event) {
+        invalidate();
+        broadcaster.ifAvailable(available -> available.broadcastInvalidation(event.departmentId()));
+    }
+
+    // 적재 중 들어온 무효화가 적재 완료 후에 반영되도록 무효화와 같은 잠금에서 적재
+    private synchronized DepartmentCatalog reload() {
+        DepartmentCatalog current = catalog;
+        if (current != null && !current.isExpired(ttlMillis())) {
+            return current;
+        }
+        DepartmentCatalog loaded = DepartmentCatalog.of(hospitalDepartmentRepository.findActiveCatalogEntries());
+        catalog = loaded;
+        log.debug("진료과 카탈로그 적재: {}건, ETag {}", loaded.departments().size(), loaded.eTag());
+        return loaded;
+    }
+
+    private long ttlMillis() {
+        return Duration.ofSeconds(properties.getSnapshotTtlSeconds()).toMillis();
+    }
+}
@@ -0,0 +1,190 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentResourceSet;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.DepartmentResourceUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResource;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.DepartmentResourceChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.DepartmentResourceRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진료과 진료 자원 서비스
+ * 의사/진료실/장비 같은 진료 자원과 근무 일정을 관리하고, 진료과의 활성 자원 수를 진료과 행에 함께 기록합니다.
+ * 자원이 있는 진료과만 전체 활성 자원을 진료과별 배정기로 컴파일한 노드별 스냅샷을 사용하므로
+ * 자원이 없는 기본 진료과의 예약/조회 경로에는 추가 쿼리가 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DepartmentResourceService {
+
+    private static final long SNAPSHOT_TTL_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    // 스냅샷에 없는 진료과 조회로 인한 강제 적재의 최소 간격
+    private static final long FORCED_RELOAD_INTERVAL_MILLIS = Duration.ofSeconds(1).toMillis();
+
+    private final DepartmentResourceRepository departmentResourceRepository;
+    private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ResourceSnapshot snapshot;
+
+    // 진료 자원 등록
+    @Transactional
+    public Long createResource(DepartmentResourceCreateRequest request) {
+        if (!request.hasValidWorkingHours()) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_RESOURCE_INVALID);
+        }
+        HospitalDepartment department = hospitalDepartmentRepository.findById(request.getDepartmentId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
+        int activeCount = departmentResourceRepository.countByHospitalDepartmentIdAndActiveTrue(department.getId());
+        if (activeCount >= DepartmentResourceSet.MAX_RESOURCES) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_RESOURCE_LIMIT_EXCEEDED);
+        }
+
+        DepartmentResource resource = departmentResourceRepository.save(DepartmentResource.createResource(
+                department, request.getResourceType(), request.getName(), request.getWorkingDays(),
+                request.getStartTime(), request.getEndTime()));
+        department.updateResourceCount(activeCount + 1);
+        publishChanged(department, DepartmentResourceChangedEvent.created(
+                department.getId(), resource.getId(), activeCount == 0));
+
+        log.info("진료 자원 등록 완료: 진료과 ID {}, {} {} (자원 ID: {})",
+                department.getId(), request.getResourceType(), request.getName(), resource.getId());
+        return resource.getId();
+    }
+
+    // 진료과의 진료 자원 목록 조회 (비활성 포함)
+    public List<DepartmentResource> getResources(Long departmentId) {
+        if (!hospitalDepartmentRepository.existsById(departmentId)) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+        return departmentResourceRepository.findByHospitalDepartmentIdOrderById(departmentId);
+    }
+
+    // 진료 자원명/근무 일정 수정
+    @Transactional
+    public void updateResource(Long resourceId, DepartmentResourceUpdateRequest request) {
+        if (!request.hasValidWorkingHours()) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_RESOURCE_INVALID);
+        }
+        DepartmentResource resource = findResource(resourceId);
+
+        resource.updateSchedule(request.getName(), request.getWorkingDays(), request.getStartTime(), request.getEndTime());
+        eventPublisher.publishEvent(DepartmentResourceChangedEvent.updated(
+                resource.getHospitalDepartment().getId(), resourceId));
+    }
+
+    // 진료 자원 비활성화 (예정된 예약이 남아 있으면 커밋 직전 검증에서 실패)
+    @Transactional
+    public void deactivateResource(Long resourceId) {
+        DepartmentResource resource = findResource(resourceId);
+        if (!resource.getActive()) {
+            return;
+        }
+
+        resource.deactivate();
+        HospitalDepartment department = resource.getHospitalDepartment();
+        department.updateResourceCount(
+                departmentResourceRepository.countByHospitalDepartmentIdAndActiveTrue(department.getId()));
+        publishChanged(department, DepartmentResourceChangedEvent.deactivated(department.getId(), resourceId));
+        log.info("진료 자원 비활성화 완료: 진료과 ID {}, 자원 ID {} (남은 자원 {}개)",
+                department.getId(), resourceId, department.getResourceCount());
+    }
+
+    // 진료과 자원 배정기 조회 (자원이 없는 진료과는 조회 없이 빈 배정기, 스냅샷에 없으면 한 번 다시 적재)
+    public DepartmentResourceSet getResourceSet(HospitalDepartment department) {
+        if (!department.hasResources()) {
+            return DepartmentResourceSet.empty();
+        }
+        DepartmentResourceSet resources = currentSnapshot().resourceSets().get(department.getId());
+        if (resources == null) {
+            // 다른 노드에서 등록된 자원이 아직 스냅샷에 없는 경우 (최소 간격 안에서는 다시 조회하지 않음)
+            resources = reload(true).resourceSets().get(department.getId());
+        }
+        return resources != null ? resources : DepartmentResourceSet.empty();
+    }
+
+    // 스냅샷 무효화 (다음 조회 시 다시 적재)
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    // 자원 변경 커밋 후 스냅샷 무효화 (휴진 규칙 스냅샷과 같이 시간대 점유 현황 제거보다 먼저 실행)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResourceChanged(DepartmentResourceChangedEvent event) {
+        invalidate();
+    }
+
+    private DepartmentResource findResource(Long resourceId) {
+        return departmentResourceRepository.findById(resourceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_RESOURCE_NOT_FOUND));
+    }
+
+    // 자원 변경 이벤트와 함께 진료과 행(활성 자원 수) 변경 이벤트 발행 - 진료과 캐시 무효화
+    private void publishChanged(HospitalDepartment department, DepartmentResourceChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        eventPublisher.publishEvent(new HospitalDepartmentChangedEvent(department.getHospital().getId(), department.getId()));
+    }
+
+    private ResourceSnapshot currentSnapshot() {
+        ResourceSnapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        return reload(false);
+    }
+
+    // 전체 활성 자원 한 번의 조회로 진료과별 배정기 컴파일 (적재 중 들어온 무효화가 적재 후에 반영되도록 같은 잠금 사용)
+    // 강제 적재도 직전 적재 후 최소 간격이 지나지 않았으면 현재 스냅샷 사용 (자원 수가 남은 진료과 캐시가 오래된 경우 요청마다 전체 조회하지 않도록)
+    private synchronized ResourceSnapshot reload(boolean force) {
+        ResourceSnapshot current = snapshot;
+        if (current != null && !current.isExpired() && (!force || current.isRecent())) {
+            return current;
+        }
+        List<DepartmentResource> resources = departmentResourceRepository.findAllActiveWithDepartment();
+        Map<Long, DepartmentResourceSet> resourceSets = new HashMap<>();
+        resources.stream()
+                .collect(Collectors.groupingBy(resource -> resource.getHospitalDepartment().getId()))
+                .forEach((departmentId, departmentResources) -> resourceSets.put(departmentId,
+                        DepartmentResourceSet.compile(departmentResources.get(0).getHospitalDepartment(),
+                                departmentResources)));
+
+        ResourceSnapshot loaded = new ResourceSnapshot(Map.copyOf(resourceSets), System.currentTimeMillis());
+        snapshot = loaded;
+        log.debug("진료 자원 스냅샷 적재: 자원 {}개, 진료과 {}곳", resources.size(), resourceSets.size());
+        return loaded;
+    }
+
+    private record ResourceSnapshot(Map<Long, DepartmentResourceSet> resourceSets, long loadedAtMillis) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAtMillis > SNAPSHOT_TTL_MILLIS;
+        }
+
+        private boolean isRecent() {
+            return System.currentTimeMillis() - loadedAtMillis < FORCED_RELOAD_INTERVAL_MILLIS;
+        }
+    }
+}
@@ -6,10 +6,12 @@ import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.Hospi
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class HospitalDepartmentService {
 
     private final HospitalDepartmentRepository hospitalDepartmentRepository;
     private final HospitalRepository hospitalRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 진료과 생성 (병원 유효성 및 중복 진료과명 확인)
     @Transactional
@@ -39,7 +42,8 @@ public class HospitalDepartmentService {
                 hospital, request.getName(), request.getDescription());
 
         HospitalDepartment savedDepartment = hospitalDepartmentRepository.save(department);
-        
+        eventPublisher.publishEvent(new HospitalDepartmentChangedEvent(hospitalId, savedDepartment.getId()));
+
         return savedDepartment.getId();
     }
 
@@ -52,9 +56,13 @@ public class HospitalDepartmentService {
     }
 
 
-    // 진료과 정보 수정 (진료과명 변경시 중복 확인)
+    // 진료과 정보 수정 (진료과명 변경시 중복 확인, 진료 시간이 포함되면 함께 변경)
     @Transactional
     public void updateDepartment(Long departmentId, HospitalDepartmentUpdateRequest request) {
+        if (!request.hasValidSchedule()) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_SCHEDULE_INVALID);
+        }
+
         // 진료과 조회
         HospitalDepartment department = hospitalDepartmentRepository.findById(departmentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
@@ -68,6 +76,10 @@ public class HospitalDepartmentService {
 
         // 진료과 정보 수정
         department.updateDepartment(request.getName(), request.getDescription());
+        boolean scheduleChanged = request.hasSchedule() && department.updateSchedule(
+                request.getDefaultStartTime(), request.getDefaultEndTime(), request.getSlotDurationMinutes());
+        eventPublisher.publishEvent(new HospitalDepartmentChangedEvent(
+                department.getHospital().getId(), departmentId, scheduleChanged));
     }
 
     // 진료과 비활성화
@@ -77,6 +89,7 @@ public class HospitalDepartmentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
 
         department.deactivate();
+        eventPublisher.publishEvent(new HospitalDepartmentChangedEvent(department.getHospital().getId(), departmentId));
     }
 
 
@@ -94,9 +107,4 @@ public class HospitalDepartmentService {
         return hospitalDepartmentRepository.findByHospitalAndNameAndActiveTrue(hospital, departmentName)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
     }
-
-    // 모든 병원의 활성화된 진료과 조회 (환자용)
-    public List<HospitalDepartment> getAllActiveDepartments() {
-        return hospitalDepartmentRepository.findByActiveTrue();
-    }
 }
\ No newline at end of file
@@ -2,30 +2,67 @@ package org.carefreepass.com.carefreepassserver.domain.hospital.service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.AvailabilityRuleSet;
 import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotBlockRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotRangeBlockRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.response.TimeSlotRangeBlockResponse;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
 import org.carefreepass.com.carefreepassserver.domain.hospital.entity.TimeSlotException;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotExceptionChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotRangeChangedEvent;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
 import org.carefreepass.com.carefreepassserver.domain.hospital.repository.TimeSlotExceptionRepository;
 import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
 import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 // 시간 차단 관리 서비스
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TimeSlotExceptionService {
 
+    // 시간 예외 동시 생성 충돌 시 최대 시도 횟수 (최초 1회 + 재시도 1회)
+    private static final int UPSERT_MAX_ATTEMPTS = 2;
+
     private final TimeSlotExceptionRepository timeSlotExceptionRepository;
     private final HospitalDepartmentRepository hospitalDepartmentRepository;
+    private final AvailabilityRuleService availabilityRuleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    // 특정 시간 차단
-    @Transactional
+    // 특정 시간 차단 - 기존 예외가 있으면 차단으로 변경, 없으면 생성 (동시 생성 충돌 시 한 번 재시도)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long blockTimeSlot(TimeSlotBlockRequest request) {
+        return executeWithUpsertRetry("시간 차단", () -> upsertBlockedTimeSlot(request));
+    }
+
+    // 여러 진료과의 날짜/시간 범위 일괄 차단 또는 해제 (단일 트랜잭션, 범위당 이벤트 1건, 동시 생성 충돌 시 한 번 재시도)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TimeSlotRangeBlockResponse changeTimeSlotRange(TimeSlotRangeBlockRequest request) {
+        if (!request.hasValidRange()) {
+            throw new BusinessException(ErrorCode.TIME_SLOT_INVALID_BLOCK_RANGE);
+        }
+        return executeWithUpsertRetry("시간대 범위 변경", () -> applyTimeSlotRange(request));
+    }
+
+    // 시간 차단 예외 생성 또는 차단으로 변경 (executeWithUpsertRetry 트랜잭션 내부)
+    private Long upsertBlockedTimeSlot(TimeSlotBlockRequest request) {
         // 진료과 존재 여부 확인
         HospitalDepartment department = hospitalDepartmentRepository.findById(request.getDepartmentId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND));
@@ -48,17 +85,50 @@ public class TimeSlotExceptionService {
             existingException.block();
             savedException = existingException;
         } else {
-            // 새로운 차단 생성
+            // 새로운 차단 생성 - 즉시 flush하여 동시 요청의 같은 시간대 예외 생성을 유니크 제약으로 감지
             TimeSlotException newException = TimeSlotException.createBlockedTimeSlot(
                     department, request.getBlockDate(), request.getBlockTime());
-            savedException = timeSlotExceptionRepository.save(newException);
+            savedException = timeSlotExceptionRepository.saveAndFlush(newException);
         }
 
+        eventPublisher.publishEvent(new TimeSlotExceptionChangedEvent(
+                department.getId(), request.getBlockDate(), request.getBlockTime(), true));
 
         return savedException.getId();
     }
 
+    // 범위 차단/해제 적용 (executeWithUpsertRetry 트랜잭션 내부)
+    private TimeSlotRangeBlockResponse applyTimeSlotRange(TimeSlotRangeBlockRequest request) {
+        Set<Long> departmentIds = new LinkedHashSet<>(request.getDepartmentIds());
+        List<HospitalDepartment> departments = hospitalDepartmentRepository.findAllById(departmentIds);
+        if (departments.size() != departmentIds.size()) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        LocalTime startTime = request.effectiveStartTime();
+        LocalTime endTime = request.effectiveEndTime();
+        int dayCount = (int) startDate.datesUntil(endDate.plusDays(1)).count();
 
+        TimeSlotRangeBlockResponse response;
+        if (request.getBlocked()) {
+            response = blockRange(departments, startDate, endDate, startTime, endTime, dayCount);
+        } else {
+            int removed = timeSlotExceptionRepository.deleteAllInRange(departmentIds, startDate, endDate, startTime, endTime);
+            int opened = openRuleClosedSlots(departments, startDate, endDate, startTime, endTime);
+            response = TimeSlotRangeBlockResponse.unblocked(departments.size(), dayCount, removed, opened);
+        }
+
+        eventPublisher.publishEvent(new TimeSlotRangeChangedEvent(
+                departmentIds, startDate, endDate, startTime, endTime, request.getBlocked()));
+
+        log.info("시간대 범위 {} 완료: 진료과 {}개, {} ~ {} {}~{} - 생성 {}건, 변경 {}건, 삭제 {}건",
+                request.getBlocked() ? "차단" : "해제", departments.size(), startDate, endDate,
+                startTime, request.isWholeDay() ? "종일" : endTime,
+                response.getCreatedCount(), response.getUpdatedCount(), response.getRemovedCount());
+        return response;
+    }
 
     // 진료과의 특정 날짜 모든 시간 예외 조회
     public List<TimeSlotException> getAllTimeExceptions(Long departmentId, LocalDate date) {
@@ -75,7 +145,89 @@ public class TimeSlotExceptionService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.TIME_SLOT_EXCEPTION_NOT_FOUND));
 
         timeSlotExceptionRepository.delete(exception);
+        eventPublisher.publishEvent(new TimeSlotExceptionChangedEvent(
+                exception.getHospitalDepartment().getId(), exception.getExceptionDate(), exception.getExceptionTime(), false));
 
     }
 
+    // 시간 예외 생성/변경을 별도 트랜잭션에서 실행 - 다른 요청이 같은 시간대 예외를 먼저 생성해 유니크 제약에 걸리면
+    // 새 트랜잭션에서 한 번 더 시도 (재시도에서는 먼저 생성된 행을 조회해 변경하므로 진료과 + 날짜 + 시간당 한 행 유지)
+    private <T> T executeWithUpsertRetry(String target, Supplier<T> modification) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> modification.get());
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= UPSERT_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("시간 예외 동시 생성 충돌 - 재시도 {}/{} ({})", attempt, UPSERT_MAX_ATTEMPTS, target);
+            }
+        }
+    }
+
+    // 범위 내 기존 예외는 한 번에 조회해 차단으로 전환하고, 없는 시간대만 새로 생성 (pooled 시퀀스로 INSERT 배치)
+    private TimeSlotRangeBlockResponse blockRange(List<HospitalDepartment> departments, LocalDate startDate,
+                                                  LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                                                  int dayCount) {
+        Map<SlotKey, TimeSlotException> existing = new HashMap<>();
+        timeSlotExceptionRepository.findAllInRange(
+                        departments.stream().map(HospitalDepartment::getId).toList(), startDate, endDate, startTime, endTime)
+                .forEach(exception -> existing.put(SlotKey.of(exception), exception));
+
+        int updated = 0;
+        List<TimeSlotException> created = new ArrayList<>();
+        for (HospitalDepartment department : departments) {
+            List<LocalTime> times = department.slotTimes().stream()
+                    .filter(time -> !time.isBefore(startTime) && time.isBefore(endTime))
+                    .toList();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                for (LocalTime time : times) {
+                    TimeSlotException exception = existing.get(new SlotKey(department.getId(), date, time));
+                    if (exception == null) {
+                        created.add(TimeSlotException.createBlockedTimeSlot(department, date, time));
+                    } else if (!exception.isBlocked()) {
+                        exception.block();
+                        updated++;
+                    }
+                }
+            }
+        }
+        timeSlotExceptionRepository.saveAll(created);
+        timeSlotExceptionRepository.flush();
+        return TimeSlotRangeBlockResponse.blocked(departments.size(), dayCount, created.size(), updated);
+    }
+
+    // 범위 해제 시 휴진 규칙으로 닫힌 시간대에만 허용 예외 생성 (규칙이 없는 진료과는 삭제만으로 해제 완료)
+    private int openRuleClosedSlots(List<HospitalDepartment> departments, LocalDate startDate, LocalDate endDate,
+                                    LocalTime startTime, LocalTime endTime) {
+        List<TimeSlotException> opened = new ArrayList<>();
+        for (HospitalDepartment department : departments) {
+            AvailabilityRuleSet rules = availabilityRuleService.getRuleSet(department.getId());
+            if (rules.isEmpty()) {
+                continue;
+            }
+            List<LocalTime> times = department.slotTimes().stream()
+                    .filter(time -> !time.isBefore(startTime) && time.isBefore(endTime))
+                    .toList();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                for (LocalTime time : times) {
+                    if (rules.isClosed(date, time)) {
+                        opened.add(TimeSlotException.createOpenTimeSlot(department, date, time));
+                    }
+                }
+            }
+        }
+        timeSlotExceptionRepository.saveAll(opened);
+        timeSlotExceptionRepository.flush();
+        return opened.size();
+    }
+
+    private record SlotKey(Long departmentId, LocalDate date, LocalTime time) {
+
+        private static SlotKey of(TimeSlotException exception) {
+            return new SlotKey(exception.getHospitalDepartment().getId(), exception.getExceptionDate(),
+                    exception.getExceptionTime());
+        }
+    }
+
 }
\ No newline at end of file
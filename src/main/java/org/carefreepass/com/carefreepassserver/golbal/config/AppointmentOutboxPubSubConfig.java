@@ -0,0 +1,41 @@
+package org.carefreepass.com.carefreepassserver.golbal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.carefreepass.com.carefreepassserver.domain.appointment.outbox.AppointmentOutboxBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 릴레이된 예약 이벤트 노드 간 전달 설정
+ * app.appointment.outbox-broadcast-enabled=false면 등록되지 않으며, 이 경우 이벤트는 점유한 노드의 리스너에만 전달되므로
+ * 진료 대기열과 회원 개인 큐 알림은 단일 노드로 운영할 때만 정확합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.appointment", name = "outbox-broadcast-enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentOutboxPubSubConfig {
+
+    @Bean
+    public AppointmentOutboxBroadcaster appointmentOutboxBroadcaster(StringRedisTemplate stringRedisTemplate,
+                                                                     ApplicationEventPublisher eventPublisher,
+                                                                     ObjectMapper objectMapper,
+                                                                     AppointmentProperties properties) {
+        return new AppointmentOutboxBroadcaster(stringRedisTemplate, eventPublisher, objectMapper,
+                properties.getOutboxBroadcastChannel());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer appointmentOutboxListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            AppointmentOutboxBroadcaster broadcaster,
+                                                                            AppointmentProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getOutboxBroadcastChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,57 @@
+package org.carefreepass.com.carefreepassserver.golbal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 예약 관련 설정값들을 관리하는 Properties 클래스
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.appointment")
+public class AppointmentProperties {
+
+    // 예약 상태 일괄 전환 시 한 트랜잭션에서 처리할 ID 구간 크기 (0 이하이면 단일 UPDATE)
+    private int statusBatchChunkSize = 0;
+
+    // 예약 동시 수정(낙관적 락) 충돌 시 최대 시도 횟수
+    private int optimisticLockMaxAttempts = 3;
+
+    // 아웃박스 릴레이 실행 여부 (비활성화 시 이벤트는 기록만 되고 발행되지 않음)
+    private boolean outboxRelayEnabled = true;
+
+    // 아웃박스 릴레이가 한 번에 조회/발행할 이벤트 수
+    private int outboxBatchSize = 100;
+
+    // 아웃박스 이벤트 최대 발행 시도 횟수 (초과 시 발행 대상에서 제외되고 테이블에 남음)
+    private int outboxMaxAttempts = 10;
+
+    // 아웃박스 릴레이가 점유한 이벤트를 다른 노드가 가져가지 못하는 시간(초) - 발행 실패 이벤트의 재시도 간격을 겸함
+    private int outboxClaimLeaseSeconds = 30;
+
+    // 발행 완료 아웃박스 이벤트 보관 일수
+    private int outboxRetentionDays = 7;
+
+    // 릴레이된 이벤트를 Redis pub/sub으로 다른 노드의 리스너에도 전달할지 여부 (여러 노드 운영 시 필수)
+    private boolean outboxBroadcastEnabled = true;
+
+    // 릴레이된 이벤트 전달 채널
+    private String outboxBroadcastChannel = "appointment-outbox:relay";
+
+    // 진료 대기열 예상 대기 시간 계산 시 진료 소요 시간 초기값(분) - 완료 이력이 쌓이기 전까지 사용
+    private double queueInitialServiceMinutes = 10.0;
+
+    // 진료 소요 시간 지수 이동 평균 가중치 (0~1, 클수록 최근 진료 시간 반영 비중이 큼)
+    private double queueSmoothingFactor = 0.2;
+
+    // 완료/취소 예약을 보관 테이블로 옮기기까지의 일수 (예약 날짜 기준, 최소 1일)
+    private int archiveAfterDays = 90;
+
+    // 예약 보관 시 한 트랜잭션에서 옮길 예약 수
+    private int archiveChunkSize = 500;
+
+    // 시간대 재고 사용 여부 (진료과별 시간대를 미리 행으로 생성해 두고 예약/차단을 행 단위로 갱신)
+    private boolean slotInventoryEnabled = false;
+
+    // 시간대 재고를 미리 생성해 둘 일수 (오늘 포함)
+    private int slotInventoryDaysAhead = 28;
+}
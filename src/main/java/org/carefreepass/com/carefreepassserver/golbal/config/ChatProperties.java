@@ -26,7 +26,7 @@ public class ChatProperties {
     private int conversationHistoryLimit = 3;
     
     
-    // 사용 가능한 진료과 목록
+    // 사용 가능한 진료과 목록 (진료과 카탈로그가 비어 있을 때만 사용)
     private List<String> availableDepartments = List.of(
         "내과", "정형외과", "치과", "이비인후과", "외과", "피부과"
     );
@@ -0,0 +1,21 @@
+package org.carefreepass.com.carefreepassserver.golbal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 진료과 카탈로그 스냅샷 관련 설정값들을 관리하는 Properties 클래스
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.department-catalog")
+public class DepartmentCatalogProperties {
+
+    // Redis pub/sub으로 다른 노드에 무효화 전파 여부
+    private boolean broadcastEnabled = true;
+
+    // 무효화 메시지 채널
+    private String channel = "department-catalog:invalidate";
+
+    // 스냅샷 최대 유지 시간(초) - 무효화 메시지 유실 대비
+    private long snapshotTtlSeconds = 600;
+}
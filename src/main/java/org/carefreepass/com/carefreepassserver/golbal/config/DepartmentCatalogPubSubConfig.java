@@ -0,0 +1,44 @@
+package org.carefreepass.com.carefreepassserver.golbal.config;
+
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.DepartmentCatalogBroadcaster;
+import org.carefreepass.com.carefreepassserver.domain.hospital.cache.ReferenceCacheInvalidator;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentCatalogService;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReadYourWritesTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 진료과 카탈로그/2차 캐시 노드 간 무효화 설정
+ * app.department-catalog.broadcast-enabled=false면 등록되지 않으며, 이 경우 각 노드는 스냅샷/캐시 만료 시간으로만 갱신되므로
+ * 여러 노드로 운영할 때는 비활성화하지 않아야 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.department-catalog", name = "broadcast-enabled", havingValue = "true", matchIfMissing = true)
+public class DepartmentCatalogPubSubConfig {
+
+    @Bean
+    public DepartmentCatalogBroadcaster departmentCatalogBroadcaster(StringRedisTemplate stringRedisTemplate,
+                                                                     DepartmentCatalogService departmentCatalogService,
+                                                                     ReferenceCacheInvalidator referenceCacheInvalidator,
+                                                                     ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                                                     DepartmentCatalogProperties properties) {
+        return new DepartmentCatalogBroadcaster(stringRedisTemplate, departmentCatalogService,
+                referenceCacheInvalidator, readYourWritesTracker, properties.getChannel());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer departmentCatalogListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            DepartmentCatalogBroadcaster broadcaster,
+                                                                            DepartmentCatalogProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,85 @@
+package org.carefreepass.com.carefreepassserver.golbal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.DataSourceType;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReadYourWritesTracker;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReplicaLagMonitor;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReplicationRoutingDataSource;
+import org.carefreepass.com.carefreepassserver.golbal.filter.DataSourceRoutingFilter;
+import org.carefreepass.com.carefreepassserver.golbal.properties.ReplicaDataSourceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 주/복제본 데이터소스 설정
+ * app.datasource.replica.enabled=true일 때만 등록되며, 주 DB는 spring.datasource 설정을, 복제본은 app.datasource.replica 설정을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setJdbcUrl(replicaProperties.url());
+        dataSource.setUsername(replicaProperties.username());
+        dataSource.setPassword(replicaProperties.password());
+        dataSource.setDriverClassName(replicaProperties.driverClassName());
+        dataSource.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.readYourWritesWindowMillis());
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties);
+    }
+
+    // JPA, Flyway, JdbcTemplate이 사용하는 기본 데이터소스 - 트랜잭션 시작 후 첫 쿼리 시점에 라우팅 대상 결정
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker, ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 인증 필터 이후 요청 회원 ID를 라우팅 컨텍스트에 등록
+    @Bean
+    public FilterRegistrationBean<DataSourceRoutingFilter> dataSourceRoutingFilter() {
+        FilterRegistrationBean<DataSourceRoutingFilter> registration =
+                new FilterRegistrationBean<>(new DataSourceRoutingFilter());
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
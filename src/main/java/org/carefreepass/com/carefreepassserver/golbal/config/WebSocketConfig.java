@@ -1,6 +1,9 @@
 package org.carefreepass.com.carefreepassserver.golbal.config;
 
+import lombok.RequiredArgsConstructor;
+import org.carefreepass.com.carefreepassserver.golbal.security.StompAuthenticationInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,14 +11,19 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 전송하는 브로커 활성화
         config.enableSimpleBroker("/topic", "/queue");
         // 클라이언트에서 서버로 메시지 전송 시 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // 회원 개인 큐 prefix (/user/queue/** 구독 시 세션 사용자 기준으로 라우팅)
+        config.setUserDestinationPrefix("/user");
     }
 
     @Override
@@ -25,4 +33,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")  // CORS 설정 (개발용)
                 .withSockJS();  // SockJS 사용 (WebSocket 미지원 브라우저 대응)
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 액세스 토큰으로 세션 사용자 지정
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+}
@@ -0,0 +1,15 @@
+package org.carefreepass.com.carefreepassserver.golbal.constant;
+
+public final class CacheConstant {
+
+    // 엔티티 캐시 영역 (ehcache.xml 캐시 이름과 일치해야 함)
+    public static final String HOSPITAL_REGION = "hospital";
+    public static final String HOSPITAL_DEPARTMENT_REGION = "hospital-department";
+    public static final String MEMBER_REGION = "member";
+    public static final String PATIENT_PROFILE_REGION = "patient-profile";
+
+    // 조회 쿼리 결과 캐시 영역
+    public static final String HOSPITAL_DEPARTMENT_QUERY_REGION = "hospital-department-query";
+
+    private CacheConstant() {}
+}
@@ -0,0 +1,58 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드의 라우팅 정보 보관 - 쓰기 직후 같은 회원의 읽기나 커밋 후 다른 스레드에서 실행하는 읽기를 주 DB로 보내기 위해 라우팅 시 참조
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Long> CURRENT_MEMBER_ID = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void setMemberId(Long memberId) {
+        CURRENT_MEMBER_ID.set(memberId);
+    }
+
+    public static Long getMemberId() {
+        return CURRENT_MEMBER_ID.get();
+    }
+
+    // 이후 현재 스레드에서 시작하는 읽기 전용 트랜잭션을 주 DB로 보냄 (clear 전까지 유지)
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    // 작업 안에서 시작하는 읽기 전용 트랜잭션을 주 DB로 보냄
+    // (커밋 직후 다른 스레드에서 실행하는 조회용 - 요청 스레드의 회원 정보가 없고 복제본에는 아직 변경이 없을 수 있음)
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable action) {
+        callOnPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static void clear() {
+        CURRENT_MEMBER_ID.remove();
+        PRIMARY_REQUIRED.remove();
+    }
+}
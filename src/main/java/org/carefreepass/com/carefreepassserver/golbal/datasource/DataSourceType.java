@@ -0,0 +1,7 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+// 라우팅 대상 데이터소스 종류
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,158 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.AvailabilityRuleChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.DepartmentResourceChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.HospitalDepartmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotExceptionChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.hospital.event.TimeSlotRangeChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 최근 쓰기 기록
+ * 예약 변경이 커밋된 회원은 일정 시간 동안 읽기 전용 트랜잭션도 주 DB를 사용하여, 복제 지연 중에도 자신의 변경을 바로 조회할 수 있습니다.
+ * 회원별 기록은 노드 메모리에 있으므로, 변경을 요청한 클라이언트에는 같은 시간 동안 유효한 쿠키도 내려 다른 노드로 가는 요청도 주 DB를 사용하게 합니다.
+ * 진료과/휴진 규칙/자원/시간 차단처럼 노드별 캐시가 다시 적재되는 기준 정보가 바뀌면, 이 노드의 모든 읽기를 같은 시간 동안 주 DB로 보내
+ * 비워진 캐시가 복제본의 이전 데이터로 다시 채워지지 않게 합니다. 캐시를 비우는 리스너보다 먼저 기록하도록 가장 높은 우선순위로 실행합니다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    // 쓰기 후 주 DB 사용 만료 시각(epoch 밀리초)을 담는 쿠키
+    public static final String PRIMARY_READ_COOKIE = "primary-read-until";
+
+    private final long windowMillis;
+    private final ConcurrentMap<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    // 기준 정보 변경 후 이 노드의 모든 읽기를 주 DB로 보내는 만료 시각
+    private volatile long referencePrimaryUntil;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    // 회원의 쓰기 기록 (기록 시점부터 설정된 시간 동안 주 DB 사용)
+    public void recordWrite(Long memberId) {
+        if (memberId != null) {
+            primaryUntil.put(memberId, System.currentTimeMillis() + windowMillis);
+        }
+    }
+
+    // 노드별 캐시가 다시 적재되는 기준 정보의 쓰기 기록 (기록 시점부터 설정된 시간 동안 이 노드의 모든 읽기가 주 DB 사용)
+    public void recordReferenceWrite() {
+        referencePrimaryUntil = System.currentTimeMillis() + windowMillis;
+    }
+
+    // 회원의 읽기를 주 DB로 보내야 하는지 확인
+    public boolean requiresPrimary(Long memberId) {
+        long now = System.currentTimeMillis();
+        if (referencePrimaryUntil > now) {
+            return true;
+        }
+        if (memberId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(memberId);
+        return until != null && until > now;
+    }
+
+    // 쿠키에 담긴 만료 시각이 아직 지나지 않았는지 확인
+    public static boolean isPrimaryCookieValid(String value) {
+        try {
+            return value != null && Long.parseLong(value) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 예약 변경 커밋 후 해당 회원 쓰기 기록 및 요청 클라이언트에 쿠키 발급
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        recordWrite(event.memberId());
+        issuePrimaryCookie();
+    }
+
+    // 예약 상태 일괄 전환 커밋 후 (점유 현황 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppointmentBulkStatusChanged(AppointmentBulkStatusChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 진료과 변경 커밋 후 (2차 캐시, 진료과 카탈로그 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentChanged(HospitalDepartmentChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 휴진 규칙/공휴일 변경 커밋 후 (규칙 스냅샷 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAvailabilityRuleChanged(AvailabilityRuleChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 진료 자원 변경 커밋 후 (자원 스냅샷 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDepartmentResourceChanged(DepartmentResourceChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 시간 차단 변경 커밋 후 (점유 현황 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimeSlotExceptionChanged(TimeSlotExceptionChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 시간대 범위 차단/해제 커밋 후 (점유 현황 재적재)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimeSlotRangeChanged(TimeSlotRangeChangedEvent event) {
+        recordReferenceWrite();
+        issuePrimaryCookie();
+    }
+
+    // 만료된 기록 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        primaryUntil.values().removeIf(until -> until <= now);
+    }
+
+    // HTTP 요청 안에서 커밋된 경우 응답에 주 DB 사용 쿠키 추가 (다른 노드로 가는 다음 요청도 주 DB를 사용)
+    private void issuePrimaryCookie() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(PRIMARY_READ_COOKIE, Long.toString(System.currentTimeMillis() + windowMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, windowMillis / 1000));
+        response.addCookie(cookie);
+    }
+}
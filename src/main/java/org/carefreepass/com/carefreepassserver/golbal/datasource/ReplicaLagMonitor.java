@@ -0,0 +1,67 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.golbal.properties.ReplicaDataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 읽기 복제본 지연 감시
+ * 주기적으로 복제본의 복제 지연(Seconds_Behind_Master)을 조회하여, 허용치를 넘거나 조회에 실패하면 읽기를 주 DB로 돌립니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceProperties properties;
+
+    // 마지막으로 확인한 복제 지연(초), 확인 전이거나 복제가 중단된 경우 null
+    private volatile Long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties properties) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+        this.lagSeconds = properties.lagCheckEnabled() ? null : 0L;
+    }
+
+    // 복제본으로 읽기를 보낼 수 있는지 확인
+    public boolean isReplicaAvailable() {
+        Long lag = lagSeconds;
+        return lag != null && lag <= properties.maxLagSeconds();
+    }
+
+    // 복제 지연 기록 (null이면 복제본 사용 중지)
+    public void recordLag(Long seconds) {
+        Long previous = lagSeconds;
+        lagSeconds = seconds;
+        boolean wasAvailable = previous != null && previous <= properties.maxLagSeconds();
+        if (wasAvailable != isReplicaAvailable()) {
+            log.warn("읽기 복제본 {} - 복제 지연: {}초 (허용 {}초)",
+                    isReplicaAvailable() ? "사용 재개" : "사용 중지", seconds, properties.maxLagSeconds());
+        }
+    }
+
+    // 복제 지연 점검
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-millis:1000}")
+    public void check() {
+        if (!properties.lagCheckEnabled()) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList(properties.lagQuery());
+            recordLag(rows.isEmpty() ? null : toSeconds(rows.get(0).get(LAG_COLUMN)));
+        } catch (RuntimeException e) {
+            log.debug("읽기 복제본 지연 조회 실패", e);
+            recordLag(null);
+        }
+    }
+
+    private Long toSeconds(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
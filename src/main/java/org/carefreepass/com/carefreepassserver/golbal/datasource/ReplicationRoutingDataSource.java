@@ -0,0 +1,36 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주/복제본 라우팅 데이터소스
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 실행)는 주 DB로 보냅니다.
+ * 현재 스레드가 주 DB를 요구하거나, 현재 회원(또는 이 노드의 기준 정보)에 최근 쓰기가 있거나,
+ * 복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 주 DB를 사용합니다.
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (DataSourceRoutingContext.isPrimaryRequired()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (readYourWritesTracker.requiresPrimary(DataSourceRoutingContext.getMemberId())) {
+            return DataSourceType.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+}
@@ -42,10 +42,16 @@ public enum ErrorCode {
     // 예약 수정/취소 실패
     APPOINTMENT_CANNOT_MODIFY_COMPLETED(HttpStatus.BAD_REQUEST, "APPOINTMENT_COMPLETED", "완료된 예약은 수정할 수 없습니다."),
     APPOINTMENT_INVALID_STATUS(HttpStatus.BAD_REQUEST, "APPOINTMENT_INVALID_STATUS", "현재 예약 상태에서는 해당 작업을 수행할 수 없습니다."),
+    APPOINTMENT_BULK_INVALID_TARGET(HttpStatus.BAD_REQUEST, "APPOINTMENT_BULK_INVALID_TARGET", "일괄 변경 대상이 올바르지 않습니다. 예약 ID 목록 또는 진료과/날짜/시간 범위를 지정해주세요."),
+    APPOINTMENT_BULK_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "APPOINTMENT_BULK_LIMIT_EXCEEDED", "한 번에 변경할 수 있는 예약 수를 초과했습니다. 범위를 나누어 다시 시도해주세요."),
+    APPOINTMENT_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "APPOINTMENT_CONFLICT", "다른 사용자가 동시에 예약을 변경했습니다. 새로고침 후 다시 시도해주세요."),
     
     // 환자 호출 관련
     APPOINTMENT_CALL_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "CALL_NOT_AVAILABLE", "현재 호출할 수 없는 상태입니다. 잠시 후 다시 시도해주세요."),
     
+    // 예약 목록 페이지 조회 관련
+    APPOINTMENT_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "APPOINTMENT_INVALID_CURSOR", "페이지 정보가 올바르지 않습니다. 목록을 처음부터 다시 조회해주세요."),
+    
     // ========== 채팅 관련 ==========
     // 세션 관련
     CHAT_SESSION_ACCESS_DENIED(HttpStatus.FORBIDDEN, "CHAT_ACCESS_DENIED", "다른 사용자의 채팅에는 접근할 수 없습니다."),
@@ -77,10 +83,27 @@ public enum ErrorCode {
     // 진료과 관련
     DEPARTMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "DEPARTMENT_NOT_FOUND", "진료과를 찾을 수 없습니다."),
     DEPARTMENT_DUPLICATE_NAME(HttpStatus.CONFLICT, "DEPARTMENT_DUPLICATE_NAME", "이미 존재하는 진료과명입니다."),
+    DEPARTMENT_SCHEDULE_INVALID(HttpStatus.BAD_REQUEST, "DEPARTMENT_SCHEDULE_INVALID", "진료 시간이 올바르지 않습니다. 시작/종료 시간과 슬롯 간격을 모두 지정하거나 모두 생략하고, 시작 시간은 종료 시간 이전이어야 합니다."),
     
     // 시간 차단 관련
     TIME_SLOT_ALREADY_BLOCKED(HttpStatus.CONFLICT, "TIME_SLOT_ALREADY_BLOCKED", "이미 차단된 시간대입니다."),
     TIME_SLOT_EXCEPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "TIME_SLOT_EXCEPTION_NOT_FOUND", "시간 차단 정보를 찾을 수 없습니다."),
+    TIME_SLOT_INVALID_BLOCK_RANGE(HttpStatus.BAD_REQUEST, "TIME_SLOT_INVALID_BLOCK_RANGE", "차단 범위가 올바르지 않습니다. 시작일은 종료일 이전이어야 하며 최대 31일, 시간은 시작/종료를 모두 지정하거나 모두 생략해주세요."),
+
+    // 휴진 규칙 관련
+    AVAILABILITY_RULE_NOT_FOUND(HttpStatus.NOT_FOUND, "AVAILABILITY_RULE_NOT_FOUND", "휴진 규칙을 찾을 수 없습니다."),
+    AVAILABILITY_RULE_INVALID(HttpStatus.BAD_REQUEST, "AVAILABILITY_RULE_INVALID", "휴진 규칙이 올바르지 않습니다. 요일 반복은 요일, 기간은 시작/종료 날짜가 필요하며, 시간은 시작/종료를 모두 지정하거나 모두 생략해주세요."),
+    HOLIDAY_NOT_FOUND(HttpStatus.NOT_FOUND, "HOLIDAY_NOT_FOUND", "공휴일 정보를 찾을 수 없습니다."),
+    HOLIDAY_DUPLICATE_DATE(HttpStatus.CONFLICT, "HOLIDAY_DUPLICATE_DATE", "이미 등록된 공휴일 날짜입니다."),
+
+    // 진료 자원 관련
+    DEPARTMENT_RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "DEPARTMENT_RESOURCE_NOT_FOUND", "진료 자원을 찾을 수 없습니다."),
+    DEPARTMENT_RESOURCE_INVALID(HttpStatus.BAD_REQUEST, "DEPARTMENT_RESOURCE_INVALID", "진료 자원 근무 시간이 올바르지 않습니다. 시작/종료 시간을 모두 지정하거나 모두 생략해주세요."),
+    DEPARTMENT_RESOURCE_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "DEPARTMENT_RESOURCE_LIMIT_EXCEEDED", "진료과당 활성 진료 자원은 최대 64개까지 등록할 수 있습니다."),
+    DEPARTMENT_RESOURCE_HAS_APPOINTMENTS(HttpStatus.CONFLICT, "DEPARTMENT_RESOURCE_HAS_APPOINTMENTS", "예정된 예약이 남아 있는 진료 자원은 비활성화할 수 없습니다."),
+
+    // 시간대 조회 관련
+    TIME_SLOT_INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "TIME_SLOT_INVALID_DATE_RANGE", "조회 기간이 올바르지 않습니다. 시작일은 종료일 이전이어야 하며 최대 31일까지 조회할 수 있습니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,66 @@
+package org.carefreepass.com.carefreepassserver.golbal.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import lombok.NonNull;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.DataSourceRoutingContext;
+import org.carefreepass.com.carefreepassserver.golbal.datasource.ReadYourWritesTracker;
+import org.carefreepass.com.carefreepassserver.golbal.security.PrincipalDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 요청 회원 ID를 데이터소스 라우팅 컨텍스트에 등록 (인증 정보 우선, 없으면 memberId 파라미터)
+// 다른 노드에서 쓰기 직후 발급한 주 DB 사용 쿠키가 유효하면 요청 전체의 읽기를 주 DB로 보냄
+public class DataSourceRoutingFilter extends OncePerRequestFilter {
+
+    private static final String MEMBER_ID_PARAMETER = "memberId";
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        DataSourceRoutingContext.setMemberId(resolveMemberId(request));
+        if (hasPrimaryReadCookie(request)) {
+            DataSourceRoutingContext.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+    }
+
+    private boolean hasPrimaryReadCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        return Arrays.stream(cookies)
+                .anyMatch(cookie -> ReadYourWritesTracker.PRIMARY_READ_COOKIE.equals(cookie.getName())
+                        && ReadYourWritesTracker.isPrimaryCookieValid(cookie.getValue()));
+    }
+
+    private Long resolveMemberId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+            return Long.valueOf(principal.getUsername());
+        }
+        String memberId = request.getParameter(MEMBER_ID_PARAMETER);
+        if (memberId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(memberId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.carefreepass.com.carefreepassserver.golbal.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 읽기 복제본 데이터소스 설정 (enabled=false이면 모든 트랜잭션이 단일 데이터소스 사용)
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        String driverClassName,
+        @DefaultValue("5") int maximumPoolSize,
+        // 복제본으로 읽기를 보낼 수 있는 최대 복제 지연(초) - 초과 시 주 DB로 폴백
+        @DefaultValue("5") long maxLagSeconds,
+        // 복제 지연 점검 여부와 점검 쿼리 (비활성화 시 복제본을 항상 사용 가능으로 간주)
+        @DefaultValue("true") boolean lagCheckEnabled,
+        @DefaultValue("SHOW SLAVE STATUS") String lagQuery,
+        // 예약 변경 후 같은 회원의 읽기를 주 DB로 보내는 시간(밀리초) - 최대 복제 지연보다 길게 설정
+        @DefaultValue("10000") long readYourWritesWindowMillis
+) {
+}
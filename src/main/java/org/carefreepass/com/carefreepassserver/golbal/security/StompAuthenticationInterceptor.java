@@ -0,0 +1,57 @@
+package org.carefreepass.com.carefreepassserver.golbal.security;
+
+import static org.carefreepass.com.carefreepassserver.golbal.constant.SecurityConstant.TOKEN_PREFIX;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.carefreepass.com.carefreepassserver.domain.auth.dto.AccessTokenDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 프레임 인증 인터셉터
+ * Authorization 헤더의 액세스 토큰을 검증하여 세션 사용자(회원 ID)를 지정합니다.
+ * 인증된 세션만 /user/queue/** 개인 큐 메시지를 수신할 수 있으며, 토큰이 없으면 익명 세션으로 연결됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String accessTokenHeaderValue = extractAccessToken(accessor);
+        if (accessTokenHeaderValue != null) {
+            AccessTokenDto accessTokenDto = jwtTokenProvider.retrieveAccessToken(accessTokenHeaderValue);
+            if (accessTokenDto != null) {
+                UserDetails userDetails = new PrincipalDetails(accessTokenDto.memberId(), accessTokenDto.memberRole());
+                accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                log.debug("STOMP 세션 인증 완료: 회원 ID {}", accessTokenDto.memberId());
+            }
+        }
+        return message;
+    }
+
+    private static String extractAccessToken(StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(TOKEN_PREFIX)) {
+            return null;
+        }
+        return header.replace(TOKEN_PREFIX, "");
+    }
+}
@@ -0,0 +1,137 @@
+-- 기본 스키마 (마이그레이션 도입 이전 엔티티 기준)
+-- 빈 데이터베이스에서는 이 스크립트로 기본 테이블을 만든 뒤 V1부터 순서대로 적용한다.
+-- 기존 데이터베이스는 baseline-on-migrate(baseline-version: 0)로 이 버전이 적용된 것으로 기록되므로 실행되지 않는다.
+
+CREATE TABLE `member`
+(
+    `id`           BIGINT       NOT NULL AUTO_INCREMENT,
+    `role`         VARCHAR(255) NULL,
+    `status`       VARCHAR(255) NULL,
+    `name`         VARCHAR(255) NULL,
+    `phone_number` VARCHAR(255) NULL,
+    `email`        VARCHAR(255) NULL,
+    `password`     VARCHAR(255) NOT NULL,
+    `created_at`   DATETIME(6)  NOT NULL,
+    `updated_at`   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `uk_member_phone_number` UNIQUE (`phone_number`),
+    CONSTRAINT `uk_member_email` UNIQUE (`email`)
+);
+
+CREATE TABLE `patient_profile`
+(
+    `id`         BIGINT       NOT NULL AUTO_INCREMENT,
+    `member_id`  BIGINT       NULL,
+    `birth_date` VARCHAR(255) NULL,
+    `gender`     VARCHAR(255) NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `uk_patient_profile_member` UNIQUE (`member_id`),
+    CONSTRAINT `fk_patient_profile_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+);
+
+CREATE TABLE `hospital`
+(
+    `id`      BIGINT       NOT NULL AUTO_INCREMENT,
+    `name`    VARCHAR(255) NOT NULL,
+    `address` VARCHAR(255) NULL,
+    PRIMARY KEY (`id`)
+);
+
+CREATE TABLE `hospital_member`
+(
+    `id`          BIGINT       NOT NULL AUTO_INCREMENT,
+    `hospital_id` BIGINT       NOT NULL,
+    `member_id`   BIGINT       NOT NULL,
+    `email`       VARCHAR(255) NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `uk_hospital_member` UNIQUE (`hospital_id`, `member_id`),
+    CONSTRAINT `fk_hospital_member_hospital` FOREIGN KEY (`hospital_id`) REFERENCES `hospital` (`id`),
+    CONSTRAINT `fk_hospital_member_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+);
+
+CREATE TABLE `hospital_department`
+(
+    `id`                    BIGINT       NOT NULL AUTO_INCREMENT,
+    `hospital_id`           BIGINT       NOT NULL,
+    `name`                  VARCHAR(50)  NOT NULL,
+    `description`           VARCHAR(200) NULL,
+    `default_start_time`    TIME         NOT NULL,
+    `default_end_time`      TIME         NOT NULL,
+    `slot_duration_minutes` INT          NOT NULL,
+    `active`                BIT(1)       NOT NULL,
+    `created_at`            DATETIME(6)  NOT NULL,
+    `updated_at`            DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `fk_hospital_department_hospital` FOREIGN KEY (`hospital_id`) REFERENCES `hospital` (`id`)
+);
+
+CREATE TABLE `appointment`
+(
+    `id`                     BIGINT      NOT NULL AUTO_INCREMENT,
+    `member_id`              BIGINT      NOT NULL,
+    `hospital_department_id` BIGINT      NOT NULL,
+    `appointment_date`       DATE        NOT NULL,
+    `appointment_time`       TIME        NOT NULL,
+    `status`                 VARCHAR(20) NOT NULL,
+    `created_at`             DATETIME(6) NOT NULL,
+    `updated_at`             DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `fk_appointment_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`),
+    CONSTRAINT `fk_appointment_hospital_department`
+        FOREIGN KEY (`hospital_department_id`) REFERENCES `hospital_department` (`id`)
+);
+
+CREATE TABLE `time_slot_exception`
+(
+    `id`                     BIGINT      NOT NULL AUTO_INCREMENT,
+    `hospital_department_id` BIGINT      NOT NULL,
+    `exception_date`         DATE        NOT NULL,
+    `exception_time`         TIME        NOT NULL,
+    `blocked`                BIT(1)      NOT NULL,
+    `created_at`             DATETIME(6) NOT NULL,
+    `updated_at`             DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `fk_time_slot_exception_hospital_department`
+        FOREIGN KEY (`hospital_department_id`) REFERENCES `hospital_department` (`id`)
+);
+
+CREATE TABLE `chat_sessions`
+(
+    `session_id`     BIGINT       NOT NULL AUTO_INCREMENT,
+    `member_id`      BIGINT       NOT NULL,
+    `session_status` VARCHAR(255) NOT NULL,
+    `session_title`  VARCHAR(200) NULL,
+    `created_at`     DATETIME(6)  NOT NULL,
+    `updated_at`     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`session_id`),
+    CONSTRAINT `fk_chat_sessions_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+);
+
+CREATE TABLE `chat_messages`
+(
+    `message_id`      BIGINT       NOT NULL AUTO_INCREMENT,
+    `session_id`      BIGINT       NOT NULL,
+    `sender_type`     VARCHAR(255) NOT NULL,
+    `message_content` LONGTEXT     NOT NULL,
+    `sequence_number` INT          NOT NULL,
+    `created_at`      DATETIME(6)  NOT NULL,
+    `updated_at`      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`message_id`),
+    CONSTRAINT `fk_chat_messages_session` FOREIGN KEY (`session_id`) REFERENCES `chat_sessions` (`session_id`)
+);
+
+CREATE TABLE `symptom_analyses`
+(
+    `analysis_id`            BIGINT       NOT NULL AUTO_INCREMENT,
+    `session_id`             BIGINT       NOT NULL,
+    `extracted_symptoms`     LONGTEXT     NULL,
+    `recommended_department` VARCHAR(100) NULL,
+    `confidence_score`       DOUBLE       NULL,
+    `analysis_summary`       LONGTEXT     NULL,
+    `additional_questions`   LONGTEXT     NULL,
+    `created_at`             DATETIME(6)  NOT NULL,
+    `updated_at`             DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`analysis_id`),
+    CONSTRAINT `uk_symptom_analyses_session` UNIQUE (`session_id`),
+    CONSTRAINT `fk_symptom_analyses_session` FOREIGN KEY (`session_id`) REFERENCES `chat_sessions` (`session_id`)
+);
@@ -0,0 +1,7 @@
+-- 아웃박스 릴레이 점유 컬럼 추가
+-- 여러 노드의 릴레이가 SKIP LOCKED로 이벤트를 나눠 점유하고, 점유 만료 전까지 다른 노드는 같은 이벤트를 가져가지 않는다
+ALTER TABLE `appointment_outbox`
+    ADD COLUMN `claimed_until` DATETIME(6) NULL;
+
+-- 같은 예약의 앞선 미발행 이벤트 확인용 (예약 단위 순서 보장)
+CREATE INDEX `idx_appointment_outbox_appointment` ON `appointment_outbox` (`appointment_id`, `id`);
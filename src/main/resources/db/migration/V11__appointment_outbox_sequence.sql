@@ -0,0 +1,15 @@
+-- 아웃박스 IDENTITY → pooled 시퀀스 전환 (allocationSize = 50, 일괄 변경 시 INSERT 배치 가능)
+-- 노드마다 ID 블록을 할당받으면 ID 순서가 기록 순서와 달라지므로, 예약 단위 발행 순서는 변경 전 예약 버전으로 판단한다.
+-- 기존 행은 모두 -1로 두어 예약 내에서 ID(기존 IDENTITY 기록 순서) 순으로 발행된다.
+ALTER TABLE `appointment_outbox`
+    ADD COLUMN `appointment_version` BIGINT NOT NULL DEFAULT -1 AFTER `appointment_id`;
+
+-- 애플리케이션이 항상 ID를 지정해 INSERT하므로 AUTO_INCREMENT 제거 (시퀀스 블록과의 충돌 방지)
+ALTER TABLE `appointment_outbox`
+    MODIFY `id` BIGINT NOT NULL;
+
+SET @start = (SELECT COALESCE(MAX(`id`), 0) + 50 FROM `appointment_outbox`);
+SET @ddl = CONCAT('CREATE SEQUENCE `appointment_outbox_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
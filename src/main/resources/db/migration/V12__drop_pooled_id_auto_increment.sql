@@ -0,0 +1,13 @@
+-- pooled 시퀀스로 전환한 테이블의 AUTO_INCREMENT 제거
+-- V4는 수동 INSERT 호환을 위해 AUTO_INCREMENT를 남겨 두었지만, ID 없이 INSERT된 행이 AUTO_INCREMENT 카운터(MAX + 1)를 받으면
+-- 애플리케이션이 아직 사용하지 않은 시퀀스 블록(MAX + 1 ~ MAX + 50)과 겹친다. 애플리케이션은 항상 ID를 지정해 INSERT한다.
+-- 참조되는 PK 컬럼의 속성만 바꾸므로(타입 동일) 외래 키 검사를 잠시 끈다.
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE `appointment` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `time_slot_exception` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `chat_sessions` MODIFY `session_id` BIGINT NOT NULL;
+ALTER TABLE `chat_messages` MODIFY `message_id` BIGINT NOT NULL;
+ALTER TABLE `symptom_analyses` MODIFY `analysis_id` BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
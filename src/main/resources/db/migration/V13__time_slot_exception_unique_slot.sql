@@ -0,0 +1,15 @@
+-- 시간 예외를 진료과 + 날짜 + 시간당 한 행으로 제한
+-- 차단/범위 차단은 조회 후 없으면 INSERT하므로, 동시 요청이 같은 시간대 예외를 중복 생성할 수 있었다.
+-- 유니크 키 추가 전 중복 행은 가장 최근에 변경된 행(같으면 큰 ID)만 남긴다.
+DELETE `older`
+FROM `time_slot_exception` `older`
+         JOIN `time_slot_exception` `newer`
+              ON `newer`.`hospital_department_id` = `older`.`hospital_department_id`
+                  AND `newer`.`exception_date` = `older`.`exception_date`
+                  AND `newer`.`exception_time` = `older`.`exception_time`
+                  AND (`newer`.`updated_at` > `older`.`updated_at`
+                      OR (`newer`.`updated_at` = `older`.`updated_at` AND `newer`.`id` > `older`.`id`));
+
+ALTER TABLE `time_slot_exception`
+    ADD CONSTRAINT `uk_time_slot_exception_department_slot`
+        UNIQUE (`hospital_department_id`, `exception_date`, `exception_time`);
@@ -0,0 +1,3 @@
+-- 보관 예약에 배정된 진료 자원 ID 추가 (예약 테이블의 resource_id를 그대로 복사)
+-- 이미 보관된 예약은 원본 행이 삭제되어 자원을 알 수 없으므로 자원이 없는 진료과와 같은 0으로 채운다
+ALTER TABLE `appointment_archive` ADD COLUMN `resource_id` BIGINT NOT NULL DEFAULT 0 AFTER `appointment_time`;
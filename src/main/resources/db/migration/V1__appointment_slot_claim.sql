@@ -0,0 +1,40 @@
+-- 예약 시간대 점유 표시 컬럼 및 유니크 제약 추가
+-- 활성 예약(WAITING, SCHEDULED, ARRIVED, CALLED)만 slot_claim = 1, 완료/취소 예약은 NULL
+ALTER TABLE `appointment` ADD COLUMN `slot_claim` BIT(1) NULL;
+
+UPDATE `appointment`
+SET `slot_claim` = 1
+WHERE `status` IN ('WAITING', 'SCHEDULED', 'ARRIVED', 'CALLED');
+
+-- 기존에 동시 요청으로 생성된 중복 활성 예약은 가장 먼저 생성된 예약만 남기고 나머지는 취소 처리한다
+-- (점유만 해제하면 같은 시간대의 활성 예약이 여러 건 남아 대기열/호출에 중복 노출된다)
+UPDATE `appointment` a
+    JOIN (SELECT MIN(`id`) AS `keep_id`, `hospital_department_id`, `appointment_date`, `appointment_time`
+          FROM `appointment`
+          WHERE `slot_claim` = 1
+          GROUP BY `hospital_department_id`, `appointment_date`, `appointment_time`) k
+    ON a.`hospital_department_id` = k.`hospital_department_id`
+        AND a.`appointment_date` = k.`appointment_date`
+        AND a.`appointment_time` = k.`appointment_time`
+SET a.`slot_claim` = NULL,
+    a.`status` = 'CANCELLED',
+    a.`updated_at` = NOW(6)
+WHERE a.`slot_claim` = 1 AND a.`id` <> k.`keep_id`;
+
+UPDATE `appointment` a
+    JOIN (SELECT MIN(`id`) AS `keep_id`, `member_id`, `appointment_date`
+          FROM `appointment`
+          WHERE `slot_claim` = 1
+          GROUP BY `member_id`, `appointment_date`) k
+    ON a.`member_id` = k.`member_id`
+        AND a.`appointment_date` = k.`appointment_date`
+SET a.`slot_claim` = NULL,
+    a.`status` = 'CANCELLED',
+    a.`updated_at` = NOW(6)
+WHERE a.`slot_claim` = 1 AND a.`id` <> k.`keep_id`;
+
+ALTER TABLE `appointment`
+    ADD CONSTRAINT `uk_appointment_department_slot`
+        UNIQUE (`hospital_department_id`, `appointment_date`, `appointment_time`, `slot_claim`),
+    ADD CONSTRAINT `uk_appointment_member_date`
+        UNIQUE (`member_id`, `appointment_date`, `slot_claim`);
@@ -0,0 +1,14 @@
+-- 예약 이벤트 아웃박스 테이블
+-- 예약 변경과 같은 트랜잭션에서 기록되며, 릴레이가 id 순서대로 발행한 뒤 published_at을 채운다
+CREATE TABLE `appointment_outbox`
+(
+    `id`             BIGINT        NOT NULL AUTO_INCREMENT,
+    `appointment_id` BIGINT        NOT NULL,
+    `event_type`     VARCHAR(20)   NOT NULL,
+    `payload`        VARCHAR(2000) NOT NULL,
+    `occurred_at`    DATETIME(6)   NOT NULL,
+    `published_at`   DATETIME(6)   NULL,
+    `attempts`       INT           NOT NULL DEFAULT 0,
+    PRIMARY KEY (`id`),
+    INDEX `idx_appointment_outbox_published` (`published_at`, `id`)
+);
@@ -0,0 +1,2 @@
+-- 예약 낙관적 락 버전 컬럼 추가 (수정 시마다 증가)
+ALTER TABLE `appointment` ADD COLUMN `version` BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,34 @@
+-- IDENTITY → pooled 시퀀스 전환 (allocationSize = 50)
+-- Hibernate pooled 옵티마이저는 시퀀스 값을 블록의 상한으로 사용하므로(하한 = 값 - 49),
+-- 기존 데이터와 겹치지 않도록 각 시퀀스는 MAX(id) + 50 에서 시작한다.
+-- 기존 AUTO_INCREMENT 속성은 수동 INSERT 호환을 위해 유지한다 (애플리케이션은 항상 ID를 지정해 INSERT).
+
+SET @start = (SELECT COALESCE(MAX(`id`), 0) + 50 FROM `appointment`);
+SET @ddl = CONCAT('CREATE SEQUENCE `appointment_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(`id`), 0) + 50 FROM `time_slot_exception`);
+SET @ddl = CONCAT('CREATE SEQUENCE `time_slot_exception_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(`session_id`), 0) + 50 FROM `chat_sessions`);
+SET @ddl = CONCAT('CREATE SEQUENCE `chat_sessions_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(`message_id`), 0) + 50 FROM `chat_messages`);
+SET @ddl = CONCAT('CREATE SEQUENCE `chat_messages_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(`analysis_id`), 0) + 50 FROM `symptom_analyses`);
+SET @ddl = CONCAT('CREATE SEQUENCE `symptom_analyses_seq` START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
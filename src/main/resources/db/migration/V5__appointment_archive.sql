@@ -0,0 +1,18 @@
+-- 보관 예약 테이블 (콜드 데이터)
+-- 보관 기준일이 지난 완료/취소 예약을 청크 단위로 INSERT ... SELECT 후 예약 테이블에서 DELETE 한다
+-- 원본 예약 ID를 그대로 기본키로 사용하므로 두 테이블을 합쳐 조회해도 ID가 겹치지 않는다
+CREATE TABLE `appointment_archive`
+(
+    `id`                     BIGINT      NOT NULL,
+    `member_id`              BIGINT      NOT NULL,
+    `hospital_department_id` BIGINT      NOT NULL,
+    `appointment_date`       DATE        NOT NULL,
+    `appointment_time`       TIME        NOT NULL,
+    `status`                 VARCHAR(20) NOT NULL,
+    `created_at`             DATETIME(6) NOT NULL,
+    `updated_at`             DATETIME(6) NOT NULL,
+    `archived_at`            DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    INDEX `idx_appointment_archive_member_history` (`member_id`, `appointment_date`, `appointment_time`, `id`)
+);
+
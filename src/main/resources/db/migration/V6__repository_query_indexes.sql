@@ -0,0 +1,26 @@
+-- 리포지토리 조회 패턴별 인덱스
+-- 동등 조건 컬럼을 앞에, 범위/정렬 컬럼을 뒤에 두어 조회와 정렬을 인덱스 순서로 처리한다
+
+-- 진료과 + 날짜 + 상태 (진료과별 대기열, 예약 현황, 시간 범위 일괄 변경)
+CREATE INDEX `idx_appointment_department_date_status`
+    ON `appointment` (`hospital_department_id`, `appointment_date`, `status`, `appointment_time`);
+
+-- 환자 + 날짜 (내 예약, 예약 이력, 예약 충돌 확인)
+CREATE INDEX `idx_appointment_member_date`
+    ON `appointment` (`member_id`, `appointment_date`, `appointment_time`);
+
+-- 날짜 + 상태 (오늘 예약 목록, 상태 일괄 전환, 보관 대상 조회)
+CREATE INDEX `idx_appointment_date_status`
+    ON `appointment` (`appointment_date`, `status`, `appointment_time`);
+
+-- 세션 + 메시지 순번 (세션 메시지 목록, 최근 메시지)
+CREATE INDEX `idx_chat_messages_session_sequence`
+    ON `chat_messages` (`session_id`, `sequence_number`);
+
+-- 회원 + 생성 시각 (회원 채팅 세션 목록 최신순)
+CREATE INDEX `idx_chat_sessions_member_created`
+    ON `chat_sessions` (`member_id`, `created_at`);
+
+-- 진료과 + 날짜 + 시간 (차단 시간 조회, 시간대 예외 단건 조회)
+CREATE INDEX `idx_time_slot_exception_department_date_time`
+    ON `time_slot_exception` (`hospital_department_id`, `exception_date`, `exception_time`, `blocked`);
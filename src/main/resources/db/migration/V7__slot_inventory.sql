@@ -0,0 +1,19 @@
+-- 예약 시간대 재고 테이블 (app.appointment.slot-inventory-enabled=true일 때 사용)
+-- 진료과별 시간대를 미리 생성해 두고, 예약 점유는 빈 행에 대한 조건부 UPDATE 한 번으로 처리한다
+-- appointment_id는 보관 테이블로 옮겨진 예약을 가리킬 수 있으므로 외래키를 두지 않는다
+CREATE TABLE `slot_inventory`
+(
+    `id`                     BIGINT  NOT NULL,
+    `hospital_department_id` BIGINT  NOT NULL,
+    `slot_date`              DATE    NOT NULL,
+    `slot_time`              TIME    NOT NULL,
+    `appointment_id`         BIGINT  NULL,
+    `blocked`                BIT(1)  NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `uk_slot_inventory_department_slot` UNIQUE (`hospital_department_id`, `slot_date`, `slot_time`),
+    INDEX `idx_slot_inventory_appointment` (`appointment_id`),
+    INDEX `idx_slot_inventory_date` (`slot_date`),
+    CONSTRAINT `fk_slot_inventory_department` FOREIGN KEY (`hospital_department_id`) REFERENCES `hospital_department` (`id`)
+);
+
+CREATE SEQUENCE `slot_inventory_seq` START WITH 1 INCREMENT BY 50;
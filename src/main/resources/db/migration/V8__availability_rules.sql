@@ -0,0 +1,35 @@
+-- 진료과 반복 휴진 규칙 테이블 (요일 반복 / 기간 / 공휴일)
+-- 시간대별 행으로 펼치지 않고 규칙 단위로 저장하며, 애플리케이션이 진료과별로 컴파일해 메모리에서 평가한다
+CREATE TABLE `availability_rule`
+(
+    `id`                     BIGINT       NOT NULL,
+    `hospital_department_id` BIGINT       NOT NULL,
+    `rule_type`              VARCHAR(20)  NOT NULL,
+    `day_of_week`            VARCHAR(10)  NULL,
+    `start_date`             DATE         NULL,
+    `end_date`               DATE         NULL,
+    `start_time`             TIME         NULL,
+    `end_time`               TIME         NULL,
+    `description`            VARCHAR(100) NULL,
+    `created_at`             DATETIME(6)  NOT NULL,
+    `updated_at`             DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`id`),
+    INDEX `idx_availability_rule_department` (`hospital_department_id`),
+    CONSTRAINT `fk_availability_rule_department` FOREIGN KEY (`hospital_department_id`) REFERENCES `hospital_department` (`id`)
+);
+
+CREATE SEQUENCE `availability_rule_seq` START WITH 1 INCREMENT BY 50;
+
+-- 공휴일 달력 테이블 (HOLIDAY 규칙이 참조)
+CREATE TABLE `holiday`
+(
+    `id`           BIGINT      NOT NULL,
+    `holiday_date` DATE        NOT NULL,
+    `name`         VARCHAR(50) NOT NULL,
+    `created_at`   DATETIME(6) NOT NULL,
+    `updated_at`   DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    CONSTRAINT `uk_holiday_date` UNIQUE (`holiday_date`)
+);
+
+CREATE SEQUENCE `holiday_seq` START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,32 @@
+-- 진료과 진료 자원(의사/진료실/장비) 테이블
+-- 근무 요일은 요일 비트마스크(월요일 = 1), 근무 시간을 생략하면 진료과 기본 진료 시간 전체
+CREATE TABLE `department_resource`
+(
+    `id`                     BIGINT      NOT NULL,
+    `hospital_department_id` BIGINT      NOT NULL,
+    `resource_type`          VARCHAR(20) NOT NULL,
+    `name`                   VARCHAR(50) NOT NULL,
+    `working_days`           INT         NOT NULL,
+    `start_time`             TIME        NULL,
+    `end_time`               TIME        NULL,
+    `active`                 BIT(1)      NOT NULL,
+    `created_at`             DATETIME(6) NOT NULL,
+    `updated_at`             DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    INDEX `idx_department_resource_department` (`hospital_department_id`, `active`),
+    CONSTRAINT `fk_department_resource_department` FOREIGN KEY (`hospital_department_id`) REFERENCES `hospital_department` (`id`)
+);
+
+CREATE SEQUENCE `department_resource_seq` START WITH 1 INCREMENT BY 50;
+
+-- 진료과 활성 자원 수 (0이면 기존처럼 시간대당 한 명만 예약받는 기본 진료과)
+ALTER TABLE `hospital_department` ADD COLUMN `resource_count` INT NOT NULL DEFAULT 0;
+
+-- 예약에 배정된 진료 자원 ID (기존 예약과 자원이 없는 진료과는 0)
+-- 시간대 유니크 제약에 자원을 포함해 자원별로 한 건씩 점유하도록 변경 (resource_id = 0이면 기존 제약과 동일)
+ALTER TABLE `appointment` ADD COLUMN `resource_id` BIGINT NOT NULL DEFAULT 0 AFTER `appointment_time`;
+
+ALTER TABLE `appointment`
+    DROP INDEX `uk_appointment_department_slot`,
+    ADD CONSTRAINT `uk_appointment_department_slot`
+        UNIQUE (`hospital_department_id`, `appointment_date`, `appointment_time`, `resource_id`, `slot_claim`);
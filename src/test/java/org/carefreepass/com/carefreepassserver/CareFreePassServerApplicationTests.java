@@ -1,12 +1,9 @@
 package org.carefreepass.com.carefreepassserver;
 
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
-@ActiveProfiles("test")
-class CareFreePassServerApplicationTests {
+class CareFreePassServerApplicationTests extends IntegrationTestSupport {
 
     @Test
     void contextLoads() {
@@ -0,0 +1,88 @@
+package org.carefreepass.com.carefreepassserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentService;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 마이그레이션 스크립트 검증 - 빈 MariaDB에 V0(기본 스키마)부터 전체 마이그레이션을 적용한 뒤 엔티티 저장/예약 생성이 동작하는지 확인
+// (마이그레이션은 MariaDB 문법이라 H2로는 실행할 수 없으므로 컨테이너 사용, Docker가 없는 환경에서는 건너뜀)
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.mariadb.jdbc.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MariaDBDialect");
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Test
+    void 빈_데이터베이스에_모든_마이그레이션이_적용된다() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty()
+                .allSatisfy(migration -> assertThat(migration.getState().isFailed()).isFalse());
+        assertThat(flyway.info().applied()[0].getVersion().getVersion()).isEqualTo("0");
+    }
+
+    @Test
+    void 마이그레이션된_스키마로_예약을_생성한다() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+        Member member = memberRepository.save(Member.createPatient("김환자", "01012345678", "password"));
+
+        Long appointmentId = appointmentService.createAppointment(new AppointmentCreateRequest(
+                member.getId(), hospital.getId(), HospitalFixture.DEPARTMENT_NAME, LocalDate.now().plusDays(1), LocalTime.of(10, 0)));
+
+        Appointment appointment = appointmentRepository.findById(appointmentId).orElseThrow();
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.WAITING);
+    }
+}
@@ -0,0 +1,125 @@
+package org.carefreepass.com.carefreepassserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.chat.repository.ChatMessageRepository;
+import org.carefreepass.com.carefreepassserver.domain.chat.repository.ChatSessionRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.TimeSlotExceptionRepository;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.carefreepass.com.carefreepassserver.support.SqlStatementCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 리포지토리 조회 쿼리 실행 계획 검사 - Hibernate가 생성한 SQL을 H2 EXPLAIN으로 확인하여 전체 테이블 스캔이 없는지 검증
+class RepositoryQueryIndexTest extends IntegrationTestSupport {
+
+    private static final List<AppointmentStatus> ACTIVE_STATUSES = List.of(
+            AppointmentStatus.SCHEDULED, AppointmentStatus.ARRIVED, AppointmentStatus.CALLED);
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private TimeSlotExceptionRepository timeSlotExceptionRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HospitalDepartment department;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+    }
+
+    @Test
+    void 진료과_날짜_상태_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> appointmentRepository.findByHospitalDepartmentAndDateAndStatus(
+                department, TODAY, AppointmentStatus.SCHEDULED));
+        assertUsesIndex(() -> appointmentRepository.findQueueEntries(department.getId(), TODAY, ACTIVE_STATUSES));
+        assertUsesIndex(() -> appointmentRepository.findBookedSlots(
+                department.getId(), TODAY, TODAY.plusDays(7), ACTIVE_STATUSES));
+    }
+
+    @Test
+    void 환자_날짜_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> appointmentRepository.findByMemberIdAndAppointmentDate(1L, TODAY));
+        assertUsesIndex(() -> appointmentRepository.findRowsByMemberIdFrom(1L, TODAY));
+        assertUsesIndex(() -> appointmentRepository.findHistoryRowPage(1L, PageRequest.of(0, 21)));
+    }
+
+    @Test
+    void 날짜_상태_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> appointmentRepository.findTodayAppointmentsByStatus(TODAY, ACTIVE_STATUSES));
+        assertUsesIndex(() -> appointmentRepository.findAllByAppointmentDate(TODAY));
+        assertUsesIndex(() -> appointmentRepository.findConflictingClaims(
+                1L, department.getId(), TODAY, LocalTime.of(9, 0), ACTIVE_STATUSES));
+        assertUsesIndex(() -> appointmentRepository.findIdRange(TODAY, AppointmentStatus.WAITING));
+    }
+
+    @Test
+    void 채팅_메시지_순번_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> chatMessageRepository.findByChatSessionIdOrderBySequenceNumber(1L));
+        assertUsesIndex(() -> chatMessageRepository.findFirstByChatSessionIdOrderBySequenceNumberDesc(1L));
+    }
+
+    @Test
+    void 회원_채팅_세션_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> chatSessionRepository.findByMemberIdOrderByCreatedAtDesc(1L));
+    }
+
+    @Test
+    void 시간대_예외_조회는_인덱스를_사용한다() {
+        assertUsesIndex(() -> timeSlotExceptionRepository.findBlockedTimesByDepartmentAndDate(department, TODAY));
+        assertUsesIndex(() -> timeSlotExceptionRepository.findBlockedSlots(department.getId(), TODAY, TODAY.plusDays(7)));
+        assertUsesIndex(() -> timeSlotExceptionRepository.findExceptionSlots(department.getId(), TODAY, TODAY.plusDays(7)));
+        assertUsesIndex(() -> timeSlotExceptionRepository.findByHospitalDepartmentAndExceptionDateAndExceptionTime(
+                department, TODAY, LocalTime.of(9, 0)));
+    }
+
+    // 작업 중 실행된 모든 SELECT 문의 실행 계획에 전체 테이블 스캔이 없는지 확인
+    private void assertUsesIndex(Runnable query) {
+        List<String> statements = SqlStatementCapture.capture(query);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan.toLowerCase())
+                    .as("실행 계획에 전체 테이블 스캔이 포함됨%n%s", plan)
+                    .doesNotContain("tablescan");
+        }
+    }
+
+    // H2 EXPLAIN은 바인딩 파라미터 값 없이도 실행 계획을 반환
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+}
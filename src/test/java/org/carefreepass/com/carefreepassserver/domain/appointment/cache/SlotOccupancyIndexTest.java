@@ -0,0 +1,70 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.golbal.properties.ReplicaDataSourceProperties;
+import org.junit.jupiter.api.Test;
+
+// 시간대 점유 인덱스 등록 검증 - 예약 커밋 전에 시작한 적재가 커밋 후 리스너보다 늦게 도착해도 인덱스에 등록되지 않는지 확인
+// (복제본을 사용하지 않아 쓰기 후 주 DB 사용 시간이 0인 경우)
+class SlotOccupancyIndexTest {
+
+    private static final Long DEPARTMENT_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime TIME = LocalTime.of(10, 0);
+
+    private final SlotOccupancyIndex index = new SlotOccupancyIndex(new ReplicaDataSourceProperties(
+            false, null, null, null, null, 5, 5, true, "SHOW SLAVE STATUS", 10_000));
+
+    @Test
+    void 예약_커밋_전에_시작한_적재는_커밋_후_등록하지_않는다() {
+        long loadGeneration = index.currentGeneration();
+        DayOccupancy staleLoad = emptyDay();
+
+        index.onAppointmentChanged(AppointmentChangedEvent.created(scheduled()));
+        DayOccupancy returned = index.putIfAbsent(DEPARTMENT_ID, DATE, staleLoad, loadGeneration);
+
+        assertThat(returned).isSameAs(staleLoad);
+        assertThat(index.find(DEPARTMENT_ID, DATE)).isNull();
+    }
+
+    @Test
+    void 예약_커밋_후_시작한_적재는_등록한다() {
+        index.onAppointmentChanged(AppointmentChangedEvent.created(scheduled()));
+
+        DayOccupancy occupancy = index.getOrLoad(DEPARTMENT_ID, DATE, () -> {
+            DayOccupancy loaded = emptyDay();
+            loaded.occupy(TIME, null, "김환자");
+            return loaded;
+        });
+
+        assertThat(index.find(DEPARTMENT_ID, DATE)).isSameAs(occupancy);
+        assertThat(occupancy.isAvailable(TIME)).isFalse();
+    }
+
+    @Test
+    void 다른_날짜의_변경은_적재_등록을_막지_않는다() {
+        long loadGeneration = index.currentGeneration();
+        DayOccupancy load = emptyDay();
+
+        index.onAppointmentChanged(AppointmentChangedEvent.created(new AppointmentSnapshot(
+                1L, 1L, "김환자", DEPARTMENT_ID, DATE.plusDays(1), TIME, null, AppointmentStatus.SCHEDULED, 0L)));
+
+        assertThat(index.putIfAbsent(DEPARTMENT_ID, DATE, load, loadGeneration)).isSameAs(load);
+        assertThat(index.find(DEPARTMENT_ID, DATE)).isSameAs(load);
+    }
+
+    private AppointmentSnapshot scheduled() {
+        return new AppointmentSnapshot(1L, 1L, "김환자", DEPARTMENT_ID, DATE, TIME, null,
+                AppointmentStatus.SCHEDULED, 0L);
+    }
+
+    private DayOccupancy emptyDay() {
+        return new DayOccupancy(LocalTime.of(9, 0), LocalTime.of(17, 0), 30);
+    }
+}
@@ -0,0 +1,158 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentBulkStatusRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Gender;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.PatientProfile;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.PatientProfileRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.AvailabilityRuleService;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 예약 주요 흐름(예약 생성, 예약 가능 시간 조회, 오늘 예약 현황, 상태 일괄 변경)의 HTTP 요청당 SQL 문 예산 검증
+class AppointmentQueryBudgetTest extends QueryBudgetTestSupport {
+
+    // 회원 존재 확인, 진료과 조회, 충돌 조회, 예약 저장, 아웃박스 기록
+    private static final long CREATE_APPOINTMENT_BUDGET = 5;
+
+    // 진료과 조회, 예약된 시간 조회, 차단된 시간 조회 (점유 현황 최초 적재, 휴진 규칙 스냅샷은 setUp에서 미리 적재)
+    private static final long TIME_SLOT_LOOKUP_BUDGET = 3;
+
+    // 진료과 조회 (점유 현황은 메모리에서 조회)
+    private static final long CACHED_TIME_SLOT_LOOKUP_BUDGET = 1;
+
+    // 예약 목록 프로젝션 한 번 (예약 건수와 무관)
+    private static final long TODAY_DASHBOARD_BUDGET = 1;
+
+    // 대상 예약 조회, 예약 UPDATE 배치, 아웃박스 INSERT 배치 (예약 건수와 무관)
+    private static final long BULK_STATUS_BUDGET = 3;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PatientProfileRepository patientProfileRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private AvailabilityRuleService availabilityRuleService;
+
+    private Hospital hospital;
+    private HospitalDepartment department;
+
+    @BeforeEach
+    void setUp() {
+        hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+        // 노드 최초/만료 시 한 번만 발생하는 휴진 규칙 스냅샷 적재를 측정에서 제외
+        availabilityRuleService.getRuleSet(department.getId());
+    }
+
+    @Test
+    void 예약_생성_요청은_예산_이하의_쿼리로_처리된다() throws Exception {
+        // 예약 ID 시퀀스 블록 최초 할당을 측정에서 제외
+        performOk(createAppointmentRequest(savePatient("박환자").getId(), LocalTime.of(9, 0)));
+        Long memberId = savePatient("김환자").getId();
+
+        assertQueryBudget(CREATE_APPOINTMENT_BUDGET,
+                () -> performOk(createAppointmentRequest(memberId, LocalTime.of(10, 0))));
+    }
+
+    @Test
+    void 예약_가능_시간_조회_요청은_예산_이하의_쿼리로_처리된다() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(3);
+
+        assertQueryBudget(TIME_SLOT_LOOKUP_BUDGET, () -> performOk(timeSlotRequest(date)));
+        assertQueryBudget(CACHED_TIME_SLOT_LOOKUP_BUDGET, () -> performOk(timeSlotRequest(date)));
+    }
+
+    @Test
+    void 오늘_예약_현황_조회는_예약_건수와_무관하게_예산_이하의_쿼리로_처리된다() throws Exception {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 5; i++) {
+            Member member = savePatient("환자" + i);
+            patientProfileRepository.save(PatientProfile.createPatientProfile(member, "19900101", Gender.FEMALE));
+            appointmentRepository.save(Appointment.createAppointment(
+                    member, department, today, LocalTime.of(9, 0).plusMinutes(30L * i)));
+        }
+
+        assertQueryBudget(TODAY_DASHBOARD_BUDGET, () -> performOk(get("/api/v1/appointments/today")));
+    }
+
+    @Test
+    void 예약_상태_일괄_변경_요청은_예약_건수와_무관하게_예산_이하의_쿼리로_처리된다() throws Exception {
+        // 아웃박스 ID 시퀀스 블록 최초 할당을 측정에서 제외
+        performOk(bulkStatusRequest(saveTodayAppointments(LocalTime.of(9, 0), 1), AppointmentStatus.ARRIVED));
+        List<Long> appointmentIds = saveTodayAppointments(LocalTime.of(10, 0), 10);
+
+        assertQueryBudget(BULK_STATUS_BUDGET,
+                () -> performOk(bulkStatusRequest(appointmentIds, AppointmentStatus.ARRIVED)));
+    }
+
+    private List<Long> saveTodayAppointments(LocalTime firstTime, int count) {
+        List<Long> appointmentIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            appointmentIds.add(appointmentRepository.save(Appointment.createAppointment(
+                    savePatient("환자" + i), department, LocalDate.now(), firstTime.plusMinutes(30L * i))).getId());
+        }
+        return appointmentIds;
+    }
+
+    private RequestBuilder bulkStatusRequest(List<Long> appointmentIds, AppointmentStatus status) throws Exception {
+        AppointmentBulkStatusRequest request = new AppointmentBulkStatusRequest(
+                status, appointmentIds, null, null, null, null, null);
+        return put("/api/v1/appointments/status/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(request));
+    }
+
+    private Member savePatient(String name) {
+        return memberRepository.save(Member.createPatient(name, uniquePhoneNumber(), "password"));
+    }
+
+    private RequestBuilder createAppointmentRequest(Long memberId, LocalTime time)
+            throws Exception {
+        AppointmentCreateRequest request = new AppointmentCreateRequest(
+                memberId, hospital.getId(), HospitalFixture.DEPARTMENT_NAME, LocalDate.now().plusDays(1), time);
+        return post("/api/v1/appointments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(request));
+    }
+
+    private RequestBuilder timeSlotRequest(LocalDate date) {
+        return get("/api/v1/patient/time-slots")
+                .param("hospitalId", String.valueOf(hospital.getId()))
+                .param("departmentName", HospitalFixture.DEPARTMENT_NAME)
+                .param("date", date.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.junit.jupiter.api.Test;
+
+// 예약 상태 전이 테이블 검증 - 허용된 전이만 가능하고, 호출 가능 여부와 시간대 점유 여부가 전이 테이블과 일치하는지 확인
+class AppointmentStatusTest {
+
+    private static final Map<AppointmentStatus, Set<AppointmentStatus>> EXPECTED_TRANSITIONS = Map.of(
+            AppointmentStatus.WAITING, EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CANCELLED),
+            AppointmentStatus.SCHEDULED, EnumSet.of(
+                    AppointmentStatus.ARRIVED, AppointmentStatus.CALLED, AppointmentStatus.CANCELLED),
+            AppointmentStatus.ARRIVED, EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CALLED,
+                    AppointmentStatus.COMPLETED, AppointmentStatus.CANCELLED),
+            AppointmentStatus.CALLED, EnumSet.of(AppointmentStatus.ARRIVED, AppointmentStatus.CALLED,
+                    AppointmentStatus.COMPLETED, AppointmentStatus.CANCELLED),
+            AppointmentStatus.COMPLETED, EnumSet.noneOf(AppointmentStatus.class),
+            AppointmentStatus.CANCELLED, EnumSet.noneOf(AppointmentStatus.class));
+
+    @Test
+    void 전이_테이블에_있는_상태로만_전이할_수_있다() {
+        for (AppointmentStatus from : AppointmentStatus.values()) {
+            for (AppointmentStatus to : AppointmentStatus.values()) {
+                assertThat(from.canTransitionTo(to))
+                        .as("%s → %s", from, to)
+                        .isEqualTo(EXPECTED_TRANSITIONS.get(from).contains(to));
+            }
+        }
+    }
+
+    @Test
+    void 완료와_취소만_시간대를_점유하지_않는다() {
+        assertThat(EnumSet.allOf(AppointmentStatus.class))
+                .filteredOn(status -> !status.isActive())
+                .containsExactlyInAnyOrder(AppointmentStatus.COMPLETED, AppointmentStatus.CANCELLED);
+    }
+
+    @Test
+    void 호출_가능_여부는_호출_상태로의_전이_가능_여부와_같다() {
+        Appointment appointment = newAppointment();
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.WAITING);
+        assertThat(appointment.canCall()).isFalse();
+
+        appointment.scheduleForToday();
+        assertThat(appointment.canCall()).isTrue();
+
+        appointment.call();
+        assertThat(appointment.canCall()).isTrue();
+
+        appointment.updateStatus(AppointmentStatus.COMPLETED);
+        assertThat(appointment.canCall()).isFalse();
+    }
+
+    @Test
+    void 허용되지_않은_전이는_상태_오류를_던지고_상태를_유지한다() {
+        Appointment appointment = newAppointment();
+
+        assertThatThrownBy(() -> appointment.updateStatus(AppointmentStatus.COMPLETED))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.APPOINTMENT_INVALID_STATUS);
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.WAITING);
+    }
+
+    private static Appointment newAppointment() {
+        HospitalDepartment department = HospitalFixture.newDepartment();
+        return Appointment.createAppointment(Member.createPatient("김환자", "01000000000", "password"),
+                department, LocalDate.now().plusDays(1), LocalTime.of(10, 0));
+    }
+}
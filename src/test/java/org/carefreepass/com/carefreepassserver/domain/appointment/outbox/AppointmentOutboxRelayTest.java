@@ -0,0 +1,176 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentEventType;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentOutboxRepository;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 아웃박스 릴레이 검증 - 점유/발행/보류 규칙을 테스트 스레드에서 릴레이를 직접 실행하여 확인
+// (노드 간 전달은 Redis 발행을 목으로 대체한 전달기로 확인)
+// (테스트 프로필은 릴레이 비활성화이므로 백그라운드 발행과 섞이지 않음)
+@RecordApplicationEvents
+class AppointmentOutboxRelayTest extends IntegrationTestSupport {
+
+    // 대기열 반영 대상(오늘)이 아닌 날짜로 기록하여 다른 리스너의 DB 조회를 피함
+    private static final LocalDate APPOINTMENT_DATE = LocalDate.now().plusDays(1);
+
+    private static final String CHANNEL = "appointment-outbox:relay";
+
+    @Autowired
+    private AppointmentOutboxRelay appointmentOutboxRelay;
+
+    @Autowired
+    private AppointmentOutboxRepository appointmentOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void 미발행_이벤트를_예약별_기록_순서대로_발행하고_발행_완료로_표시한다() throws Exception {
+        AppointmentOutbox first = save(1L, LocalTime.of(9, 0));
+        AppointmentOutbox other = save(2L, LocalTime.of(9, 30));
+        AppointmentOutbox second = save(1L, LocalTime.of(10, 0));
+
+        appointmentOutboxRelay.relay();
+
+        assertThat(publishedOutboxIds()).containsExactlyInAnyOrder(first.getId(), other.getId(), second.getId());
+        assertThat(publishedOutboxIds()).containsSubsequence(first.getId(), second.getId());
+        assertThat(appointmentOutboxRepository.findAll())
+                .allSatisfy(outbox -> {
+                    assertThat(outbox.getPublishedAt()).isNotNull();
+                    assertThat(outbox.getClaimedUntil()).isNull();
+                });
+    }
+
+    @Test
+    void 같은_예약의_이벤트는_ID가_아닌_예약_버전_순서로_발행한다() throws Exception {
+        // 다른 노드가 먼저 할당받은 낮은 ID 블록으로 나중 변경이 기록된 경우
+        AppointmentOutbox later = save(1L, 5L, LocalTime.of(10, 0));
+        AppointmentOutbox earlier = save(1L, 4L, LocalTime.of(9, 0));
+
+        appointmentOutboxRelay.relay();
+
+        assertThat(publishedOutboxIds()).containsExactly(earlier.getId(), later.getId());
+    }
+
+    @Test
+    void 다른_노드가_점유한_이벤트와_같은_예약의_이후_이벤트는_발행하지_않는다() throws Exception {
+        AppointmentOutbox claimed = save(1L, LocalTime.of(9, 0));
+        AppointmentOutbox following = save(1L, LocalTime.of(10, 0));
+        transactionTemplate.executeWithoutResult(tx ->
+                appointmentOutboxRepository.claim(List.of(claimed.getId()), LocalDateTime.now().plusMinutes(1)));
+
+        appointmentOutboxRelay.relay();
+
+        assertThat(publishedOutboxIds()).isEmpty();
+        assertThat(appointmentOutboxRepository.findAllById(List.of(claimed.getId(), following.getId())))
+                .allSatisfy(outbox -> assertThat(outbox.getPublishedAt()).isNull());
+    }
+
+    @Test
+    void 발행에_실패한_이벤트는_점유를_유지하고_같은_예약의_이후_이벤트를_보류한다() throws Exception {
+        AppointmentOutbox broken = appointmentOutboxRepository.save(AppointmentOutbox.of(
+                1L, -1L, AppointmentEventType.CREATED, "{", LocalDateTime.now()));
+        AppointmentOutbox following = save(1L, LocalTime.of(10, 0));
+        AppointmentOutbox other = save(2L, LocalTime.of(9, 30));
+
+        appointmentOutboxRelay.relay();
+
+        assertThat(publishedOutboxIds()).containsExactly(other.getId());
+        AppointmentOutbox failed = appointmentOutboxRepository.findById(broken.getId()).orElseThrow();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getClaimedUntil()).isAfter(LocalDateTime.now());
+        assertThat(appointmentOutboxRepository.findById(following.getId()).orElseThrow().getPublishedAt()).isNull();
+    }
+
+    @Test
+    void 다른_노드가_릴레이한_이벤트를_받으면_이_노드의_리스너에도_발행한다() throws Exception {
+        AppointmentOutbox outbox = save(1L, LocalTime.of(9, 0));
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        AppointmentOutboxBroadcaster relayNode = broadcaster(redisTemplate);
+        AppointmentOutboxBroadcaster otherNode = broadcaster(mock(StringRedisTemplate.class));
+
+        relayNode.broadcast(outbox);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+        otherNode.onMessage(message(payload.getValue()), null);
+
+        assertThat(publishedOutboxIds()).containsExactly(outbox.getId());
+        assertThat(applicationEvents.stream(AppointmentOutboxEvent.class))
+                .singleElement()
+                .satisfies(received -> assertThat(received.event().after().appointmentId()).isEqualTo(1L));
+    }
+
+    @Test
+    void 자신이_릴레이한_이벤트_메시지는_무시한다() throws Exception {
+        AppointmentOutbox outbox = save(1L, LocalTime.of(9, 0));
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        AppointmentOutboxBroadcaster relayNode = broadcaster(redisTemplate);
+
+        relayNode.broadcast(outbox);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+        relayNode.onMessage(message(payload.getValue()), null);
+
+        assertThat(publishedOutboxIds()).isEmpty();
+    }
+
+    private AppointmentOutboxBroadcaster broadcaster(StringRedisTemplate redisTemplate) {
+        return new AppointmentOutboxBroadcaster(redisTemplate, applicationEventPublisher, objectMapper, CHANNEL);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AppointmentOutbox save(Long appointmentId, LocalTime time) throws Exception {
+        return save(appointmentId, -1L, time);
+    }
+
+    private AppointmentOutbox save(Long appointmentId, long appointmentVersion, LocalTime time) throws Exception {
+        AppointmentChangedEvent event = AppointmentChangedEvent.created(new AppointmentSnapshot(
+                appointmentId, 1L, "환자", 1L, APPOINTMENT_DATE, time, 0L, AppointmentStatus.WAITING, 0L));
+        return appointmentOutboxRepository.save(AppointmentOutbox.of(
+                appointmentId, appointmentVersion, event.type(), objectMapper.writeValueAsString(event),
+                event.occurredAt()));
+    }
+
+    private List<Long> publishedOutboxIds() {
+        return applicationEvents.stream(AppointmentOutboxEvent.class)
+                .map(AppointmentOutboxEvent::outboxId)
+                .toList();
+    }
+}
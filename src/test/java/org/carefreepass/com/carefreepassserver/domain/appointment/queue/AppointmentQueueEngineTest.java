@@ -0,0 +1,111 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.QueueEntry;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentOutboxEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 진료 대기열 엔진 검증 - 기동 시 재구성, 릴레이 이벤트 반영, 예약 ID 색인 기반 순번 조회 (진료 소요 시간 초기값 10분)
+class AppointmentQueueEngineTest {
+
+    private static final Long DEPARTMENT_ID = 1L;
+    private static final Long OTHER_DEPARTMENT_ID = 2L;
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDateTime CHANGED_AT = TODAY.atTime(8, 0);
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+
+    private AppointmentQueueEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AppointmentQueueEngine(appointmentRepository, new AppointmentProperties());
+    }
+
+    @Test
+    void 기동_시_오늘_대기열을_재구성하고_예약_시간_순으로_순번을_계산한다() {
+        when(appointmentRepository.findQueueEntriesByDate(eq(TODAY), anyList())).thenReturn(List.of(
+                entry(10L, DEPARTMENT_ID, LocalTime.of(10, 0), AppointmentStatus.ARRIVED),
+                entry(11L, DEPARTMENT_ID, LocalTime.of(9, 30), AppointmentStatus.ARRIVED),
+                entry(12L, DEPARTMENT_ID, LocalTime.of(9, 0), AppointmentStatus.CALLED),
+                entry(20L, OTHER_DEPARTMENT_ID, LocalTime.of(11, 0), AppointmentStatus.ARRIVED)));
+
+        engine.rebuildToday();
+
+        QueuePosition first = engine.findPosition(11L);
+        assertThat(first.position()).isEqualTo(1);
+        assertThat(first.waitingCount()).isEqualTo(2);
+        assertThat(first.estimatedWaitMinutes()).isEqualTo(10);
+
+        QueuePosition second = engine.findPosition(10L);
+        assertThat(second.position()).isEqualTo(2);
+        assertThat(second.estimatedWaitMinutes()).isEqualTo(20);
+
+        assertThat(engine.findPosition(12L).isInConsultation()).isTrue();
+        assertThat(engine.findPosition(20L).position()).isEqualTo(1);
+        assertThat(engine.findPosition(99L)).isNull();
+    }
+
+    @Test
+    void 릴레이_이벤트로_대기열과_순번_색인을_갱신한다() {
+        when(appointmentRepository.findQueueEntries(eq(DEPARTMENT_ID), eq(TODAY), anyList())).thenReturn(List.of());
+
+        engine.onAppointmentOutboxEvent(statusChanged(30L, AppointmentStatus.SCHEDULED, AppointmentStatus.ARRIVED));
+        engine.onAppointmentOutboxEvent(statusChanged(31L, AppointmentStatus.SCHEDULED, AppointmentStatus.ARRIVED));
+        assertThat(engine.findPosition(31L).position()).isEqualTo(2);
+
+        engine.onAppointmentOutboxEvent(statusChanged(30L, AppointmentStatus.ARRIVED, AppointmentStatus.CALLED));
+        assertThat(engine.findPosition(30L).isInConsultation()).isTrue();
+        assertThat(engine.findPosition(31L).position()).isEqualTo(1);
+
+        engine.onAppointmentOutboxEvent(statusChanged(30L, AppointmentStatus.CALLED, AppointmentStatus.COMPLETED));
+        assertThat(engine.findPosition(30L)).isNull();
+
+        // 대기열은 최초 변경 시 한 번만 적재
+        verify(appointmentRepository, times(1)).findQueueEntries(eq(DEPARTMENT_ID), eq(TODAY), anyList());
+    }
+
+    @Test
+    void 적재되지_않은_대기열은_최초_조회_시_DB에서_재구성한다() {
+        when(appointmentRepository.findQueueEntries(eq(DEPARTMENT_ID), eq(TODAY), anyList())).thenReturn(List.of(
+                entry(40L, DEPARTMENT_ID, LocalTime.of(9, 0), AppointmentStatus.ARRIVED)));
+
+        assertThat(engine.findPosition(40L)).isNull();
+        assertThat(engine.getOrLoad(DEPARTMENT_ID, TODAY).waitingAppointmentIds()).containsExactly(40L);
+        assertThat(engine.findPosition(40L).position()).isEqualTo(1);
+        verify(appointmentRepository, times(1)).findQueueEntries(any(), any(), anyList());
+    }
+
+    private static QueueEntry entry(Long appointmentId, Long departmentId, LocalTime time, AppointmentStatus status) {
+        return new QueueEntry(appointmentId, departmentId, time, status, CHANGED_AT);
+    }
+
+    private static AppointmentOutboxEvent statusChanged(Long appointmentId, AppointmentStatus from,
+                                                        AppointmentStatus to) {
+        LocalTime time = LocalTime.of(9, 0).plusMinutes(appointmentId);
+        return new AppointmentOutboxEvent(appointmentId, AppointmentChangedEvent.statusChanged(
+                snapshot(appointmentId, time, from), snapshot(appointmentId, time, to)));
+    }
+
+    private static AppointmentSnapshot snapshot(Long appointmentId, LocalTime time, AppointmentStatus status) {
+        return new AppointmentSnapshot(appointmentId, 1L, "환자", DEPARTMENT_ID, TODAY, time, 0L, status, 0L);
+    }
+}
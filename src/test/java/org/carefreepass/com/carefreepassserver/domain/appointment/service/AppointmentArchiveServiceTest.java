@@ -0,0 +1,182 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.AppointmentArchiveResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentArchive;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentArchiveRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.golbal.config.AppointmentProperties;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+// 예약 보관 검증 - 기준일 이전의 완료/취소 예약만 청크 단위로 보관 테이블로 옮기고(배정 자원 포함 필드 유지),
+// 내 예약 이력 커서 페이지가 예약/보관 두 테이블을 최신순으로 이어서 조회하는지 확인
+// (다른 테스트의 예약과 섞이지 않도록 2000년 날짜 사용, 보관 청크 크기 2)
+class AppointmentArchiveServiceTest extends IntegrationTestSupport {
+
+    private static final LocalDate CUTOFF_DATE = LocalDate.of(2000, 2, 1);
+    private static final int CHUNK_SIZE = 2;
+    private static final Long RESOURCE_ID = 7L;
+
+    @Autowired
+    private AppointmentArchiveService appointmentArchiveService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentArchiveRepository appointmentArchiveRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private AppointmentProperties appointmentProperties;
+
+    private int defaultChunkSize;
+    private Member member;
+    private HospitalDepartment department;
+    private List<Appointment> archivable;
+    private Appointment activeBeforeCutoff;
+    private Appointment completedAfterCutoff;
+
+    @BeforeEach
+    void setUp() {
+        defaultChunkSize = appointmentProperties.getArchiveChunkSize();
+        appointmentProperties.setArchiveChunkSize(CHUNK_SIZE);
+
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+        member = memberRepository.save(Member.createPatient("김환자", uniquePhoneNumber(), "password"));
+
+        archivable = List.of(
+                save(LocalDate.of(2000, 1, 2), AppointmentStatus.COMPLETED),
+                save(LocalDate.of(2000, 1, 3), AppointmentStatus.CANCELLED),
+                save(LocalDate.of(2000, 1, 5), AppointmentStatus.COMPLETED),
+                save(LocalDate.of(2000, 1, 6), AppointmentStatus.CANCELLED),
+                save(LocalDate.of(2000, 1, 7), AppointmentStatus.COMPLETED));
+        activeBeforeCutoff = save(LocalDate.of(2000, 1, 4), AppointmentStatus.SCHEDULED);
+        completedAfterCutoff = save(LocalDate.of(2000, 2, 5), AppointmentStatus.COMPLETED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appointmentProperties.setArchiveChunkSize(defaultChunkSize);
+    }
+
+    @Test
+    void 기준일_이전의_완료_취소_예약만_청크_단위로_보관한다() {
+        AppointmentArchiveResult result = appointmentArchiveService.archiveFinishedBefore(CUTOFF_DATE);
+
+        assertThat(result.archivedCount()).isEqualTo(archivable.size());
+        assertThat(result.chunkCount()).isEqualTo(3);
+        assertThat(appointmentRepository.findAllById(ids(archivable))).isEmpty();
+        assertThat(appointmentRepository.findAllById(List.of(activeBeforeCutoff.getId(), completedAfterCutoff.getId())))
+                .hasSize(2);
+        assertThat(appointmentArchiveRepository.findAllById(List.of(
+                activeBeforeCutoff.getId(), completedAfterCutoff.getId()))).isEmpty();
+    }
+
+    @Test
+    void 보관된_예약은_배정_자원을_포함한_원본_필드를_유지한다() {
+        List<Appointment> originals = appointmentRepository.findAllById(ids(archivable));
+
+        appointmentArchiveService.archiveFinishedBefore(CUTOFF_DATE);
+
+        for (Appointment original : originals) {
+            AppointmentArchive archived = appointmentArchiveRepository.findById(original.getId()).orElseThrow();
+            assertThat(archived.getMemberId()).isEqualTo(member.getId());
+            assertThat(archived.getHospitalDepartmentId()).isEqualTo(department.getId());
+            assertThat(archived.getAppointmentDate()).isEqualTo(original.getAppointmentDate());
+            assertThat(archived.getAppointmentTime()).isEqualTo(original.getAppointmentTime());
+            assertThat(archived.getResourceId()).isEqualTo(RESOURCE_ID);
+            assertThat(archived.getStatus()).isEqualTo(original.getStatus());
+            assertThat(archived.getCreatedAt()).isEqualTo(original.getCreatedAt());
+            assertThat(archived.getUpdatedAt()).isEqualTo(original.getUpdatedAt());
+            assertThat(archived.getArchivedAt()).isNotNull();
+        }
+    }
+
+    @Test
+    void 내_예약_이력은_예약과_보관_테이블을_커서로_이어서_최신순으로_조회한다() throws Exception {
+        appointmentArchiveService.archiveFinishedBefore(CUTOFF_DATE);
+
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = historyPage(cursor, 3);
+            List<Long> pageIds = new ArrayList<>();
+            page.path("appointments").forEach(row -> pageIds.add(row.path("appointmentId").asLong()));
+            pages.add(pageIds);
+            JsonNode nextCursor = page.path("nextCursor");
+            cursor = nextCursor.isTextual() ? nextCursor.asText() : null;
+        } while (cursor != null);
+
+        // 2/5(예약), 1/7, 1/6, 1/5(보관), 1/4(예약), 1/3, 1/2(보관)
+        assertThat(pages).containsExactly(
+                List.of(completedAfterCutoff.getId(), archivable.get(4).getId(), archivable.get(3).getId()),
+                List.of(archivable.get(2).getId(), activeBeforeCutoff.getId(), archivable.get(1).getId()),
+                List.of(archivable.get(0).getId()));
+    }
+
+    private JsonNode historyPage(String cursor, int size) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/appointments/my/history")
+                .param("memberId", member.getId().toString())
+                .param("size", Integer.toString(size));
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    // 지정 상태의 예약 저장 (미래가 아닌 날짜는 대기 상태로 생성되므로 전이 테이블을 따라 상태 변경)
+    private Appointment save(LocalDate date, AppointmentStatus status) {
+        Appointment appointment = Appointment.createAppointment(
+                member, department, date, LocalTime.of(10, 0), RESOURCE_ID);
+        switch (status) {
+            case CANCELLED -> appointment.updateStatus(AppointmentStatus.CANCELLED);
+            case SCHEDULED -> appointment.updateStatus(AppointmentStatus.SCHEDULED);
+            case COMPLETED -> {
+                appointment.updateStatus(AppointmentStatus.SCHEDULED);
+                appointment.updateStatus(AppointmentStatus.ARRIVED);
+                appointment.updateStatus(AppointmentStatus.COMPLETED);
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 상태: " + status);
+        }
+        return appointmentRepository.save(appointment);
+    }
+
+    private List<Long> ids(List<Appointment> appointments) {
+        return appointments.stream().map(Appointment::getId).toList();
+    }
+}
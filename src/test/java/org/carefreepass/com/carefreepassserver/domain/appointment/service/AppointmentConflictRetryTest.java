@@ -0,0 +1,87 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.carefreepass.com.carefreepassserver.support.ConcurrentAppointmentModifier;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 예약 동시 수정 재시도 검증 - 변경 도중 다른 트랜잭션이 버전을 올려 낙관적 락 충돌을 일으키고, 새 트랜잭션으로 다시 시도하는지 확인
+// (최대 시도 횟수는 기본값 3회)
+class AppointmentConflictRetryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private ConcurrentAppointmentModifier concurrentModifier;
+
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        HospitalDepartment department = hospitalDepartmentRepository.save(
+                HospitalFixture.newDepartment(hospital));
+        Member member = memberRepository.save(Member.createPatient(
+                "김환자", uniquePhoneNumber(), "password"));
+        appointment = appointmentRepository.save(Appointment.createAppointment(
+                member, department, LocalDate.now().plusDays(1), LocalTime.of(10, 0)));
+        concurrentModifier.reset();
+    }
+
+    @Test
+    void 동시_수정_충돌이_나면_새_트랜잭션으로_다시_시도한다() {
+        concurrentModifier.conflictTimes(1);
+
+        appointmentService.updateAppointmentStatus(appointment.getId(), AppointmentStatus.SCHEDULED);
+
+        assertThat(concurrentModifier.invocations()).isEqualTo(2);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getStatus())
+                .isEqualTo(AppointmentStatus.SCHEDULED);
+    }
+
+    @Test
+    void 재시도_한도까지_충돌하면_동시_수정_오류를_던지고_변경하지_않는다() {
+        concurrentModifier.conflictTimes(3);
+
+        assertThatThrownBy(() ->
+                appointmentService.updateAppointmentStatus(appointment.getId(), AppointmentStatus.SCHEDULED))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.APPOINTMENT_CONCURRENT_MODIFICATION);
+
+        assertThat(concurrentModifier.invocations()).isEqualTo(3);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getStatus())
+                .isEqualTo(AppointmentStatus.WAITING);
+    }
+}
@@ -0,0 +1,77 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.request.AppointmentCreateRequest;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 예약 생성 서비스 호출의 SQL 문 예산 및 같은 시간대 중복 예약 거절 검증 (HTTP 요청 단위 예산은 AppointmentQueryBudgetTest)
+class AppointmentServiceQueryCountTest extends QueryBudgetTestSupport {
+
+    // 회원 존재 확인, 진료과 조회, 충돌 조회, 예약 저장, 아웃박스 기록
+    private static final long CREATE_APPOINTMENT_STATEMENT_BUDGET = 5;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    private Hospital hospital;
+
+    @BeforeEach
+    void setUp() {
+        hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+    }
+
+    @Test
+    void 예약_생성은_고정된_개수의_쿼리로_처리된다() {
+        // 예약 ID 시퀀스 블록 최초 할당을 측정에서 제외
+        appointmentService.createAppointment(createRequest(savePatient("박환자"), LocalDate.now().plusDays(1), LocalTime.of(9, 0)));
+        AppointmentCreateRequest request = createRequest(savePatient("김환자"), LocalDate.now().plusDays(1), LocalTime.of(10, 0));
+
+        assertQueryBudget(CREATE_APPOINTMENT_STATEMENT_BUDGET, () -> appointmentService.createAppointment(request));
+    }
+
+    @Test
+    void 같은_시간대_중복_예약은_시간_불가_에러를_반환한다() {
+        Member first = savePatient("김환자");
+        Member second = savePatient("이환자");
+        LocalDate date = LocalDate.now().plusDays(2);
+
+        appointmentService.createAppointment(createRequest(first, date, LocalTime.of(11, 0)));
+
+        assertThatThrownBy(() -> appointmentService.createAppointment(createRequest(second, date, LocalTime.of(11, 0))))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
+    }
+
+    private Member savePatient(String name) {
+        return memberRepository.save(Member.createPatient(name, uniquePhoneNumber(), "password"));
+    }
+
+    private AppointmentCreateRequest createRequest(Member member, LocalDate date, LocalTime time) {
+        return new AppointmentCreateRequest(member.getId(), hospital.getId(), HospitalFixture.DEPARTMENT_NAME, date, time);
+    }
+}
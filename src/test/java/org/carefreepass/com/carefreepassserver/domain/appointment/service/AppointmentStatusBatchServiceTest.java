@@ -0,0 +1,107 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.Appointment;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentOutbox;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentEventType;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentOutboxRepository;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.AppointmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 예약 상태 일괄 전환 검증 - 집합 UPDATE로 전환된 예약마다 같은 트랜잭션에서 상태 변경 아웃박스 레코드가 기록되어
+// 회원 알림/대기열이 예약 단위 변경을 받는지 확인 (전환 대상이 아닌 예약은 기록하지 않음)
+class AppointmentStatusBatchServiceTest extends IntegrationTestSupport {
+
+    // 다른 테스트와 겹치지 않고 오늘 대기열 반영 대상도 아닌 날짜
+    private static final LocalDate APPOINTMENT_DATE = LocalDate.now().plusDays(20);
+
+    @Autowired
+    private AppointmentStatusBatchService appointmentStatusBatchService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentOutboxRepository appointmentOutboxRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Appointment first;
+    private Appointment second;
+    private Appointment cancelled;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        HospitalDepartment department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+        first = appointmentRepository.save(Appointment.createAppointment(
+                newMember("김환자"), department, APPOINTMENT_DATE, LocalTime.of(9, 0)));
+        second = appointmentRepository.save(Appointment.createAppointment(
+                newMember("이환자"), department, APPOINTMENT_DATE, LocalTime.of(9, 30)));
+        Appointment toCancel = Appointment.createAppointment(
+                newMember("박환자"), department, APPOINTMENT_DATE, LocalTime.of(10, 0));
+        toCancel.updateStatus(AppointmentStatus.CANCELLED);
+        cancelled = appointmentRepository.save(toCancel);
+    }
+
+    @Test
+    void 일괄_전환된_예약마다_상태_변경_아웃박스를_기록한다() throws Exception {
+        appointmentStatusBatchService.transition(APPOINTMENT_DATE, AppointmentStatus.WAITING, AppointmentStatus.SCHEDULED);
+
+        List<AppointmentOutbox> outboxes = outboxesOf(first, second, cancelled);
+        assertThat(outboxes).extracting(AppointmentOutbox::getAppointmentId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+        List<Long> memberIds = new ArrayList<>();
+        for (AppointmentOutbox outbox : outboxes) {
+            AppointmentChangedEvent event = objectMapper.readValue(outbox.getPayload(), AppointmentChangedEvent.class);
+            memberIds.add(event.memberId());
+            assertThat(outbox.getEventType()).isEqualTo(AppointmentEventType.STATUS_CHANGED);
+            assertThat(outbox.getAppointmentVersion()).isEqualTo(event.before().version());
+            assertThat(event.before().status()).isEqualTo(AppointmentStatus.WAITING);
+            assertThat(event.after().status()).isEqualTo(AppointmentStatus.SCHEDULED);
+            assertThat(event.after().version()).isEqualTo(event.before().version() + 1);
+        }
+        assertThat(memberIds).containsExactlyInAnyOrder(first.getMember().getId(), second.getMember().getId());
+    }
+
+    private List<AppointmentOutbox> outboxesOf(Appointment... appointments) {
+        List<Long> ids = Arrays.stream(appointments).map(Appointment::getId).toList();
+        return appointmentOutboxRepository.findAll().stream()
+                .filter(outbox -> ids.contains(outbox.getAppointmentId()))
+                .toList();
+    }
+
+    private Member newMember(String name) {
+        return memberRepository.save(Member.createPatient(
+                name, uniquePhoneNumber(), "password"));
+    }
+}
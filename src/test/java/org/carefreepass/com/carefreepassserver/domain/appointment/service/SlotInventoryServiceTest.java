@@ -0,0 +1,133 @@
+package org.carefreepass.com.carefreepassserver.domain.appointment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.SlotInventoryRow;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.SlotInventory;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentSnapshot;
+import org.carefreepass.com.carefreepassserver.domain.appointment.repository.SlotInventoryRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.HospitalDepartmentUpdateRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.HospitalDepartmentService;
+import org.carefreepass.com.carefreepassserver.golbal.error.BusinessException;
+import org.carefreepass.com.carefreepassserver.golbal.error.ErrorCode;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 시간대 재고 검증 - 같은 시간대 동시 점유는 한 건만 성공하고, 진료 시간 변경 시 재고가 새 시간대 목록으로 다시 생성되는지 확인
+// (재고 사용 + 생성 기간 2일 설정이 공용 통합 테스트 컨텍스트와 달라 전용 컨텍스트/인메모리 DB 사용)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slotinventorydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.appointment.slot-inventory-enabled=true",
+        "app.appointment.slot-inventory-days-ahead=2"
+})
+@ActiveProfiles("test")
+class SlotInventoryServiceTest {
+
+    @Autowired
+    private SlotInventoryService slotInventoryService;
+
+    @Autowired
+    private SlotInventoryRepository slotInventoryRepository;
+
+    @Autowired
+    private HospitalDepartmentService hospitalDepartmentService;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    private HospitalDepartment department;
+    private LocalDate tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+        tomorrow = LocalDate.now().plusDays(1);
+        slotInventoryService.generateAhead();
+    }
+
+    @Test
+    void 같은_시간대를_동시에_점유하면_한_건만_성공한다() throws Exception {
+        LocalTime time = LocalTime.of(10, 0);
+        List<AppointmentSnapshot> claims = List.of(snapshot(900_001L, time), snapshot(900_002L, time));
+        CountDownLatch ready = new CountDownLatch(claims.size());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(claims.size());
+
+        List<Future<Throwable>> results = new ArrayList<>();
+        try {
+            for (AppointmentSnapshot claim : claims) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        slotInventoryService.claim(claim);
+                        return null;
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Throwable> result : results) {
+                Throwable failure = result.get(30, TimeUnit.SECONDS);
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+
+            assertThat(failures).hasSize(1);
+            assertThat(failures.get(0))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.APPOINTMENT_TIME_UNAVAILABLE);
+            assertThat(slotInventoryRepository.findSlot(department.getId(), tomorrow, time)
+                    .map(SlotInventory::getAppointmentId))
+                    .hasValueSatisfying(winner -> assertThat(winner).isIn(900_001L, 900_002L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 진료_시간이_바뀌면_재고를_새_시간대_목록으로_다시_생성한다() {
+        hospitalDepartmentService.updateDepartment(department.getId(), new HospitalDepartmentUpdateRequest(
+                HospitalFixture.DEPARTMENT_NAME, "내과 진료", LocalTime.of(9, 0), LocalTime.of(12, 0), 60));
+
+        List<LocalTime> slotTimes = slotInventoryRepository.findRows(department.getId(), tomorrow, tomorrow).stream()
+                .map(SlotInventoryRow::slotTime)
+                .toList();
+
+        assertThat(slotTimes).containsExactly(
+                LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0), LocalTime.of(12, 0));
+    }
+
+    private AppointmentSnapshot snapshot(Long appointmentId, LocalTime time) {
+        return new AppointmentSnapshot(appointmentId, 1L, "김환자", department.getId(), tomorrow, time,
+                null, AppointmentStatus.SCHEDULED, 0L);
+    }
+}
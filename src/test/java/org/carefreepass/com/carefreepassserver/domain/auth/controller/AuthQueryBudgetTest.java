@@ -0,0 +1,45 @@
+package org.carefreepass.com.carefreepassserver.domain.auth.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import org.carefreepass.com.carefreepassserver.domain.auth.dto.request.PatientSignInRequest;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Gender;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.PatientProfile;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.PatientProfileRepository;
+import org.carefreepass.com.carefreepassserver.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 환자 로그인 HTTP 요청당 SQL 문 예산 검증 (리프레시 토큰 저장소는 목)
+class AuthQueryBudgetTest extends QueryBudgetTestSupport {
+
+    // 회원 조회, 환자 프로필 조회, 프로필의 회원 즉시 로딩
+    private static final long PATIENT_SIGN_IN_BUDGET = 3;
+
+    private static final String PASSWORD = "password123!";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PatientProfileRepository patientProfileRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void 환자_로그인_요청은_예산_이하의_쿼리로_처리된다() throws Exception {
+        Member member = memberRepository.save(
+                Member.createPatient("김환자", uniquePhoneNumber(), passwordEncoder.encode(PASSWORD)));
+        patientProfileRepository.save(PatientProfile.createPatientProfile(member, "19900101", Gender.MALE));
+        PatientSignInRequest request = new PatientSignInRequest(member.getPhoneNumber(), PASSWORD);
+
+        assertQueryBudget(PATIENT_SIGN_IN_BUDGET, () -> performOk(post("/api/v1/auth/patient/sign-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(request))));
+    }
+}
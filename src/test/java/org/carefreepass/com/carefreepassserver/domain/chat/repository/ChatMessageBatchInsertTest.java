@@ -0,0 +1,68 @@
+package org.carefreepass.com.carefreepassserver.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.chat.entity.ChatMessage;
+import org.carefreepass.com.carefreepassserver.domain.chat.entity.ChatSession;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.carefreepass.com.carefreepassserver.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 시퀀스 ID + JDBC 배치 INSERT 검증 - 메시지 N건 저장이 행 단위 INSERT(IDENTITY는 N건)가 아니라
+// 배치 크기(50) 단위 INSERT 문과 시퀀스 블록(50) 단위 조회로 처리되는지 SQL 문 수로 확인 (처리 시간은 측정하지 않음)
+class ChatMessageBatchInsertTest extends IntegrationTestSupport {
+
+    private static final int MESSAGE_COUNT = 500;
+
+    // test 프로필 hibernate.jdbc.batch_size 및 chat_messages_seq allocationSize
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(
+                Member.createPatient("김환자", uniquePhoneNumber(), "password"));
+        sessionId = chatSessionRepository.save(ChatSession.createSession(member, "배치 INSERT 측정")).getId();
+    }
+
+    @Test
+    void 시퀀스_ID_엔티티는_INSERT가_배치로_전송된다() {
+        long statements = QueryCounter.count(() -> insertMessages(MESSAGE_COUNT));
+
+        // INSERT 배치 MESSAGE_COUNT / BATCH_SIZE개 + 시퀀스 블록 조회 MESSAGE_COUNT / BATCH_SIZE개 (최초 할당 여유 1개)
+        assertThat(statements).isLessThanOrEqualTo(2L * MESSAGE_COUNT / BATCH_SIZE + 1);
+    }
+
+    private void insertMessages(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ChatSession session = chatSessionRepository.getReferenceById(sessionId);
+            List<ChatMessage> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ChatMessage message = ChatMessage.createUserMessage("증상 문의 " + i, i);
+                message.setChatSession(session);
+                messages.add(message);
+            }
+            chatMessageRepository.saveAll(messages);
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package org.carefreepass.com.carefreepassserver.domain.chat.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import org.carefreepass.com.carefreepassserver.domain.auth.entity.Member;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.MemberRepository;
+import org.carefreepass.com.carefreepassserver.domain.chat.entity.ChatSession;
+import org.carefreepass.com.carefreepassserver.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 채팅 메시지 전송 서비스 호출당 SQL 문 예산 검증 (OpenAI 응답은 목)
+class AiChatServiceQueryBudgetTest extends QueryBudgetTestSupport {
+
+    // 세션+메시지 조회, 증상 분석 즉시 로딩, 다음 순번 조회, 사용자 메시지 INSERT(대화 이력 조회 전 flush), 대화 이력 조회,
+    // 증상 분석 조회, AI 메시지 INSERT, 증상 분석 UPDATE
+    private static final long SEND_MESSAGE_BUDGET = 8;
+
+    @Autowired
+    private AiChatService aiChatService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long memberId;
+    private Long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        given(openAIService.generateResponse(anyList(), anyString()))
+                .willReturn("두통이 있으시군요. 신경과 진료를 권해드립니다.");
+
+        memberId = memberRepository.save(Member.createPatient("김환자", uniquePhoneNumber(), "password")).getId();
+        // 세션 시작과 첫 메시지로 메시지/증상 분석 시퀀스 블록 최초 할당을 측정에서 제외
+        ChatSession session = aiChatService.startNewChatSession(memberId, "머리가 아파요");
+        sessionId = session.getId();
+    }
+
+    @Test
+    void 채팅_메시지_전송은_대화_길이와_무관하게_예산_이하의_쿼리로_처리된다() {
+        aiChatService.sendMessage(sessionId, memberId, "어제부터 계속 아파요");
+
+        assertQueryBudget(SEND_MESSAGE_BUDGET,
+                () -> aiChatService.sendMessage(sessionId, memberId, "열도 조금 있어요"));
+    }
+}
@@ -0,0 +1,87 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRule;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.AvailabilityRuleType;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.junit.jupiter.api.Test;
+
+// 휴진 규칙 평가기 검증 - 기본 진료 시간 10:00~16:30, 30분 간격(14개 시간대) 진료과 기준
+class AvailabilityRuleSetTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 9, 3);
+    private static final LocalDate THURSDAY = WEDNESDAY.plusDays(1);
+    private static final LocalDate HOLIDAY = LocalDate.of(2025, 10, 3);
+
+    private final HospitalDepartment department = HospitalFixture.newDepartment();
+
+    @Test
+    void 요일_반복_규칙은_해당_요일의_시간_범위만_차단한다() {
+        AvailabilityRuleSet rules = compile(List.of(rule(AvailabilityRuleType.WEEKLY, DayOfWeek.WEDNESDAY,
+                null, null, LocalTime.of(13, 0), LocalTime.of(17, 0))), Set.of());
+
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(13, 0))).isTrue();
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(16, 30))).isTrue();
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(12, 30))).isFalse();
+        assertThat(rules.isClosed(THURSDAY, LocalTime.of(13, 0))).isFalse();
+        assertThat(rules.closedSlots(WEDNESDAY).cardinality()).isEqualTo(8);
+        assertThat(rules.closedSlots(THURSDAY).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 적용_기간이_있는_요일_규칙은_기간_밖에서는_적용되지_않는다() {
+        AvailabilityRuleSet rules = compile(List.of(rule(AvailabilityRuleType.WEEKLY, DayOfWeek.WEDNESDAY,
+                WEDNESDAY.plusWeeks(1), null, null, null)), Set.of());
+
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(10, 0))).isFalse();
+        assertThat(rules.isClosed(WEDNESDAY.plusWeeks(1), LocalTime.of(10, 0))).isTrue();
+        assertThat(rules.closedSlots(WEDNESDAY.plusWeeks(2)).cardinality()).isEqualTo(14);
+    }
+
+    @Test
+    void 기간_규칙은_양끝_날짜를_포함해_차단한다() {
+        AvailabilityRuleSet rules = compile(List.of(rule(AvailabilityRuleType.DATE_RANGE, null,
+                WEDNESDAY, THURSDAY, null, null)), Set.of());
+
+        assertThat(rules.isClosed(WEDNESDAY.minusDays(1), LocalTime.of(10, 0))).isFalse();
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(10, 0))).isTrue();
+        assertThat(rules.isClosed(THURSDAY, LocalTime.of(16, 30))).isTrue();
+        assertThat(rules.isClosed(THURSDAY.plusDays(1), LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    void 공휴일_규칙은_공휴일_달력의_날짜에만_적용된다() {
+        AvailabilityRuleSet rules = compile(List.of(rule(AvailabilityRuleType.HOLIDAY, null,
+                null, null, null, null)), Set.of(HOLIDAY));
+
+        assertThat(rules.isClosed(HOLIDAY, LocalTime.of(10, 0))).isTrue();
+        assertThat(rules.isClosed(HOLIDAY.plusDays(1), LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    void 기본_시간대에_없는_시간과_규칙_없는_진료과는_차단되지_않는다() {
+        AvailabilityRuleSet rules = compile(List.of(rule(AvailabilityRuleType.DATE_RANGE, null,
+                WEDNESDAY, WEDNESDAY, null, null)), Set.of());
+
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(10, 15))).isFalse();
+        assertThat(rules.isClosed(WEDNESDAY, LocalTime.of(18, 0))).isFalse();
+        assertThat(AvailabilityRuleSet.empty().isClosed(WEDNESDAY, LocalTime.of(10, 0))).isFalse();
+        assertThat(AvailabilityRuleSet.empty().closedSlots(WEDNESDAY).isEmpty()).isTrue();
+    }
+
+    private AvailabilityRuleSet compile(List<AvailabilityRule> rules, Set<LocalDate> holidays) {
+        return AvailabilityRuleSet.compile(department, rules, holidays);
+    }
+
+    private AvailabilityRule rule(AvailabilityRuleType type, DayOfWeek dayOfWeek, LocalDate startDate,
+                                  LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        return AvailabilityRule.createRule(department, type, dayOfWeek, startDate, endDate, startTime, endTime, null);
+    }
+}
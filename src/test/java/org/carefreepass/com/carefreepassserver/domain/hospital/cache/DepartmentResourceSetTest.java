@@ -0,0 +1,94 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.carefreepass.com.carefreepassserver.domain.appointment.cache.DayOccupancy;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResource;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.DepartmentResourceType;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 진료 자원 배정기 검증 - 기본 진료 시간 10:00~16:30, 30분 간격(14개 시간대) 진료과 기준
+class DepartmentResourceSetTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 9, 3);
+    private static final LocalDate THURSDAY = WEDNESDAY.plusDays(1);
+    private static final LocalTime MORNING = LocalTime.of(10, 0);
+    private static final LocalTime AFTERNOON = LocalTime.of(14, 0);
+
+    private final HospitalDepartment department = HospitalFixture.newDepartment();
+
+    // 1번: 매일 종일, 2번: 수요일 오전만, 3번: 수/목 종일
+    private final DepartmentResourceSet resources = DepartmentResourceSet.compile(department, List.of(
+            resource(1L, List.of(), null, null),
+            resource(2L, List.of(DayOfWeek.WEDNESDAY), LocalTime.of(10, 0), LocalTime.of(13, 0)),
+            resource(3L, List.of(DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY), null, null)));
+
+    @Test
+    void 시간대_근무_자원은_요일과_근무_시간으로_결정된다() {
+        assertThat(Long.bitCount(resources.workingMask(WEDNESDAY, MORNING))).isEqualTo(3);
+        assertThat(Long.bitCount(resources.workingMask(WEDNESDAY, AFTERNOON))).isEqualTo(2);
+        assertThat(Long.bitCount(resources.workingMask(THURSDAY, MORNING))).isEqualTo(2);
+        assertThat(Long.bitCount(resources.workingMask(WEDNESDAY.plusDays(3), MORNING))).isEqualTo(1);
+        assertThat(resources.workingMask(WEDNESDAY, LocalTime.of(10, 15))).isZero();
+    }
+
+    @Test
+    void 점유된_자원과_근무하지_않는_자원은_배정하지_않는다() {
+        assertThat(resources.allocate(WEDNESDAY, AFTERNOON, List.of(1L), 0L)).isEqualTo(3L);
+        assertThat(resources.allocate(WEDNESDAY, AFTERNOON, List.of(1L, 3L), 0L)).isNull();
+        assertThat(resources.allocate(WEDNESDAY, MORNING, List.of(1L, 3L), 0L)).isEqualTo(2L);
+    }
+
+    @Test
+    void 배정_시작_위치는_seed에_따라_순환한다() {
+        assertThat(resources.allocate(WEDNESDAY, MORNING, List.of(), 0L)).isEqualTo(1L);
+        assertThat(resources.allocate(WEDNESDAY, MORNING, List.of(), 1L)).isEqualTo(2L);
+        assertThat(resources.allocate(WEDNESDAY, MORNING, List.of(), 2L)).isEqualTo(3L);
+        assertThat(resources.allocate(WEDNESDAY, MORNING, List.of(3L), 2L)).isEqualTo(1L);
+    }
+
+    @Test
+    void 점유_현황은_자원별_예약으로_남은_수용_인원을_계산한다() {
+        DayOccupancy occupancy = DayOccupancy.of(department, resources, WEDNESDAY);
+
+        occupancy.occupy(MORNING, 1L, "김환자");
+        occupancy.occupy(MORNING, 1L, "이환자");
+        occupancy.occupy(MORNING, 99L, "박환자");
+        assertThat(occupancy.remainingCapacity(MORNING)).isEqualTo(2);
+
+        occupancy.occupy(MORNING, 2L, "최환자");
+        occupancy.occupy(MORNING, 3L, "정환자");
+        assertThat(occupancy.isAvailable(MORNING)).isFalse();
+
+        occupancy.release(MORNING, 2L);
+        assertThat(occupancy.remainingCapacity(MORNING)).isEqualTo(1);
+
+        occupancy.block(MORNING);
+        assertThat(occupancy.remainingCapacity(MORNING)).isZero();
+    }
+
+    @Test
+    void 자원이_없는_진료과는_시간대당_한_명만_예약받는다() {
+        DayOccupancy occupancy = DayOccupancy.of(department, DepartmentResourceSet.empty(), WEDNESDAY);
+
+        assertThat(occupancy.remainingCapacity(MORNING)).isEqualTo(1);
+        occupancy.occupy(MORNING, 0L, "김환자");
+        assertThat(occupancy.isAvailable(MORNING)).isFalse();
+        assertThat(occupancy.toTimeSlots().get(0).getBookedBy()).isEqualTo("김환자");
+    }
+
+    private static DepartmentResource resource(Long id, List<DayOfWeek> workingDays, LocalTime startTime,
+                                               LocalTime endTime) {
+        DepartmentResource resource = DepartmentResource.createResource(null, DepartmentResourceType.DOCTOR,
+                "의사" + id, workingDays, startTime, endTime);
+        ReflectionTestUtils.setField(resource, "id", id);
+        return resource;
+    }
+}
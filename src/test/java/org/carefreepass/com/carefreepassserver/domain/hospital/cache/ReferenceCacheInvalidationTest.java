@@ -0,0 +1,138 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.DepartmentCatalogService;
+import org.carefreepass.com.carefreepassserver.domain.hospital.service.HospitalDepartmentService;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 진료과 2차 캐시 무효화 검증 - 커밋한 노드는 커밋 후 리스너로, 다른 노드는 무효화 메시지로 진료과 엔티티 캐시를 비우는지 확인
+// (진료 자원 변경도 진료과 변경 이벤트로 전파되므로 다른 노드의 활성 자원 수도 메시지 수신 후 다시 읽음)
+// (2차 캐시 설정이 공용 통합 테스트 컨텍스트와 달라 전용 컨텍스트/인메모리 DB 사용, Redis 발행은 목으로 대체)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:referencecachedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create-warn"
+})
+@ActiveProfiles("test")
+class ReferenceCacheInvalidationTest {
+
+    private static final String CHANNEL = "department-catalog:invalidate";
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    @Autowired
+    private HospitalDepartmentService hospitalDepartmentService;
+
+    @Autowired
+    private DepartmentCatalogService departmentCatalogService;
+
+    @Autowired
+    private ReferenceCacheInvalidator referenceCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private Cache cache;
+    private DepartmentCatalogBroadcaster broadcaster;
+    private Long departmentId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        broadcaster = new DepartmentCatalogBroadcaster(redisTemplate, departmentCatalogService,
+                referenceCacheInvalidator, mock(ObjectProvider.class), CHANNEL);
+
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        departmentId = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital)).getId();
+        loadDepartment();
+    }
+
+    @Test
+    void 진료과_변경_커밋_후_진료과_엔티티_캐시를_비운다() {
+        hospitalDepartmentService.deactivateDepartment(departmentId);
+
+        assertThat(cache.containsEntity(HospitalDepartment.class, departmentId)).isFalse();
+    }
+
+    @Test
+    void 다른_노드의_무효화_메시지를_받으면_진료과_엔티티_캐시를_비운다() {
+        broadcaster.onMessage(message("other-node:" + departmentId), null);
+
+        assertThat(cache.containsEntity(HospitalDepartment.class, departmentId)).isFalse();
+    }
+
+    @Test
+    void 다른_노드에서_진료_자원이_등록되면_무효화_메시지_수신_후_자원_진료과로_조회된다() {
+        // 다른 노드의 자원 등록 커밋 (이 노드의 2차 캐시를 거치지 않는 활성 자원 수 변경)
+        jdbcTemplate.update("UPDATE hospital_department SET resource_count = 1 WHERE id = ?", departmentId);
+        assertThat(hospitalDepartmentRepository.findById(departmentId).orElseThrow().hasResources()).isFalse();
+
+        broadcaster.onMessage(message("other-node:" + departmentId), null);
+
+        assertThat(hospitalDepartmentRepository.findById(departmentId).orElseThrow().hasResources()).isTrue();
+    }
+
+    @Test
+    void 진료과_ID가_없는_메시지를_받으면_진료과_엔티티_캐시_전체를_비운다() {
+        broadcaster.onMessage(message("other-node"), null);
+
+        assertThat(cache.containsEntity(HospitalDepartment.class, departmentId)).isFalse();
+    }
+
+    @Test
+    void 자신이_발행한_무효화_메시지는_무시한다() {
+        broadcaster.broadcastInvalidation(departmentId);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+
+        broadcaster.onMessage(message(payload.getValue()), null);
+
+        assertThat(cache.containsEntity(HospitalDepartment.class, departmentId)).isTrue();
+    }
+
+    // 진료과를 조회하여 2차 캐시에 적재
+    private void loadDepartment() {
+        hospitalDepartmentRepository.findById(departmentId).orElseThrow();
+        assertThat(cache.containsEntity(HospitalDepartment.class, departmentId)).isTrue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package org.carefreepass.com.carefreepassserver.domain.hospital.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.carefreepass.com.carefreepassserver.domain.hospital.dto.request.TimeSlotRangeBlockRequest;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.TimeSlotException;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalDepartmentRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.HospitalRepository;
+import org.carefreepass.com.carefreepassserver.domain.hospital.repository.TimeSlotExceptionRepository;
+import org.carefreepass.com.carefreepassserver.support.HospitalFixture;
+import org.carefreepass.com.carefreepassserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 시간 예외 업서트 검증 - 같은 시간대를 동시에 범위 차단해도 유니크 키 충돌을 재시도로 흡수해 두 요청 모두 성공하고 예외 행은 한 건만 남는지 확인
+class TimeSlotExceptionServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TimeSlotExceptionService timeSlotExceptionService;
+
+    @Autowired
+    private TimeSlotExceptionRepository timeSlotExceptionRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalDepartmentRepository hospitalDepartmentRepository;
+
+    private HospitalDepartment department;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = hospitalRepository.save(HospitalFixture.newHospital());
+        department = hospitalDepartmentRepository.save(HospitalFixture.newDepartment(hospital));
+    }
+
+    @Test
+    void 같은_시간대를_동시에_차단해도_예외_행은_한_건만_생성된다() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(3);
+        TimeSlotRangeBlockRequest request = new TimeSlotRangeBlockRequest(List.of(department.getId()), date, date,
+                LocalTime.of(10, 0), LocalTime.of(10, 30), true);
+        int requestCount = 2;
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return timeSlotExceptionService.changeTimeSlotRange(request);
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<TimeSlotException> exceptions = timeSlotExceptionRepository.findByHospitalDepartmentAndExceptionDate(
+                department, date);
+        assertThat(exceptions).hasSize(1);
+        assertThat(exceptions.get(0).isBlocked()).isTrue();
+    }
+}
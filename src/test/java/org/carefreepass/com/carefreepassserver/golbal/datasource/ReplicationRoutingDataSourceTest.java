@@ -0,0 +1,194 @@
+package org.carefreepass.com.carefreepassserver.golbal.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.Cookie;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.carefreepass.com.carefreepassserver.domain.appointment.dto.StatusPollResult;
+import org.carefreepass.com.carefreepassserver.domain.appointment.entity.AppointmentStatus;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentBulkStatusChangedEvent;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentQueryService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.service.AppointmentStatusPollingService;
+import org.carefreepass.com.carefreepassserver.domain.appointment.stream.MemberAppointmentWaiters;
+import org.carefreepass.com.carefreepassserver.golbal.filter.DataSourceRoutingFilter;
+import org.carefreepass.com.carefreepassserver.golbal.properties.ReplicaDataSourceProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 주/복제본 라우팅 검증 - 두 개의 내장 H2 DB에 서로 다른 표식을 저장하고 트랜잭션별(요청 쿠키, 커밋 후 다른 스레드 포함)로 어느 DB에서 읽는지 확인
+class ReplicationRoutingDataSourceTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase(DataSourceType.PRIMARY);
+        replica = embeddedDatabase(DataSourceType.REPLICA);
+
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties(
+                true, null, null, null, null, 5, MAX_LAG_SECONDS, false, "SHOW SLAVE STATUS", 60_000);
+        readYourWritesTracker = new ReadYourWritesTracker(properties.readYourWritesWindowMillis());
+        replicaLagMonitor = new ReplicaLagMonitor(replica, properties);
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본을_사용한다() {
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.REPLICA.name());
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖_실행은_주_DB를_사용한다() {
+        assertThat(readWriteTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+        assertThat(currentDatabase()).isEqualTo(DataSourceType.PRIMARY.name());
+    }
+
+    @Test
+    void 예약_직후_같은_회원의_읽기는_주_DB를_사용한다() {
+        readYourWritesTracker.recordWrite(1L);
+
+        DataSourceRoutingContext.setMemberId(1L);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+
+        DataSourceRoutingContext.setMemberId(2L);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.REPLICA.name());
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_주_DB로_폴백한다() {
+        replicaLagMonitor.recordLag(MAX_LAG_SECONDS + 1);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+
+        replicaLagMonitor.recordLag(null);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+
+        replicaLagMonitor.recordLag(MAX_LAG_SECONDS);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.REPLICA.name());
+    }
+
+    @Test
+    void 기준_정보_변경_직후에는_이_노드의_모든_읽기가_주_DB를_사용한다() {
+        readYourWritesTracker.recordReferenceWrite();
+
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+        DataSourceRoutingContext.setMemberId(2L);
+        assertThat(readOnlyTransaction.execute(tx -> currentDatabase())).isEqualTo(DataSourceType.PRIMARY.name());
+    }
+
+    @Test
+    void 주_DB_사용_쿠키가_있는_요청은_다른_노드에서도_주_DB를_사용한다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.PRIMARY_READ_COOKIE,
+                Long.toString(System.currentTimeMillis() + 10_000)));
+        AtomicReference<String> database = new AtomicReference<>();
+
+        new DataSourceRoutingFilter().doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> database.set(readOnlyTransaction.execute(tx -> currentDatabase())));
+
+        assertThat(database.get()).isEqualTo(DataSourceType.PRIMARY.name());
+        assertThat(DataSourceRoutingContext.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void 커밋_후_다른_스레드에서_실행하는_조회는_주_DB를_사용한다() throws Exception {
+        Long memberId = 1L;
+        AtomicReference<String> database = new AtomicReference<>();
+        AtomicReference<String> thread = new AtomicReference<>();
+        AppointmentQueryService appointmentQueryService = mock(AppointmentQueryService.class);
+        // 요청 시 ETag 확인, 대기 등록 후 확인까지는 변경 전, 알림 후 확인부터 변경 후 ETag
+        when(appointmentQueryService.getTodayAppointmentsETag(memberId)).thenReturn("\"v1\"", "\"v1\"", "\"v2\"");
+        when(appointmentQueryService.getTodayAppointmentsByMemberId(memberId)).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            database.set(readOnlyTransaction.execute(tx -> currentDatabase()));
+            return List.of();
+        });
+        MemberAppointmentWaiters waiters = new MemberAppointmentWaiters();
+        AppointmentStatusPollingService pollingService =
+                new AppointmentStatusPollingService(appointmentQueryService, waiters);
+
+        try {
+            CompletableFuture<StatusPollResult> poll = pollingService.pollTodayStatus(memberId, "\"v1\"", 5);
+
+            // 쓰기 트랜잭션 커밋 직후 변경 알림 (예약 변경 이벤트의 AFTER_COMMIT 리스너와 같은 시점)
+            readWriteTransaction.executeWithoutResult(tx -> TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            waiters.onAppointmentBulkStatusChanged(new AppointmentBulkStatusChangedEvent(
+                                    LocalDate.now(), AppointmentStatus.WAITING, AppointmentStatus.SCHEDULED, 1));
+                        }
+                    }));
+
+            assertThat(poll.get(5, TimeUnit.SECONDS).isModified()).isTrue();
+            assertThat(thread.get()).startsWith("appointment-status-poll-");
+            assertThat(database.get()).isEqualTo(DataSourceType.PRIMARY.name());
+        } finally {
+            pollingService.shutdown();
+        }
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_marker", String.class);
+    }
+
+    // 각 DB에 자신이 어느 쪽인지 표식 저장
+    private EmbeddedDatabase embeddedDatabase(DataSourceType type) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE database_marker (name VARCHAR(20))");
+        template.update("INSERT INTO database_marker (name) VALUES (?)", type.name());
+        return database;
+    }
+}
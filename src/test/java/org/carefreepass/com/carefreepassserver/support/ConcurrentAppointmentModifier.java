@@ -0,0 +1,48 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.carefreepass.com.carefreepassserver.domain.appointment.event.AppointmentChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 예약 동시 수정 유발기 - 예약 변경 이벤트 발행 시점(변경 내용 flush 전)에 별도 트랜잭션으로 버전을 올려 커밋 시 낙관적 락 충돌 유발
+// 공용 통합 테스트 컨텍스트에 항상 등록되지만 conflictTimes로 충돌 횟수를 지정하기 전에는 버전을 건드리지 않음
+public class ConcurrentAppointmentModifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final AtomicInteger remainingConflicts = new AtomicInteger();
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    public ConcurrentAppointmentModifier(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        invocations.incrementAndGet();
+        if (remainingConflicts.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            requiresNewTransaction.executeWithoutResult(tx -> jdbcTemplate.update(
+                    "UPDATE appointment SET version = version + 1 WHERE id = ?", event.appointmentId()));
+        }
+    }
+
+    // 다음 변경부터 지정한 횟수만큼 충돌 유발
+    public void conflictTimes(int times) {
+        remainingConflicts.set(times);
+    }
+
+    public int invocations() {
+        return invocations.get();
+    }
+
+    public void reset() {
+        remainingConflicts.set(0);
+        invocations.set(0);
+    }
+}
@@ -0,0 +1,27 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.Hospital;
+import org.carefreepass.com.carefreepassserver.domain.hospital.entity.HospitalDepartment;
+
+// 테스트 공용 병원/진료과 데이터 - 기본 진료 시간 10:00~16:30, 30분 간격(14개 시간대) 진료과
+public final class HospitalFixture {
+
+    public static final String HOSPITAL_NAME = "구름대병원";
+    public static final String DEPARTMENT_NAME = "내과";
+
+    private HospitalFixture() {
+    }
+
+    public static Hospital newHospital() {
+        return Hospital.createHospital(HOSPITAL_NAME, "서울");
+    }
+
+    public static HospitalDepartment newDepartment(Hospital hospital) {
+        return HospitalDepartment.createDepartment(hospital, DEPARTMENT_NAME, "내과 진료");
+    }
+
+    // 저장하지 않는 단위 테스트용 (병원도 새로 생성)
+    public static HospitalDepartment newDepartment() {
+        return newDepartment(newHospital());
+    }
+}
@@ -0,0 +1,76 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.carefreepass.com.carefreepassserver.domain.auth.repository.RefreshTokenRepository;
+import org.carefreepass.com.carefreepassserver.domain.chat.service.OpenAIService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 통합 테스트 공용 기반 클래스 - 모든 통합 테스트가 같은 설정을 공유하여 스프링 컨텍스트를 한 번만 띄움
+// 외부 연동(OpenAI, Redis 리프레시 토큰)은 목으로 대체하고, 테스트마다 끝난 뒤 모든 테이블을 비워 데이터를 격리
+// (시퀀스와 IDENTITY는 초기화하지 않으므로 ID는 테스트 간에 재사용되지 않음)
+@SpringBootTest(properties = SqlStatementCapture.INSPECTOR_PROPERTY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(ConcurrentAppointmentModifier.class)
+public abstract class IntegrationTestSupport {
+
+    private static final AtomicInteger PHONE_SEQUENCE = new AtomicInteger();
+
+    private static final String TABLES_QUERY = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'";
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @MockBean
+    protected OpenAIService openAIService;
+
+    @MockBean
+    protected RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate cleanupJdbcTemplate;
+
+    // 테스트가 남긴 데이터 삭제 (외래 키 검사를 잠시 끄고 전체 테이블 TRUNCATE)
+    @AfterEach
+    void cleanUpDatabase() {
+        List<String> tables = cleanupJdbcTemplate.queryForList(TABLES_QUERY, String.class);
+        cleanupJdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            tables.forEach(table -> cleanupJdbcTemplate.execute("TRUNCATE TABLE \"" + table + "\""));
+        } finally {
+            cleanupJdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    // HTTP 요청 실행 후 성공 응답 확인
+    protected void performOk(RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    protected String toJson(Object body) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    // 테스트 간 중복되지 않는 전화번호 생성
+    protected String uniquePhoneNumber() {
+        return "010" + String.format("%08d", PHONE_SEQUENCE.incrementAndGet());
+    }
+}
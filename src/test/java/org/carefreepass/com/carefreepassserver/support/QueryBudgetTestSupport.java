@@ -0,0 +1,19 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.carefreepass.com.carefreepassserver.support.QueryCounter.QueryCount;
+
+// SQL 실행 횟수 예산 테스트 기반 클래스 - 서비스 호출 또는 HTTP 요청 하나가 예산 이하의 SQL 문으로 처리되는지 검증
+// 외부 연동은 공용 통합 테스트 컨텍스트의 목을 사용하므로 테스트 스레드가 실행한 DB 쿼리만 측정
+public abstract class QueryBudgetTestSupport extends IntegrationTestSupport {
+
+    // 작업이 SQL 문 예산 이하로 처리되는지 검증하고 측정 결과 반환
+    protected QueryCount assertQueryBudget(long budget, QueryCounter.Action action) {
+        QueryCount count = QueryCounter.measure(action);
+        assertThat(count.statements())
+                .as("SQL 문 예산 %d건 초과: %s", budget, count)
+                .isLessThanOrEqualTo(budget);
+        return count;
+    }
+}
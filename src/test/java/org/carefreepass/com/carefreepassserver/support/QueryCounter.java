@@ -0,0 +1,40 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import java.util.List;
+
+// SQL 실행 횟수 측정 도구 (SqlStatementCapture.INSPECTOR_PROPERTY 설정 필요)
+// 측정 중인 스레드가 실행한 SQL 문만 세므로 Hibernate 전역 통계를 초기화하지 않고 다른 스레드의 쿼리도 포함하지 않음
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    // 측정 대상 작업을 실행하고 그 동안 준비된 SQL 문 개수 반환
+    public static long count(Action action) {
+        return measure(action).statements();
+    }
+
+    // 측정 대상 작업을 실행하고 SQL 문 개수와 실행된 SQL 목록 반환
+    public static QueryCount measure(Action action) {
+        return new QueryCount(SqlStatementCapture.record(action));
+    }
+
+    // 측정 대상 작업 (HTTP 요청처럼 검사 예외를 던지는 작업도 허용)
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    // 측정 결과 - 예산 초과 시 어떤 쿼리가 늘었는지 확인할 수 있도록 SQL 목록 포함
+    public record QueryCount(List<String> sql) {
+
+        public long statements() {
+            return sql.size();
+        }
+
+        @Override
+        public String toString() {
+            return "SQL " + statements() + "건 " + sql;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.carefreepass.com.carefreepassserver.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하는 SQL 문 수집 도구
+// (hibernate.session_factory.statement_inspector 설정으로 등록, Hibernate가 직접 생성하므로 수집 목록은 정적 ThreadLocal에 보관)
+// 측정 중인 스레드에서 실행된 SQL만 수집하므로 다른 스레드의 백그라운드 작업이나 병렬 테스트의 쿼리가 섞이지 않음
+public class SqlStatementCapture implements StatementInspector {
+
+    // @SpringBootTest(properties = ...)에 추가하여 수집 도구 등록
+    public static final String INSPECTOR_PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "org.carefreepass.com.carefreepassserver.support.SqlStatementCapture";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    // 측정 대상 작업을 현재 스레드에서 실행하고 그 동안 실행된 SQL 문 전체 목록 반환
+    public static List<String> record(QueryCounter.Action action) {
+        List<String> previous = STATEMENTS.get();
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("측정 대상 작업 실행 실패", e);
+        } finally {
+            if (previous == null) {
+                STATEMENTS.remove();
+            } else {
+                STATEMENTS.set(previous);
+            }
+        }
+        return List.copyOf(statements);
+    }
+
+    // 측정 대상 작업을 실행하고 그 동안 실행된 SELECT 문 목록 반환
+    public static List<String> capture(Runnable action) {
+        return record(action::run).stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+    }
+}